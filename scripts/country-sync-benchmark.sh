@@ -0,0 +1,59 @@
+#!/usr/bin/env bash
+# Standalone country sync: JVM vs. GraalVM native executable.
+# Loads the same snapshot repeatedly with each build and reports the average wall time,
+# the sync time and peak RSS printed by SimpleCountrySync, and the difference between
+# wall and sync time (process startup and exit).
+# The native build is skipped when native-image (GraalVM 22.3+) is not on the PATH.
+# Requires the configured PostgreSQL (SPRING_DATASOURCE_URL etc. are honoured;
+# SPRING_DATASOURCE_PASSWORD must be set, there is no default password).
+#
+#   scripts/country-sync-benchmark.sh <snapshot.json> [runs]
+set -euo pipefail
+
+SNAPSHOT="$(realpath "${1:?usage: $0 <snapshot.json> [runs]}")"
+RUNS="${2:-5}"
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+WORK="$ROOT/target/country-sync"
+MAIN=com.skillgrid.infrastructure.SimpleCountrySync
+
+cd "$ROOT"
+if command -v native-image > /dev/null; then
+    mvn -B -q -DskipTests -Pnative-sync package
+else
+    echo ">>> native-image not found: JVM builds only"
+    mvn -B -q -DskipTests package
+fi
+
+# Plain classpath of jars from the Boot fat jar (also needed for the CDS archive)
+rm -rf "$WORK" && mkdir -p "$WORK/unpacked"
+(cd "$WORK/unpacked" && jar -xf "$ROOT/target/skillgrid-0.0.1-SNAPSHOT.jar")
+jar -cf "$WORK/app.jar" -C "$WORK/unpacked/BOOT-INF/classes" .
+CP="$WORK/app.jar:$(ls "$WORK"/unpacked/BOOT-INF/lib/*.jar | tr '\n' ':')"
+
+JVM_TUNED="-XX:TieredStopAtLevel=1 -XX:+UseSerialGC -Xss512k"
+echo ">>> Training run (writes $WORK/sync.jsa)"
+java -XX:ArchiveClassesAtExit="$WORK/sync.jsa" $JVM_TUNED -cp "$CP" "$MAIN" --source "$SNAPSHOT" \
+    > "$WORK/training.log" 2>&1
+
+measure() {
+    local label="$1"; shift
+    local wall=0 sync=0 rss=0
+    for i in $(seq "$RUNS"); do
+        local start end line
+        start=$(date +%s%N)
+        "$@" --source "$SNAPSHOT" > "$WORK/run.log" 2>&1
+        end=$(date +%s%N)
+        line=$(grep -o 'runtime=.*' "$WORK/run.log")
+        wall=$((wall + (end - start) / 1000000))
+        sync=$((sync + $(sed 's/.*sync_ms=\([0-9-]*\).*/\1/' <<< "$line")))
+        rss=$((rss + $(sed 's/.*peak_rss_kb=\([0-9-]*\).*/\1/' <<< "$line")))
+    done
+    printf "%s wall %5d ms | startup+exit %4d ms | sync %5d ms | peak RSS %4d MB  (average of %d runs)\n" \
+        "$label" $((wall / RUNS)) $(((wall - sync) / RUNS)) $((sync / RUNS)) $((rss / RUNS / 1024)) "$RUNS"
+}
+
+measure "jvm               " java -cp "$CP" "$MAIN"
+measure "jvm (C1, CDS)     " java $JVM_TUNED -XX:SharedArchiveFile="$WORK/sync.jsa" -cp "$CP" "$MAIN"
+if [ -x "$ROOT/target/skillgrid-country-sync" ]; then
+    measure "native            " "$ROOT/target/skillgrid-country-sync"
+fi
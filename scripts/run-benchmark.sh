@@ -0,0 +1,19 @@
+#!/usr/bin/env bash
+# Runs one of the benchmarks in src/test/java/com/skillgrid/benchmark. They are not
+# packaged in the application jar, so this compiles the test sources and runs the class
+# on the test classpath (which also has the embedded PostgreSQL some of them start).
+#
+#   scripts/run-benchmark.sh <Benchmark> [args...]
+#   e.g. scripts/run-benchmark.sh MatchingBenchmark --candidates 1000000 --limit 50
+set -euo pipefail
+
+MAIN="${1:?usage: $0 <Benchmark> [args...]}"
+shift
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+CLASSPATH_FILE="$ROOT/target/benchmark-classpath.txt"
+
+mvn -B -q -f "$ROOT/pom.xml" -DskipTests test-compile dependency:build-classpath \
+    -Dmdep.includeScope=test -Dmdep.outputFile="$CLASSPATH_FILE"
+
+exec java -cp "$ROOT/target/test-classes:$ROOT/target/classes:$(cat "$CLASSPATH_FILE")" \
+    "com.skillgrid.benchmark.${MAIN#com.skillgrid.benchmark.}" "$@"
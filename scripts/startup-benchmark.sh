@@ -0,0 +1,44 @@
+#!/usr/bin/env bash
+# Startup-time benchmark: default JVM launch vs. the "fast" profile with AOT + CDS.
+# Each run starts the context and exits right after refresh (spring.context.exit=onRefresh),
+# so the wall time measured is pure startup. Requires the configured PostgreSQL.
+#
+#   scripts/startup-benchmark.sh [runs]
+set -euo pipefail
+
+RUNS="${1:-5}"
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+WORK="$ROOT/target/startup"
+MAIN=com.skillgrid.SkillGridApplication
+
+cd "$ROOT"
+mvn -B -q -DskipTests -Pfast-startup package
+
+# CDS needs a plain classpath of jars, so unpack the Boot fat jar
+rm -rf "$WORK" && mkdir -p "$WORK/unpacked"
+(cd "$WORK/unpacked" && jar -xf "$ROOT/target/skillgrid-0.0.1-SNAPSHOT.jar")
+jar -cf "$WORK/app.jar" -C "$WORK/unpacked/BOOT-INF/classes" .
+CP="$WORK/app.jar:$(ls "$WORK"/unpacked/BOOT-INF/lib/*.jar | tr '\n' ':')"
+
+FAST_OPTS="-Dspring.aot.enabled=true -Dspring.profiles.active=fast"
+
+echo ">>> Training run (writes $WORK/app.jsa)"
+java -XX:ArchiveClassesAtExit="$WORK/app.jsa" $FAST_OPTS -Dspring.context.exit=onRefresh \
+    -cp "$CP" "$MAIN" > "$WORK/training.log" 2>&1
+
+measure() {
+    local label="$1"; shift
+    local total=0
+    for i in $(seq "$RUNS"); do
+        local start end
+        start=$(date +%s%N)
+        java "$@" -Dspring.context.exit=onRefresh -cp "$CP" "$MAIN" > "$WORK/run.log" 2>&1
+        end=$(date +%s%N)
+        total=$((total + (end - start) / 1000000))
+    done
+    echo "$label: $((total / RUNS)) ms average over $RUNS runs"
+}
+
+measure "default            " -Dspring.profiles.active=default
+measure "fast (AOT)         " $FAST_OPTS
+measure "fast (AOT + CDS)   " $FAST_OPTS -XX:SharedArchiveFile="$WORK/app.jsa"
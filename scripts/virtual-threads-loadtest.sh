@@ -0,0 +1,50 @@
+#!/usr/bin/env bash
+# Compares platform-thread and virtual-thread execution modes under the same load.
+# Requires a local PostgreSQL reachable through spring.datasource.* (override with
+# SPRING_DATASOURCE_URL / SPRING_DATASOURCE_USERNAME / SPRING_DATASOURCE_PASSWORD).
+#
+#   scripts/virtual-threads-loadtest.sh [concurrency] [duration-seconds]
+set -euo pipefail
+
+CONCURRENCY="${1:-200}"
+DURATION="${2:-30}"
+PORT="${PORT:-8090}"
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+JAR="$ROOT/target/skillgrid-0.0.1-SNAPSHOT.jar"
+
+cd "$ROOT"
+[ -f "$JAR" ] || mvn -B -q -DskipTests package
+
+run_mode() {
+    local mode="$1" profile="$2" log="target/loadtest-$1.log"
+
+    echo ">>> Mode: $mode"
+    java -jar "$JAR" --server.port="$PORT" ${profile:+--spring.profiles.active=$profile} > "$log" 2>&1 &
+    local pid=$!
+    trap "kill $pid 2>/dev/null || true" EXIT
+
+    until grep -q "Started SkillGridApplication" "$log"; do
+        kill -0 "$pid" 2>/dev/null || { cat "$log"; exit 1; }
+        sleep 1
+    done
+    # API endpoints take bearer tokens: sign up a load test account (409 if it exists) and log in
+    local credentials='{"email":"loadtest@skillgrid.dev","password":"loadtest-password"}' token
+    curl -s -o /dev/null -H 'Content-Type: application/json' -d "$credentials" \
+        "http://localhost:$PORT/api/auth/register"
+    token="$(curl -s -H 'Content-Type: application/json' -d "$credentials" \
+        "http://localhost:$PORT/api/auth/login" | sed -n 's/.*"accessToken":"\([^"]*\)".*/\1/p')"
+    [ -n "$token" ] || { echo "Login failed"; exit 1; }
+
+    scripts/run-benchmark.sh EndpointLoadGenerator \
+        --base-url "http://localhost:$PORT" \
+        --path /api/countries --path /api/countries/AR --path /api/countries/ES \
+        --concurrency "$CONCURRENCY" --duration "$DURATION" --warmup 5 \
+        --token "$token"
+
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+    trap - EXIT
+}
+
+run_mode platform ""
+run_mode virtual virtual
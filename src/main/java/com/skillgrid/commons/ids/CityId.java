@@ -25,6 +25,16 @@ public record CityId(UUID value) {
         }
     }
 
+    /**
+     * Deterministic id of a city row: matches cities.id (md5('geonames:' || geoname_id)).
+     */
+    public static CityId fromGeonameId(long geonameId) {
+        if (geonameId <= 0) {
+            throw new IllegalArgumentException("GeoNames id must be positive: " + geonameId);
+        }
+        return new CityId(Md5Uuids.of("geonames:" + geonameId));
+    }
+
     @Override
     public String toString() {
         return value.toString();
@@ -25,6 +25,18 @@ public record CountryId(UUID value) {
         }
     }
 
+    /**
+     * Deterministic id of a country row: matches countries.id (md5('country:' || code)).
+     */
+    public static CountryId fromCode(String isoCode) {
+        Objects.requireNonNull(isoCode, "Country code cannot be null");
+        String code = isoCode.trim().toUpperCase();
+        if (code.isEmpty()) {
+            throw new IllegalArgumentException("Country code cannot be empty");
+        }
+        return new CountryId(Md5Uuids.of("country:" + code));
+    }
+
     @Override
     public String toString() {
         return value.toString();
@@ -0,0 +1,29 @@
+package com.skillgrid.commons.ids;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.UUID;
+
+/**
+ * Deterministic ids derived from a name: the 16 bytes of md5(name) read as a UUID.
+ *
+ * Must stay byte-identical to PostgreSQL's md5(name)::uuid, which generates the ids
+ * of reference data rows in the migrations (countries.id, cities.id).
+ */
+final class Md5Uuids {
+
+    private Md5Uuids() {
+    }
+
+    static UUID of(String name) {
+        try {
+            ByteBuffer digest = ByteBuffer.wrap(MessageDigest.getInstance("MD5")
+                    .digest(name.getBytes(StandardCharsets.UTF_8)));
+            return new UUID(digest.getLong(), digest.getLong());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5 not available", e);
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.skillgrid.commons.money;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Immutable snapshot of exchange rates as a dense conversion matrix.
+ *
+ * Currencies are interned to ordinals (sorted ISO codes). Codes resolve through a
+ * 26^3 table indexed by the packed letters, so lookups need no hashing or boxing.
+ * factors[to * n + from] converts an amount in "from" into "to"; the factors for one
+ * target currency are contiguous, which keeps bulk normalization a single gather loop.
+ *
+ * Ordinals are only meaningful within the snapshot that produced them: a reload that adds
+ * a currency shifts them. Values that outlive a snapshot, like {@link SalaryBand}, hold
+ * the packed code ({@link #packCode}) instead, which every snapshot resolves the same way.
+ */
+public final class ExchangeRateMatrix {
+
+    public static final int UNKNOWN = -1;
+
+    private static final int CODE_SPACE = 26 * 26 * 26;
+
+    private final String[] codes;
+    private final int[] ordinalByCode;     // packed code -> ordinal + 1 (0 = unknown)
+    private final double[] factors;
+    private final Instant asOf;
+
+    private ExchangeRateMatrix(String[] codes, double[] unitsPerUsd, Instant asOf) {
+        int n = codes.length;
+        this.codes = codes;
+        this.asOf = asOf;
+        this.ordinalByCode = new int[CODE_SPACE];
+        for (int i = 0; i < n; i++) {
+            ordinalByCode[packCode(codes[i])] = i + 1;
+        }
+
+        this.factors = new double[n * n];
+        for (int to = 0; to < n; to++) {
+            for (int from = 0; from < n; from++) {
+                factors[to * n + from] = unitsPerUsd[to] / unitsPerUsd[from];
+            }
+        }
+    }
+
+    /**
+     * Builds a snapshot from rates quoted as units of each currency per 1 USD.
+     */
+    public static ExchangeRateMatrix fromUnitsPerUsd(Map<String, Double> unitsPerUsd, Instant asOf) {
+        Objects.requireNonNull(unitsPerUsd, "Rates cannot be null");
+        TreeMap<String, Double> sorted = new TreeMap<>();
+        unitsPerUsd.forEach((code, rate) -> {
+            String normalized = normalizeCode(code);
+            if (rate == null || !(rate > 0) || Double.isInfinite(rate)) {
+                throw new IllegalArgumentException("Invalid rate for " + code + ": " + rate);
+            }
+            sorted.put(normalized, rate);
+        });
+
+        String[] codes = sorted.keySet().toArray(new String[0]);
+        double[] rates = new double[codes.length];
+        for (int i = 0; i < codes.length; i++) {
+            rates[i] = sorted.get(codes[i]);
+        }
+        return new ExchangeRateMatrix(codes, rates, asOf);
+    }
+
+    public static ExchangeRateMatrix empty() {
+        return new ExchangeRateMatrix(new String[0], new double[0], Instant.EPOCH);
+    }
+
+    public int size() {
+        return codes.length;
+    }
+
+    public Instant asOf() {
+        return asOf;
+    }
+
+    /**
+     * Ordinal of an ISO 4217 code, or {@link #UNKNOWN}.
+     */
+    public int ordinal(CharSequence code) {
+        int packed = packCode(code);
+        return packed == UNKNOWN ? UNKNOWN : ordinalByCode[packed] - 1;
+    }
+
+    /**
+     * Ordinal of a packed code, or {@link #UNKNOWN} if this snapshot has no rate for it.
+     */
+    public int ordinalOfPacked(int packedCode) {
+        return packedCode >= 0 && packedCode < CODE_SPACE ? ordinalByCode[packedCode] - 1 : UNKNOWN;
+    }
+
+    /**
+     * A three-letter code as a number in [0, 26^3), independent of any snapshot, or
+     * {@link #UNKNOWN} if it is not three ASCII letters. Case-insensitive.
+     */
+    public static int packCode(CharSequence code) {
+        if (code == null || code.length() != 3) {
+            return UNKNOWN;
+        }
+        int packed = 0;
+        for (int i = 0; i < 3; i++) {
+            int letter = (code.charAt(i) | 0x20) - 'a';
+            if (letter < 0 || letter >= 26) {
+                return UNKNOWN;
+            }
+            packed = packed * 26 + letter;
+        }
+        return packed;
+    }
+
+    public static String unpackCode(int packedCode) {
+        if (packedCode < 0 || packedCode >= CODE_SPACE) {
+            throw new IllegalArgumentException("Not a packed currency code: " + packedCode);
+        }
+        return new String(new char[] {
+                (char) ('A' + packedCode / (26 * 26)), (char) ('A' + packedCode / 26 % 26), (char) ('A' + packedCode % 26)});
+    }
+
+    public String code(int ordinal) {
+        return codes[ordinal];
+    }
+
+    public double factor(int from, int to) {
+        return factors[to * codes.length + from];
+    }
+
+    public double convert(double amount, int from, int to) {
+        return amount * factors[to * codes.length + from];
+    }
+
+    public double convert(double amount, String from, String to) {
+        return convert(amount, require(from), require(to));
+    }
+
+    public SalaryBand convert(SalaryBand band, String to) {
+        int target = require(to);
+        double factor = factor(require(band), target);
+        return new SalaryBand(band.min() * factor, band.max() * factor, packCode(codes[target]));
+    }
+
+    /**
+     * Compares the midpoints of two bands after converting the second into the first's currency.
+     */
+    public int compare(SalaryBand a, SalaryBand b) {
+        double factor = factor(require(b), require(a));
+        return Double.compare(a.min() + a.max(), (b.min() + b.max()) * factor);
+    }
+
+    /**
+     * True if the two bands overlap once expressed in the same currency.
+     */
+    public boolean overlaps(SalaryBand a, SalaryBand b) {
+        double factor = factor(require(b), require(a));
+        return b.min() * factor <= a.max() && a.min() <= b.max() * factor;
+    }
+
+    /**
+     * Converts amounts[i] (in currencies[i]) into the target currency, writing into out.
+     * One loop over primitive arrays: no lookups, no boxing.
+     */
+    public void normalize(double[] amounts, int[] currencies, int target, double[] out) {
+        int n = amounts.length;
+        if (currencies.length != n || out.length < n) {
+            throw new IllegalArgumentException("amounts, currencies and out must have matching lengths");
+        }
+        double[] f = factors;
+        int base = target * codes.length;
+        for (int i = 0; i < n; i++) {
+            out[i] = amounts[i] * f[base + currencies[i]];
+        }
+    }
+
+    public int require(String code) {
+        int ordinal = ordinal(code);
+        if (ordinal == UNKNOWN) {
+            throw new IllegalArgumentException("Unknown currency: " + code);
+        }
+        return ordinal;
+    }
+
+    private int require(SalaryBand band) {
+        int ordinal = ordinalOfPacked(band.currency());
+        if (ordinal == UNKNOWN) {
+            throw new IllegalArgumentException("No exchange rate for " + band.currencyCode() + " as of " + asOf);
+        }
+        return ordinal;
+    }
+
+    @Override
+    public String toString() {
+        return "ExchangeRateMatrix{" + Arrays.toString(codes) + ", asOf=" + asOf + '}';
+    }
+
+    private static String normalizeCode(String code) {
+        Objects.requireNonNull(code, "Currency code cannot be null");
+        String normalized = code.trim().toUpperCase();
+        if (normalized.length() != 3 || !normalized.chars().allMatch(c -> c >= 'A' && c <= 'Z')) {
+            throw new IllegalArgumentException("Invalid ISO 4217 currency code: " + code);
+        }
+        return normalized;
+    }
+}
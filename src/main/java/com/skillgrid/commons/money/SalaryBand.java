@@ -0,0 +1,38 @@
+package com.skillgrid.commons.money;
+
+/**
+ * Value object representing a salary range.
+ * The currency is the packed ISO 4217 code ({@link ExchangeRateMatrix#packCode}), so a band
+ * means the same currency in every exchange rate snapshot; a snapshot without a rate for
+ * it rejects the band instead of converting it as some other currency.
+ */
+public record SalaryBand(double min, double max, int currency) {
+
+    public SalaryBand {
+        if (Double.isNaN(min) || Double.isNaN(max) || min < 0) {
+            throw new IllegalArgumentException("Salary bounds must be non-negative numbers");
+        }
+        if (min > max) {
+            throw new IllegalArgumentException("Salary min cannot exceed max");
+        }
+        if (currency < 0 || currency >= 26 * 26 * 26) {
+            throw new IllegalArgumentException("Salary currency must be a packed currency code");
+        }
+    }
+
+    public static SalaryBand of(double min, double max, String currencyCode) {
+        int currency = ExchangeRateMatrix.packCode(currencyCode);
+        if (currency == ExchangeRateMatrix.UNKNOWN) {
+            throw new IllegalArgumentException("Invalid ISO 4217 currency code: " + currencyCode);
+        }
+        return new SalaryBand(min, max, currency);
+    }
+
+    public String currencyCode() {
+        return ExchangeRateMatrix.unpackCode(currency);
+    }
+
+    public double midpoint() {
+        return (min + max) / 2;
+    }
+}
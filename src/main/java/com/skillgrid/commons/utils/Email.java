@@ -93,7 +93,15 @@ public record Email(String value) {
     }
 
     public String getDomainPart() {
-        return value.substring(value.indexOf('@') + 1);
+        return value.substring(domainStart());
+    }
+
+    /**
+     * Index in {@link #value()} where the domain part starts, for allocation-free checks
+     * on value()[domainStart(), length).
+     */
+    public int domainStart() {
+        return value.indexOf('@') + 1;
     }
 
     public String getTopLevelDomain() {
@@ -0,0 +1,7 @@
+package com.skillgrid.infrastructure;
+
+/**
+ * Published after a successful {@link CountrySyncCommand} run.
+ */
+public record CountriesSynchronizedEvent(int countries) {
+}
@@ -0,0 +1,186 @@
+package com.skillgrid.infrastructure;
+
+import com.skillgrid.commons.ids.CountryId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Immutable snapshot of the country reference data with interned ordinals.
+ *
+ * Countries, regions and languages are numbered densely so hot paths (matching,
+ * projections) can work on int ordinals and language bitmasks instead of strings.
+ * A country's languages are a mask of {@link #languageWords()} longs.
+ */
+public final class CountryCatalog {
+
+    public static final int UNKNOWN = -1;
+
+    public static final CountryCatalog EMPTY = new Builder().build();
+
+    private final String[] codes;
+    private final String[] names;
+    private final int[] regions;
+    private final String[] regionNames;
+    private final String[] languageCodes;
+    private final int languageWords;
+    private final long[] languageMasks;    // languageWords per country
+
+    private final Map<String, Integer> ordinalByCode;
+    private final Map<UUID, Integer> ordinalById;
+    private final Map<String, Integer> regionByName;
+    private final Map<String, Integer> languageByCode;
+
+    private CountryCatalog(Builder builder) {
+        int size = builder.codes.size();
+        this.codes = builder.codes.toArray(new String[0]);
+        this.names = builder.names.toArray(new String[0]);
+        this.regionNames = builder.regionByName.keySet().toArray(new String[0]);
+        this.languageCodes = builder.languageByCode.keySet().toArray(new String[0]);
+        this.languageWords = Math.max(1, (languageCodes.length + 63) >>> 6);
+        this.regions = new int[size];
+        this.languageMasks = new long[size * languageWords];
+
+        this.ordinalByCode = new HashMap<>();
+        this.ordinalById = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            ordinalByCode.put(codes[i], i);
+            ordinalById.put(CountryId.fromCode(codes[i]).value(), i);
+            regions[i] = builder.regions.get(i);
+            for (int language : builder.languages.get(i)) {
+                languageMasks[i * languageWords + (language >>> 6)] |= 1L << language;
+            }
+        }
+        this.regionByName = Map.copyOf(builder.regionByName);
+        this.languageByCode = Map.copyOf(builder.languageByCode);
+    }
+
+    public int size() {
+        return codes.length;
+    }
+
+    public int ordinal(String code) {
+        if (code == null) {
+            return UNKNOWN;
+        }
+        return ordinalByCode.getOrDefault(code.trim().toUpperCase(), UNKNOWN);
+    }
+
+    public int ordinal(CountryId countryId) {
+        if (countryId == null) {
+            return UNKNOWN;
+        }
+        return ordinalById.getOrDefault(countryId.value(), UNKNOWN);
+    }
+
+    public String code(int ordinal) {
+        return codes[ordinal];
+    }
+
+    public String name(int ordinal) {
+        return names[ordinal];
+    }
+
+    /**
+     * Region ordinal of a country, or {@link #UNKNOWN} if it has no region.
+     */
+    public int region(int ordinal) {
+        return regions[ordinal];
+    }
+
+    public int regionCount() {
+        return regionNames.length;
+    }
+
+    public String regionName(int region) {
+        return region == UNKNOWN ? null : regionNames[region];
+    }
+
+    public int regionOrdinal(String regionName) {
+        return regionName == null ? UNKNOWN : regionByName.getOrDefault(regionName, UNKNOWN);
+    }
+
+    public int languageCount() {
+        return languageCodes.length;
+    }
+
+    public int languageWords() {
+        return languageWords;
+    }
+
+    public String languageCode(int language) {
+        return languageCodes[language];
+    }
+
+    /**
+     * Copies the language mask of a country into dest at the given offset.
+     */
+    public void copyLanguageMask(int ordinal, long[] dest, int offset) {
+        System.arraycopy(languageMasks, ordinal * languageWords, dest, offset, languageWords);
+    }
+
+    /**
+     * Language mask for a set of language codes; unknown codes are ignored.
+     */
+    public long[] languageMask(Collection<String> languages) {
+        long[] mask = new long[languageWords];
+        for (String language : languages) {
+            Integer ordinal = languageByCode.get(language.trim().toLowerCase());
+            if (ordinal != null) {
+                mask[ordinal >>> 6] |= 1L << ordinal;
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Collects countries and interns their regions and languages in insertion order.
+     */
+    public static final class Builder {
+
+        private final List<String> codes = new ArrayList<>();
+        private final List<String> names = new ArrayList<>();
+        private final List<Integer> regions = new ArrayList<>();
+        private final List<int[]> languages = new ArrayList<>();
+        private final Map<String, Integer> regionByName = new LinkedHashMap<>();
+        private final Map<String, Integer> languageByCode = new LinkedHashMap<>();
+        private final Map<String, Integer> positions = new HashMap<>();
+
+        public Builder add(String code, String name, String region) {
+            String normalized = code.trim().toUpperCase();
+            if (positions.containsKey(normalized)) {
+                throw new IllegalArgumentException("Duplicate country code: " + code);
+            }
+            positions.put(normalized, codes.size());
+            codes.add(normalized);
+            names.add(name);
+            regions.add(region == null || region.isBlank() ? UNKNOWN
+                    : regionByName.computeIfAbsent(region, r -> regionByName.size()));
+            languages.add(new int[0]);
+            return this;
+        }
+
+        public Builder language(String countryCode, String languageCode) {
+            Integer position = positions.get(countryCode.trim().toUpperCase());
+            if (position == null) {
+                return this;
+            }
+            int language = languageByCode.computeIfAbsent(languageCode.trim().toLowerCase(),
+                    l -> languageByCode.size());
+            int[] current = languages.get(position);
+            int[] updated = Arrays.copyOf(current, current.length + 1);
+            updated[current.length] = language;
+            languages.set(position, updated);
+            return this;
+        }
+
+        public CountryCatalog build() {
+            return new CountryCatalog(this);
+        }
+    }
+}
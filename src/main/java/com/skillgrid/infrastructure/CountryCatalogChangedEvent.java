@@ -0,0 +1,18 @@
+package com.skillgrid.infrastructure;
+
+import java.util.List;
+
+/**
+ * Published by {@link CountryCatalogService} when this node's catalog moves to a newer
+ * version, with the ISO codes of the countries added, updated and removed since the
+ * previous snapshot (sorted).
+ */
+public record CountryCatalogChangedEvent(long version, long previousVersion,
+                                         List<String> added, List<String> updated, List<String> removed) {
+
+    public CountryCatalogChangedEvent {
+        added = List.copyOf(added);
+        updated = List.copyOf(updated);
+        removed = List.copyOf(removed);
+    }
+}
@@ -0,0 +1,192 @@
+package com.skillgrid.infrastructure;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import jakarta.annotation.PreDestroy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Keeps this node's {@link CountryCatalog} in step with syncs run on any node.
+ *
+ * A successful sync bumps country_catalog_version and sends NOTIFY country_catalog
+ * with the new version ({@link #publish}). Every node LISTENs on a dedicated
+ * connection (outside the pool, since it is held for the node's lifetime) and reloads
+ * its snapshot in the background when it holds an older version. Notifications that
+ * arrive together are collapsed into one reload. After a reconnect the version is
+ * compared directly, since notifications sent while disconnected are lost.
+ */
+@Component
+@ConditionalOnProperty(name = "skillgrid.countries.catalog.listen.enabled", havingValue = "true", matchIfMissing = true)
+public class CountryCatalogListener implements Runnable {
+
+    public static final String CHANNEL = "country_catalog";
+
+    static final String VERSION_SQL = "SELECT version FROM country_catalog_version";
+
+    // Same statement bumps the version and queues the NOTIFY (sent on commit)
+    private static final String PUBLISH_SQL = """
+        WITH bumped AS (
+            UPDATE country_catalog_version
+            SET version = version + 1, updated_at = CURRENT_TIMESTAMP
+            RETURNING version
+        )
+        SELECT version, pg_notify('country_catalog', version::text) FROM bumped
+        """;
+
+    private final CountryCatalogService catalogService;
+    private final String url;
+    private final String username;
+    private final String password;
+    private final int pollMillis;
+    private final long reconnectDelayMillis;
+
+    private volatile boolean running;
+    private volatile Connection connection;
+    private Thread thread;
+
+    public CountryCatalogListener(CountryCatalogService catalogService,
+                                  @Value("${spring.datasource.url}") String url,
+                                  @Value("${spring.datasource.username}") String username,
+                                  @Value("${spring.datasource.password}") String password,
+                                  @Value("${skillgrid.countries.catalog.listen.poll-ms:1000}") int pollMillis,
+                                  @Value("${skillgrid.countries.catalog.listen.reconnect-delay-ms:5000}") long reconnectDelayMillis) {
+        this.catalogService = catalogService;
+        this.url = url;
+        this.username = username;
+        this.password = password;
+        this.pollMillis = pollMillis;
+        this.reconnectDelayMillis = reconnectDelayMillis;
+    }
+
+    /**
+     * Bumps the catalog version and notifies all listening nodes. The notification is
+     * delivered when the connection's transaction commits. Returns the new version.
+     */
+    public static long publish(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(PUBLISH_SQL)) {
+            if (!rs.next()) {
+                throw new SQLException("country_catalog_version has no row");
+            }
+            return rs.getLong(1);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        thread = Thread.ofPlatform().name("country-catalog-listener").daemon().start(this);
+    }
+
+    @PreDestroy
+    public synchronized void stop() throws InterruptedException {
+        if (!running) {
+            return;
+        }
+        running = false;
+        closeConnection();    // unblocks a pending getNotifications
+        thread.interrupt();
+        thread.join(reconnectDelayMillis);
+    }
+
+    @Override
+    public void run() {
+        while (running) {
+            try {
+                listen();
+            } catch (Exception e) {
+                if (!running) {
+                    break;
+                }
+                System.err.println("❌ Country catalog listener disconnected: " + e.getMessage());
+            } finally {
+                closeConnection();
+            }
+            sleepBeforeReconnect();
+        }
+    }
+
+    private void listen() throws SQLException {
+        connection = DriverManager.getConnection(url, username, password);
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("LISTEN " + CHANNEL);
+        }
+        PGConnection pg = connection.unwrap(PGConnection.class);
+        System.out.println("📡 Listening for country catalog changes on channel " + CHANNEL);
+
+        // Catch up on anything published while we were not listening
+        reloadIfOlderThan(currentVersion());
+
+        while (running) {
+            PGNotification[] notifications = pg.getNotifications(pollMillis);
+            if (notifications == null || notifications.length == 0) {
+                continue;
+            }
+            long latest = -1;
+            for (PGNotification notification : notifications) {
+                latest = Math.max(latest, parseVersion(notification.getParameter()));
+            }
+            reloadIfOlderThan(latest);
+        }
+    }
+
+    private void reloadIfOlderThan(long version) {
+        long previous = catalogService.version();
+        if (version > previous && catalogService.reloadIfOlderThan(version)) {
+            System.out.println("🔄 Country catalog reloaded after remote sync: version " + previous
+                    + " -> " + catalogService.version());
+        }
+    }
+
+    private long currentVersion() throws SQLException {
+        try (Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery(VERSION_SQL)) {
+            return rs.next() ? rs.getLong(1) : -1;
+        }
+    }
+
+    private static long parseVersion(String payload) {
+        try {
+            return Long.parseLong(payload.trim());
+        } catch (NumberFormatException e) {
+            // Unknown payload: force a reload rather than miss a change
+            return Long.MAX_VALUE;
+        }
+    }
+
+    private void closeConnection() {
+        Connection conn = connection;
+        connection = null;
+        if (conn != null) {
+            try {
+                conn.close();
+            } catch (SQLException ignored) {
+                // already broken
+            }
+        }
+    }
+
+    private void sleepBeforeReconnect() {
+        if (!running) {
+            return;
+        }
+        try {
+            Thread.sleep(reconnectDelayMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.skillgrid.infrastructure;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Holds the current {@link CountryCatalog} snapshot, loaded from the country tables.
+ * Reloads build a new snapshot and swap it in; readers keep the one they started with.
+ *
+ * Each snapshot remembers the country_catalog_version it was loaded at, so syncs on
+ * other nodes ({@link CountryCatalogListener}) only trigger a reload when it is older.
+ * A reload that moves to a newer version publishes a {@link CountryCatalogChangedEvent}
+ * with the countries added, updated and removed, found by comparing per-country
+ * fingerprints (all columns plus child rows) of the two snapshots.
+ */
+@Service
+public class CountryCatalogService {
+
+    // md5 of a country's columns and child rows, to tell which countries a sync changed
+    private static final String COUNTRIES_SQL = """
+        SELECT c.code, c.name, c.region, md5(ROW(
+            c.name, c.native_name, c.region, c.subregion, c.capital, c.population, c.area,
+            (SELECT string_agg(phone_prefix, ',' ORDER BY phone_prefix)
+             FROM country_phone_prefixes WHERE country_code = c.code),
+            (SELECT string_agg(currency_code, ',' ORDER BY currency_code)
+             FROM country_currencies WHERE country_code = c.code),
+            (SELECT string_agg(language_code, ',' ORDER BY language_code)
+             FROM country_languages WHERE country_code = c.code))::text)
+        FROM countries c
+        ORDER BY c.code
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private volatile CountryCatalog catalog = CountryCatalog.EMPTY;
+    private volatile long version = -1;
+    private Map<String, String> fingerprints = Map.of();
+
+    public CountryCatalogService(JdbcTemplate jdbcTemplate, ApplicationEventPublisher eventPublisher) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+    }
+
+    public CountryCatalog snapshot() {
+        return catalog;
+    }
+
+    /**
+     * Data version of the current snapshot, or -1 before the first load.
+     */
+    public long version() {
+        return version;
+    }
+
+    // First, so the startup listeners that read the catalog (candidate pool) see it loaded
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        try {
+            reload();
+        } catch (Exception e) {
+            System.err.println("❌ Country catalog could not be loaded: " + e.getMessage());
+        }
+    }
+
+    @EventListener
+    public void onCountriesSynchronized(CountriesSynchronizedEvent event) {
+        reload();
+    }
+
+    /**
+     * Reloads unless the current snapshot is already at (or past) the given version.
+     */
+    public synchronized boolean reloadIfOlderThan(long version) {
+        if (this.version >= version) {
+            return false;
+        }
+        reload();
+        return true;
+    }
+
+    public synchronized CountryCatalog reload() {
+        // Read the version first: a sync committing meanwhile bumps it again and triggers another reload
+        long loadedVersion = jdbcTemplate.queryForObject(CountryCatalogListener.VERSION_SQL, Long.class);
+        CountryCatalog.Builder builder = new CountryCatalog.Builder();
+        Map<String, String> loadedFingerprints = new HashMap<>();
+        jdbcTemplate.query(COUNTRIES_SQL,
+                rs -> {
+                    builder.add(rs.getString(1), rs.getString(2), rs.getString(3));
+                    loadedFingerprints.put(rs.getString(1), rs.getString(4));
+                });
+        jdbcTemplate.query("SELECT country_code, language_code FROM country_languages ORDER BY country_code, language_code",
+                rs -> {
+                    builder.language(rs.getString(1), rs.getString(2));
+                });
+
+        CountryCatalog loaded = builder.build();
+        long previousVersion = version;
+        Map<String, String> previousFingerprints = fingerprints;
+        catalog = loaded;
+        version = loadedVersion;
+        fingerprints = loadedFingerprints;
+        System.out.println("🌍 Country catalog loaded: " + loaded.size() + " countries, "
+                + loaded.regionCount() + " regions, " + loaded.languageCount() + " languages (version "
+                + loadedVersion + ")");
+
+        if (previousVersion >= 0 && loadedVersion > previousVersion) {
+            eventPublisher.publishEvent(changes(previousVersion, previousFingerprints, loadedVersion, loadedFingerprints));
+        }
+        return loaded;
+    }
+
+    private static CountryCatalogChangedEvent changes(long previousVersion, Map<String, String> previous,
+                                                      long version, Map<String, String> current) {
+        List<String> added = new ArrayList<>();
+        List<String> updated = new ArrayList<>();
+        List<String> removed = new ArrayList<>();
+        current.forEach((code, fingerprint) -> {
+            String before = previous.get(code);
+            if (before == null) {
+                added.add(code);
+            } else if (!before.equals(fingerprint)) {
+                updated.add(code);
+            }
+        });
+        for (String code : previous.keySet()) {
+            if (!current.containsKey(code)) {
+                removed.add(code);
+            }
+        }
+        Collections.sort(added);
+        Collections.sort(updated);
+        Collections.sort(removed);
+        return new CountryCatalogChangedEvent(version, previousVersion, added, updated, removed);
+    }
+}
@@ -0,0 +1,30 @@
+package com.skillgrid.infrastructure;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * REST controller streaming country catalog changes as server-sent events.
+ */
+@RestController
+@RequestMapping("/api/countries")
+public class CountryChangeController {
+
+    private final CountryChangeFeed changeFeed;
+
+    public CountryChangeController(CountryChangeFeed changeFeed) {
+        this.changeFeed = changeFeed;
+    }
+
+    /**
+     * GET /api/countries/changes - Event stream: "version" on connect, then a "change"
+     * event {version, previousVersion, added, updated, removed} after each sync
+     */
+    @GetMapping(path = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter changes() {
+        return changeFeed.subscribe();
+    }
+}
@@ -0,0 +1,201 @@
+package com.skillgrid.infrastructure;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Server-sent events feed of country catalog changes.
+ *
+ * Subscribers get a "version" event when they connect and a "change" event (id =
+ * version) with the added, updated and removed country codes whenever this node's
+ * catalog moves to a newer version, i.e. after a sync on any node. Clients can cache
+ * the country data indefinitely and refetch only when the version changes.
+ *
+ * Idle subscribers are only an async request and a set entry: no thread is held
+ * between events. Each event is serialized once and queued to every subscriber; a
+ * subscriber's queue is drained in order by one virtual thread at a time, so events
+ * reach each client in the order they were published while a slow client never
+ * delays the others.
+ */
+@Component
+public class CountryChangeFeed {
+
+    private final CountryCatalogService catalogService;
+    private final ObjectMapper objectMapper;
+    private final long timeoutMillis;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+    private final Counter eventsSent;
+    private final Counter sendFailures;
+
+    public CountryChangeFeed(CountryCatalogService catalogService,
+                             ObjectMapper objectMapper,
+                             MeterRegistry meterRegistry,
+                             @Value("${skillgrid.countries.changes.emitter-timeout:1h}") Duration timeout) {
+        this.catalogService = catalogService;
+        this.objectMapper = objectMapper;
+        this.timeoutMillis = timeout.toMillis();
+        Gauge.builder("skillgrid.country.changes.subscribers", subscribers, Set::size)
+                .description("Open server-sent event subscriptions to country catalog changes")
+                .register(meterRegistry);
+        this.eventsSent = Counter.builder("skillgrid.country.changes.sent")
+                .description("Country change events written to subscribers")
+                .register(meterRegistry);
+        this.sendFailures = Counter.builder("skillgrid.country.changes.failures")
+                .description("Subscribers dropped because an event could not be written")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Opens a subscription. The first event carries the current version; a client that
+     * reconnects with an older Last-Event-ID knows it missed changes and should refetch.
+     */
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(e -> subscriber.close());
+
+        // Registered before the version is read: the catalog moves its version before
+        // broadcasting, so a change either shows in this read or reaches the subscriber
+        // (possibly both; a change id not above the version tells the client nothing new).
+        // Broadcasts queued meanwhile are held until the version event goes in first.
+        subscribers.add(subscriber);
+        long version = catalogService.version();
+        subscriber.start(SseEmitter.event()
+                .name("version")
+                .id(String.valueOf(version))
+                .data(json(Map.of("version", version)), MediaType.APPLICATION_JSON)
+                .build());
+        return emitter;
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    @EventListener
+    public void onCatalogChanged(CountryCatalogChangedEvent event) {
+        broadcast(SseEmitter.event()
+                .name("change")
+                .id(String.valueOf(event.version()))
+                .data(json(event), MediaType.APPLICATION_JSON)
+                .build());
+        System.out.println("📣 Country catalog version " + event.version() + " pushed to "
+                + subscribers.size() + " subscribers (" + event.added().size() + " added, "
+                + event.updated().size() + " updated, " + event.removed().size() + " removed)");
+    }
+
+    /**
+     * Comment line so proxies and load balancers do not drop idle subscriptions.
+     */
+    @Scheduled(fixedDelayString = "${skillgrid.countries.changes.heartbeat-ms:30000}")
+    public void heartbeat() {
+        if (!subscribers.isEmpty()) {
+            broadcast(SseEmitter.event().comment("keepalive").build());
+        }
+    }
+
+    private void broadcast(Set<ResponseBodyEmitter.DataWithMediaType> event) {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.enqueue(event);
+        }
+    }
+
+    /**
+     * One client: its pending events and whether a sender is draining them. Nothing is
+     * sent until {@link #start} puts the version event at the head of the queue.
+     */
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final Deque<Set<ResponseBodyEmitter.DataWithMediaType>> pending = new ConcurrentLinkedDeque<>();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean started;
+        private volatile boolean closed;
+
+        Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        void enqueue(Set<ResponseBodyEmitter.DataWithMediaType> event) {
+            if (closed) {
+                return;
+            }
+            pending.add(event);
+            if (started) {
+                scheduleDrain();
+            }
+        }
+
+        void start(Set<ResponseBodyEmitter.DataWithMediaType> firstEvent) {
+            pending.offerFirst(firstEvent);
+            started = true;
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (!closed && draining.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            do {
+                Set<ResponseBodyEmitter.DataWithMediaType> event;
+                while (!closed && (event = pending.poll()) != null) {
+                    send(event);
+                }
+                draining.set(false);
+                // An event queued after the last poll but before the flag was cleared
+            } while (!closed && !pending.isEmpty() && draining.compareAndSet(false, true));
+        }
+
+        private void send(Set<ResponseBodyEmitter.DataWithMediaType> event) {
+            try {
+                emitter.send(event);
+                eventsSent.increment();
+            } catch (IOException | IllegalStateException e) {
+                // Client went away (or the emitter already completed)
+                close();
+                sendFailures.increment();
+                emitter.completeWithError(e);
+            }
+        }
+
+        void close() {
+            closed = true;
+            pending.clear();
+            subscribers.remove(this);
+        }
+    }
+
+    private String json(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize country change event", e);
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.skillgrid.infrastructure;
+
+import com.skillgrid.infrastructure.jdbc.CheckpointedLoader;
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Writes countries and their phone prefixes, currencies and languages, one chunk per
+ * call, as JDBC batches in the chunk's transaction. Shared by {@link CountrySyncCommand}
+ * and {@link SimpleCountrySync}; see {@link PipelinedCountryWriter} for the concurrent variant.
+ *
+ * Inserts skip rows that already exist, so re-writing part of a chunk is harmless.
+ * Row counts and time per table accumulate across chunks for the sync metrics.
+ */
+class CountryChunkWriter implements CheckpointedLoader.ChunkWriter<CountryData>, AutoCloseable {
+
+    static final String LOAD_NAME = "countries";
+
+    // Clear in order (children first, respecting foreign keys)
+    private static final String[] TABLES = {
+        "country_languages",
+        "country_currencies",
+        "country_phone_prefixes",
+        "countries"
+    };
+
+    private static final String COUNTRY_SQL = """
+        INSERT INTO countries (code, name, native_name, region, subregion, capital, population, area)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+        ON CONFLICT (code) DO NOTHING
+        """;
+
+    static final String PHONE_SQL = """
+        INSERT INTO country_phone_prefixes (country_code, phone_prefix)
+        VALUES (?, ?)
+        ON CONFLICT DO NOTHING
+        """;
+
+    static final String CURRENCY_SQL = """
+        INSERT INTO country_currencies (country_code, currency_code)
+        VALUES (?, ?)
+        ON CONFLICT DO NOTHING
+        """;
+
+    static final String LANGUAGE_SQL = """
+        INSERT INTO country_languages (country_code, language_code)
+        VALUES (?, ?)
+        ON CONFLICT DO NOTHING
+        """;
+
+    int countryCount;
+    int phoneCount;
+    int currencyCount;
+    int languageCount;
+
+    // Time spent per target table, for the rows-per-second metrics
+    long countryNanos;
+    long phoneNanos;
+    long currencyNanos;
+    long languageNanos;
+
+    /**
+     * The writer selected by the options.
+     */
+    static CountryChunkWriter create(DataSource dataSource, CountrySyncOptions options) {
+        return options.pipelined()
+                ? new PipelinedCountryWriter(dataSource, options.queueCapacity(), options.childBatchSize())
+                : new CountryChunkWriter();
+    }
+
+    @Override
+    public void clear(Connection conn) throws SQLException {
+        System.out.println("Clearing existing country data...");
+        try (Statement stmt = conn.createStatement()) {
+            for (String table : TABLES) {
+                int deleted = stmt.executeUpdate("DELETE FROM " + table);
+                System.out.println("Cleared " + deleted + " records from " + table);
+            }
+        }
+    }
+
+    @Override
+    public void write(Connection conn, List<CountryData> chunk) throws SQLException {
+        writeCountries(conn, chunk);
+
+        long start = System.nanoTime();
+        phoneCount += writeChildren(conn, PHONE_SQL, chunk, c -> c.phonePrefixes);
+        phoneNanos += System.nanoTime() - start;
+
+        start = System.nanoTime();
+        currencyCount += writeChildren(conn, CURRENCY_SQL, chunk, c -> c.currencies);
+        currencyNanos += System.nanoTime() - start;
+
+        start = System.nanoTime();
+        languageCount += writeChildren(conn, LANGUAGE_SQL, chunk, c -> c.languages);
+        languageNanos += System.nanoTime() - start;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    void writeCountries(Connection conn, List<CountryData> chunk) throws SQLException {
+        long start = System.nanoTime();
+        try (PreparedStatement stmt = conn.prepareStatement(COUNTRY_SQL)) {
+            for (CountryData country : chunk) {
+                stmt.setString(1, country.code);
+                stmt.setString(2, country.name);
+                stmt.setString(3, country.nativeName);
+                stmt.setString(4, country.region);
+                stmt.setString(5, country.subregion);
+                stmt.setString(6, country.capital);
+                stmt.setLong(7, country.population);
+                stmt.setDouble(8, country.area);
+                stmt.addBatch();
+            }
+            stmt.executeBatch();
+            countryCount += chunk.size();
+        }
+        countryNanos += System.nanoTime() - start;
+    }
+
+    void recordTo(CountrySyncMetrics metrics) {
+        metrics.recordRows("countries", countryCount, countryNanos);
+        metrics.recordRows("country_phone_prefixes", phoneCount, phoneNanos);
+        metrics.recordRows("country_currencies", currencyCount, currencyNanos);
+        metrics.recordRows("country_languages", languageCount, languageNanos);
+    }
+
+    String summary() {
+        return countryCount + " countries, " +
+                phoneCount + " phone prefixes, " +
+                currencyCount + " currencies, " +
+                languageCount + " languages";
+    }
+
+    private static int writeChildren(Connection conn, String sql, List<CountryData> chunk,
+                                     Function<CountryData, List<String>> values) throws SQLException {
+        int rows = 0;
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            for (CountryData country : chunk) {
+                for (String value : values.apply(country)) {
+                    stmt.setString(1, country.code);
+                    stmt.setString(2, value);
+                    stmt.addBatch();
+                    rows++;
+                }
+            }
+            if (rows > 0) {
+                stmt.executeBatch();
+            }
+        }
+        return rows;
+    }
+}
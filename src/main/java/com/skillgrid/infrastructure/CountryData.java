@@ -0,0 +1,21 @@
+package com.skillgrid.infrastructure;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Parsed country row with its phone prefixes, currencies and languages.
+ */
+class CountryData {
+    String code;
+    String name;
+    String nativeName;
+    String region;
+    String subregion;
+    String capital;
+    long population;
+    double area;
+    List<String> phonePrefixes = new ArrayList<>();
+    List<String> currencies = new ArrayList<>();
+    List<String> languages = new ArrayList<>();
+}
@@ -0,0 +1,104 @@
+package com.skillgrid.infrastructure;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Parses the REST Countries v3.1 JSON format into {@link CountryData}.
+ * Shared by {@link CountrySyncCommand} and {@link SimpleCountrySync}.
+ */
+final class CountryJsonParser {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private CountryJsonParser() {
+    }
+
+    static List<CountryData> parse(byte[] payload) throws Exception {
+        JsonNode root = OBJECT_MAPPER.readTree(payload);
+        List<CountryData> countries = new ArrayList<>();
+
+        for (JsonNode node : root) {
+            CountryData country = new CountryData();
+            country.code = getTextValue(node, "cca2");
+            country.name = getTextValue(node, "name", "common");
+            country.nativeName = getTextValue(node, "name", "nativeName",
+                    getFirstLanguageKey(node), "common");
+            country.region = getTextValue(node, "region");
+            country.subregion = getTextValue(node, "subregion");
+            country.capital = parseCapital(node);
+            country.population = node.path("population").asLong(0);
+            country.area = node.path("area").asDouble(0.0);
+            country.phonePrefixes = parsePhonePrefixes(node);
+            country.currencies = parseCurrencies(node);
+            country.languages = parseLanguages(node);
+
+            countries.add(country);
+        }
+        return countries;
+    }
+
+    // Helper methods for JSON parsing
+    private static String getTextValue(JsonNode node, String... path) {
+        JsonNode current = node;
+        for (String field : path) {
+            if (current == null) return null;
+            current = current.get(field);
+        }
+        return current != null ? current.asText(null) : null;
+    }
+
+    private static String getFirstLanguageKey(JsonNode node) {
+        JsonNode languages = node.get("languages");
+        if (languages != null && languages.isObject() && languages.size() > 0) {
+            return languages.fieldNames().next();
+        }
+        return "";
+    }
+
+    private static List<String> parsePhonePrefixes(JsonNode node) {
+        List<String> prefixes = new ArrayList<>();
+        JsonNode idd = node.get("idd");
+        if (idd != null) {
+            String root = getTextValue(idd, "root");
+            JsonNode suffixes = idd.get("suffixes");
+            if (suffixes != null && suffixes.isArray()) {
+                for (JsonNode suffix : suffixes) {
+                    String s = suffix.asText();
+                    if (root != null && !root.isEmpty() && s != null && !s.isEmpty()) {
+                        prefixes.add(root + s);
+                    }
+                }
+            }
+        }
+        return prefixes;
+    }
+
+    private static List<String> parseCurrencies(JsonNode node) {
+        List<String> currencies = new ArrayList<>();
+        JsonNode currenciesNode = node.get("currencies");
+        if (currenciesNode != null && currenciesNode.isObject()) {
+            currenciesNode.fieldNames().forEachRemaining(currencies::add);
+        }
+        return currencies;
+    }
+
+    private static String parseCapital(JsonNode node) {
+        JsonNode capital = node.get("capital");
+        if (capital != null && capital.isArray() && capital.size() > 0) {
+            return capital.get(0).asText(null);
+        }
+        return null;
+    }
+
+    private static List<String> parseLanguages(JsonNode node) {
+        List<String> languages = new ArrayList<>();
+        JsonNode languagesNode = node.get("languages");
+        if (languagesNode != null && languagesNode.isObject()) {
+            languagesNode.fieldNames().forEachRemaining(languages::add);
+        }
+        return languages;
+    }
+}
@@ -0,0 +1,70 @@
+package com.skillgrid.infrastructure;
+
+import com.skillgrid.infrastructure.jdbc.DataSourceRoute;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Read-only REST controller for synchronized country data.
+ * Served from the read replica when one is configured (see {@link DataSourceRoute}).
+ */
+@RestController
+@RequestMapping("/api/countries")
+public class CountryQueryController {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CountryQueryController(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * GET /api/countries - List all countries ordered by name
+     */
+    @GetMapping
+    public List<Map<String, Object>> listCountries() {
+        return DataSourceRoute.onReplica(() -> jdbcTemplate.queryForList("""
+            SELECT code, name, region, subregion, capital, population
+            FROM countries
+            ORDER BY name
+            """));
+    }
+
+    /**
+     * GET /api/countries/{code} - Country details with phone prefixes, currencies and languages
+     */
+    @GetMapping("/{code}")
+    public ResponseEntity<Map<String, Object>> getCountry(@PathVariable String code) {
+        return DataSourceRoute.onReplica(() -> findCountry(code));
+    }
+
+    private ResponseEntity<Map<String, Object>> findCountry(String code) {
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList("""
+            SELECT code, name, native_name, region, subregion, capital, population, area
+            FROM countries
+            WHERE code = ?
+            """, code.toUpperCase());
+
+        if (rows.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+
+        Map<String, Object> country = rows.get(0);
+        country.put("phonePrefixes", jdbcTemplate.queryForList(
+                "SELECT phone_prefix FROM country_phone_prefixes WHERE country_code = ?",
+                String.class, country.get("code")));
+        country.put("currencies", jdbcTemplate.queryForList(
+                "SELECT currency_code FROM country_currencies WHERE country_code = ?",
+                String.class, country.get("code")));
+        country.put("languages", jdbcTemplate.queryForList(
+                "SELECT language_code FROM country_languages WHERE country_code = ?",
+                String.class, country.get("code")));
+        return ResponseEntity.ok(country);
+    }
+}
@@ -0,0 +1,22 @@
+package com.skillgrid.infrastructure;
+
+/**
+ * Source of country data in the REST Countries v3.1 JSON format.
+ */
+public interface CountrySource {
+
+    /**
+     * Fields read by {@link CountryJsonParser}; sources should not fetch anything else.
+     */
+    String FIELDS = "cca2,name,region,subregion,capital,population,area,idd,currencies,languages";
+
+    /**
+     * Returns the raw (uncompressed) JSON payload.
+     */
+    byte[] fetch() throws Exception;
+
+    /**
+     * Human-readable location of the data, for logs.
+     */
+    String describe();
+}
@@ -0,0 +1,34 @@
+package com.skillgrid.infrastructure;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import java.net.http.HttpClient;
+
+/**
+ * Selects the country data source:
+ * skillgrid.countries.source=http (default) or snapshot (skillgrid.countries.snapshot-location).
+ * No snapshot ships with the application, so the snapshot source needs an explicit location
+ * and startup fails without one.
+ */
+@Configuration
+public class CountrySourceConfig {
+
+    @Bean
+    public CountrySource countrySource(HttpClient httpClient,
+                                       @Value("${skillgrid.countries.source:http}") String source,
+                                       @Value("${skillgrid.countries.api-url:" + HttpCountrySource.DEFAULT_API_URL + "}") String apiUrl,
+                                       @Value("${skillgrid.countries.snapshot-location:}") String snapshotLocation) {
+        return switch (source) {
+            case "http" -> new HttpCountrySource(httpClient, apiUrl);
+            case "snapshot" -> {
+                if (snapshotLocation.isBlank()) {
+                    throw new IllegalArgumentException("skillgrid.countries.source=snapshot requires "
+                            + "skillgrid.countries.snapshot-location (a file path or classpath: resource)");
+                }
+                yield new SnapshotCountrySource(snapshotLocation.trim());
+            }
+            default -> throw new IllegalArgumentException("Unknown skillgrid.countries.source: " + source);
+        };
+    }
+}
@@ -1,249 +1,136 @@
 package com.skillgrid.infrastructure;
 
+import com.skillgrid.infrastructure.jdbc.CheckpointedLoader;
+import com.skillgrid.infrastructure.jdbc.DataSourceRoute;
+import com.skillgrid.infrastructure.jdbc.SyncRunLedger;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.jdbc.core.ConnectionCallback;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import java.net.URI;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
-import java.util.ArrayList;
 import java.util.List;
 
 /**
  * Spring Boot component for one-time country synchronization.
- * Uses existing Spring dependencies (Jackson, JdbcTemplate).
+ * Reads from the configured {@link CountrySource} and writes in committed chunks
+ * (skillgrid.countries.sync.chunk-size countries each) through {@link CheckpointedLoader},
+ * so a failed sync resumes where it stopped. Admin-only, so it is created lazily on first use.
+ * Always runs against the primary database, even when called from a read-replica path.
  */
 @Component
+@Lazy
 public class CountrySyncCommand {
 
+    private static final String RUNNER = "command";
+
     @Autowired
     private JdbcTemplate jdbcTemplate;
 
-    private final HttpClient httpClient = HttpClient.newHttpClient();
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    @Autowired
+    private CountrySource countrySource;
+
+    @Autowired
+    private CountrySyncMetrics metrics;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${skillgrid.countries.sync.chunk-size:100}")
+    private int chunkSize;
 
-    private static final String API_URL = "https://restcountries.com/v3.1/all";
+    @Value("${skillgrid.countries.sync.pipeline:true}")
+    private boolean pipelined;
+
+    @Value("${skillgrid.countries.sync.queue-capacity:1000}")
+    private int queueCapacity;
+
+    @Value("${skillgrid.countries.sync.child-batch-size:500}")
+    private int childBatchSize;
 
     /**
      * Execute the country synchronization.
      * Call this method to populate countries table.
      */
     public void synchronizeCountries() {
+        DataSourceRoute.onPrimary(() -> {
+            synchronize();
+            return null;
+        });
+    }
+
+    private void synchronize() {
         System.out.println("=== Country Data Synchronization ===");
-        System.out.println("Fetching data from: " + API_URL);
+        System.out.println("Fetching data from: " + countrySource.describe());
 
+        SyncRunLedger ledger = new SyncRunLedger(jdbcTemplate.getDataSource());
+        SyncRunLedger.Run run = null;
         try {
-            // Clear existing data
-            clearExistingData();
+            run = ledger.start(CountryChunkWriter.LOAD_NAME, RUNNER);
+
+            // Fetch and parse before touching the tables, so a failed fetch leaves them intact
+            byte[] payload = fetchPayload(run);
+            List<CountryData> countries = metrics.recordCallable(CountrySyncMetrics.PHASE_PARSE,
+                    () -> CountryJsonParser.parse(payload), run);
+            run.items(countries.size());
+            System.out.println("Fetched " + countries.size() + " countries (" + payload.length + " bytes)");
+
+            // Everything from the diff on runs under the lease, so a second sync (on any node)
+            // cannot change the tables between the diff and the clear, or clear and write meanwhile
+            CountrySyncOptions options = new CountrySyncOptions(chunkSize, pipelined, queueCapacity, childBatchSize);
+            CheckpointedLoader loader = new CheckpointedLoader(jdbcTemplate.getDataSource(), chunkSize);
+            List<SyncRunLedger.TableCounts> diff;
+            try (CheckpointedLoader.Lease lease = loader.acquire(CountryChunkWriter.LOAD_NAME);
+                 CountryChunkWriter writer = CountryChunkWriter.create(jdbcTemplate.getDataSource(), options)) {
+                // Row diff against the current tables, for the sync_runs ledger
+                diff = metrics.recordCallable(CountrySyncMetrics.PHASE_DIFF,
+                        () -> jdbcTemplate.execute((ConnectionCallback<List<SyncRunLedger.TableCounts>>)
+                                conn -> CountrySyncDiff.compute(conn, countries)), run);
+
+                // Clear existing data (skipped when resuming a failed load of the same payload)
+                CheckpointedLoader.Checkpoint checkpoint = metrics.recordCallable(CountrySyncMetrics.PHASE_CLEAR,
+                        () -> loader.begin(lease, CheckpointedLoader.fingerprint(payload),
+                                countries.size(), writer), run);
+                run.resumed(checkpoint.resumed());
+
+                // Insert countries, one committed chunk at a time (child tables concurrently when pipelined)
+                System.out.println("Inserting countries into database...");
+                CheckpointedLoader.Result result = metrics.recordCallable(CountrySyncMetrics.PHASE_INSERT,
+                        () -> loader.run(checkpoint, countries, writer), run);
+                writer.recordTo(metrics);
+                System.out.println("Inserted: " + writer.summary() + " in " + result.chunks() + " chunks");
+            }
+
+            run.tables(diff);
+            ledger.succeed(run);
 
-            // Fetch and insert countries
-            List<CountryData> countries = fetchCountriesFromApi();
-            insertCountriesIntoDatabase(countries);
+            // Tell every node (this one included) to reload its country catalog
+            Long version = jdbcTemplate.execute((ConnectionCallback<Long>) CountryCatalogListener::publish);
+            System.out.println("📡 Country catalog version " + version + " published");
 
+            metrics.recordSuccess(countries.size());
             System.out.println("✅ Synchronization completed successfully!");
-            System.out.println("📊 " + countries.size() + " countries synchronized.");
+            System.out.println("📊 " + countries.size() + " countries synchronized (run " + run.id() + ").");
+            eventPublisher.publishEvent(new CountriesSynchronizedEvent(countries.size()));
 
         } catch (Exception e) {
+            metrics.recordFailure();
+            if (run != null) {
+                ledger.fail(run, e);
+            }
             System.err.println("❌ Synchronization failed!");
             System.err.println("Error: " + e.getMessage());
             e.printStackTrace();
         }
     }
 
-    private void clearExistingData() {
-        System.out.println("Clearing existing country data...");
-
-        // Clear tables in correct order (respecting foreign keys)
-        String[] tables = {
-            "country_languages",
-            "country_currencies",
-            "country_phone_prefixes",
-            "countries"
-        };
-
-        for (String table : tables) {
-            int deleted = jdbcTemplate.update("DELETE FROM " + table);
-            System.out.println("Cleared " + deleted + " records from " + table);
-        }
-    }
-
-    private List<CountryData> fetchCountriesFromApi() throws Exception {
-        System.out.println("Fetching countries from API...");
-
-        HttpRequest request = HttpRequest.newBuilder()
-                .uri(URI.create(API_URL))
-                .header("Accept", "application/json")
-                .GET()
-                .build();
-
-        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-
-        if (response.statusCode() != 200) {
-            throw new RuntimeException("API returned HTTP " + response.statusCode());
-        }
-
-        JsonNode root = objectMapper.readTree(response.body());
-        List<CountryData> countries = new ArrayList<>();
-
-        for (JsonNode node : root) {
-            CountryData country = new CountryData();
-            country.code = getTextValue(node, "cca2");
-            country.name = getTextValue(node, "name", "common");
-            country.nativeName = getTextValue(node, "name", "nativeName",
-                    getFirstLanguageKey(node), "common");
-            country.region = getTextValue(node, "region");
-            country.subregion = getTextValue(node, "subregion");
-            country.capital = parseCapital(node);
-            country.population = node.get("population").asLong(0);
-            country.area = node.get("area").asDouble(0.0);
-            country.phonePrefixes = parsePhonePrefixes(node);
-            country.currencies = parseCurrencies(node);
-            country.languages = parseLanguages(node);
-
-            countries.add(country);
-        }
-
-        System.out.println("Fetched " + countries.size() + " countries from API");
-        return countries;
-    }
-
-    private void insertCountriesIntoDatabase(List<CountryData> countries) {
-        System.out.println("Inserting countries into database...");
-
-        String countrySql = """
-            INSERT INTO countries (code, name, native_name, region, subregion, capital, population, area)
-            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
-            """;
-
-        String phoneSql = """
-            INSERT INTO country_phone_prefixes (country_code, phone_prefix)
-            VALUES (?, ?)
-            """;
-
-        String currencySql = """
-            INSERT INTO country_currencies (country_code, currency_code)
-            VALUES (?, ?)
-            """;
-
-        String languageSql = """
-            INSERT INTO country_languages (country_code, language_code)
-            VALUES (?, ?)
-            """;
-
-        int countryCount = 0;
-        int phoneCount = 0;
-        int currencyCount = 0;
-        int languageCount = 0;
-
-        for (CountryData country : countries) {
-            // Insert main country
-            jdbcTemplate.update(countrySql,
-                country.code, country.name, country.nativeName,
-                country.region, country.subregion, country.capital,
-                country.population, country.area);
-            countryCount++;
-
-            // Insert phone prefixes
-            for (String prefix : country.phonePrefixes) {
-                jdbcTemplate.update(phoneSql, country.code, prefix);
-                phoneCount++;
-            }
-
-            // Insert currencies
-            for (String currency : country.currencies) {
-                jdbcTemplate.update(currencySql, country.code, currency);
-                currencyCount++;
-            }
-
-            // Insert languages
-            for (String language : country.languages) {
-                jdbcTemplate.update(languageSql, country.code, language);
-                languageCount++;
-            }
-        }
-
-        System.out.println("Inserted: " + countryCount + " countries, " +
-                         phoneCount + " phone prefixes, " +
-                         currencyCount + " currencies, " +
-                         languageCount + " languages");
-    }
-
-    // Helper methods for JSON parsing
-    private String getTextValue(JsonNode node, String... path) {
-        JsonNode current = node;
-        for (String field : path) {
-            if (current == null) return null;
-            current = current.get(field);
-        }
-        return current != null ? current.asText(null) : null;
-    }
-
-    private String getFirstLanguageKey(JsonNode node) {
-        JsonNode languages = node.get("languages");
-        if (languages != null && languages.isObject()) {
-            return languages.fieldNames().next();
-        }
-        return "";
-    }
-
-    private List<String> parsePhonePrefixes(JsonNode node) {
-        List<String> prefixes = new ArrayList<>();
-        JsonNode idd = node.get("idd");
-        if (idd != null) {
-            String root = getTextValue(idd, "root");
-            JsonNode suffixes = idd.get("suffixes");
-            if (suffixes != null && suffixes.isArray()) {
-                for (JsonNode suffix : suffixes) {
-                    String s = suffix.asText();
-                    if (root != null && !root.isEmpty() && s != null && !s.isEmpty()) {
-                        prefixes.add(root + s);
-                    }
-                }
-            }
-        }
-        return prefixes;
-    }
-
-    private List<String> parseCurrencies(JsonNode node) {
-        List<String> currencies = new ArrayList<>();
-        JsonNode currenciesNode = node.get("currencies");
-        if (currenciesNode != null && currenciesNode.isObject()) {
-            currenciesNode.fieldNames().forEachRemaining(currencies::add);
-        }
-        return currencies;
-    }
-
-    private String parseCapital(JsonNode node) {
-        JsonNode capital = node.get("capital");
-        if (capital != null && capital.isArray() && capital.size() > 0) {
-            return capital.get(0).asText(null);
-        }
-        return null;
-    }
-
-    private List<String> parseLanguages(JsonNode node) {
-        List<String> languages = new ArrayList<>();
-        JsonNode languagesNode = node.get("languages");
-        if (languagesNode != null && languagesNode.isObject()) {
-            languagesNode.fieldNames().forEachRemaining(languages::add);
-        }
-        return languages;
-    }
+    private byte[] fetchPayload(SyncRunLedger.Run run) throws Exception {
+        System.out.println("Fetching countries from " + countrySource.describe() + "...");
 
-    private static class CountryData {
-        String code;
-        String name;
-        String nativeName;
-        String region;
-        String subregion;
-        String capital;
-        long population;
-        double area;
-        List<String> phonePrefixes = new ArrayList<>();
-        List<String> currencies = new ArrayList<>();
-        List<String> languages = new ArrayList<>();
+        byte[] payload = metrics.recordCallable(CountrySyncMetrics.PHASE_FETCH, countrySource::fetch, run);
+        metrics.recordPayloadBytes(payload.length);
+        run.payloadBytes(payload.length);
+        return payload;
     }
-}
\ No newline at end of file
+}
@@ -1,5 +1,6 @@
 package com.skillgrid.infrastructure;
 
+import org.springframework.context.annotation.Lazy;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -15,7 +16,7 @@ public class CountrySyncController {
 
     private final CountrySyncCommand countrySyncCommand;
 
-    public CountrySyncController(CountrySyncCommand countrySyncCommand) {
+    public CountrySyncController(@Lazy CountrySyncCommand countrySyncCommand) {
         this.countrySyncCommand = countrySyncCommand;
     }
 
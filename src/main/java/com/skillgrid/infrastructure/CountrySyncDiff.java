@@ -0,0 +1,116 @@
+package com.skillgrid.infrastructure;
+
+import com.skillgrid.infrastructure.jdbc.SyncRunLedger;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Compares a parsed payload with the country tables as they are before the sync writes,
+ * giving the rows the sync inserts, updates and deletes per table.
+ *
+ * The load itself replaces the tables wholesale; this is the logical difference, which
+ * is what the sync_runs ledger tracks. A country is updated when any of its columns
+ * changes; child rows are (country, value) pairs, so they are only inserted or deleted.
+ * When a failed load is resumed the tables already hold part of the payload, so the
+ * diff covers what this run still had to write.
+ */
+final class CountrySyncDiff {
+
+    private CountrySyncDiff() {
+    }
+
+    static List<SyncRunLedger.TableCounts> compute(Connection conn, List<CountryData> countries) throws SQLException {
+        return List.of(
+                countries(conn, countries),
+                children(conn, "country_phone_prefixes", "phone_prefix", countries, c -> c.phonePrefixes),
+                children(conn, "country_currencies", "currency_code", countries, c -> c.currencies),
+                children(conn, "country_languages", "language_code", countries, c -> c.languages));
+    }
+
+    private static SyncRunLedger.TableCounts countries(Connection conn, List<CountryData> countries)
+            throws SQLException {
+        Map<String, List<Object>> existing = new HashMap<>();
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("""
+                 SELECT code, name, native_name, region, subregion, capital, population, area FROM countries
+                 """)) {
+            while (rs.next()) {
+                BigDecimal area = rs.getBigDecimal(8);
+                existing.put(rs.getString(1), List.of(
+                        Objects.toString(rs.getString(2), ""), Objects.toString(rs.getString(3), ""),
+                        Objects.toString(rs.getString(4), ""), Objects.toString(rs.getString(5), ""),
+                        Objects.toString(rs.getString(6), ""), rs.getLong(7),
+                        area != null ? area.stripTrailingZeros() : BigDecimal.ZERO));
+            }
+        }
+
+        int inserted = 0;
+        int updated = 0;
+        Set<String> seen = new HashSet<>();
+        for (CountryData country : countries) {
+            if (!seen.add(country.code)) {
+                continue;    // duplicate codes are skipped by the insert too
+            }
+            List<Object> previous = existing.get(country.code);
+            if (previous == null) {
+                inserted++;
+            } else if (!previous.equals(columns(country))) {
+                updated++;
+            }
+        }
+        existing.keySet().removeAll(seen);
+        return new SyncRunLedger.TableCounts("countries", inserted, updated, existing.size());
+    }
+
+    private static SyncRunLedger.TableCounts children(Connection conn, String table, String column,
+                                                      List<CountryData> countries,
+                                                      Function<CountryData, List<String>> values)
+            throws SQLException {
+        Set<String> existing = new HashSet<>();
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT country_code, " + column + " FROM " + table)) {
+            while (rs.next()) {
+                existing.add(key(rs.getString(1), rs.getString(2)));
+            }
+        }
+
+        int inserted = 0;
+        Set<String> incoming = new HashSet<>();
+        for (CountryData country : countries) {
+            for (String value : values.apply(country)) {
+                String key = key(country.code, value);
+                if (incoming.add(key) && !existing.contains(key)) {
+                    inserted++;
+                }
+            }
+        }
+        existing.removeAll(incoming);
+        return new SyncRunLedger.TableCounts(table, inserted, 0, existing.size());
+    }
+
+    /**
+     * The stored form of a parsed country: nulls as empty, area rounded to the column's scale.
+     */
+    private static List<Object> columns(CountryData country) {
+        return List.of(
+                Objects.toString(country.name, ""), Objects.toString(country.nativeName, ""),
+                Objects.toString(country.region, ""), Objects.toString(country.subregion, ""),
+                Objects.toString(country.capital, ""), country.population,
+                BigDecimal.valueOf(country.area).setScale(2, RoundingMode.HALF_UP).stripTrailingZeros());
+    }
+
+    private static String key(String countryCode, String value) {
+        return countryCode + '\u0000' + value;
+    }
+}
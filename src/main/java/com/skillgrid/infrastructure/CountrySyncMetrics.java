@@ -0,0 +1,231 @@
+package com.skillgrid.infrastructure;
+
+import com.skillgrid.infrastructure.jdbc.SyncRunLedger;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micrometer instrumentation for the country synchronization.
+ * Exposed through /actuator/prometheus as skillgrid_country_sync_*.
+ */
+@Component
+public class CountrySyncMetrics {
+
+    public static final String PHASE_FETCH = SyncRunLedger.PHASE_FETCH;
+    public static final String PHASE_PARSE = SyncRunLedger.PHASE_PARSE;
+    public static final String PHASE_DIFF = "diff";
+    public static final String PHASE_CLEAR = "clear";
+    public static final String PHASE_INSERT = "insert";
+
+    private static final String[] TABLES = {
+        "countries",
+        "country_phone_prefixes",
+        "country_currencies",
+        "country_languages"
+    };
+
+    private final MeterRegistry registry;
+    private final Map<String, Timer> phaseTimers = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> phaseAllocations = new ConcurrentHashMap<>();
+    private final Map<String, Counter> rowCounters = new ConcurrentHashMap<>();
+    private final Map<String, Rate> rowRates = new ConcurrentHashMap<>();
+    private final Map<String, Counter> stallCounters = new ConcurrentHashMap<>();
+    private final Map<String, Timer> stallTimers = new ConcurrentHashMap<>();
+    private final DistributionSummary payloadBytes;
+    private final Counter successes;
+    private final Counter failures;
+
+    private volatile double lastSuccess;
+    private volatile double lastTimestampSeconds;
+    private volatile double lastCountries;
+
+    public CountrySyncMetrics(MeterRegistry registry) {
+        this.registry = registry;
+
+        this.payloadBytes = DistributionSummary.builder("skillgrid.country.sync.payload")
+                .description("Size of the country payload received from the source")
+                .baseUnit("bytes")
+                .register(registry);
+
+        this.successes = Counter.builder("skillgrid.country.sync.runs")
+                .tag("result", "success")
+                .register(registry);
+        this.failures = Counter.builder("skillgrid.country.sync.runs")
+                .tag("result", "failure")
+                .register(registry);
+
+        Gauge.builder("skillgrid.country.sync.last.success", this, m -> m.lastSuccess)
+                .description("1 if the last synchronization succeeded, 0 otherwise")
+                .register(registry);
+        Gauge.builder("skillgrid.country.sync.last.timestamp", this, m -> m.lastTimestampSeconds)
+                .description("Epoch seconds of the last finished synchronization")
+                .baseUnit("seconds")
+                .register(registry);
+        Gauge.builder("skillgrid.country.sync.last.countries", this, m -> m.lastCountries)
+                .description("Countries written by the last successful synchronization")
+                .register(registry);
+
+        // Pre-register per-table and per-phase meters so dashboards see them before the first run
+        for (String table : TABLES) {
+            rowCounter(table);
+            rowRate(table);
+        }
+        for (int i = 1; i < TABLES.length; i++) {
+            stallCounter(TABLES[i]);
+            stallTimer(TABLES[i]);
+        }
+        for (String phase : new String[] {PHASE_FETCH, PHASE_PARSE, PHASE_DIFF, PHASE_CLEAR, PHASE_INSERT}) {
+            phase(phase);
+            phaseAllocation(phase);
+        }
+    }
+
+    /**
+     * Timer for one synchronization phase (fetch, parse, diff, clear, insert).
+     */
+    public Timer phase(String phase) {
+        return phaseTimers.computeIfAbsent(phase, p -> Timer.builder("skillgrid.country.sync.phase")
+                .description("Duration of each country synchronization phase")
+                .tag("phase", p)
+                .register(registry));
+    }
+
+    /**
+     * Runs one phase on the calling thread, recording its duration and the bytes it allocated.
+     */
+    public void record(String phase, Runnable work) {
+        long allocatedBefore = allocatedBytes();
+        try {
+            phase(phase).record(work);
+        } finally {
+            recordAllocation(phase, allocatedBefore);
+        }
+    }
+
+    public <T> T recordCallable(String phase, Callable<T> work) throws Exception {
+        long allocatedBefore = allocatedBytes();
+        try {
+            return phase(phase).recordCallable(work);
+        } finally {
+            recordAllocation(phase, allocatedBefore);
+        }
+    }
+
+    /**
+     * Like {@link #recordCallable(String, Callable)}, also adding the phase's duration to a sync run.
+     */
+    public <T> T recordCallable(String phase, Callable<T> work, SyncRunLedger.Run run) throws Exception {
+        long start = System.nanoTime();
+        try {
+            return recordCallable(phase, work);
+        } finally {
+            run.phase(phase, System.nanoTime() - start);
+        }
+    }
+
+    public void recordPayloadBytes(long bytes) {
+        payloadBytes.record(bytes);
+    }
+
+    /**
+     * Records rows written to a table and the resulting rows-per-second rate.
+     */
+    public void recordRows(String table, long rows, long elapsedNanos) {
+        rowCounter(table).increment(rows);
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        rowRate(table).value = seconds > 0 ? rows / seconds : 0.0;
+    }
+
+    /**
+     * Records how often, and for how long, the pipelined sync blocked on a full child-table queue.
+     */
+    public void recordStalls(String table, long stalls, long stalledNanos) {
+        stallCounter(table).increment(stalls);
+        stallTimer(table).record(stalledNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordSuccess(int countries) {
+        successes.increment();
+        lastSuccess = 1.0;
+        lastCountries = countries;
+        lastTimestampSeconds = System.currentTimeMillis() / 1000.0;
+    }
+
+    public void recordFailure() {
+        failures.increment();
+        lastSuccess = 0.0;
+        lastTimestampSeconds = System.currentTimeMillis() / 1000.0;
+    }
+
+    private void recordAllocation(String phase, long allocatedBefore) {
+        long allocatedAfter = allocatedBytes();
+        if (allocatedBefore >= 0 && allocatedAfter >= 0) {
+            phaseAllocation(phase).record(allocatedAfter - allocatedBefore);
+        }
+    }
+
+    private DistributionSummary phaseAllocation(String phase) {
+        return phaseAllocations.computeIfAbsent(phase, p -> DistributionSummary.builder("skillgrid.country.sync.phase.allocated")
+                .description("Heap allocated by the synchronizing thread per phase")
+                .baseUnit("bytes")
+                .tag("phase", p)
+                .register(registry));
+    }
+
+    /**
+     * Bytes allocated so far by the current thread, or -1 if the JVM does not support it.
+     */
+    private static long allocatedBytes() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (threads instanceof com.sun.management.ThreadMXBean hotspot && hotspot.isThreadAllocatedMemoryEnabled()) {
+            return hotspot.getCurrentThreadAllocatedBytes();
+        }
+        return -1;
+    }
+
+    private Counter rowCounter(String table) {
+        return rowCounters.computeIfAbsent(table, t -> Counter.builder("skillgrid.country.sync.rows")
+                .description("Rows written per target table")
+                .tag("table", t)
+                .register(registry));
+    }
+
+    private Rate rowRate(String table) {
+        return rowRates.computeIfAbsent(table, t -> {
+            Rate rate = new Rate();
+            Gauge.builder("skillgrid.country.sync.rows.per.second", rate, r -> r.value)
+                    .description("Insert throughput of the last synchronization per target table")
+                    .tag("table", t)
+                    .register(registry);
+            return rate;
+        });
+    }
+
+    private Counter stallCounter(String table) {
+        return stallCounters.computeIfAbsent(table, t -> Counter.builder("skillgrid.country.sync.backpressure.stalls")
+                .description("Times the country sync blocked on a full child-table queue")
+                .tag("table", t)
+                .register(registry));
+    }
+
+    private Timer stallTimer(String table) {
+        return stallTimers.computeIfAbsent(table, t -> Timer.builder("skillgrid.country.sync.backpressure")
+                .description("Time the country sync spent blocked on a full child-table queue per run")
+                .tag("table", t)
+                .register(registry));
+    }
+
+    private static class Rate {
+        volatile double value;
+    }
+}
@@ -0,0 +1,25 @@
+package com.skillgrid.infrastructure;
+
+/**
+ * How the country sync writes: countries per committed chunk, and whether the child
+ * tables are loaded by the concurrent pipeline (bounded queue capacity and batch size
+ * per child table).
+ */
+public record CountrySyncOptions(int chunkSize, boolean pipelined, int queueCapacity, int childBatchSize) {
+
+    public static final CountrySyncOptions DEFAULT = new CountrySyncOptions(100, true, 1000, 500);
+
+    public CountrySyncOptions {
+        if (chunkSize <= 0 || queueCapacity <= 0 || childBatchSize <= 0) {
+            throw new IllegalArgumentException("Chunk size, queue capacity and batch size must be positive");
+        }
+    }
+
+    public CountrySyncOptions withChunkSize(int chunkSize) {
+        return new CountrySyncOptions(chunkSize, pipelined, queueCapacity, childBatchSize);
+    }
+
+    public CountrySyncOptions withPipelined(boolean pipelined) {
+        return new CountrySyncOptions(chunkSize, pipelined, queueCapacity, childBatchSize);
+    }
+}
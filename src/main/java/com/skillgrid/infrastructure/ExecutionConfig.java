@@ -0,0 +1,35 @@
+package com.skillgrid.infrastructure;
+
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
+/**
+ * Execution model configuration.
+ * With the "virtual" profile (spring.threads.virtual.enabled=true) Tomcat, @Async
+ * methods and the outbound HttpClient all run on virtual threads.
+ * Scheduling is enabled for background relays (member outbox).
+ */
+@Configuration
+@EnableAsync
+@EnableScheduling
+public class ExecutionConfig {
+
+    @Bean
+    public HttpClient httpClient(Environment environment) {
+        HttpClient.Builder builder = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(10))
+                .followRedirects(HttpClient.Redirect.NORMAL);
+
+        if (Threading.VIRTUAL.isActive(environment)) {
+            builder.executor(Executors.newVirtualThreadPerTaskExecutor());
+        }
+        return builder.build();
+    }
+}
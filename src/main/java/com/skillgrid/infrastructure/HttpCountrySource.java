@@ -0,0 +1,59 @@
+package com.skillgrid.infrastructure;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Fetches countries from the REST Countries API, projecting only the fields the
+ * parser reads and accepting a gzip-compressed response.
+ */
+public class HttpCountrySource implements CountrySource {
+
+    public static final String DEFAULT_API_URL = "https://restcountries.com/v3.1/all";
+
+    private final HttpClient httpClient;
+    private final URI uri;
+
+    public HttpCountrySource(HttpClient httpClient, String apiUrl) {
+        this.httpClient = httpClient;
+        this.uri = URI.create(apiUrl + (apiUrl.contains("?") ? "&" : "?") + "fields=" + FIELDS);
+    }
+
+    @Override
+    public byte[] fetch() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(uri)
+                .timeout(Duration.ofSeconds(60))
+                .header("Accept", "application/json")
+                .header("Accept-Encoding", "gzip")
+                .GET()
+                .build();
+
+        HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+
+        if (response.statusCode() != 200) {
+            throw new RuntimeException("API returned HTTP " + response.statusCode());
+        }
+
+        boolean gzip = response.headers().firstValue("Content-Encoding")
+                .map(encoding -> encoding.equalsIgnoreCase("gzip"))
+                .orElse(false);
+        if (!gzip) {
+            return response.body();
+        }
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(response.body()))) {
+            return in.readAllBytes();
+        }
+    }
+
+    @Override
+    public String describe() {
+        return uri.toString();
+    }
+}
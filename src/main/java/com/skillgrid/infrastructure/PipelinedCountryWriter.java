@@ -0,0 +1,263 @@
+package com.skillgrid.infrastructure;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Function;
+
+/**
+ * Country writer that commits each chunk of countries on its own and loads the three
+ * child tables concurrently, each on its own connection, fed through a bounded queue.
+ *
+ * Child rows are queued only once their countries are committed, since the foreign
+ * keys need them visible. When a queue is full the producer blocks, so the parent
+ * inserts slow down to the pace of the slowest child table instead of buffering the
+ * whole payload; those waits are counted as back-pressure stalls per table.
+ */
+class PipelinedCountryWriter extends CountryChunkWriter {
+
+    private static final ChildRow END = new ChildRow(null, null);
+
+    private final Stage phones;
+    private final Stage currencies;
+    private final Stage languages;
+    private final List<Stage> stages;
+    private boolean started;
+
+    PipelinedCountryWriter(DataSource dataSource, int queueCapacity, int batchSize) {
+        this.phones = new Stage(dataSource, "country_phone_prefixes", PHONE_SQL, c -> c.phonePrefixes,
+                queueCapacity, batchSize);
+        this.currencies = new Stage(dataSource, "country_currencies", CURRENCY_SQL, c -> c.currencies,
+                queueCapacity, batchSize);
+        this.languages = new Stage(dataSource, "country_languages", LANGUAGE_SQL, c -> c.languages,
+                queueCapacity, batchSize);
+        this.stages = List.of(phones, currencies, languages);
+    }
+
+    @Override
+    public void write(Connection conn, List<CountryData> chunk) throws SQLException {
+        writeCountries(conn, chunk);
+    }
+
+    @Override
+    public void committed(List<CountryData> chunk) throws SQLException {
+        if (!started) {
+            stages.forEach(Stage::start);
+            started = true;
+        }
+        for (Stage stage : stages) {
+            stage.enqueue(chunk);
+        }
+    }
+
+    @Override
+    public void finish() throws SQLException {
+        close();
+        SQLException failure = null;
+        for (Stage stage : stages) {
+            if (stage.failure != null) {
+                if (failure == null) {
+                    failure = new SQLException("Loading " + stage.table + " failed: " + stage.failure.getMessage(),
+                            stage.failure);
+                } else {
+                    failure.addSuppressed(stage.failure);
+                }
+            }
+        }
+        phoneCount = phones.rows;
+        phoneNanos = phones.busyNanos();
+        currencyCount = currencies.rows;
+        currencyNanos = currencies.busyNanos();
+        languageCount = languages.rows;
+        languageNanos = languages.busyNanos();
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Ends the child streams and waits for the writers; also stops them if the load failed.
+     */
+    @Override
+    public void close() {
+        if (!started) {
+            return;
+        }
+        for (Stage stage : stages) {
+            stage.end();
+        }
+        for (Stage stage : stages) {
+            stage.join();
+        }
+        started = false;
+    }
+
+    @Override
+    void recordTo(CountrySyncMetrics metrics) {
+        super.recordTo(metrics);
+        for (Stage stage : stages) {
+            metrics.recordStalls(stage.table, stage.stalls, stage.stallNanos);
+        }
+    }
+
+    @Override
+    String summary() {
+        StringBuilder summary = new StringBuilder(super.summary()).append(" (back-pressure stalls:");
+        for (Stage stage : stages) {
+            summary.append(' ').append(stage.table).append('=').append(stage.stalls)
+                    .append('/').append(stage.stallNanos / 1_000_000).append(" ms");
+        }
+        return summary.append(')').toString();
+    }
+
+    private record ChildRow(String countryCode, String value) {
+    }
+
+    /**
+     * One child table: a bounded queue drained by a dedicated thread and connection,
+     * committing every batchSize rows.
+     */
+    private static final class Stage implements Runnable {
+
+        private final DataSource dataSource;
+        private final String table;
+        private final String sql;
+        private final Function<CountryData, List<String>> values;
+        private final BlockingQueue<ChildRow> queue;
+        private final int batchSize;
+        private Thread thread;
+
+        // Written by the stage thread, read after join()
+        private volatile Exception failure;
+        private int rows;
+        private long startNanos;
+        private long endNanos;
+        private long idleNanos;
+
+        // Producer side
+        private long stalls;
+        private long stallNanos;
+
+        Stage(DataSource dataSource, String table, String sql, Function<CountryData, List<String>> values,
+              int queueCapacity, int batchSize) {
+            this.dataSource = dataSource;
+            this.table = table;
+            this.sql = sql;
+            this.values = values;
+            this.queue = new ArrayBlockingQueue<>(queueCapacity);
+            this.batchSize = batchSize;
+        }
+
+        void start() {
+            thread = Thread.ofPlatform().name("country-sync-" + table).start(this);
+        }
+
+        void enqueue(List<CountryData> chunk) throws SQLException {
+            if (failure != null) {
+                throw new SQLException("Loading " + table + " failed: " + failure.getMessage(), failure);
+            }
+            for (CountryData country : chunk) {
+                for (String value : values.apply(country)) {
+                    put(new ChildRow(country.code, value));
+                }
+            }
+        }
+
+        void end() {
+            put(END);
+        }
+
+        void join() {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted waiting for " + table, e);
+            }
+        }
+
+        /**
+         * Time spent writing, excluding waits for rows; the stage's throughput is rows / busyNanos.
+         */
+        long busyNanos() {
+            return endNanos - startNanos - idleNanos;
+        }
+
+        private void put(ChildRow row) {
+            if (queue.offer(row)) {
+                return;
+            }
+            long start = System.nanoTime();
+            try {
+                queue.put(row);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted queueing " + table + " rows", e);
+            }
+            stalls++;
+            stallNanos += System.nanoTime() - start;
+        }
+
+        @Override
+        public void run() {
+            startNanos = System.nanoTime();
+            try (Connection conn = dataSource.getConnection()) {
+                conn.setAutoCommit(false);
+                try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                    int pending = 0;
+                    for (ChildRow row = take(); row != END; row = take()) {
+                        stmt.setString(1, row.countryCode());
+                        stmt.setString(2, row.value());
+                        stmt.addBatch();
+                        if (++pending == batchSize) {
+                            stmt.executeBatch();
+                            conn.commit();
+                            rows += pending;
+                            pending = 0;
+                        }
+                    }
+                    if (pending > 0) {
+                        stmt.executeBatch();
+                        conn.commit();
+                        rows += pending;
+                    }
+                } catch (SQLException | RuntimeException e) {
+                    conn.rollback();
+                    throw e;
+                }
+            } catch (Exception e) {
+                failure = e;
+                drain();
+            } finally {
+                endNanos = System.nanoTime();
+            }
+        }
+
+        private ChildRow take() throws InterruptedException {
+            ChildRow row = queue.poll();
+            if (row == null) {
+                long start = System.nanoTime();
+                row = queue.take();
+                idleNanos += System.nanoTime() - start;
+            }
+            return row;
+        }
+
+        /**
+         * Keeps consuming after a failure so the producer never blocks on a dead stage.
+         */
+        private void drain() {
+            try {
+                while (queue.take() != END) {
+                    // discard
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
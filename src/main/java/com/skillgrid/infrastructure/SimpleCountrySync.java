@@ -1,275 +1,243 @@
 package com.skillgrid.infrastructure;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import java.net.URI;
+import com.skillgrid.infrastructure.jdbc.CheckpointedLoader;
+import com.skillgrid.infrastructure.jdbc.SyncRunLedger;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.postgresql.ds.PGSimpleDataSource;
+import java.io.IOException;
 import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.sql.Connection;
-import java.sql.DriverManager;
-import java.sql.PreparedStatement;
-import java.util.ArrayList;
 import java.util.List;
-import java.util.UUID;
 
 /**
  * Simple, pure Java synchronization for countries.
- * No Spring Boot, just JDBC and HTTP client.
+ * No Spring Boot, just JDBC and HTTP client, so it also builds as a GraalVM native
+ * image (mvn -Pnative-sync package) for cron-driven loads.
+ * Writes in committed chunks through {@link CheckpointedLoader}, like {@link CountrySyncCommand}.
+ *
+ * Every option is a command line argument (see {@link #USAGE}) and falls back to the
+ * names the application uses, as system properties or environment variables
+ * (SPRING_DATASOURCE_URL, SPRING_DATASOURCE_USERNAME, SPRING_DATASOURCE_PASSWORD,
+ * SKILLGRID_COUNTRIES_SYNC_SOURCE, SKILLGRID_COUNTRIES_API_URL,
+ * SKILLGRID_COUNTRIES_SYNC_CHUNK_SIZE, SKILLGRID_COUNTRIES_SYNC_PIPELINE,
+ * SKILLGRID_COUNTRIES_SYNC_QUEUE_CAPACITY, SKILLGRID_COUNTRIES_SYNC_CHILD_BATCH_SIZE),
+ * and then to the local development setup. Exits with 1 if the sync fails and 2 on
+ * invalid arguments.
  */
 public class SimpleCountrySync {
 
-    private static final String API_URL = "https://restcountries.com/v3.1/all";
-    private static final String DB_URL = "jdbc:postgresql://localhost:5432/skillgrid_db";
-    private static final String DB_USER = "postgres";
-    private static final String DB_PASSWORD = "123456";
+    private static final String RUNNER = "simple";
 
-    public static void main(String[] args) {
-        System.out.println("=== Simple Country Data Synchronization ===");
-        System.out.println("Fetching data from: " + API_URL);
-        System.out.println("Database: " + DB_URL);
+    private final PGSimpleDataSource dataSource;
+    private final CountrySyncOptions options;
+    private final CountrySyncMetrics metrics;
 
-        try {
-            // Clear existing data
-            clearExistingData();
+    public SimpleCountrySync(String dbUrl, String dbUser, String dbPassword, CountrySyncOptions options,
+                             CountrySyncMetrics metrics) {
+        this.dataSource = new PGSimpleDataSource();
+        this.dataSource.setURL(dbUrl);
+        this.dataSource.setUser(dbUser);
+        this.dataSource.setPassword(dbPassword);
+        this.options = options;
+        this.metrics = metrics;
+    }
 
-            // Fetch and insert countries
-            List<CountryData> countries = fetchCountriesFromApi();
-            insertCountriesIntoDatabase(countries);
+    public static final String USAGE = """
+        Usage: skillgrid-country-sync [options] [snapshot]
+          --source <file|classpath:resource|http(s) URL>  snapshot to load or REST Countries URL
+                                                           (default: the REST Countries API)
+          --db-url <jdbc url>         target database (default: local skillgrid_db)
+          --user <name>               database user
+          --password <secret>         database password (required unless
+                                      SPRING_DATASOURCE_PASSWORD is set)
+          --mode pipelined|sequential how the child tables are written (default: pipelined)
+          --chunk-size <n>            countries per committed chunk (default: 100)
+          --queue-capacity <n>        pipeline queue capacity per child table (default: 1000)
+          --child-batch-size <n>      pipeline batch size per child table (default: 500)
+          --help                      print this help
+        """;
 
-            System.out.println("✅ Synchronization completed successfully!");
-            System.out.println("📊 " + countries.size() + " countries synchronized.");
+    public static void main(String[] args) {
+        String source = setting("skillgrid.countries.sync.source", null);
+        String apiUrl = setting("skillgrid.countries.api-url", HttpCountrySource.DEFAULT_API_URL);
+        String dbUrl = setting("spring.datasource.url", "jdbc:postgresql://localhost:5432/skillgrid_db");
+        String user = setting("spring.datasource.username", "postgres");
+        String password = setting("spring.datasource.password", null);
+        CountrySyncOptions options;
+        try {
+            options = new CountrySyncOptions(
+                    Integer.parseInt(setting("skillgrid.countries.sync.chunk-size", "100")),
+                    Boolean.parseBoolean(setting("skillgrid.countries.sync.pipeline", "true")),
+                    Integer.parseInt(setting("skillgrid.countries.sync.queue-capacity", "1000")),
+                    Integer.parseInt(setting("skillgrid.countries.sync.child-batch-size", "500")));
+
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--source" -> source = value(args, ++i);
+                    case "--db-url" -> dbUrl = value(args, ++i);
+                    case "--user" -> user = value(args, ++i);
+                    case "--password" -> password = value(args, ++i);
+                    case "--mode" -> options = options.withPipelined(pipelined(value(args, ++i)));
+                    case "--chunk-size" -> options = options.withChunkSize(Integer.parseInt(value(args, ++i)));
+                    case "--queue-capacity" -> options = new CountrySyncOptions(options.chunkSize(),
+                            options.pipelined(), Integer.parseInt(value(args, ++i)), options.childBatchSize());
+                    case "--child-batch-size" -> options = new CountrySyncOptions(options.chunkSize(),
+                            options.pipelined(), options.queueCapacity(), Integer.parseInt(value(args, ++i)));
+                    case "--help", "-h" -> {
+                        System.out.print(USAGE);
+                        return;
+                    }
+                    default -> {
+                        if (args[i].startsWith("-") || i != args.length - 1) {
+                            throw new IllegalArgumentException("Unknown argument: " + args[i]);
+                        }
+                        source = args[i];
+                    }
+                }
+            }
+            if (password == null) {
+                throw new IllegalArgumentException("No database password: pass --password or set SPRING_DATASOURCE_PASSWORD");
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println("❌ " + e.getMessage());
+            System.err.print(USAGE);
+            System.exit(2);
+            return;
+        }
+
+        CountrySource countrySource = source == null
+                ? new HttpCountrySource(HttpClient.newHttpClient(), apiUrl)
+                : source.startsWith("http://") || source.startsWith("https://")
+                        ? new HttpCountrySource(HttpClient.newHttpClient(), source)
+                        : new SnapshotCountrySource(source);
 
+        long start = System.nanoTime();
+        SimpleCountrySync sync = new SimpleCountrySync(dbUrl, user, password, options,
+                new CountrySyncMetrics(new SimpleMeterRegistry()));
+        try {
+            sync.synchronize(countrySource);
         } catch (Exception e) {
             System.err.println("❌ Synchronization failed!");
             System.err.println("Error: " + e.getMessage());
             e.printStackTrace();
+            System.exit(1);
+        } finally {
+            printResourceUsage(start);
         }
     }
 
-    private static void clearExistingData() throws Exception {
-        try (Connection conn = DriverManager.getConnection(DB_URL, DB_USER, DB_PASSWORD)) {
-            // Disable foreign key checks temporarily
-            try (PreparedStatement stmt = conn.prepareStatement("SET CONSTRAINTS ALL DEFERRED")) {
-                stmt.execute();
-            }
-
-            // Clear tables in correct order
-            String[] tables = {
-                "country_languages",
-                "country_currencies",
-                "country_phone_prefixes",
-                "countries"
-            };
-
-            for (String table : tables) {
-                try (PreparedStatement stmt = conn.prepareStatement("DELETE FROM " + table)) {
-                    int deleted = stmt.executeUpdate();
-                    System.out.println("Cleared " + deleted + " records from " + table);
-                }
-            }
+    private static String value(String[] args, int i) {
+        if (i >= args.length) {
+            throw new IllegalArgumentException("Missing value for " + args[i - 1]);
         }
+        return args[i];
     }
 
-    private static List<CountryData> fetchCountriesFromApi() throws Exception {
-        HttpClient client = HttpClient.newHttpClient();
-        HttpRequest request = HttpRequest.newBuilder()
-                .uri(URI.create(API_URL))
-                .header("Accept", "application/json")
-                .GET()
-                .build();
-
-        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
-
-        if (response.statusCode() != 200) {
-            throw new RuntimeException("API returned HTTP " + response.statusCode());
-        }
-
-        ObjectMapper mapper = new ObjectMapper();
-        JsonNode root = mapper.readTree(response.body());
-
-        List<CountryData> countries = new ArrayList<>();
-        for (JsonNode node : root) {
-            CountryData country = new CountryData();
-            country.id = UUID.randomUUID().toString();
-            country.code = getTextValue(node, "cca2");
-            country.name = getTextValue(node, "name", "common");
-            country.nativeName = getTextValue(node, "name", "nativeName",
-                    getFirstLanguageKey(node), "common");
-            country.region = getTextValue(node, "region");
-            country.subregion = getTextValue(node, "subregion");
-            country.capital = parseCapital(node);
-            country.population = node.get("population").asLong(0);
-            country.area = node.get("area").asDouble(0.0);
-            country.phonePrefixes = parsePhonePrefixes(node);
-            country.currencies = parseCurrencies(node);
-            country.languages = parseLanguages(node);
-
-            countries.add(country);
-        }
-
-        System.out.println("Fetched " + countries.size() + " countries from API");
-        return countries;
+    private static boolean pipelined(String mode) {
+        return switch (mode) {
+            case "pipelined" -> true;
+            case "sequential" -> false;
+            default -> throw new IllegalArgumentException("Unknown --mode: " + mode + " (pipelined|sequential)");
+        };
     }
 
-    private static void insertCountriesIntoDatabase(List<CountryData> countries) throws Exception {
-        try (Connection conn = DriverManager.getConnection(DB_URL, DB_USER, DB_PASSWORD)) {
-            conn.setAutoCommit(false);
-
-            // Insert countries
-            String countrySql = """
-                INSERT INTO countries (code, name, native_name, region, subregion, capital, population, area)
-                VALUES (?, ?, ?, ?, ?, ?, ?, ?)
-                """;
-
-            String phoneSql = """
-                INSERT INTO country_phone_prefixes (country_code, phone_prefix)
-                VALUES (?, ?)
-                """;
-
-            String currencySql = """
-                INSERT INTO country_currencies (country_code, currency_code)
-                VALUES (?, ?)
-                """;
-
-            String languageSql = """
-                INSERT INTO country_languages (country_code, language_code)
-                VALUES (?, ?)
-                """;
-
-            int countryCount = 0;
-            int phoneCount = 0;
-            int currencyCount = 0;
-            int languageCount = 0;
-
-            for (CountryData country : countries) {
-                // Insert main country
-                try (PreparedStatement stmt = conn.prepareStatement(countrySql)) {
-                    stmt.setString(1, country.code);
-                    stmt.setString(2, country.name);
-                    stmt.setString(3, country.nativeName);
-                    stmt.setString(4, country.region);
-                    stmt.setString(5, country.subregion);
-                    stmt.setString(6, country.capital);
-                    stmt.setLong(7, country.population);
-                    stmt.setDouble(8, country.area);
-                    stmt.executeUpdate();
-                    countryCount++;
-                }
-
-                // Insert phone prefixes
-                for (String prefix : country.phonePrefixes) {
-                    try (PreparedStatement stmt = conn.prepareStatement(phoneSql)) {
-                        stmt.setString(1, country.code);
-                        stmt.setString(2, prefix);
-                        stmt.executeUpdate();
-                        phoneCount++;
-                    }
-                }
-
-                // Insert currencies
-                for (String currency : country.currencies) {
-                    try (PreparedStatement stmt = conn.prepareStatement(currencySql)) {
-                        stmt.setString(1, country.code);
-                        stmt.setString(2, currency);
-                        stmt.executeUpdate();
-                        currencyCount++;
-                    }
-                }
+    /**
+     * One line for scripts comparing the JVM and native builds: time spent in the sync
+     * (the rest of the wall time is startup and exit) and peak resident set size (Linux only).
+     */
+    private static void printResourceUsage(long syncStart) {
+        String runtime = System.getProperty("org.graalvm.nativeimage.imagecode") != null ? "native" : "jvm";
+        System.out.printf("⏱️ runtime=%s sync_ms=%d peak_rss_kb=%d%n",
+                runtime, (System.nanoTime() - syncStart) / 1_000_000, peakRssKb());
+    }
 
-                // Insert languages
-                for (String language : country.languages) {
-                    try (PreparedStatement stmt = conn.prepareStatement(languageSql)) {
-                        stmt.setString(1, country.code);
-                        stmt.setString(2, language);
-                        stmt.executeUpdate();
-                        languageCount++;
-                    }
+    private static long peakRssKb() {
+        try {
+            for (String line : Files.readAllLines(Path.of("/proc/self/status"))) {
+                if (line.startsWith("VmHWM:")) {
+                    return Long.parseLong(line.replaceAll("\\D", ""));
                 }
             }
-
-            conn.commit();
-            System.out.println("Inserted: " + countryCount + " countries, " +
-                             phoneCount + " phone prefixes, " +
-                             currencyCount + " currencies, " +
-                             languageCount + " languages");
-        }
-    }
-
-    // Helper methods
-    private static String getTextValue(JsonNode node, String... path) {
-        JsonNode current = node;
-        for (String field : path) {
-            if (current == null) return null;
-            current = current.get(field);
+        } catch (IOException | RuntimeException e) {
+            // Not Linux: no /proc
         }
-        return current != null ? current.asText(null) : null;
+        return -1;
     }
 
-    private static String getFirstLanguageKey(JsonNode node) {
-        JsonNode languages = node.get("languages");
-        if (languages != null && languages.isObject()) {
-            return languages.fieldNames().next();
-        }
-        return "";
-    }
+    /**
+     * Replaces the country tables with the contents of the source.
+     * Returns the number of countries written.
+     */
+    public int synchronize(CountrySource source) throws Exception {
+        System.out.println("=== Simple Country Data Synchronization ===");
+        System.out.println("Fetching data from: " + source.describe());
+        System.out.println("Database: " + dataSource.getURL());
 
-    private static List<String> parsePhonePrefixes(JsonNode node) {
-        List<String> prefixes = new ArrayList<>();
-        JsonNode idd = node.get("idd");
-        if (idd != null) {
-            String root = getTextValue(idd, "root");
-            JsonNode suffixes = idd.get("suffixes");
-            if (suffixes != null && suffixes.isArray()) {
-                for (JsonNode suffix : suffixes) {
-                    String s = suffix.asText();
-                    if (root != null && !root.isEmpty() && s != null && !s.isEmpty()) {
-                        prefixes.add(root + s);
+        SyncRunLedger ledger = new SyncRunLedger(dataSource);
+        SyncRunLedger.Run run = ledger.start(CountryChunkWriter.LOAD_NAME, RUNNER);
+        try {
+            byte[] payload = metrics.recordCallable(CountrySyncMetrics.PHASE_FETCH, source::fetch, run);
+            metrics.recordPayloadBytes(payload.length);
+            run.payloadBytes(payload.length);
+            List<CountryData> countries = metrics.recordCallable(CountrySyncMetrics.PHASE_PARSE,
+                    () -> CountryJsonParser.parse(payload), run);
+            run.items(countries.size());
+            System.out.println("Fetched " + countries.size() + " countries (" + payload.length + " bytes)");
+
+            // Diff, clear and write under the lease, so a second sync (on any node) cannot change
+            // the tables between the diff and the clear, or clear and write meanwhile
+            CheckpointedLoader loader = new CheckpointedLoader(dataSource, options.chunkSize());
+            List<SyncRunLedger.TableCounts> diff;
+            try (CheckpointedLoader.Lease lease = loader.acquire(CountryChunkWriter.LOAD_NAME);
+                 CountryChunkWriter writer = CountryChunkWriter.create(dataSource, options)) {
+                diff = metrics.recordCallable(CountrySyncMetrics.PHASE_DIFF, () -> {
+                    try (Connection conn = dataSource.getConnection()) {
+                        return CountrySyncDiff.compute(conn, countries);
                     }
-                }
+                }, run);
+
+                // Clear existing data, unless resuming a failed load of the same payload
+                CheckpointedLoader.Checkpoint checkpoint = metrics.recordCallable(CountrySyncMetrics.PHASE_CLEAR,
+                        () -> loader.begin(lease, CheckpointedLoader.fingerprint(payload),
+                                countries.size(), writer), run);
+                run.resumed(checkpoint.resumed());
+
+                CheckpointedLoader.Result result = metrics.recordCallable(CountrySyncMetrics.PHASE_INSERT,
+                        () -> loader.run(checkpoint, countries, writer), run);
+                writer.recordTo(metrics);
+                System.out.println("Inserted: " + writer.summary() + " in " + result.chunks() + " chunks");
             }
-        }
-        return prefixes;
-    }
 
-    private static List<String> parseCurrencies(JsonNode node) {
-        List<String> currencies = new ArrayList<>();
-        JsonNode currenciesNode = node.get("currencies");
-        if (currenciesNode != null && currenciesNode.isObject()) {
-            currenciesNode.fieldNames().forEachRemaining(currencies::add);
-        }
-        return currencies;
-    }
+            run.tables(diff);
+            ledger.succeed(run);
 
-    private static String parseCapital(JsonNode node) {
-        JsonNode capital = node.get("capital");
-        if (capital != null && capital.isArray() && capital.size() > 0) {
-            return capital.get(0).asText(null);
-        }
-        return null;
-    }
+            // Running application nodes reload their country catalog on this notification
+            try (Connection conn = dataSource.getConnection()) {
+                System.out.println("📡 Country catalog version " + CountryCatalogListener.publish(conn) + " published");
+            }
 
-    private static List<String> parseLanguages(JsonNode node) {
-        List<String> languages = new ArrayList<>();
-        JsonNode languagesNode = node.get("languages");
-        if (languagesNode != null && languagesNode.isObject()) {
-            languagesNode.fieldNames().forEachRemaining(languages::add);
+            metrics.recordSuccess(countries.size());
+            System.out.println("✅ Synchronization completed successfully!");
+            System.out.println("📊 " + countries.size() + " countries synchronized (run " + run.id() + ").");
+            return countries.size();
+
+        } catch (Exception e) {
+            metrics.recordFailure();
+            ledger.fail(run, e);
+            throw e;
         }
-        return languages;
     }
 
-    private static class CountryData {
-        String id;
-        String code;
-        String name;
-        String nativeName;
-        String region;
-        String subregion;
-        String capital;
-        long population;
-        double area;
-        List<String> phonePrefixes = new ArrayList<>();
-        List<String> currencies = new ArrayList<>();
-        List<String> languages = new ArrayList<>();
+    /**
+     * System property, then the equivalent environment variable (spring.datasource.url -> SPRING_DATASOURCE_URL).
+     */
+    private static String setting(String name, String defaultValue) {
+        String value = System.getProperty(name);
+        if (value == null) {
+            value = System.getenv(name.toUpperCase().replace('.', '_').replace('-', '_'));
+        }
+        return value != null && !value.isBlank() ? value : defaultValue;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,54 @@
+package com.skillgrid.infrastructure;
+
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Reads countries from a local JSON snapshot, for air-gapped environments.
+ * The location is a file path or a "classpath:" resource; ".gz" snapshots are decompressed.
+ */
+public class SnapshotCountrySource implements CountrySource {
+
+    private static final String CLASSPATH_PREFIX = "classpath:";
+
+    private final String location;
+
+    public SnapshotCountrySource(String location) {
+        this.location = location;
+    }
+
+    @Override
+    public byte[] fetch() throws Exception {
+        try (InputStream in = open()) {
+            if (location.endsWith(".gz")) {
+                try (InputStream gzip = new GZIPInputStream(in)) {
+                    return gzip.readAllBytes();
+                }
+            }
+            return in.readAllBytes();
+        }
+    }
+
+    private InputStream open() throws Exception {
+        if (location.startsWith(CLASSPATH_PREFIX)) {
+            String resource = location.substring(CLASSPATH_PREFIX.length());
+            if (resource.startsWith("/")) {
+                resource = resource.substring(1);
+            }
+            InputStream in = SnapshotCountrySource.class.getClassLoader().getResourceAsStream(resource);
+            if (in == null) {
+                throw new FileNotFoundException("Country snapshot not found on classpath: " + resource);
+            }
+            return in;
+        }
+        return Files.newInputStream(Path.of(location.startsWith("file:") ? location.substring(5) : location));
+    }
+
+    @Override
+    public String describe() {
+        return location;
+    }
+}
@@ -0,0 +1,7 @@
+package com.skillgrid.infrastructure.cities;
+
+/**
+ * Published after a city dataset load has been committed.
+ */
+public record CitiesReloadedEvent(CityLoadReport report) {
+}
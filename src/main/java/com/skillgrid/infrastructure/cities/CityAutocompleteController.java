@@ -0,0 +1,33 @@
+package com.skillgrid.infrastructure.cities;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import java.util.List;
+
+/**
+ * REST controller for city autocomplete in address entry.
+ */
+@RestController
+@RequestMapping("/api/cities")
+public class CityAutocompleteController {
+
+    private static final int MAX_LIMIT = 50;
+
+    private final CityAutocompleteService cityAutocompleteService;
+
+    public CityAutocompleteController(CityAutocompleteService cityAutocompleteService) {
+        this.cityAutocompleteService = cityAutocompleteService;
+    }
+
+    /**
+     * GET /api/cities/autocomplete?country=AR&q=bue&limit=10 - Top cities by population
+     */
+    @GetMapping("/autocomplete")
+    public List<CityPrefixIndex.CitySuggestion> autocomplete(@RequestParam String country,
+                                                             @RequestParam String q,
+                                                             @RequestParam(defaultValue = "10") int limit) {
+        return cityAutocompleteService.suggest(country, q, Math.min(limit, MAX_LIMIT));
+    }
+}
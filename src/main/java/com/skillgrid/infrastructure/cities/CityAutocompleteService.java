@@ -0,0 +1,90 @@
+package com.skillgrid.infrastructure.cities;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.List;
+
+/**
+ * Serves city autocomplete from an in-memory {@link CityPrefixIndex}.
+ * The index is built in the background at startup and after every city reload,
+ * and swapped in atomically; queries keep using the previous index meanwhile.
+ */
+@Service
+public class CityAutocompleteService {
+
+    private static final int FETCH_SIZE = 10_000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile CityPrefixIndex index = CityPrefixIndex.EMPTY;
+
+    public CityAutocompleteService(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public List<CityPrefixIndex.CitySuggestion> suggest(String countryCode, String prefix, int limit) {
+        return index.search(countryCode, prefix, limit);
+    }
+
+    public int indexedCities() {
+        return index.size();
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuild();
+    }
+
+    @Async
+    @EventListener
+    public void onCitiesReloaded(CitiesReloadedEvent event) {
+        rebuild();
+    }
+
+    /**
+     * Builds a new index from the cities table and swaps it in.
+     */
+    public synchronized void rebuild() {
+        long start = System.nanoTime();
+        CityPrefixIndex.Builder builder = new CityPrefixIndex.Builder();
+
+        try {
+            jdbcTemplate.execute((ConnectionCallback<Void>) conn -> {
+                // The PostgreSQL driver only uses a cursor (and honours the fetch size) inside a transaction
+                conn.setAutoCommit(false);
+                conn.setReadOnly(true);
+                try (PreparedStatement stmt = conn.prepareStatement(
+                        "SELECT geoname_id, name, ascii_name, country_code, population FROM cities")) {
+                    stmt.setFetchSize(FETCH_SIZE);
+                    try (ResultSet rs = stmt.executeQuery()) {
+                        while (rs.next()) {
+                            builder.add(rs.getLong(1), rs.getString(2), rs.getString(3), rs.getString(4),
+                                    rs.getLong(5));
+                        }
+                    }
+                } finally {
+                    conn.rollback();
+                    conn.setReadOnly(false);
+                    conn.setAutoCommit(true);
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            System.err.println("❌ City autocomplete index rebuild failed: " + e.getMessage());
+            return;
+        }
+
+        CityPrefixIndex built = builder.build();
+        index = built;
+        System.out.println("🏙️ City autocomplete index rebuilt: " + built.size() + " cities, "
+                + (built.sizeInBytes() / (1024 * 1024)) + " MB in "
+                + (System.nanoTime() - start) / 1_000_000 + " ms");
+    }
+}
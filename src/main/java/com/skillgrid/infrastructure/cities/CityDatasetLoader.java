@@ -0,0 +1,388 @@
+package com.skillgrid.infrastructure.cities;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * Bulk loader for GeoNames-style city dumps (tab-separated, e.g. allCountries.txt or cities500.txt).
+ *
+ * The file is memory-mapped in windows and scanned byte by byte: fields are copied
+ * straight from the mapping into a COPY buffer, so no String is built per line.
+ * Only populated places (feature class P) with a country present in `countries` are kept.
+ *
+ * The rows are copied into a fresh `cities_loading` table, indexed there, and swapped in
+ * for `cities` with a rename at the end of the same transaction. Readers such as
+ * MemberViewProjector keep using the old table during the load; only the swap takes
+ * ACCESS EXCLUSIVE on `cities`, and it waits at most swap-lock-timeout for it (a timeout
+ * rolls back the whole load, leaving the old cities in place).
+ */
+@Component
+@Lazy
+public class CityDatasetLoader {
+
+    // GeoNames column positions
+    private static final int COL_GEONAME_ID = 0;
+    private static final int COL_NAME = 1;
+    private static final int COL_ASCII_NAME = 2;
+    private static final int COL_LATITUDE = 4;
+    private static final int COL_LONGITUDE = 5;
+    private static final int COL_FEATURE_CLASS = 6;
+    private static final int COL_COUNTRY_CODE = 8;
+    private static final int COL_ADMIN1 = 10;
+    private static final int COL_POPULATION = 14;
+    private static final int COL_TIMEZONE = 17;
+    private static final int COLUMNS = 19;
+
+    private static final long WINDOW_SIZE = 256L * 1024 * 1024;
+    private static final int COPY_BUFFER_SIZE = 1024 * 1024;
+
+    private static final String CREATE_STAGING_SQL = """
+        CREATE TABLE cities_loading (LIKE cities INCLUDING DEFAULTS INCLUDING GENERATED INCLUDING CONSTRAINTS)
+        """;
+
+    private static final String COPY_SQL = """
+        COPY cities_loading (geoname_id, name, ascii_name, country_code, admin1_code,
+                     latitude, longitude, population, timezone)
+        FROM STDIN
+        """;
+
+    // Same indexes and comment as V2, built once after the COPY instead of row by row
+    private static final String INDEX_STAGING_SQL = """
+        ALTER TABLE cities_loading ADD CONSTRAINT cities_loading_pkey PRIMARY KEY (geoname_id);
+        CREATE UNIQUE INDEX idx_cities_loading_id ON cities_loading(id);
+        CREATE INDEX idx_cities_loading_country_code ON cities_loading(country_code);
+        COMMENT ON TABLE cities_loading IS 'Populated places (GeoNames feature class P) referenced by CityId';
+        ANALYZE cities_loading
+        """;
+
+    private static final String SWAP_SQL = """
+        LOCK TABLE cities IN ACCESS EXCLUSIVE MODE;
+        DROP TABLE cities;
+        ALTER TABLE cities_loading RENAME TO cities;
+        ALTER INDEX cities_loading_pkey RENAME TO cities_pkey;
+        ALTER INDEX idx_cities_loading_id RENAME TO idx_cities_id;
+        ALTER INDEX idx_cities_loading_country_code RENAME TO idx_cities_country_code
+        """;
+
+    private final DataSource dataSource;
+    private final ApplicationEventPublisher eventPublisher;
+    private final String swapLockTimeout;
+
+    public CityDatasetLoader(DataSource dataSource,
+                             ApplicationEventPublisher eventPublisher,
+                             @Value("${skillgrid.cities.swap-lock-timeout:5s}") String swapLockTimeout) {
+        this.dataSource = dataSource;
+        this.eventPublisher = eventPublisher;
+        this.swapLockTimeout = swapLockTimeout;
+    }
+
+    /**
+     * Replaces the contents of the cities table with the given dump.
+     */
+    public CityLoadReport load(Path file) throws IOException, SQLException {
+        System.out.println("=== City Dataset Load ===");
+        System.out.println("Source file: " + file + " (" + Files.size(file) + " bytes)");
+
+        long start = System.nanoTime();
+
+        try (Connection conn = dataSource.getConnection();
+             FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            conn.setAutoCommit(false);
+            try {
+                boolean[] validCountries = loadValidCountries(conn);
+
+                try (Statement stmt = conn.createStatement()) {
+                    stmt.execute(CREATE_STAGING_SQL);
+                }
+
+                CopyIn copyIn = conn.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_SQL);
+                LineParser parser = new LineParser(validCountries, new CopyBuffer(copyIn));
+                try {
+                    scan(channel, parser);
+                    parser.out.flush();
+                    copyIn.endCopy();
+                } finally {
+                    if (copyIn.isActive()) {
+                        copyIn.cancelCopy();
+                    }
+                }
+                swapIn(conn);
+                conn.commit();
+
+                long elapsedNanos = System.nanoTime() - start;
+                CityLoadReport report = new CityLoadReport(parser.loaded, parser.skippedCountry,
+                        parser.skippedFeature, parser.malformed, elapsedNanos / 1_000_000,
+                        parser.loaded / Math.max(elapsedNanos / 1_000_000_000.0, 1e-9),
+                        peakRssBytes());
+                report.print();
+                eventPublisher.publishEvent(new CitiesReloadedEvent(report));
+                return report;
+            } catch (IOException | SQLException | RuntimeException e) {
+                conn.rollback();
+                throw e;
+            }
+        }
+    }
+
+    private void swapIn(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute(INDEX_STAGING_SQL);
+        }
+        try (PreparedStatement stmt = conn.prepareStatement("SELECT set_config('lock_timeout', ?, true)")) {
+            stmt.setString(1, swapLockTimeout);
+            stmt.execute();
+        }
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute(SWAP_SQL);
+        }
+    }
+
+    private boolean[] loadValidCountries(Connection conn) throws SQLException {
+        boolean[] valid = new boolean[26 * 26];
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT code FROM countries WHERE length(code) = 2")) {
+            while (rs.next()) {
+                String code = rs.getString(1).toUpperCase();
+                int index = countryIndex((byte) code.charAt(0), (byte) code.charAt(1));
+                if (index >= 0) {
+                    valid[index] = true;
+                }
+            }
+        }
+        return valid;
+    }
+
+    /**
+     * Maps the file in windows; a line crossing a window boundary is re-read by the next window.
+     */
+    private void scan(FileChannel channel, LineParser parser) throws IOException, SQLException {
+        long size = channel.size();
+        long position = 0;
+
+        while (position < size) {
+            long length = Math.min(WINDOW_SIZE, size - position);
+            boolean last = position + length == size;
+            MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+
+            int consumed = parser.parseWindow(window, (int) length, last);
+            if (consumed == 0 && !last) {
+                throw new IOException("Line longer than " + WINDOW_SIZE + " bytes at offset " + position);
+            }
+            position += consumed;
+        }
+    }
+
+    static int countryIndex(byte first, byte second) {
+        int a = (first | 0x20) - 'a';
+        int b = (second | 0x20) - 'a';
+        if (a < 0 || a >= 26 || b < 0 || b >= 26) {
+            return -1;
+        }
+        return a * 26 + b;
+    }
+
+    private static long peakRssBytes() {
+        try {
+            List<String> lines = Files.readAllLines(Path.of("/proc/self/status"));
+            for (String line : lines) {
+                if (line.startsWith("VmHWM:")) {
+                    return Long.parseLong(line.replaceAll("\\D", "")) * 1024;
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            // Not on Linux: fall through
+        }
+        return -1;
+    }
+
+    /**
+     * Splits lines into field offsets and writes accepted rows to the COPY buffer.
+     */
+    private static class LineParser {
+
+        private final boolean[] validCountries;
+        private final CopyBuffer out;
+        private final int[] starts = new int[COLUMNS];
+        private final int[] ends = new int[COLUMNS];
+
+        long loaded;
+        long skippedCountry;
+        long skippedFeature;
+        long malformed;
+
+        LineParser(boolean[] validCountries, CopyBuffer out) {
+            this.validCountries = validCountries;
+            this.out = out;
+        }
+
+        /**
+         * Parses complete lines in the window and returns the number of bytes consumed.
+         */
+        int parseWindow(MappedByteBuffer buf, int limit, boolean last) throws SQLException {
+            int pos = 0;
+            while (pos < limit) {
+                int end = pos;
+                while (end < limit && buf.get(end) != '\n') {
+                    end++;
+                }
+                if (end == limit && !last) {
+                    break;
+                }
+                parseLine(buf, pos, end);
+                pos = end + 1;
+            }
+            return Math.min(pos, limit);
+        }
+
+        private void parseLine(MappedByteBuffer buf, int from, int to) throws SQLException {
+            if (to > from && buf.get(to - 1) == '\r') {
+                to--;
+            }
+            if (to == from) {
+                return;
+            }
+
+            int field = 0;
+            starts[0] = from;
+            for (int i = from; i < to && field < COLUMNS - 1; i++) {
+                if (buf.get(i) == '\t') {
+                    ends[field] = i;
+                    starts[++field] = i + 1;
+                }
+            }
+            ends[field] = to;
+            if (field < COL_TIMEZONE) {
+                malformed++;
+                return;
+            }
+
+            if (length(COL_FEATURE_CLASS) != 1 || buf.get(starts[COL_FEATURE_CLASS]) != 'P') {
+                skippedFeature++;
+                return;
+            }
+            if (length(COL_COUNTRY_CODE) != 2) {
+                skippedCountry++;
+                return;
+            }
+            int country = countryIndex(buf.get(starts[COL_COUNTRY_CODE]), buf.get(starts[COL_COUNTRY_CODE] + 1));
+            if (country < 0 || !validCountries[country]) {
+                skippedCountry++;
+                return;
+            }
+            if (length(COL_GEONAME_ID) == 0 || length(COL_NAME) == 0
+                    || length(COL_LATITUDE) == 0 || length(COL_LONGITUDE) == 0) {
+                malformed++;
+                return;
+            }
+
+            out.field(buf, starts[COL_GEONAME_ID], ends[COL_GEONAME_ID]);
+            out.tab();
+            out.field(buf, starts[COL_NAME], ends[COL_NAME]);
+            out.tab();
+            out.nullableField(buf, starts[COL_ASCII_NAME], ends[COL_ASCII_NAME]);
+            out.tab();
+            out.upperField(buf, starts[COL_COUNTRY_CODE], ends[COL_COUNTRY_CODE]);
+            out.tab();
+            out.nullableField(buf, starts[COL_ADMIN1], ends[COL_ADMIN1]);
+            out.tab();
+            out.field(buf, starts[COL_LATITUDE], ends[COL_LATITUDE]);
+            out.tab();
+            out.field(buf, starts[COL_LONGITUDE], ends[COL_LONGITUDE]);
+            out.tab();
+            out.nullableField(buf, starts[COL_POPULATION], ends[COL_POPULATION]);
+            out.tab();
+            out.nullableField(buf, starts[COL_TIMEZONE], ends[COL_TIMEZONE]);
+            out.newline();
+            loaded++;
+        }
+
+        private int length(int column) {
+            return ends[column] - starts[column];
+        }
+    }
+
+    /**
+     * Reusable byte buffer in PostgreSQL COPY text format, flushed to the server when full.
+     */
+    private static class CopyBuffer {
+
+        private static final byte[] NULL = {'\\', 'N'};
+
+        private final CopyIn copyIn;
+        private final byte[] buffer = new byte[COPY_BUFFER_SIZE];
+        private int size;
+
+        CopyBuffer(CopyIn copyIn) {
+            this.copyIn = copyIn;
+        }
+
+        void field(MappedByteBuffer buf, int from, int to) throws SQLException {
+            ensure((to - from) * 2);
+            for (int i = from; i < to; i++) {
+                byte b = buf.get(i);
+                if (b == '\\') {
+                    buffer[size++] = '\\';
+                }
+                buffer[size++] = b;
+            }
+        }
+
+        void upperField(MappedByteBuffer buf, int from, int to) throws SQLException {
+            ensure(to - from);
+            for (int i = from; i < to; i++) {
+                byte b = buf.get(i);
+                buffer[size++] = (b >= 'a' && b <= 'z') ? (byte) (b - 32) : b;
+            }
+        }
+
+        void nullableField(MappedByteBuffer buf, int from, int to) throws SQLException {
+            if (from == to) {
+                ensure(NULL.length);
+                buffer[size++] = NULL[0];
+                buffer[size++] = NULL[1];
+            } else {
+                field(buf, from, to);
+            }
+        }
+
+        void tab() throws SQLException {
+            ensure(1);
+            buffer[size++] = '\t';
+        }
+
+        void newline() throws SQLException {
+            ensure(1);
+            buffer[size++] = '\n';
+        }
+
+        void flush() throws SQLException {
+            if (size > 0) {
+                copyIn.writeToCopy(buffer, 0, size);
+                size = 0;
+            }
+        }
+
+        private void ensure(int bytes) throws SQLException {
+            if (size + bytes > buffer.length) {
+                flush();
+            }
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.skillgrid.infrastructure.cities;
+
+import org.springframework.context.annotation.Lazy;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * REST controller to trigger a bulk city dataset load.
+ */
+@RestController
+@RequestMapping("/api/admin/cities")
+public class CityLoadController {
+
+    private final CityDatasetLoader cityDatasetLoader;
+
+    public CityLoadController(@Lazy CityDatasetLoader cityDatasetLoader) {
+        this.cityDatasetLoader = cityDatasetLoader;
+    }
+
+    /**
+     * POST /api/admin/cities/load?path=/data/geonames/allCountries.txt
+     *
+     * Replaces the cities table with the populated places of a GeoNames dump
+     * read from the server's local filesystem. Countries must be synchronized first.
+     */
+    @PostMapping("/load")
+    public ResponseEntity<?> load(@RequestParam String path) {
+        Path file = Path.of(path);
+        if (!Files.isRegularFile(file)) {
+            return ResponseEntity.badRequest().body("❌ File not found: " + path);
+        }
+
+        try {
+            return ResponseEntity.ok(cityDatasetLoader.load(file));
+        } catch (Exception e) {
+            String errorMessage = "❌ City load failed: " + e.getMessage();
+            System.err.println(errorMessage);
+            e.printStackTrace();
+
+            return ResponseEntity.internalServerError().body(errorMessage);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.skillgrid.infrastructure.cities;
+
+/**
+ * Outcome of a city dataset load.
+ */
+public record CityLoadReport(
+    long loaded,
+    long skippedUnknownCountry,
+    long skippedNonPopulatedPlace,
+    long malformed,
+    long elapsedMs,
+    double rowsPerSecond,
+    long peakRssBytes
+) {
+
+    void print() {
+        System.out.println("✅ City load completed in " + elapsedMs + " ms");
+        System.out.println("📊 Loaded: " + loaded + " cities, skipped " + skippedUnknownCountry
+                + " (unknown country), " + skippedNonPopulatedPlace + " (not a populated place), "
+                + malformed + " malformed");
+        System.out.printf("Throughput: %.0f rows/s, peak RSS: %s%n", rowsPerSecond,
+                peakRssBytes >= 0 ? (peakRssBytes / (1024 * 1024)) + " MB" : "n/a");
+    }
+}
@@ -0,0 +1,316 @@
+package com.skillgrid.infrastructure.cities;
+
+import com.skillgrid.commons.ids.CityId;
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Read-only, memory-compact prefix index of city names, partitioned by country.
+ *
+ * Entries are sorted by (country, normalized name) and stored in primitive arrays:
+ * normalized keys are front-coded in blocks of {@value #BLOCK_SIZE} (each block starts
+ * with a full key), display names are packed UTF-8, and the CityId is recomputed from
+ * the GeoNames id only for returned results. A prefix query is two binary searches
+ * inside the country partition plus a bounded top-k scan by population.
+ */
+public final class CityPrefixIndex {
+
+    private static final int BLOCK_SIZE = 16;
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final int COUNTRIES = 26 * 26;
+
+    public static final CityPrefixIndex EMPTY = new Builder().build();
+
+    private final int size;
+    private final int[] countryStart;      // COUNTRIES + 1 offsets into entries
+    private final byte[] keyData;          // front-coded: [shared][suffixLength][suffix...]
+    private final int[] blockOffsets;      // byte offset of each block head in keyData
+    private final byte[] nameData;         // UTF-8 display names
+    private final int[] nameOffsets;       // size + 1 offsets into nameData
+    private final int[] geonameIds;
+    private final int[] populations;
+
+    private CityPrefixIndex(int size, int[] countryStart, byte[] keyData, int[] blockOffsets,
+                            byte[] nameData, int[] nameOffsets, int[] geonameIds, int[] populations) {
+        this.size = size;
+        this.countryStart = countryStart;
+        this.keyData = keyData;
+        this.blockOffsets = blockOffsets;
+        this.nameData = nameData;
+        this.nameOffsets = nameOffsets;
+        this.geonameIds = geonameIds;
+        this.populations = populations;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Approximate heap footprint of the index arrays.
+     */
+    public long sizeInBytes() {
+        return keyData.length + nameData.length
+                + 4L * (countryStart.length + blockOffsets.length + nameOffsets.length
+                        + geonameIds.length + populations.length);
+    }
+
+    /**
+     * Top-k cities of the country whose normalized name starts with the prefix, by population.
+     */
+    public List<CitySuggestion> search(String countryCode, String prefix, int limit) {
+        if (countryCode == null || countryCode.length() != 2 || limit <= 0) {
+            return List.of();
+        }
+        int country = CityDatasetLoader.countryIndex((byte) countryCode.charAt(0), (byte) countryCode.charAt(1));
+        if (country < 0) {
+            return List.of();
+        }
+
+        byte[] query = normalize(prefix);
+        byte[] scratch = new byte[MAX_KEY_LENGTH];
+        int from = lowerBound(countryStart[country], countryStart[country + 1], query, scratch);
+        int to = upperBound(from, countryStart[country + 1], query, scratch);
+
+        // Min-heap of entry indexes ordered by population
+        int[] heap = new int[Math.min(limit, Math.max(to - from, 0))];
+        int heapSize = 0;
+        for (int i = from; i < to; i++) {
+            if (heapSize < heap.length) {
+                heap[heapSize] = i;
+                siftUp(heap, heapSize++);
+            } else if (heap.length > 0 && populations[i] > populations[heap[0]]) {
+                heap[0] = i;
+                siftDown(heap, heapSize);
+            }
+        }
+
+        CitySuggestion[] results = new CitySuggestion[heapSize];
+        for (int n = heapSize - 1; n >= 0; n--) {
+            int entry = heap[0];
+            results[n] = new CitySuggestion(CityId.fromGeonameId(geonameIds[entry]),
+                    new String(nameData, nameOffsets[entry], nameOffsets[entry + 1] - nameOffsets[entry],
+                            StandardCharsets.UTF_8),
+                    countryCode.toUpperCase(), populations[entry]);
+            heap[0] = heap[--heapSize];
+            siftDown(heap, heapSize);
+        }
+        return Arrays.asList(results);
+    }
+
+    private int lowerBound(int from, int to, byte[] query, byte[] scratch) {
+        int lo = from;
+        int hi = to;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (comparePrefix(mid, query, scratch, false) < 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private int upperBound(int from, int to, byte[] query, byte[] scratch) {
+        int lo = from;
+        int hi = to;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (comparePrefix(mid, query, scratch, true) <= 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * Compares the key of an entry with the query; in prefix mode the key is truncated
+     * to the query length first, so every key starting with the query compares equal.
+     */
+    private int comparePrefix(int entry, byte[] query, byte[] scratch, boolean prefixMode) {
+        int length = decodeKey(entry, scratch);
+        int n = prefixMode ? Math.min(length, query.length) : length;
+        int common = Math.min(n, query.length);
+        for (int i = 0; i < common; i++) {
+            int diff = (scratch[i] & 0xFF) - (query[i] & 0xFF);
+            if (diff != 0) {
+                return diff;
+            }
+        }
+        return n - query.length;
+    }
+
+    private int decodeKey(int entry, byte[] scratch) {
+        int block = entry / BLOCK_SIZE;
+        int offset = blockOffsets[block];
+        int length = 0;
+        for (int i = block * BLOCK_SIZE; i <= entry; i++) {
+            int shared = keyData[offset] & 0xFF;
+            int suffix = keyData[offset + 1] & 0xFF;
+            System.arraycopy(keyData, offset + 2, scratch, shared, suffix);
+            length = shared + suffix;
+            offset += 2 + suffix;
+        }
+        return length;
+    }
+
+    private void siftUp(int[] heap, int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (populations[heap[parent]] <= populations[heap[index]]) {
+                return;
+            }
+            swap(heap, parent, index);
+            index = parent;
+        }
+    }
+
+    private void siftDown(int[] heap, int heapSize) {
+        int index = 0;
+        while (true) {
+            int left = 2 * index + 1;
+            if (left >= heapSize) {
+                return;
+            }
+            int smallest = left + 1 < heapSize && populations[heap[left + 1]] < populations[heap[left]]
+                    ? left + 1 : left;
+            if (populations[heap[index]] <= populations[heap[smallest]]) {
+                return;
+            }
+            swap(heap, index, smallest);
+            index = smallest;
+        }
+    }
+
+    private static void swap(int[] heap, int a, int b) {
+        int tmp = heap[a];
+        heap[a] = heap[b];
+        heap[b] = tmp;
+    }
+
+    /**
+     * Lower-cases, strips diacritics and keeps letters, digits and single spaces.
+     */
+    static byte[] normalize(String name) {
+        if (name == null) {
+            return new byte[0];
+        }
+        String decomposed = Normalizer.normalize(name, Normalizer.Form.NFD);
+        StringBuilder out = new StringBuilder(decomposed.length());
+        boolean space = false;
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = decomposed.charAt(i);
+            if (Character.getType(c) == Character.NON_SPACING_MARK) {
+                continue;
+            }
+            if (Character.isLetterOrDigit(c)) {
+                if (space && out.length() > 0) {
+                    out.append(' ');
+                }
+                out.append(Character.toLowerCase(c));
+                space = false;
+            } else {
+                space = true;
+            }
+        }
+        byte[] bytes = out.toString().getBytes(StandardCharsets.UTF_8);
+        return bytes.length > MAX_KEY_LENGTH ? Arrays.copyOf(bytes, MAX_KEY_LENGTH) : bytes;
+    }
+
+    /**
+     * City returned by an autocomplete query.
+     */
+    public record CitySuggestion(CityId id, String name, String countryCode, long population) {
+    }
+
+    /**
+     * Collects cities and encodes them into the compact layout.
+     * Temporary per-entry objects live only until {@link #build()}.
+     */
+    public static final class Builder {
+
+        private final List<Entry> entries = new ArrayList<>();
+
+        public Builder add(long geonameId, String name, String asciiName, String countryCode, long population) {
+            if (countryCode == null || countryCode.length() != 2 || name == null) {
+                return this;
+            }
+            int country = CityDatasetLoader.countryIndex((byte) countryCode.charAt(0), (byte) countryCode.charAt(1));
+            if (country < 0) {
+                return this;
+            }
+            byte[] key = normalize(asciiName != null && !asciiName.isEmpty() ? asciiName : name);
+            entries.add(new Entry(country, key, name.getBytes(StandardCharsets.UTF_8), (int) geonameId,
+                    (int) Math.min(population, Integer.MAX_VALUE)));
+            return this;
+        }
+
+        public CityPrefixIndex build() {
+            entries.sort(Comparator.comparingInt(Entry::country)
+                    .thenComparing(Entry::key, Arrays::compareUnsigned));
+
+            int size = entries.size();
+            int[] countryStart = new int[COUNTRIES + 1];
+            int[] blockOffsets = new int[(size + BLOCK_SIZE - 1) / BLOCK_SIZE];
+            int[] nameOffsets = new int[size + 1];
+            int[] geonameIds = new int[size];
+            int[] populations = new int[size];
+
+            int keyBytes = 0;
+            int nameBytes = 0;
+            for (Entry entry : entries) {
+                keyBytes += 2 + entry.key.length;
+                nameBytes += entry.name.length;
+            }
+            byte[] keyData = new byte[keyBytes];
+            byte[] nameData = new byte[nameBytes];
+
+            int keyOffset = 0;
+            int nameOffset = 0;
+            byte[] previous = new byte[0];
+            for (int i = 0; i < size; i++) {
+                Entry entry = entries.get(i);
+                countryStart[entry.country + 1]++;
+
+                int shared = 0;
+                if (i % BLOCK_SIZE == 0) {
+                    blockOffsets[i / BLOCK_SIZE] = keyOffset;
+                } else {
+                    int mismatch = Arrays.mismatch(previous, entry.key);
+                    shared = mismatch < 0 ? entry.key.length : mismatch;
+                }
+                int suffix = entry.key.length - shared;
+                keyData[keyOffset] = (byte) shared;
+                keyData[keyOffset + 1] = (byte) suffix;
+                System.arraycopy(entry.key, shared, keyData, keyOffset + 2, suffix);
+                keyOffset += 2 + suffix;
+                previous = entry.key;
+
+                nameOffsets[i] = nameOffset;
+                System.arraycopy(entry.name, 0, nameData, nameOffset, entry.name.length);
+                nameOffset += entry.name.length;
+
+                geonameIds[i] = entry.geonameId;
+                populations[i] = entry.population;
+            }
+            nameOffsets[size] = nameOffset;
+            for (int c = 0; c < COUNTRIES; c++) {
+                countryStart[c + 1] += countryStart[c];
+            }
+
+            entries.clear();
+            return new CityPrefixIndex(size, countryStart, Arrays.copyOf(keyData, keyOffset), blockOffsets,
+                    nameData, nameOffsets, geonameIds, populations);
+        }
+
+        private record Entry(int country, byte[] key, byte[] name, int geonameId, int population) {
+        }
+    }
+}
@@ -0,0 +1,290 @@
+package com.skillgrid.infrastructure.cities;
+
+import com.skillgrid.commons.ids.CityId;
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Read-only spatial index over city coordinates for radius queries.
+ *
+ * Cities are projected to unit vectors on the sphere and stored as an implicit
+ * k-d tree (median of each range is the node, axis cycles x/y/z), so there are no
+ * node objects and no antimeridian or pole special cases: a great-circle radius is
+ * a fixed chord length in 3D. Cities are resolved by CityId through a sorted
+ * (msb, lsb) table.
+ */
+public final class CitySpatialIndex {
+
+    public static final double EARTH_RADIUS_KM = 6371.0088;
+
+    public static final CitySpatialIndex EMPTY = new Builder().build();
+
+    private final int size;
+    private final double[] x;
+    private final double[] y;
+    private final double[] z;
+    private final long[] idMsb;            // CityId per tree slot
+    private final long[] idLsb;
+
+    private final long[] sortedMsb;        // CityId lookup table, sorted
+    private final long[] sortedLsb;
+    private final int[] sortedSlot;
+
+    private CitySpatialIndex(int size, double[] x, double[] y, double[] z, long[] idMsb, long[] idLsb) {
+        this.size = size;
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        this.idMsb = idMsb;
+        this.idLsb = idLsb;
+
+        this.sortedMsb = Arrays.copyOf(idMsb, size);
+        this.sortedLsb = Arrays.copyOf(idLsb, size);
+        this.sortedSlot = new int[size];
+        for (int i = 0; i < size; i++) {
+            sortedSlot[i] = i;
+        }
+        sortIds(0, size - 1);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Tree slot of a city, or -1 if it is not indexed.
+     */
+    public int slotOf(CityId cityId) {
+        long msb = cityId.value().getMostSignificantBits();
+        long lsb = cityId.value().getLeastSignificantBits();
+        int lo = 0;
+        int hi = size - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            int c = Long.compare(sortedMsb[mid], msb);
+            if (c == 0) {
+                c = Long.compare(sortedLsb[mid], lsb);
+            }
+            if (c < 0) {
+                lo = mid + 1;
+            } else if (c > 0) {
+                hi = mid - 1;
+            } else {
+                return sortedSlot[mid];
+            }
+        }
+        return -1;
+    }
+
+    public CityId cityIdAt(int slot) {
+        return new CityId(new UUID(idMsb[slot], idLsb[slot]));
+    }
+
+    /**
+     * Slots of all cities within the radius of the given city (including itself).
+     * Returns an empty array if the city is not indexed.
+     */
+    public int[] within(CityId center, double radiusKm) {
+        int slot = slotOf(center);
+        if (slot < 0) {
+            return new int[0];
+        }
+        return within(x[slot], y[slot], z[slot], radiusKm);
+    }
+
+    /**
+     * Slots of all cities within the radius of a latitude/longitude.
+     */
+    public int[] within(double latitude, double longitude, double radiusKm) {
+        double lat = Math.toRadians(latitude);
+        double lon = Math.toRadians(longitude);
+        return within(Math.cos(lat) * Math.cos(lon), Math.cos(lat) * Math.sin(lon), Math.sin(lat), radiusKm);
+    }
+
+    private int[] within(double qx, double qy, double qz, double radiusKm) {
+        double angle = Math.min(radiusKm / EARTH_RADIUS_KM, Math.PI);
+        double chord = 2 * Math.sin(angle / 2);
+        double chord2 = chord * chord;
+
+        int[] result = new int[16];
+        int count = 0;
+
+        // Explicit stack of [from, to, axis] ranges instead of recursion
+        int[] stack = new int[3 * 64];
+        int top = 0;
+        if (size > 0) {
+            stack[top++] = 0;
+            stack[top++] = size;
+            stack[top++] = 0;
+        }
+
+        while (top > 0) {
+            int axis = stack[--top];
+            int to = stack[--top];
+            int from = stack[--top];
+            if (from >= to) {
+                continue;
+            }
+            int mid = (from + to) >>> 1;
+
+            double dx = x[mid] - qx;
+            double dy = y[mid] - qy;
+            double dz = z[mid] - qz;
+            if (dx * dx + dy * dy + dz * dz <= chord2) {
+                if (count == result.length) {
+                    result = Arrays.copyOf(result, count * 2);
+                }
+                result[count++] = mid;
+            }
+
+            double delta = axis == 0 ? dx : axis == 1 ? dy : dz;   // node minus query along the axis
+            int next = axis == 2 ? 0 : axis + 1;
+            // Near side is always visited; far side only if the splitting plane is within the chord
+            if (delta >= -chord) {
+                stack[top++] = from;
+                stack[top++] = mid;
+                stack[top++] = next;
+            }
+            if (delta <= chord) {
+                stack[top++] = mid + 1;
+                stack[top++] = to;
+                stack[top++] = next;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    /**
+     * Quicksort of the (msb, lsb, slot) lookup table without boxing.
+     */
+    private void sortIds(int lo, int hi) {
+        while (lo < hi) {
+            int p = (lo + hi) >>> 1;
+            long pivotMsb = sortedMsb[p];
+            long pivotLsb = sortedLsb[p];
+            int i = lo;
+            int j = hi;
+            while (i <= j) {
+                while (compareId(i, pivotMsb, pivotLsb) < 0) i++;
+                while (compareId(j, pivotMsb, pivotLsb) > 0) j--;
+                if (i <= j) {
+                    swapId(i++, j--);
+                }
+            }
+            // Recurse into the smaller half to bound stack depth
+            if (j - lo < hi - i) {
+                sortIds(lo, j);
+                lo = i;
+            } else {
+                sortIds(i, hi);
+                hi = j;
+            }
+        }
+    }
+
+    private int compareId(int index, long msb, long lsb) {
+        int c = Long.compare(sortedMsb[index], msb);
+        return c != 0 ? c : Long.compare(sortedLsb[index], lsb);
+    }
+
+    private void swapId(int a, int b) {
+        long l = sortedMsb[a]; sortedMsb[a] = sortedMsb[b]; sortedMsb[b] = l;
+        l = sortedLsb[a]; sortedLsb[a] = sortedLsb[b]; sortedLsb[b] = l;
+        int s = sortedSlot[a]; sortedSlot[a] = sortedSlot[b]; sortedSlot[b] = s;
+    }
+
+    /**
+     * Collects city coordinates and lays them out as an implicit k-d tree.
+     */
+    public static final class Builder {
+
+        private double[] lat = new double[1024];
+        private double[] lon = new double[1024];
+        private long[] msb = new long[1024];
+        private long[] lsb = new long[1024];
+        private int size;
+
+        public Builder add(UUID cityId, double latitude, double longitude) {
+            if (size == lat.length) {
+                int capacity = size * 2;
+                lat = Arrays.copyOf(lat, capacity);
+                lon = Arrays.copyOf(lon, capacity);
+                msb = Arrays.copyOf(msb, capacity);
+                lsb = Arrays.copyOf(lsb, capacity);
+            }
+            lat[size] = latitude;
+            lon[size] = longitude;
+            msb[size] = cityId.getMostSignificantBits();
+            lsb[size] = cityId.getLeastSignificantBits();
+            size++;
+            return this;
+        }
+
+        public CitySpatialIndex build() {
+            double[] x = new double[size];
+            double[] y = new double[size];
+            double[] z = new double[size];
+            for (int i = 0; i < size; i++) {
+                double la = Math.toRadians(lat[i]);
+                double lo = Math.toRadians(lon[i]);
+                x[i] = Math.cos(la) * Math.cos(lo);
+                y[i] = Math.cos(la) * Math.sin(lo);
+                z[i] = Math.sin(la);
+            }
+            long[] idMsb = Arrays.copyOf(msb, size);
+            long[] idLsb = Arrays.copyOf(lsb, size);
+
+            Layout layout = new Layout(x, y, z, idMsb, idLsb);
+            layout.arrange(0, size, 0);
+            return new CitySpatialIndex(size, x, y, z, idMsb, idLsb);
+        }
+    }
+
+    /**
+     * In-place median partitioning (quickselect) of the parallel arrays.
+     */
+    private record Layout(double[] x, double[] y, double[] z, long[] msb, long[] lsb) {
+
+        void arrange(int from, int to, int axis) {
+            while (to - from > 1) {
+                int mid = (from + to) >>> 1;
+                select(from, to - 1, mid, axis);
+                int next = axis == 2 ? 0 : axis + 1;
+                arrange(from, mid, next);
+                from = mid + 1;
+                axis = next;
+            }
+        }
+
+        private void select(int lo, int hi, int k, int axis) {
+            double[] values = axis == 0 ? x : axis == 1 ? y : z;
+            while (hi > lo) {
+                double pivot = values[(lo + hi) >>> 1];
+                int i = lo;
+                int j = hi;
+                while (i <= j) {
+                    while (values[i] < pivot) i++;
+                    while (values[j] > pivot) j--;
+                    if (i <= j) {
+                        swap(i++, j--);
+                    }
+                }
+                if (k <= j) {
+                    hi = j;
+                } else if (k >= i) {
+                    lo = i;
+                } else {
+                    return;
+                }
+            }
+        }
+
+        private void swap(int a, int b) {
+            double t = x[a]; x[a] = x[b]; x[b] = t;
+            t = y[a]; y[a] = y[b]; y[b] = t;
+            t = z[a]; z[a] = z[b]; z[b] = t;
+            long l = msb[a]; msb[a] = msb[b]; msb[b] = l;
+            l = lsb[a]; lsb[a] = lsb[b]; lsb[b] = l;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.skillgrid.infrastructure.cities;
+
+import com.skillgrid.commons.ids.CityId;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import java.util.List;
+
+/**
+ * REST controller for radius-based city lookups.
+ */
+@RestController
+@RequestMapping("/api/cities")
+public class NearbyCitiesController {
+
+    private static final double MAX_RADIUS_KM = 500.0;
+
+    private final NearbyCitiesService nearbyCitiesService;
+
+    public NearbyCitiesController(NearbyCitiesService nearbyCitiesService) {
+        this.nearbyCitiesService = nearbyCitiesService;
+    }
+
+    /**
+     * GET /api/cities/{cityId}/nearby?radiusKm=50 - Cities within the radius of a city
+     */
+    @GetMapping("/{cityId}/nearby")
+    public List<CityId> nearby(@PathVariable String cityId,
+                               @RequestParam(defaultValue = "50") double radiusKm) {
+        return nearbyCitiesService.citiesNear(CityId.of(cityId), Math.min(radiusKm, MAX_RADIUS_KM));
+    }
+}
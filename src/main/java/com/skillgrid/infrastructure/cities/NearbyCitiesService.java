@@ -0,0 +1,122 @@
+package com.skillgrid.infrastructure.cities;
+
+import com.skillgrid.commons.ids.CityId;
+import com.skillgrid.members.domain.model.Address;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+/**
+ * Resolves the cities within a radius of a city ("jobs near me") from an in-memory
+ * {@link CitySpatialIndex}, rebuilt in the background after every city reload.
+ */
+@Service
+public class NearbyCitiesService {
+
+    private static final int FETCH_SIZE = 10_000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile CitySpatialIndex index = CitySpatialIndex.EMPTY;
+
+    public NearbyCitiesService(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Cities within the radius of the given city, including the city itself.
+     */
+    public List<CityId> citiesNear(CityId cityId, double radiusKm) {
+        CitySpatialIndex current = index;
+        return toCityIds(current, current.within(cityId, radiusKm));
+    }
+
+    /**
+     * Cities within the radius of each address city, in input order.
+     * Queries are spread across cores; addresses whose city is unknown get an empty list.
+     */
+    public List<List<CityId>> citiesNear(List<Address> addresses, double radiusKm) {
+        CitySpatialIndex current = index;
+        int[][] slots = new int[addresses.size()][];
+        IntStream.range(0, addresses.size()).parallel().forEach(i -> {
+            Address address = addresses.get(i);
+            slots[i] = address != null ? current.within(address.cityId(), radiusKm) : new int[0];
+        });
+
+        List<List<CityId>> result = new ArrayList<>(slots.length);
+        for (int[] s : slots) {
+            result.add(toCityIds(current, s));
+        }
+        return result;
+    }
+
+    public CitySpatialIndex currentIndex() {
+        return index;
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuild();
+    }
+
+    @Async
+    @EventListener
+    public void onCitiesReloaded(CitiesReloadedEvent event) {
+        rebuild();
+    }
+
+    /**
+     * Builds a new index from the cities table and swaps it in.
+     */
+    public synchronized void rebuild() {
+        long start = System.nanoTime();
+        CitySpatialIndex.Builder builder = new CitySpatialIndex.Builder();
+
+        try {
+            jdbcTemplate.execute((ConnectionCallback<Void>) conn -> {
+                // The PostgreSQL driver only uses a cursor (and honours the fetch size) inside a transaction
+                conn.setAutoCommit(false);
+                conn.setReadOnly(true);
+                try (PreparedStatement stmt = conn.prepareStatement("SELECT id, latitude, longitude FROM cities")) {
+                    stmt.setFetchSize(FETCH_SIZE);
+                    try (ResultSet rs = stmt.executeQuery()) {
+                        while (rs.next()) {
+                            builder.add(rs.getObject(1, UUID.class), rs.getDouble(2), rs.getDouble(3));
+                        }
+                    }
+                } finally {
+                    conn.rollback();
+                    conn.setReadOnly(false);
+                    conn.setAutoCommit(true);
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            System.err.println("❌ City spatial index rebuild failed: " + e.getMessage());
+            return;
+        }
+
+        CitySpatialIndex built = builder.build();
+        index = built;
+        System.out.println("🗺️ City spatial index rebuilt: " + built.size() + " cities in "
+                + (System.nanoTime() - start) / 1_000_000 + " ms");
+    }
+
+    private static List<CityId> toCityIds(CitySpatialIndex index, int[] slots) {
+        List<CityId> cityIds = new ArrayList<>(slots.length);
+        for (int slot : slots) {
+            cityIds.add(index.cityIdAt(slot));
+        }
+        return cityIds;
+    }
+}
@@ -0,0 +1,59 @@
+package com.skillgrid.infrastructure.currency;
+
+import com.skillgrid.commons.money.ExchangeRateMatrix;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import java.util.Map;
+
+/**
+ * REST controller for currency conversion and exchange rate reloads.
+ */
+@RestController
+public class ExchangeRateController {
+
+    private final ExchangeRateService exchangeRateService;
+
+    public ExchangeRateController(ExchangeRateService exchangeRateService) {
+        this.exchangeRateService = exchangeRateService;
+    }
+
+    /**
+     * GET /api/exchange-rates/convert?amount=1000&from=ARS&to=USD
+     */
+    @GetMapping("/api/exchange-rates/convert")
+    public ResponseEntity<?> convert(@RequestParam double amount,
+                                     @RequestParam String from,
+                                     @RequestParam String to) {
+        ExchangeRateMatrix rates = exchangeRateService.snapshot();
+        int fromOrdinal = rates.ordinal(from);
+        int toOrdinal = rates.ordinal(to);
+        if (fromOrdinal == ExchangeRateMatrix.UNKNOWN || toOrdinal == ExchangeRateMatrix.UNKNOWN) {
+            return ResponseEntity.badRequest().body("❌ Unknown currency: "
+                    + (fromOrdinal == ExchangeRateMatrix.UNKNOWN ? from : to));
+        }
+        return ResponseEntity.ok(Map.of(
+                "amount", amount,
+                "from", rates.code(fromOrdinal),
+                "to", rates.code(toOrdinal),
+                "converted", rates.convert(amount, fromOrdinal, toOrdinal),
+                "asOf", rates.asOf().toString()));
+    }
+
+    /**
+     * POST /api/admin/exchange-rates/reload - Reload rates and swap the snapshot
+     */
+    @PostMapping("/api/admin/exchange-rates/reload")
+    public ResponseEntity<String> reload() {
+        try {
+            ExchangeRateMatrix rates = exchangeRateService.reload();
+            return ResponseEntity.ok("✅ Exchange rates reloaded: " + rates.size() + " currencies");
+        } catch (Exception e) {
+            String errorMessage = "❌ Exchange rate reload failed: " + e.getMessage();
+            System.err.println(errorMessage);
+            return ResponseEntity.internalServerError().body(errorMessage);
+        }
+    }
+}
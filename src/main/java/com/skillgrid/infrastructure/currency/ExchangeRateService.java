@@ -0,0 +1,92 @@
+package com.skillgrid.infrastructure.currency;
+
+import com.skillgrid.commons.money.ExchangeRateMatrix;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Holds the current {@link ExchangeRateMatrix} snapshot.
+ *
+ * Rates come from the exchange_rates table, or from a CSV file (code,units_per_usd)
+ * when skillgrid.exchange-rates.file is set. Reloads build a new snapshot and swap it
+ * in atomically; readers keep the snapshot they started with.
+ */
+@Service
+public class ExchangeRateService {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String ratesFile;
+
+    private volatile ExchangeRateMatrix current = ExchangeRateMatrix.empty();
+
+    public ExchangeRateService(JdbcTemplate jdbcTemplate,
+                               @Value("${skillgrid.exchange-rates.file:}") String ratesFile) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.ratesFile = ratesFile;
+    }
+
+    /**
+     * The current snapshot. Callers doing several conversions should hold on to one
+     * snapshot so all of them use the same rates.
+     */
+    public ExchangeRateMatrix snapshot() {
+        return current;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        try {
+            reload();
+        } catch (Exception e) {
+            System.err.println("❌ Exchange rates could not be loaded: " + e.getMessage());
+        }
+    }
+
+    public ExchangeRateMatrix reload() throws IOException {
+        ExchangeRateMatrix loaded = ratesFile.isBlank() ? loadFromTable() : loadFromFile(Path.of(ratesFile));
+        current = loaded;
+        System.out.println("💱 Exchange rates loaded: " + loaded.size() + " currencies (as of " + loaded.asOf() + ")");
+        return loaded;
+    }
+
+    private ExchangeRateMatrix loadFromTable() {
+        Map<String, Double> rates = new HashMap<>();
+        Instant[] asOf = {Instant.EPOCH};
+        jdbcTemplate.query("SELECT currency_code, units_per_usd, as_of FROM exchange_rates", rs -> {
+            rates.put(rs.getString(1), rs.getDouble(2));
+            Timestamp timestamp = rs.getTimestamp(3);
+            if (timestamp != null && timestamp.toInstant().isAfter(asOf[0])) {
+                asOf[0] = timestamp.toInstant();
+            }
+        });
+        return ExchangeRateMatrix.fromUnitsPerUsd(rates, asOf[0]);
+    }
+
+    private ExchangeRateMatrix loadFromFile(Path file) throws IOException {
+        Map<String, Double> rates = new HashMap<>();
+        List<String> lines = Files.readAllLines(file);
+        for (String line : lines) {
+            String trimmed = line.trim();
+            if (trimmed.isEmpty() || trimmed.startsWith("#") || trimmed.startsWith("currency")) {
+                continue;
+            }
+            String[] parts = trimmed.split(",");
+            if (parts.length < 2) {
+                throw new IllegalArgumentException("Invalid exchange rate line: " + line);
+            }
+            rates.put(parts[0].trim(), Double.parseDouble(parts[1].trim()));
+        }
+        return ExchangeRateMatrix.fromUnitsPerUsd(rates, Files.getLastModifiedTime(file).toInstant());
+    }
+}
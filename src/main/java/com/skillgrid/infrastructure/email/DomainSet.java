@@ -0,0 +1,182 @@
+package com.skillgrid.infrastructure.email;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Immutable set of lower-case ASCII domain names stored off-heap as one sorted byte array.
+ *
+ * The domains are concatenated in sorted order into a direct buffer, with a second
+ * direct buffer of start offsets. A lookup is a binary search comparing the query's
+ * characters with the stored bytes in place, so it allocates nothing, and the heap
+ * cost is two buffer objects whatever the number of domains (about length + 4 bytes
+ * per domain off-heap, against roughly 100 bytes per entry for a HashSet of Strings).
+ *
+ * {@link #matchStart} also tries every parent domain of the query, so listing
+ * "mailinator.com" covers "x.mailinator.com".
+ */
+public final class DomainSet {
+
+    public static final DomainSet EMPTY = of(List.of());
+
+    private static final int MAX_DOMAIN_LENGTH = 253;
+
+    private final int size;
+    private final ByteBuffer data;      // sorted domains, concatenated
+    private final IntBuffer offsets;    // size + 1 offsets into data
+
+    private DomainSet(int size, ByteBuffer data, IntBuffer offsets) {
+        this.size = size;
+        this.data = data;
+        this.offsets = offsets;
+    }
+
+    /**
+     * Builds a set from domain names (normalized to lower case; blanks and duplicates ignored).
+     */
+    public static DomainSet of(Collection<String> domains) {
+        String[] sorted = domains.stream()
+                .map(DomainSet::normalize)
+                .filter(domain -> !domain.isEmpty())
+                .sorted()
+                .distinct()
+                .toArray(String[]::new);
+
+        int bytes = 0;
+        for (String domain : sorted) {
+            bytes += domain.length();
+        }
+        ByteBuffer data = ByteBuffer.allocateDirect(Math.max(bytes, 1));
+        IntBuffer offsets = ByteBuffer.allocateDirect(4 * (sorted.length + 1)).asIntBuffer();
+        for (String domain : sorted) {
+            offsets.put(data.position());
+            data.put(domain.getBytes(StandardCharsets.US_ASCII));
+        }
+        offsets.put(data.position());
+        return new DomainSet(sorted.length, data.asReadOnlyBuffer(), offsets.asReadOnlyBuffer());
+    }
+
+    /**
+     * Reads one domain per line; blank lines and lines starting with # are skipped.
+     */
+    public static DomainSet load(Path file) throws IOException {
+        List<String> domains = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String trimmed = line.trim();
+                if (!trimmed.isEmpty() && !trimmed.startsWith("#")) {
+                    domains.add(trimmed);
+                }
+            }
+        }
+        return of(domains);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Off-heap bytes held by the set.
+     */
+    public long sizeInBytes() {
+        return data.capacity() + 4L * offsets.capacity();
+    }
+
+    public boolean contains(CharSequence domain) {
+        return contains(domain, 0, domain.length());
+    }
+
+    /**
+     * True if the characters [from, to) of the sequence are a domain of the set (case-insensitive).
+     */
+    public boolean contains(CharSequence text, int from, int to) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = compare(mid, text, from, to);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Start index of the longest suffix of text[from, to) that is a listed domain or
+     * a listed parent domain, trying the whole domain first and then each parent
+     * (dropping one label at a time), or -1 if none is listed.
+     */
+    public int matchStart(CharSequence text, int from, int to) {
+        if (size == 0 || to - from > MAX_DOMAIN_LENGTH) {
+            return -1;
+        }
+        int start = from;
+        while (start < to) {
+            if (contains(text, start, to)) {
+                return start;
+            }
+            // Next parent domain: skip past the next dot
+            while (start < to && text.charAt(start) != '.') {
+                start++;
+            }
+            start++;
+        }
+        return -1;
+    }
+
+    /**
+     * Compares stored domain i with text[from, to), as unsigned bytes against lower-cased chars.
+     */
+    private int compare(int i, CharSequence text, int from, int to) {
+        int start = offsets.get(i);
+        int end = offsets.get(i + 1);
+        int length = Math.min(end - start, to - from);
+        for (int k = 0; k < length; k++) {
+            int stored = data.get(start + k) & 0xFF;
+            int query = lower(text.charAt(from + k));
+            if (stored != query) {
+                return stored - query;
+            }
+        }
+        return (end - start) - (to - from);
+    }
+
+    private static int lower(char c) {
+        return c >= 'A' && c <= 'Z' ? c + ('a' - 'A') : c;
+    }
+
+    private static String normalize(String domain) {
+        String normalized = domain.trim().toLowerCase(Locale.ROOT);
+        if (normalized.startsWith("*.")) {
+            normalized = normalized.substring(2);
+        } else if (normalized.startsWith(".")) {
+            normalized = normalized.substring(1);
+        }
+        if (normalized.length() > MAX_DOMAIN_LENGTH || !normalized.chars().allMatch(c -> c < 0x80)) {
+            throw new IllegalArgumentException("Invalid domain (ASCII, at most " + MAX_DOMAIN_LENGTH
+                    + " characters; use the punycode form): " + domain);
+        }
+        return normalized;
+    }
+
+    @Override
+    public String toString() {
+        return "DomainSet{" + size + " domains, " + sizeInBytes() + " bytes off-heap}";
+    }
+}
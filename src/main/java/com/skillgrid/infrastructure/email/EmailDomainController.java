@@ -0,0 +1,58 @@
+package com.skillgrid.infrastructure.email;
+
+import com.skillgrid.commons.utils.Email;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * REST controller for email domain checks and domain list reloads.
+ */
+@RestController
+public class EmailDomainController {
+
+    private final EmailDomainPolicy emailDomainPolicy;
+
+    public EmailDomainController(EmailDomainPolicy emailDomainPolicy) {
+        this.emailDomainPolicy = emailDomainPolicy;
+    }
+
+    /**
+     * GET /api/email-domains/check?email=someone@sub.mailinator.com
+     */
+    @GetMapping("/api/email-domains/check")
+    public ResponseEntity<?> check(@RequestParam String email) {
+        Email parsed;
+        try {
+            parsed = Email.of(email);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body("❌ " + e.getMessage());
+        }
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("email", parsed.value());
+        result.put("domain", parsed.getDomainPart());
+        result.put("verdict", emailDomainPolicy.check(parsed));
+        result.put("matchedDomain", emailDomainPolicy.matchedDomain(parsed));
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * POST /api/admin/email-domains/reload - Re-read the domain lists and swap them in
+     */
+    @PostMapping("/api/admin/email-domains/reload")
+    public ResponseEntity<String> reload() {
+        try {
+            emailDomainPolicy.reload();
+            return ResponseEntity.ok("✅ Email domain lists reloaded: " + emailDomainPolicy.blockedCount()
+                    + " blocked, " + emailDomainPolicy.disposableCount() + " disposable");
+        } catch (Exception e) {
+            String errorMessage = "❌ Email domain list reload failed: " + e.getMessage();
+            System.err.println(errorMessage);
+            return ResponseEntity.internalServerError().body(errorMessage);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.skillgrid.infrastructure.email;
+
+import com.skillgrid.commons.utils.Email;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+/**
+ * Signup policy for email domains: rejects blocked domains and disposable-mailbox
+ * providers, including their subdomains.
+ *
+ * Both lists are local files with one domain per line
+ * (skillgrid.email.blocked-domains.file, skillgrid.email.disposable-domains.file),
+ * held as {@link DomainSet}s. A check walks the email's domain part and its parent
+ * domains in place, so it allocates nothing and makes no database round trip. The
+ * files are re-read when their modification time changes (or on an explicit reload)
+ * and the snapshot is swapped atomically.
+ */
+@Service
+public class EmailDomainPolicy {
+
+    public enum Verdict {
+        ALLOWED,
+        BLOCKED,
+        DISPOSABLE
+    }
+
+    private final String blockedFile;
+    private final String disposableFile;
+
+    private volatile Lists lists = new Lists(DomainSet.EMPTY, null, DomainSet.EMPTY, null);
+
+    public EmailDomainPolicy(@Value("${skillgrid.email.blocked-domains.file:}") String blockedFile,
+                             @Value("${skillgrid.email.disposable-domains.file:}") String disposableFile) {
+        this.blockedFile = blockedFile;
+        this.disposableFile = disposableFile;
+    }
+
+    public Verdict check(Email email) {
+        Lists current = lists;
+        String value = email.value();
+        int from = email.domainStart();
+        if (current.blocked.matchStart(value, from, value.length()) >= 0) {
+            return Verdict.BLOCKED;
+        }
+        if (current.disposable.matchStart(value, from, value.length()) >= 0) {
+            return Verdict.DISPOSABLE;
+        }
+        return Verdict.ALLOWED;
+    }
+
+    /**
+     * Throws if the email's domain (or a parent domain) is blocked or disposable.
+     */
+    public void requireAllowed(Email email) {
+        Verdict verdict = check(email);
+        if (verdict != Verdict.ALLOWED) {
+            throw new IllegalArgumentException("Email domain not allowed (" + verdict.name().toLowerCase()
+                    + "): " + email.getDomainPart());
+        }
+    }
+
+    /**
+     * The listed domain the email matched (its own domain or a parent), or null if allowed.
+     */
+    public String matchedDomain(Email email) {
+        Lists current = lists;
+        String value = email.value();
+        int from = email.domainStart();
+        int start = current.blocked.matchStart(value, from, value.length());
+        if (start < 0) {
+            start = current.disposable.matchStart(value, from, value.length());
+        }
+        return start >= 0 ? value.substring(start).toLowerCase() : null;
+    }
+
+    public int blockedCount() {
+        return lists.blocked.size();
+    }
+
+    public int disposableCount() {
+        return lists.disposable.size();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        try {
+            reload();
+        } catch (Exception e) {
+            System.err.println("❌ Email domain lists could not be loaded: " + e.getMessage());
+        }
+    }
+
+    public synchronized void reload() throws IOException {
+        FileTime blockedModified = lastModified(blockedFile);
+        FileTime disposableModified = lastModified(disposableFile);
+        DomainSet blocked = blockedFile.isBlank() ? DomainSet.EMPTY : DomainSet.load(Path.of(blockedFile));
+        DomainSet disposable = disposableFile.isBlank() ? DomainSet.EMPTY : DomainSet.load(Path.of(disposableFile));
+        lists = new Lists(blocked, blockedModified, disposable, disposableModified);
+        System.out.println("📧 Email domain lists loaded: " + blocked.size() + " blocked, "
+                + disposable.size() + " disposable (" + (blocked.sizeInBytes() + disposable.sizeInBytes()) / 1024
+                + " KB off-heap)");
+    }
+
+    /**
+     * Reloads when either file changed since it was last read.
+     */
+    @Scheduled(fixedDelayString = "${skillgrid.email.domains.check-interval-ms:60000}")
+    public void reloadIfChanged() {
+        Lists current = lists;
+        try {
+            if (changed(blockedFile, current.blockedModified) || changed(disposableFile, current.disposableModified)) {
+                reload();
+            }
+        } catch (Exception e) {
+            System.err.println("❌ Email domain lists could not be reloaded: " + e.getMessage());
+        }
+    }
+
+    private static boolean changed(String file, FileTime loaded) throws IOException {
+        FileTime modified = lastModified(file);
+        return modified != null && !modified.equals(loaded);
+    }
+
+    private static FileTime lastModified(String file) throws IOException {
+        if (file.isBlank() || !Files.exists(Path.of(file))) {
+            return null;
+        }
+        return Files.getLastModifiedTime(Path.of(file));
+    }
+
+    private record Lists(DomainSet blocked, FileTime blockedModified,
+                         DomainSet disposable, FileTime disposableModified) {
+    }
+}
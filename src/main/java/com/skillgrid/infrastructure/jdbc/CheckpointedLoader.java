@@ -0,0 +1,290 @@
+package com.skillgrid.infrastructure.jdbc;
+
+import javax.sql.DataSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * Writes a list of items in chunks, one transaction per chunk, with a persisted
+ * checkpoint (load_checkpoints) advanced in the same transaction as each chunk.
+ *
+ * A fresh load clears the target tables and resets the checkpoint in one transaction.
+ * If the previous load with the same name failed on the same input (same fingerprint
+ * and item count), the clear is skipped and writing resumes from the last committed
+ * chunk. Chunking keeps lock hold times and WAL per commit bounded by the chunk size.
+ *
+ * A load runs under a {@link Lease}: a session advisory lock on the load name, held on
+ * its own connection from {@link #acquire} until closed, so only one process at a time
+ * clears or writes a load. Under the lease a RUNNING checkpoint can only belong to a
+ * process that died (its session, and with it the lock, is gone), so it is resumed like
+ * a FAILED one.
+ *
+ * Plain JDBC on a DataSource, so it is shared by the Spring and the standalone loaders.
+ */
+public class CheckpointedLoader {
+
+    public static final String STATUS_RUNNING = "RUNNING";
+    public static final String STATUS_FAILED = "FAILED";
+    public static final String STATUS_COMPLETED = "COMPLETED";
+
+    private static final String LOCK_SQL = "SELECT pg_try_advisory_lock(hashtext(?))";
+
+    private static final String UNLOCK_SQL = "SELECT pg_advisory_unlock(hashtext(?))";
+
+    private static final String SELECT_SQL = """
+        SELECT fingerprint, total_items, next_offset, status
+        FROM load_checkpoints WHERE load_name = ? FOR UPDATE
+        """;
+
+    private static final String RESET_SQL = """
+        INSERT INTO load_checkpoints (load_name, fingerprint, total_items, next_offset, chunk_size, status)
+        VALUES (?, ?, ?, 0, ?, 'RUNNING')
+        ON CONFLICT (load_name) DO UPDATE SET
+            fingerprint = EXCLUDED.fingerprint,
+            total_items = EXCLUDED.total_items,
+            next_offset = 0,
+            chunk_size = EXCLUDED.chunk_size,
+            status = 'RUNNING',
+            error = NULL,
+            started_at = CURRENT_TIMESTAMP,
+            updated_at = CURRENT_TIMESTAMP
+        """;
+
+    private static final String ADVANCE_SQL = """
+        UPDATE load_checkpoints
+        SET next_offset = ?, status = ?, chunk_size = ?, error = NULL, updated_at = CURRENT_TIMESTAMP
+        WHERE load_name = ?
+        """;
+
+    private static final String FAIL_SQL = """
+        UPDATE load_checkpoints SET status = 'FAILED', error = ?, updated_at = CURRENT_TIMESTAMP
+        WHERE load_name = ?
+        """;
+
+    private final DataSource dataSource;
+    private final int chunkSize;
+
+    public CheckpointedLoader(DataSource dataSource, int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive: " + chunkSize);
+        }
+        this.dataSource = dataSource;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Writes the target tables of one load.
+     */
+    public interface ChunkWriter<T> {
+
+        /**
+         * Removes the previous contents; runs in the transaction that resets the checkpoint.
+         */
+        void clear(Connection conn) throws SQLException;
+
+        /**
+         * Writes one chunk; runs in the transaction that advances the checkpoint.
+         */
+        void write(Connection conn, List<T> chunk) throws SQLException;
+
+        /**
+         * Called after a chunk is committed, for work that needs its rows to be visible
+         * (e.g. dependent tables written on other connections). When a load resumes it is
+         * also called once with the items committed by the previous run, so it must be idempotent.
+         */
+        default void committed(List<T> chunk) throws SQLException {
+        }
+
+        /**
+         * Waits for work started by {@link #committed}; the load is COMPLETED only if this returns.
+         */
+        default void finish() throws SQLException {
+        }
+    }
+
+    /**
+     * Where a load starts: offset 0 after a clear, or the committed offset of a failed load.
+     */
+    public record Checkpoint(String loadName, String fingerprint, int totalItems, int startOffset, boolean resumed) {
+    }
+
+    public record Result(String loadName, int totalItems, int resumedFrom, int chunks, long elapsedMillis) {
+    }
+
+    /**
+     * Exclusive right to run one load, released by {@link #close}.
+     */
+    public static final class Lease implements AutoCloseable {
+
+        private final String loadName;
+        private final Connection conn;
+
+        private Lease(String loadName, Connection conn) {
+            this.loadName = loadName;
+            this.conn = conn;
+        }
+
+        public String loadName() {
+            return loadName;
+        }
+
+        @Override
+        public void close() throws SQLException {
+            // Unlock explicitly: a pooled connection's session outlives close()
+            try (conn; PreparedStatement stmt = conn.prepareStatement(UNLOCK_SQL)) {
+                stmt.setString(1, lockKey(loadName));
+                stmt.executeQuery().close();
+            }
+        }
+    }
+
+    public int chunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * Takes the lease of a load; fails at once if another process holds it.
+     */
+    public Lease acquire(String loadName) throws SQLException {
+        Connection conn = dataSource.getConnection();
+        try (PreparedStatement stmt = conn.prepareStatement(LOCK_SQL)) {
+            stmt.setString(1, lockKey(loadName));
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next() && rs.getBoolean(1)) {
+                    return new Lease(loadName, conn);
+                }
+            }
+        } catch (SQLException | RuntimeException e) {
+            conn.close();
+            throw e;
+        }
+        conn.close();
+        throw new IllegalStateException(loadName + " is already running in another process");
+    }
+
+    /**
+     * Resumes the previous load if it failed (or its process died) on the same input,
+     * otherwise clears the targets and starts a new checkpoint.
+     */
+    public Checkpoint begin(Lease lease, String fingerprint, int totalItems, ChunkWriter<?> writer)
+            throws SQLException {
+        String loadName = lease.loadName();
+        try (Connection conn = dataSource.getConnection()) {
+            conn.setAutoCommit(false);
+            try {
+                try (PreparedStatement stmt = conn.prepareStatement(SELECT_SQL)) {
+                    stmt.setString(1, loadName);
+                    try (ResultSet rs = stmt.executeQuery()) {
+                        if (rs.next() && !STATUS_COMPLETED.equals(rs.getString("status"))
+                                && fingerprint.equals(rs.getString("fingerprint"))
+                                && rs.getInt("total_items") == totalItems) {
+                            int offset = rs.getInt("next_offset");
+                            conn.commit();
+                            System.out.println("↩️ Resuming " + loadName + " at item " + offset + "/" + totalItems);
+                            return new Checkpoint(loadName, fingerprint, totalItems, offset, true);
+                        }
+                    }
+                }
+
+                writer.clear(conn);
+                try (PreparedStatement stmt = conn.prepareStatement(RESET_SQL)) {
+                    stmt.setString(1, loadName);
+                    stmt.setString(2, fingerprint);
+                    stmt.setInt(3, totalItems);
+                    stmt.setInt(4, chunkSize);
+                    stmt.executeUpdate();
+                }
+                conn.commit();
+                return new Checkpoint(loadName, fingerprint, totalItems, 0, false);
+            } catch (SQLException | RuntimeException e) {
+                conn.rollback();
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Writes the items from the checkpoint on, committing each chunk with its checkpoint.
+     * On failure the checkpoint is marked FAILED and keeps the last committed offset.
+     */
+    public <T> Result run(Checkpoint checkpoint, List<T> items, ChunkWriter<T> writer) throws SQLException {
+        if (items.size() != checkpoint.totalItems()) {
+            throw new IllegalArgumentException("Checkpoint is for " + checkpoint.totalItems()
+                    + " items, got " + items.size());
+        }
+        long start = System.nanoTime();
+        int chunks = 0;
+        try (Connection conn = dataSource.getConnection()) {
+            conn.setAutoCommit(false);
+            int offset = checkpoint.startOffset();
+            try {
+                if (offset > 0) {
+                    writer.committed(items.subList(0, offset));
+                }
+                while (offset < items.size()) {
+                    int end = Math.min(offset + chunkSize, items.size());
+                    List<T> chunk = items.subList(offset, end);
+                    writer.write(conn, chunk);
+                    advance(conn, checkpoint.loadName(), end, STATUS_RUNNING);
+                    conn.commit();
+                    offset = end;
+                    chunks++;
+                    writer.committed(chunk);
+                }
+                writer.finish();
+                advance(conn, checkpoint.loadName(), offset, STATUS_COMPLETED);
+                conn.commit();
+            } catch (SQLException | RuntimeException e) {
+                conn.rollback();
+                markFailed(conn, checkpoint.loadName(), e);
+                System.err.println("❌ " + checkpoint.loadName() + " failed after item " + offset
+                        + "; the next run resumes from there");
+                throw e;
+            }
+        }
+        return new Result(checkpoint.loadName(), items.size(), checkpoint.startOffset(), chunks,
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Hex SHA-256 of a payload, identifying the input of a load.
+     */
+    public static String fingerprint(byte[] payload) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(payload));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String lockKey(String loadName) {
+        return "load_checkpoints:" + loadName;
+    }
+
+    private void advance(Connection conn, String loadName, int offset, String status) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(ADVANCE_SQL)) {
+            stmt.setInt(1, offset);
+            stmt.setString(2, status);
+            stmt.setInt(3, chunkSize);
+            stmt.setString(4, loadName);
+            stmt.executeUpdate();
+        }
+    }
+
+    private static void markFailed(Connection conn, String loadName, Exception cause) {
+        try (PreparedStatement stmt = conn.prepareStatement(FAIL_SQL)) {
+            stmt.setString(1, String.valueOf(cause.getMessage()));
+            stmt.setString(2, loadName);
+            stmt.executeUpdate();
+            conn.commit();
+        } catch (SQLException e) {
+            cause.addSuppressed(e);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.skillgrid.infrastructure.jdbc;
+
+/**
+ * Connection target chosen by {@link ReplicaRoutingDataSource} for the current thread.
+ *
+ * Outside any scope, connections go to the replica only inside read-only transactions
+ * and to the primary otherwise. {@link #onReplica} marks a read path whose results may
+ * lag slightly behind the primary; {@link #onPrimary} pins work that writes, or must
+ * read its own writes, to the primary even inside such a path. Scopes apply to the
+ * calling thread only (work handed to other threads defaults to the primary) and do
+ * nothing when no replica is configured.
+ */
+public enum DataSourceRoute {
+    PRIMARY,
+    REPLICA;
+
+    private static final ThreadLocal<DataSourceRoute> CURRENT = new ThreadLocal<>();
+
+    @FunctionalInterface
+    public interface Work<T, E extends Exception> {
+        T run() throws E;
+    }
+
+    /**
+     * Restores the enclosing route when closed.
+     */
+    public static final class Scope implements AutoCloseable {
+
+        private final DataSourceRoute previous;
+
+        private Scope(DataSourceRoute previous) {
+            this.previous = previous;
+        }
+
+        @Override
+        public void close() {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    public static <T, E extends Exception> T onReplica(Work<T, E> work) throws E {
+        try (Scope ignored = REPLICA.open()) {
+            return work.run();
+        }
+    }
+
+    public static <T, E extends Exception> T onPrimary(Work<T, E> work) throws E {
+        try (Scope ignored = PRIMARY.open()) {
+            return work.run();
+        }
+    }
+
+    /**
+     * Routes the calling thread to this target until the returned scope is closed.
+     */
+    public Scope open() {
+        Scope scope = new Scope(CURRENT.get());
+        CURRENT.set(this);
+        return scope;
+    }
+
+    /**
+     * The route of the innermost enclosing scope, or null outside any scope.
+     */
+    static DataSourceRoute current() {
+        return CURRENT.get();
+    }
+}
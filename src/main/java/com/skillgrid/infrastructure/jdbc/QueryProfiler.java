@@ -0,0 +1,188 @@
+package com.skillgrid.infrastructure.jdbc;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects latency statistics per normalized SQL shape.
+ * Replaces spring.jpa.show-sql: only statements above the slow threshold, plus a
+ * sampled fraction of the rest, are logged.
+ *
+ * The skillgrid.jdbc.query timer is tagged with the shape's short id, not its text;
+ * the text for an id is listed by GET /api/admin/queries/slow.
+ */
+@Component
+public class QueryProfiler {
+
+    private static final Logger log = LoggerFactory.getLogger(QueryProfiler.class);
+
+    private static final int MAX_SHAPES = 500;
+    private static final String OVERFLOW_SHAPE = "<other>";
+    private static final String OVERFLOW_SHAPE_ID = "other";
+
+    private final MeterRegistry registry;
+    private final long slowThresholdNanos;
+    private final double sampleRate;
+    private final Map<String, ShapeStats> shapes = new ConcurrentHashMap<>();
+
+    public QueryProfiler(MeterRegistry registry,
+                         @Value("${skillgrid.jdbc.profiler.slow-threshold-ms:200}") long slowThresholdMs,
+                         @Value("${skillgrid.jdbc.profiler.sample-rate:0.0}") double sampleRate) {
+        this.registry = registry;
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowThresholdMs);
+        this.sampleRate = sampleRate;
+    }
+
+    /**
+     * Records one statement execution.
+     */
+    public void record(String sql, long elapsedNanos, boolean failed) {
+        String shape = SqlShapes.normalize(sql);
+        stats(shape).record(elapsedNanos, failed);
+
+        if (elapsedNanos >= slowThresholdNanos) {
+            log.warn("Slow query ({} ms{}): {}", TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                    failed ? ", failed" : "", shape);
+        } else if (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate) {
+            log.info("Sampled query ({} µs): {}", TimeUnit.NANOSECONDS.toMicros(elapsedNanos), shape);
+        }
+    }
+
+    /**
+     * Top-N statement shapes ordered by the given criterion ("total", "max", "p99" or "mean").
+     */
+    public List<QueryShapeReport> top(int limit, String orderBy) {
+        Comparator<QueryShapeReport> order = switch (orderBy) {
+            case "max" -> Comparator.comparingDouble(QueryShapeReport::maxMs);
+            case "p99" -> Comparator.comparingDouble(QueryShapeReport::p99Ms);
+            case "mean" -> Comparator.comparingDouble(QueryShapeReport::meanMs);
+            default -> Comparator.comparingDouble(QueryShapeReport::totalMs);
+        };
+
+        return shapes.entrySet().stream()
+                .map(e -> e.getValue().report(e.getKey()))
+                .sorted(order.reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    public void reset() {
+        shapes.values().forEach(ShapeStats::reset);
+    }
+
+    private ShapeStats stats(String shape) {
+        ShapeStats stats = shapes.get(shape);
+        if (stats != null) {
+            return stats;
+        }
+        if (shapes.size() >= MAX_SHAPES) {
+            shape = OVERFLOW_SHAPE;
+        }
+        return shapes.computeIfAbsent(shape, s -> {
+            String id = s.equals(OVERFLOW_SHAPE) ? OVERFLOW_SHAPE_ID : SqlShapes.id(s);
+            return new ShapeStats(id, Timer.builder("skillgrid.jdbc.query")
+                    .description("JDBC statement latency per normalized SQL shape id")
+                    .tag("shape", id)
+                    .register(registry));
+        });
+    }
+
+    /**
+     * Report line returned by the slow-statements endpoint.
+     */
+    public record QueryShapeReport(
+        String id,
+        String shape,
+        long count,
+        long errors,
+        double totalMs,
+        double meanMs,
+        double p50Ms,
+        double p99Ms,
+        double maxMs
+    ) {
+    }
+
+    /**
+     * Lock-free statistics for a single shape with a log2 latency histogram
+     * (bucket i holds executions taking less than 2^i microseconds).
+     */
+    private static class ShapeStats {
+
+        private static final int BUCKETS = 32;
+
+        private final String id;
+        private final Timer timer;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+        private final LongAdder[] histogram = new LongAdder[BUCKETS];
+
+        ShapeStats(String id, Timer timer) {
+            this.id = id;
+            this.timer = timer;
+            for (int i = 0; i < BUCKETS; i++) {
+                histogram[i] = new LongAdder();
+            }
+        }
+
+        void record(long nanos, boolean failed) {
+            timer.record(nanos, TimeUnit.NANOSECONDS);
+            count.increment();
+            totalNanos.add(nanos);
+            if (failed) {
+                errors.increment();
+            }
+            maxNanos.accumulateAndGet(nanos, Math::max);
+
+            long micros = Math.max(1, nanos / 1_000);
+            int bucket = Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(micros));
+            histogram[bucket].increment();
+        }
+
+        void reset() {
+            count.reset();
+            errors.reset();
+            totalNanos.reset();
+            maxNanos.set(0);
+            for (LongAdder bucket : histogram) {
+                bucket.reset();
+            }
+        }
+
+        QueryShapeReport report(String shape) {
+            long n = count.sum();
+            double total = totalNanos.sum() / 1_000_000.0;
+            return new QueryShapeReport(id, shape, n, errors.sum(), total,
+                    n > 0 ? total / n : 0.0,
+                    percentileMs(n, 0.50), percentileMs(n, 0.99),
+                    maxNanos.get() / 1_000_000.0);
+        }
+
+        private double percentileMs(long n, double p) {
+            if (n == 0) return 0.0;
+            long rank = (long) Math.ceil(p * n);
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += histogram[i].sum();
+                if (seen >= rank) {
+                    return (1L << i) / 1_000.0;
+                }
+            }
+            return maxNanos.get() / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.skillgrid.infrastructure.jdbc;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import javax.sql.DataSource;
+
+/**
+ * Wraps the application DataSource with the {@link ProfilingDataSource}.
+ * Disable with skillgrid.jdbc.profiler.enabled=false.
+ */
+@Configuration
+@ConditionalOnProperty(name = "skillgrid.jdbc.profiler.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryProfilerConfig {
+
+    @Bean
+    public static BeanPostProcessor profilingDataSourcePostProcessor(ObjectProvider<QueryProfiler> profiler) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProfilingDataSource)) {
+                    return new ProfilingDataSource(dataSource, profiler.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,42 @@
+package com.skillgrid.infrastructure.jdbc;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import java.util.List;
+
+/**
+ * REST controller exposing the JDBC query profiler statistics.
+ */
+@RestController
+@RequestMapping("/api/admin/queries")
+public class QueryProfilerController {
+
+    private final QueryProfiler queryProfiler;
+
+    public QueryProfilerController(QueryProfiler queryProfiler) {
+        this.queryProfiler = queryProfiler;
+    }
+
+    /**
+     * GET /api/admin/queries/slow?limit=20&orderBy=total|max|p99|mean - Top-N statement shapes
+     */
+    @GetMapping("/slow")
+    public List<QueryProfiler.QueryShapeReport> slowStatements(
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(defaultValue = "total") String orderBy) {
+        return queryProfiler.top(limit, orderBy);
+    }
+
+    /**
+     * DELETE /api/admin/queries/stats - Reset collected statistics
+     */
+    @DeleteMapping("/stats")
+    public ResponseEntity<Void> reset() {
+        queryProfiler.reset();
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,59 @@
+package com.skillgrid.infrastructure.jdbc;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * Replaces the auto-configured DataSource with a {@link ReplicaRoutingDataSource} when
+ * skillgrid.datasource.replica.enabled=true.
+ *
+ * The primary pool is built from spring.datasource.* (including spring.datasource.hikari.*),
+ * so everything that used the single DataSource keeps writing to the same database;
+ * Flyway, the country sync and the outbox relay never run read-only and stay on the
+ * primary. The replica pool is read-only and uses a short connection timeout, so an
+ * unreachable replica falls back quickly instead of stalling requests.
+ */
+@Configuration
+@ConditionalOnProperty(name = "skillgrid.datasource.replica.enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    @Bean(destroyMethod = "close")
+    public ReplicaRoutingDataSource dataSource(
+            DataSourceProperties properties,
+            Environment environment,
+            MeterRegistry meterRegistry,
+            @Value("${skillgrid.datasource.replica.url}") String replicaUrl,
+            @Value("${skillgrid.datasource.replica.username:${spring.datasource.username}}") String replicaUsername,
+            @Value("${skillgrid.datasource.replica.password:${spring.datasource.password}}") String replicaPassword,
+            @Value("${skillgrid.datasource.replica.maximum-pool-size:10}") int replicaPoolSize,
+            @Value("${skillgrid.datasource.replica.connection-timeout-ms:2000}") long replicaConnectionTimeout,
+            @Value("${skillgrid.datasource.replica.max-lag-ms:5000}") long maxLagMillis,
+            @Value("${skillgrid.datasource.replica.check-interval-ms:1000}") long checkIntervalMillis) {
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        primary.setPoolName("primary");
+        primary.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+
+        HikariDataSource replica = new HikariDataSource();
+        replica.setJdbcUrl(replicaUrl);
+        replica.setUsername(replicaUsername);
+        replica.setPassword(replicaPassword);
+        replica.setMaximumPoolSize(replicaPoolSize);
+        replica.setConnectionTimeout(replicaConnectionTimeout);
+        replica.setReadOnly(true);
+        replica.setPoolName("replica");
+        replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+
+        System.out.println("🔀 Read replica routing enabled: reads to " + replicaUrl + ", writes to " + properties.getUrl());
+        return new ReplicaRoutingDataSource(primary, replica, maxLagMillis, checkIntervalMillis, meterRegistry);
+    }
+}
@@ -0,0 +1,210 @@
+package com.skillgrid.infrastructure.jdbc;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DataSource that sends reads to a replica pool and everything else to the primary.
+ *
+ * A connection goes to the replica inside a read-only transaction or a
+ * {@link DataSourceRoute#onReplica} scope (unless an inner {@link DataSourceRoute#onPrimary}
+ * scope pins it), and to the primary otherwise, so writes never need to opt in.
+ * Connections are handed out through a {@link LazyConnectionDataSourceProxy}: the
+ * physical connection is only taken on the first statement, by which time the
+ * transaction manager has marked the transaction read-only.
+ *
+ * A background check compares the replica's replay position with the primary's WAL
+ * position every check interval and derives the replay lag from it. While the
+ * lag exceeds max-lag-ms, or the replica cannot be reached, reads fall back to the
+ * primary; a failed replica connection also falls back and marks the replica unusable
+ * until the next successful check. A replica that is not in recovery (a second
+ * standalone instance, e.g. for local testing) is treated as having no lag.
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private static final String PRIMARY_LSN_SQL = "SELECT pg_current_wal_lsn()::text";
+
+    // Zero once the replica has replayed up to the primary's LSN read just before; otherwise
+    // the age of the last replayed transaction, an upper bound on how stale its reads are
+    private static final String LAG_SQL = """
+        SELECT pg_is_in_recovery(),
+               CASE WHEN NOT pg_is_in_recovery() OR pg_wal_lsn_diff(pg_last_wal_replay_lsn(), ?::pg_lsn) >= 0 THEN 0
+                    ELSE COALESCE(EXTRACT(EPOCH FROM clock_timestamp() - pg_last_xact_replay_timestamp()) * 1000, 0)
+               END
+        """;
+
+    private final HikariDataSource primary;
+    private final HikariDataSource replica;
+    private final long maxLagMillis;
+    private final LazyConnectionDataSourceProxy lazy;
+    private final ScheduledExecutorService lagCheck;
+
+    private final Counter primaryWrites;
+    private final Counter replicaReads;
+    private final Counter lagFallbacks;
+    private final Counter errorFallbacks;
+
+    private volatile boolean replicaUsable;
+    private volatile double lagMillis = Double.NaN;
+    private volatile Boolean inRecovery;
+    private volatile boolean checked;
+
+    public ReplicaRoutingDataSource(HikariDataSource primary, HikariDataSource replica,
+                                    long maxLagMillis, long checkIntervalMillis, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replica = replica;
+        this.maxLagMillis = maxLagMillis;
+
+        this.primaryWrites = routeCounter(meterRegistry, "primary", "default");
+        this.replicaReads = routeCounter(meterRegistry, "replica", "read");
+        this.lagFallbacks = routeCounter(meterRegistry, "primary", "lag");
+        this.errorFallbacks = routeCounter(meterRegistry, "primary", "error");
+        Gauge.builder("skillgrid.datasource.replica.lag", this, ds -> ds.lagMillis)
+                .description("Replica replay lag at the last check (ms)")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        Gauge.builder("skillgrid.datasource.replica.usable", this, ds -> ds.replicaUsable ? 1 : 0)
+                .description("1 while reads are routed to the replica")
+                .register(meterRegistry);
+
+        // Takes a first connection to read the pool defaults, so the counters must exist already
+        this.lazy = new LazyConnectionDataSourceProxy(new AbstractDataSource() {
+            @Override
+            public Connection getConnection() throws SQLException {
+                return route();
+            }
+
+            @Override
+            public Connection getConnection(String username, String password) throws SQLException {
+                return primary.getConnection(username, password);
+            }
+        });
+
+        checkLag();
+        this.lagCheck = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                .name("replica-lag-check").daemon(true).factory());
+        lagCheck.scheduleWithFixedDelay(this::checkLag, checkIntervalMillis, checkIntervalMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return lazy.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return lazy.getConnection(username, password);
+    }
+
+    public boolean isReplicaUsable() {
+        return replicaUsable;
+    }
+
+    public double replicaLagMillis() {
+        return lagMillis;
+    }
+
+    private Connection route() throws SQLException {
+        if (!wantsReplica()) {
+            primaryWrites.increment();
+            return primary.getConnection();
+        }
+        if (!replicaUsable) {
+            lagFallbacks.increment();
+            return primary.getConnection();
+        }
+        try {
+            Connection conn = replica.getConnection();
+            replicaReads.increment();
+            return conn;
+        } catch (SQLException e) {
+            markUnusable("connection failed: " + e.getMessage());
+            errorFallbacks.increment();
+            return primary.getConnection();
+        }
+    }
+
+    private static boolean wantsReplica() {
+        DataSourceRoute route = DataSourceRoute.current();
+        if (route != null) {
+            return route == DataSourceRoute.REPLICA;
+        }
+        return TransactionSynchronizationManager.isActualTransactionActive()
+                && TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    private void checkLag() {
+        try {
+            String primaryLsn;
+            try (Connection conn = primary.getConnection();
+                 Statement stmt = conn.createStatement();
+                 ResultSet rs = stmt.executeQuery(PRIMARY_LSN_SQL)) {
+                rs.next();
+                primaryLsn = rs.getString(1);
+            }
+
+            boolean recovering;
+            try (Connection conn = replica.getConnection();
+                 PreparedStatement stmt = conn.prepareStatement(LAG_SQL)) {
+                stmt.setString(1, primaryLsn);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    rs.next();
+                    recovering = rs.getBoolean(1);
+                    lagMillis = rs.getDouble(2);
+                }
+            }
+
+            if (!recovering && inRecovery == null) {
+                System.out.println("⚠️ Read replica is not in recovery (standalone instance); replay lag is taken as 0");
+            }
+            inRecovery = recovering;
+            if (lagMillis > maxLagMillis) {
+                markUnusable(String.format("replay lag %.0f ms > %d ms", lagMillis, maxLagMillis));
+            } else if (!replicaUsable) {
+                replicaUsable = true;
+                System.out.printf("✅ Read replica in use (replay lag %.0f ms)%n", lagMillis);
+            }
+        } catch (SQLException | RuntimeException e) {
+            lagMillis = Double.NaN;
+            markUnusable("lag check failed: " + e.getMessage());
+        } finally {
+            checked = true;
+        }
+    }
+
+    private void markUnusable(String reason) {
+        if (replicaUsable || !checked) {
+            System.err.println("⚠️ Read replica not used, reads fall back to the primary (" + reason + ")");
+        }
+        replicaUsable = false;
+    }
+
+    private static Counter routeCounter(MeterRegistry meterRegistry, String target, String reason) {
+        return Counter.builder("skillgrid.datasource.route")
+                .description("Connections handed out by target pool and routing reason")
+                .tag("target", target)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void close() {
+        lagCheck.shutdownNow();
+        replica.close();
+        primary.close();
+    }
+}
@@ -0,0 +1,112 @@
+package com.skillgrid.infrastructure.jdbc;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Normalizes SQL text into a "shape": literals become '?', whitespace is collapsed
+ * and IN lists are folded, so statements that differ only in values share statistics.
+ */
+final class SqlShapes {
+
+    private static final int MAX_CACHED = 2048;
+
+    private static final Map<String, String> CACHE = new ConcurrentHashMap<>();
+
+    private SqlShapes() {
+    }
+
+    static String normalize(String sql) {
+        if (sql == null) {
+            return "<null>";
+        }
+        String shape = CACHE.get(sql);
+        if (shape == null) {
+            shape = doNormalize(sql);
+            // Prepared statements repeat the same text; ad-hoc literal SQL must not grow the cache forever
+            if (CACHE.size() < MAX_CACHED) {
+                CACHE.put(sql, shape);
+            }
+        }
+        return shape;
+    }
+
+    /**
+     * Short stable id of a shape (first 48 bits of its SHA-256, as hex): the same on
+     * every node and across restarts, and short enough to use as a metric tag.
+     */
+    static String id(String shape) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(shape.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 6);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static String doNormalize(String sql) {
+        StringBuilder out = new StringBuilder(sql.length());
+        int length = sql.length();
+        int i = 0;
+        boolean pendingSpace = false;
+
+        while (i < length) {
+            char c = sql.charAt(i);
+
+            if (Character.isWhitespace(c)) {
+                pendingSpace = out.length() > 0;
+                i++;
+                continue;
+            }
+            if (pendingSpace) {
+                out.append(' ');
+                pendingSpace = false;
+            }
+
+            if (c == '\'') {
+                // String literal (with '' escapes)
+                i++;
+                while (i < length) {
+                    if (sql.charAt(i) == '\'') {
+                        if (i + 1 < length && sql.charAt(i + 1) == '\'') {
+                            i += 2;
+                            continue;
+                        }
+                        break;
+                    }
+                    i++;
+                }
+                out.append('?');
+                i++;
+            } else if (Character.isDigit(c) && !isIdentifierPart(out)) {
+                // Numeric literal
+                while (i < length && (Character.isDigit(sql.charAt(i)) || sql.charAt(i) == '.')) {
+                    i++;
+                }
+                out.append('?');
+            } else {
+                out.append(c);
+                i++;
+            }
+        }
+
+        return foldInLists(out.toString());
+    }
+
+    private static boolean isIdentifierPart(StringBuilder out) {
+        if (out.length() == 0) {
+            return false;
+        }
+        char previous = out.charAt(out.length() - 1);
+        return Character.isLetterOrDigit(previous) || previous == '_';
+    }
+
+    private static String foldInLists(String sql) {
+        // "(?, ?, ?)" and "(?,?)" collapse to "(?)" so IN lists of any size share a shape
+        return sql.replaceAll("\\(\\s*\\?(\\s*,\\s*\\?)+\\s*\\)", "(?)");
+    }
+}
@@ -0,0 +1,116 @@
+package com.skillgrid.infrastructure.jdbc;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Read-only REST controller for the sync_runs ledger written by {@link SyncRunLedger}.
+ */
+@RestController
+@RequestMapping("/api/admin/sync-runs")
+public class SyncRunController {
+
+    private static final String RECENT_SQL = """
+        SELECT id, runner, status, started_at, finished_at, fetch_ms, parse_ms, write_ms,
+               payload_bytes, items, resumed, error
+        FROM sync_runs
+        WHERE dataset = ?
+        ORDER BY started_at DESC, id DESC
+        LIMIT ?
+        """;
+
+    private static final String TABLES_SQL = """
+        SELECT run_id, table_name, inserted, updated, deleted
+        FROM sync_run_tables
+        WHERE run_id = ANY(?)
+        ORDER BY run_id, table_name
+        """;
+
+    // Each successful run against the average of the previous `window` successful runs
+    private static final String TRENDS_SQL = """
+        WITH runs AS (
+            SELECT r.id, r.runner, r.started_at, r.fetch_ms, r.parse_ms, r.write_ms,
+                   r.fetch_ms + r.parse_ms + r.write_ms AS total_ms,
+                   r.payload_bytes, r.items,
+                   COALESCE(SUM(t.inserted), 0) AS inserted,
+                   COALESCE(SUM(t.updated), 0) AS updated,
+                   COALESCE(SUM(t.deleted), 0) AS deleted
+            FROM sync_runs r
+            LEFT JOIN sync_run_tables t ON t.run_id = r.id
+            WHERE r.dataset = ? AND r.status = 'SUCCEEDED'
+            GROUP BY r.id
+        ), trended AS (
+            SELECT runs.*,
+                   AVG(total_ms) OVER previous AS baseline_total_ms,
+                   AVG(payload_bytes) OVER previous AS baseline_payload_bytes
+            FROM runs
+            WINDOW previous AS (ORDER BY started_at, id ROWS BETWEEN ? PRECEDING AND 1 PRECEDING)
+        )
+        SELECT id, runner, started_at, fetch_ms, parse_ms, write_ms, total_ms, payload_bytes, items,
+               inserted, updated, deleted,
+               ROUND(baseline_total_ms, 1) AS baseline_total_ms,
+               ROUND(100.0 * (total_ms - baseline_total_ms) / NULLIF(baseline_total_ms, 0), 1) AS total_ms_change_pct,
+               ROUND(100.0 * (payload_bytes - baseline_payload_bytes) / NULLIF(baseline_payload_bytes, 0), 1)
+                   AS payload_change_pct,
+               COALESCE(total_ms > baseline_total_ms * (1 + ?), FALSE) AS regression
+        FROM trended
+        ORDER BY started_at DESC, id DESC
+        LIMIT ?
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SyncRunController(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * GET /api/admin/sync-runs?dataset=countries&limit=20 - Latest runs (any status) with per-table row diffs
+     */
+    @GetMapping
+    public List<Map<String, Object>> recentRuns(
+            @RequestParam(defaultValue = "countries") String dataset,
+            @RequestParam(defaultValue = "20") int limit) {
+        List<Map<String, Object>> runs = jdbcTemplate.queryForList(RECENT_SQL, dataset, limit);
+        if (runs.isEmpty()) {
+            return runs;
+        }
+
+        Map<Long, Map<String, Object>> byId = new LinkedHashMap<>();
+        for (Map<String, Object> run : runs) {
+            run.put("tables", new ArrayList<Map<String, Object>>());
+            byId.put(((Number) run.get("id")).longValue(), run);
+        }
+        for (Map<String, Object> table : jdbcTemplate.queryForList(TABLES_SQL,
+                (Object) byId.keySet().toArray(new Long[0]))) {
+            Map<String, Object> run = byId.get(((Number) table.remove("run_id")).longValue());
+            @SuppressWarnings("unchecked")
+            List<Map<String, Object>> runTables = (List<Map<String, Object>>) run.get("tables");
+            runTables.add(table);
+        }
+        return runs;
+    }
+
+    /**
+     * GET /api/admin/sync-runs/trends?dataset=countries&window=7&threshold=0.2&limit=30
+     *
+     * Successful runs, newest first, each compared with the average of the previous
+     * `window` successful runs: duration and payload change in percent, and
+     * regression = true when the run took more than (1 + threshold) times the baseline.
+     */
+    @GetMapping("/trends")
+    public List<Map<String, Object>> trends(
+            @RequestParam(defaultValue = "countries") String dataset,
+            @RequestParam(defaultValue = "7") int window,
+            @RequestParam(defaultValue = "0.2") double threshold,
+            @RequestParam(defaultValue = "30") int limit) {
+        return jdbcTemplate.queryForList(TRENDS_SQL, dataset, Math.max(1, window), threshold, limit);
+    }
+}
@@ -0,0 +1,190 @@
+package com.skillgrid.infrastructure.jdbc;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Records each reference data sync in sync_runs: phase durations, payload size and the
+ * rows inserted, updated and deleted per table (sync_run_tables).
+ *
+ * A run is inserted as RUNNING when it starts, so runs that never finish (killed
+ * process) remain visible, and is updated when it succeeds or fails. The ledger uses
+ * its own connections, so a sync that rolls back still leaves its run recorded.
+ *
+ * Plain JDBC on a DataSource, so it is shared by the Spring and the standalone loaders.
+ */
+public class SyncRunLedger {
+
+    public static final String STATUS_RUNNING = "RUNNING";
+    public static final String STATUS_SUCCEEDED = "SUCCEEDED";
+    public static final String STATUS_FAILED = "FAILED";
+
+    public static final String PHASE_FETCH = "fetch";
+    public static final String PHASE_PARSE = "parse";
+
+    private static final String START_SQL = """
+        INSERT INTO sync_runs (dataset, runner, status) VALUES (?, ?, 'RUNNING')
+        """;
+
+    private static final String FINISH_SQL = """
+        UPDATE sync_runs
+        SET status = ?, finished_at = CURRENT_TIMESTAMP, fetch_ms = ?, parse_ms = ?, write_ms = ?,
+            payload_bytes = ?, items = ?, resumed = ?, error = ?
+        WHERE id = ?
+        """;
+
+    private static final String TABLE_SQL = """
+        INSERT INTO sync_run_tables (run_id, table_name, inserted, updated, deleted)
+        VALUES (?, ?, ?, ?, ?)
+        """;
+
+    private final DataSource dataSource;
+
+    public SyncRunLedger(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * Row diff of one target table.
+     */
+    public record TableCounts(String table, int inserted, int updated, int deleted) {
+    }
+
+    /**
+     * Measurements of one run, filled in by the sync as it goes.
+     */
+    public static final class Run {
+
+        private final long id;
+        private final String dataset;
+        private final Map<String, Long> phaseNanos = new LinkedHashMap<>();
+        private final List<TableCounts> tables = new ArrayList<>();
+        private Long payloadBytes;
+        private Integer items;
+        private boolean resumed;
+
+        private Run(long id, String dataset) {
+            this.id = id;
+            this.dataset = dataset;
+        }
+
+        public long id() {
+            return id;
+        }
+
+        public void phase(String phase, long elapsedNanos) {
+            phaseNanos.merge(phase, elapsedNanos, Long::sum);
+        }
+
+        public void payloadBytes(long bytes) {
+            this.payloadBytes = bytes;
+        }
+
+        public void items(int items) {
+            this.items = items;
+        }
+
+        public void resumed(boolean resumed) {
+            this.resumed = resumed;
+        }
+
+        public void tables(List<TableCounts> counts) {
+            tables.clear();
+            tables.addAll(counts);
+        }
+
+        private Long millis(String phase) {
+            Long nanos = phaseNanos.get(phase);
+            return nanos != null ? nanos / 1_000_000 : null;
+        }
+
+        /**
+         * Everything after fetching and parsing (diff, clear, insert), or null if nothing was written.
+         */
+        private Long writeMillis() {
+            long nanos = 0;
+            boolean any = false;
+            for (Map.Entry<String, Long> entry : phaseNanos.entrySet()) {
+                if (!entry.getKey().equals(PHASE_FETCH) && !entry.getKey().equals(PHASE_PARSE)) {
+                    nanos += entry.getValue();
+                    any = true;
+                }
+            }
+            return any ? nanos / 1_000_000 : null;
+        }
+    }
+
+    public Run start(String dataset, String runner) throws SQLException {
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(START_SQL, Statement.RETURN_GENERATED_KEYS)) {
+            stmt.setString(1, dataset);
+            stmt.setString(2, runner);
+            stmt.executeUpdate();
+            try (ResultSet keys = stmt.getGeneratedKeys()) {
+                keys.next();
+                return new Run(keys.getLong("id"), dataset);
+            }
+        }
+    }
+
+    public void succeed(Run run) throws SQLException {
+        finish(run, STATUS_SUCCEEDED, null);
+    }
+
+    /**
+     * Marks the run as failed. Never throws, so the sync's own error is not masked.
+     */
+    public void fail(Run run, Exception error) {
+        try {
+            finish(run, STATUS_FAILED, String.valueOf(error.getMessage()));
+        } catch (SQLException e) {
+            System.err.println("❌ Could not record failed " + run.dataset + " sync run " + run.id
+                    + ": " + e.getMessage());
+        }
+    }
+
+    private void finish(Run run, String status, String error) throws SQLException {
+        try (Connection conn = dataSource.getConnection()) {
+            conn.setAutoCommit(false);
+            try {
+                try (PreparedStatement stmt = conn.prepareStatement(FINISH_SQL)) {
+                    stmt.setString(1, status);
+                    stmt.setObject(2, run.millis(PHASE_FETCH));
+                    stmt.setObject(3, run.millis(PHASE_PARSE));
+                    stmt.setObject(4, run.writeMillis());
+                    stmt.setObject(5, run.payloadBytes);
+                    stmt.setObject(6, run.items);
+                    stmt.setBoolean(7, run.resumed);
+                    stmt.setString(8, error);
+                    stmt.setLong(9, run.id);
+                    stmt.executeUpdate();
+                }
+                if (!run.tables.isEmpty()) {
+                    try (PreparedStatement stmt = conn.prepareStatement(TABLE_SQL)) {
+                        for (TableCounts counts : run.tables) {
+                            stmt.setLong(1, run.id);
+                            stmt.setString(2, counts.table());
+                            stmt.setInt(3, counts.inserted());
+                            stmt.setInt(4, counts.updated());
+                            stmt.setInt(5, counts.deleted());
+                            stmt.addBatch();
+                        }
+                        stmt.executeBatch();
+                    }
+                }
+                conn.commit();
+            } catch (SQLException | RuntimeException e) {
+                conn.rollback();
+                throw e;
+            }
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.skillgrid.infrastructure.security;
+
+import com.skillgrid.commons.ids.UserId;
+import com.skillgrid.commons.utils.Email;
+import com.skillgrid.infrastructure.email.EmailDomainPolicy;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * REST controller for signup, login (bearer token issue) and signing key rotation.
+ *
+ * Password hashing runs on {@link PasswordHashing}'s executor and the endpoints return
+ * futures, so request threads are not held for the BCrypt work. The account insert that
+ * follows a hash runs on the application task executor, so a slow database never holds
+ * one of the few hashing threads.
+ */
+@RestController
+public class AuthController {
+
+    private static final int MIN_PASSWORD_LENGTH = 8;
+    private static final int MAX_PASSWORD_BYTES = 72;   // BCrypt ignores anything longer
+
+    private final UserAccountRepository userAccounts;
+    private final PasswordHashing passwordHashing;
+    private final TokenService tokenService;
+    private final EmailDomainPolicy emailDomainPolicy;
+    private final AsyncTaskExecutor taskExecutor;
+
+    public AuthController(UserAccountRepository userAccounts, PasswordHashing passwordHashing,
+                          TokenService tokenService, EmailDomainPolicy emailDomainPolicy,
+                          @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+                          AsyncTaskExecutor taskExecutor) {
+        this.userAccounts = userAccounts;
+        this.passwordHashing = passwordHashing;
+        this.tokenService = tokenService;
+        this.emailDomainPolicy = emailDomainPolicy;
+        this.taskExecutor = taskExecutor;
+    }
+
+    public record Credentials(String email, String password) {
+    }
+
+    /**
+     * POST /api/auth/register {"email": "...", "password": "..."} - Create an account
+     */
+    @PostMapping("/api/auth/register")
+    public CompletableFuture<ResponseEntity<?>> register(@RequestBody Credentials credentials) {
+        Email email;
+        try {
+            email = Email.of(credentials.email());
+            emailDomainPolicy.requireAllowed(email);
+            validatePassword(credentials.password());
+        } catch (IllegalArgumentException | NullPointerException e) {
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().body("❌ " + e.getMessage()));
+        }
+
+        try {
+            return passwordHashing.hash(credentials.password())
+                    .thenApplyAsync(hash -> {
+                        try {
+                            UserAccountRepository.UserAccount account = userAccounts.create(email, hash);
+                            Map<String, Object> result = new LinkedHashMap<>();
+                            result.put("userId", account.id().toString());
+                            result.put("email", account.email());
+                            return ResponseEntity.status(HttpStatus.CREATED).body(result);
+                        } catch (DuplicateKeyException e) {
+                            return ResponseEntity.status(HttpStatus.CONFLICT)
+                                    .body("❌ An account already exists for " + email.value());
+                        }
+                    }, taskExecutor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.completedFuture(busy());
+        }
+    }
+
+    /**
+     * POST /api/auth/login {"email": "...", "password": "..."} - Issue a bearer token
+     */
+    @PostMapping("/api/auth/login")
+    public CompletableFuture<ResponseEntity<?>> login(@RequestBody Credentials credentials) {
+        if (credentials.email() == null || credentials.password() == null) {
+            return CompletableFuture.completedFuture(
+                    ResponseEntity.badRequest().body("❌ email and password are required"));
+        }
+        UserAccountRepository.UserAccount account = userAccounts.findByEmail(credentials.email().trim()).orElse(null);
+
+        try {
+            return passwordHashing.matches(credentials.password(), account != null ? account.passwordHash() : null)
+                    .thenApply(matches -> {
+                        if (!matches) {
+                            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("❌ Invalid email or password");
+                        }
+                        TokenService.IssuedToken issued = tokenService.issue(account.id());
+                        Map<String, Object> result = new LinkedHashMap<>();
+                        result.put("accessToken", issued.token());
+                        result.put("tokenType", "Bearer");
+                        result.put("expiresAt", issued.expiresAt());
+                        result.put("expiresIn", tokenService.tokenTtl().toSeconds());
+                        result.put("userId", issued.userId().toString());
+                        return ResponseEntity.ok(result);
+                    });
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.completedFuture(busy());
+        }
+    }
+
+    /**
+     * GET /api/auth/me - The user the bearer token belongs to
+     */
+    @GetMapping("/api/auth/me")
+    public Map<String, Object> me(@AuthenticationPrincipal UserId userId) {
+        return Map.of("userId", userId.toString());
+    }
+
+    /**
+     * POST /api/admin/auth/keys/rotate - Start signing with a new key; keys that stopped
+     * signing more than twice the token TTL ago are dropped
+     */
+    @PostMapping("/api/admin/auth/keys/rotate")
+    public ResponseEntity<String> rotateKey() {
+        String kid = tokenService.rotateKey();
+        return ResponseEntity.ok("✅ Token signing key rotated: " + kid + " (" + tokenService.keyCount()
+                + " keys active)");
+    }
+
+    private static void validatePassword(String password) {
+        if (password == null || password.length() < MIN_PASSWORD_LENGTH) {
+            throw new IllegalArgumentException("Password must have at least " + MIN_PASSWORD_LENGTH + " characters");
+        }
+        if (password.getBytes(StandardCharsets.UTF_8).length > MAX_PASSWORD_BYTES) {
+            throw new IllegalArgumentException("Password cannot exceed " + MAX_PASSWORD_BYTES + " bytes");
+        }
+    }
+
+    private static ResponseEntity<?> busy() {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body("❌ Too many logins in progress, retry shortly");
+    }
+}
@@ -0,0 +1,86 @@
+package com.skillgrid.infrastructure.security;
+
+import com.skillgrid.commons.ids.UserId;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.context.SecurityContextHolderStrategy;
+import org.springframework.security.web.context.RequestAttributeSecurityContextRepository;
+import org.springframework.security.web.context.SecurityContextRepository;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * Authenticates "Authorization: Bearer &lt;token&gt;" requests with {@link TokenService}.
+ *
+ * Stateless: nothing is stored in the session. The principal is the token's
+ * {@link UserId}; the context is also kept as a request attribute so async and error
+ * dispatches of the same request stay authenticated. Requests without a bearer token
+ * pass through unauthenticated; an invalid or expired token is answered with 401 here.
+ *
+ * Requests matching queryTokenRequests may instead pass the token as an access_token
+ * query parameter, for browser EventSource clients that cannot set headers. Query
+ * strings end up in access logs, so this is limited to those requests.
+ */
+public class BearerTokenAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    public static final String ACCESS_TOKEN_PARAMETER = "access_token";
+
+    private final TokenService tokenService;
+    private final RequestMatcher queryTokenRequests;
+    private final SecurityContextHolderStrategy securityContextHolderStrategy =
+            SecurityContextHolder.getContextHolderStrategy();
+    private final SecurityContextRepository securityContextRepository =
+            new RequestAttributeSecurityContextRepository();
+
+    public BearerTokenAuthenticationFilter(TokenService tokenService, RequestMatcher queryTokenRequests) {
+        this.tokenService = tokenService;
+        this.queryTokenRequests = queryTokenRequests;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String token = bearerToken(request);
+        if (token == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        UserId userId = tokenService.authenticate(token);
+        if (userId == null) {
+            securityContextHolderStrategy.clearContext();
+            response.setHeader(HttpHeaders.WWW_AUTHENTICATE, "Bearer error=\"invalid_token\"");
+            response.sendError(HttpServletResponse.SC_UNAUTHORIZED);
+            return;
+        }
+
+        SecurityContext context = securityContextHolderStrategy.createEmptyContext();
+        context.setAuthentication(UsernamePasswordAuthenticationToken.authenticated(
+                userId, null, AuthorityUtils.NO_AUTHORITIES));
+        securityContextHolderStrategy.setContext(context);
+        securityContextRepository.saveContext(context, request, response);
+        chain.doFilter(request, response);
+    }
+
+    private String bearerToken(HttpServletRequest request) {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header != null && header.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
+            return header.substring(BEARER_PREFIX.length()).trim();
+        }
+        if (header == null && queryTokenRequests.matches(request)) {
+            String token = request.getParameter(ACCESS_TOKEN_PARAMETER);
+            return token != null && !token.isBlank() ? token.trim() : null;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,92 @@
+package com.skillgrid.infrastructure.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * BCrypt hashing and verification for signup and login, on a dedicated bounded executor.
+ *
+ * Each BCrypt call burns tens of milliseconds of CPU by design. Running it on a few
+ * threads of its own (skillgrid.auth.hashing.threads) with a bounded queue keeps a burst
+ * of logins from occupying the request threads; when the queue is full the call is
+ * rejected with {@link RejectedExecutionException} and the caller answers 503.
+ */
+@Component
+public class PasswordHashing {
+
+    private final BCryptPasswordEncoder encoder;
+    private final ThreadPoolExecutor executor;
+    // Verified against for unknown users, so a login takes as long whether or not the account exists
+    private final String unknownUserHash;
+
+    private final Timer hashTimer;
+    private final Timer verifyTimer;
+    private final Counter rejected;
+
+    public PasswordHashing(MeterRegistry meterRegistry,
+                           @Value("${skillgrid.auth.bcrypt-strength:10}") int strength,
+                           @Value("${skillgrid.auth.hashing.threads:2}") int threads,
+                           @Value("${skillgrid.auth.hashing.queue-capacity:100}") int queueCapacity) {
+        this.encoder = new BCryptPasswordEncoder(strength);
+        this.unknownUserHash = encoder.encode("unknown-user");
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("password-hashing-", 0).daemon(true).factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.hashTimer = Timer.builder("skillgrid.auth.password.hashing")
+                .description("BCrypt time per call, on the hashing executor")
+                .tag("operation", "hash")
+                .register(meterRegistry);
+        this.verifyTimer = Timer.builder("skillgrid.auth.password.hashing")
+                .description("BCrypt time per call, on the hashing executor")
+                .tag("operation", "verify")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("skillgrid.auth.password.hashing.rejected")
+                .description("Hashing calls rejected because the executor queue was full")
+                .register(meterRegistry);
+        Gauge.builder("skillgrid.auth.password.hashing.queue", executor, e -> e.getQueue().size())
+                .description("Hashing calls waiting for a thread")
+                .register(meterRegistry);
+    }
+
+    public CompletableFuture<String> hash(String rawPassword) {
+        return submit(() -> hashTimer.record(() -> encoder.encode(rawPassword)));
+    }
+
+    /**
+     * True if the password matches the hash; a null hash (unknown user) never matches.
+     */
+    public CompletableFuture<Boolean> matches(String rawPassword, String hash) {
+        return submit(() -> verifyTimer.record(() -> {
+            boolean matches = encoder.matches(rawPassword, hash != null ? hash : unknownUserHash);
+            return matches && hash != null;
+        }));
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> work) {
+        try {
+            return CompletableFuture.supplyAsync(work, executor);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,138 @@
+package com.skillgrid.infrastructure.security;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import javax.crypto.spec.SecretKeySpec;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * HMAC keys for bearer tokens, read from auth_signing_keys and cached in memory.
+ *
+ * The newest key signs; every key in the table verifies, so tokens survive a rotation
+ * until they expire. A rotation records when the previous key stopped signing
+ * (retired_at), and a key is deleted only once every token it signed has expired.
+ * Verification never touches the database: a token signed with an unknown key id
+ * (rotated on another node) triggers at most one reload per refresh interval, and the
+ * cache is also refreshed on a schedule by {@link TokenService}.
+ * The first node to start with an empty table creates the initial key.
+ */
+public class SigningKeyStore {
+
+    public static final String ALGORITHM = "HmacSHA256";
+
+    private static final int SECRET_BYTES = 32;
+
+    // Retires the signing key(s) and adds the new one in one statement, so no key is
+    // left signing with a retired_at (it would be dropped while still in use)
+    private static final String INSERT_SQL = """
+        WITH retired AS (
+            UPDATE auth_signing_keys SET retired_at = CURRENT_TIMESTAMP WHERE retired_at IS NULL
+        )
+        INSERT INTO auth_signing_keys (kid, secret) VALUES (?, ?)
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long minReloadIntervalNanos;
+    private final SecureRandom random = new SecureRandom();
+
+    private volatile Keys keys;
+    private volatile long lastLoadNanos;
+
+    public SigningKeyStore(JdbcTemplate jdbcTemplate, Duration minReloadInterval) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.minReloadIntervalNanos = minReloadInterval.toNanos();
+    }
+
+    /**
+     * Snapshot of the keys: by id, and the id of the newest.
+     */
+    private record Keys(Map<String, SecretKeySpec> byId, String signingKid) {
+    }
+
+    /**
+     * Key id and key to sign new tokens with.
+     */
+    public record SigningKey(String kid, SecretKeySpec key) {
+    }
+
+    public SigningKey signingKey() {
+        Keys current = loaded();
+        return new SigningKey(current.signingKid, current.byId.get(current.signingKid));
+    }
+
+    /**
+     * The key with this id, or null if there is none even after a reload.
+     */
+    public SecretKeySpec verificationKey(String kid) {
+        SecretKeySpec key = loaded().byId.get(kid);
+        if (key == null && System.nanoTime() - lastLoadNanos > minReloadIntervalNanos) {
+            key = reload().byId.get(kid);
+        }
+        return key;
+    }
+
+    public int size() {
+        return loaded().byId.size();
+    }
+
+    /**
+     * Adds a new signing key, retiring the one that signed until now, and drops keys
+     * retired more than the retention ago. The retention must cover the token TTL: a key
+     * signs its last token when it is retired, so it is only dropped once that expired.
+     * Returns the new key id.
+     */
+    public synchronized String rotate(Duration retention) {
+        String kid = insertKey();
+        jdbcTemplate.update("""
+            DELETE FROM auth_signing_keys
+            WHERE retired_at < CURRENT_TIMESTAMP - make_interval(secs => ?)
+            """, (double) retention.toSeconds());
+        reload();
+        return kid;
+    }
+
+    /**
+     * Re-reads the keys, picking up rotations made on other nodes.
+     */
+    public void refresh() {
+        reload();
+    }
+
+    private synchronized Keys reload() {
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                "SELECT kid, secret FROM auth_signing_keys ORDER BY created_at, kid");
+        if (rows.isEmpty()) {
+            insertKey();
+            rows = jdbcTemplate.queryForList("SELECT kid, secret FROM auth_signing_keys ORDER BY created_at, kid");
+        }
+        Map<String, SecretKeySpec> byId = new HashMap<>();
+        String newest = null;
+        for (Map<String, Object> row : rows) {
+            newest = (String) row.get("kid");
+            byId.put(newest, new SecretKeySpec((byte[]) row.get("secret"), ALGORITHM));
+        }
+        keys = new Keys(Map.copyOf(byId), newest);
+        lastLoadNanos = System.nanoTime();
+        return keys;
+    }
+
+    private Keys loaded() {
+        Keys current = keys;
+        return current != null ? current : reload();
+    }
+
+    private String insertKey() {
+        byte[] secret = new byte[SECRET_BYTES];
+        random.nextBytes(secret);
+        byte[] id = new byte[8];
+        random.nextBytes(id);
+        String kid = HexFormat.of().formatHex(id);
+        jdbcTemplate.update(INSERT_SQL, kid, secret);
+        System.out.println("🔑 Token signing key " + kid + " created");
+        return kid;
+    }
+}
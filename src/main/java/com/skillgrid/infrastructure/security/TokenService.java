@@ -0,0 +1,179 @@
+package com.skillgrid.infrastructure.security;
+
+import com.skillgrid.commons.ids.UserId;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Issues and verifies stateless bearer tokens that resolve to a {@link UserId}.
+ *
+ * A token is kid.payload.signature: the payload (user id and expiry, base64url) is
+ * signed with HMAC-SHA256 under the key kid from the {@link SigningKeyStore}. Keys
+ * are cached in memory, so verification never reads the database, and tokens that
+ * already verified are remembered in a {@link VerifiedTokenCache} until they expire.
+ */
+@Service
+public class TokenService {
+
+    private static final int MAX_TOKEN_LENGTH = 256;
+    private static final int PAYLOAD_BYTES = 24;    // user id (16) + expiry epoch second (8)
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SigningKeyStore keys;
+    private final VerifiedTokenCache cache;
+    private final Duration tokenTtl;
+
+    private final Counter cachedTokens;
+    private final Counter verifiedTokens;
+    private final Counter rejectedTokens;
+
+    public TokenService(JdbcTemplate jdbcTemplate,
+                        MeterRegistry meterRegistry,
+                        @Value("${skillgrid.auth.token-ttl:1h}") Duration tokenTtl,
+                        @Value("${skillgrid.auth.token-cache.max-entries:100000}") int cacheEntries,
+                        @Value("${skillgrid.auth.keys.min-reload-interval:1s}") Duration minKeyReloadInterval) {
+        this.keys = new SigningKeyStore(jdbcTemplate, minKeyReloadInterval);
+        this.cache = new VerifiedTokenCache(cacheEntries, meterRegistry);
+        this.tokenTtl = tokenTtl;
+        this.cachedTokens = tokenCounter(meterRegistry, "cached");
+        this.verifiedTokens = tokenCounter(meterRegistry, "verified");
+        this.rejectedTokens = tokenCounter(meterRegistry, "rejected");
+    }
+
+    public record IssuedToken(String token, UserId userId, Instant expiresAt) {
+    }
+
+    public IssuedToken issue(UserId userId) {
+        Instant expiresAt = Instant.now().plus(tokenTtl);
+        ByteBuffer payload = ByteBuffer.allocate(PAYLOAD_BYTES)
+                .putLong(userId.value().getMostSignificantBits())
+                .putLong(userId.value().getLeastSignificantBits())
+                .putLong(expiresAt.getEpochSecond());
+        SigningKeyStore.SigningKey signingKey = keys.signingKey();
+        String signed = signingKey.kid() + "." + ENCODER.encodeToString(payload.array());
+        String token = signed + "." + ENCODER.encodeToString(sign(signingKey.key(), signed));
+        return new IssuedToken(token, userId, expiresAt);
+    }
+
+    /**
+     * The user the token was issued to, or null if it is malformed, forged or expired.
+     */
+    public UserId authenticate(String token) {
+        if (token.isEmpty() || token.length() > MAX_TOKEN_LENGTH) {
+            rejectedTokens.increment();
+            return null;
+        }
+        long now = Instant.now().getEpochSecond();
+        VerifiedTokenCache.TokenHash hash = hash(token);
+        UserId cached = cache.get(hash, now);
+        if (cached != null) {
+            cachedTokens.increment();
+            return cached;
+        }
+
+        int firstDot = token.indexOf('.');
+        int lastDot = token.lastIndexOf('.');
+        if (firstDot <= 0 || lastDot <= firstDot) {
+            rejectedTokens.increment();
+            return null;
+        }
+        try {
+            SecretKeySpec key = keys.verificationKey(token.substring(0, firstDot));
+            if (key == null
+                    || !MessageDigest.isEqual(sign(key, token.substring(0, lastDot)),
+                            DECODER.decode(token.substring(lastDot + 1)))) {
+                rejectedTokens.increment();
+                return null;
+            }
+            ByteBuffer payload = ByteBuffer.wrap(DECODER.decode(token.substring(firstDot + 1, lastDot)));
+            if (payload.remaining() != PAYLOAD_BYTES) {
+                rejectedTokens.increment();
+                return null;
+            }
+            UserId userId = new UserId(new UUID(payload.getLong(), payload.getLong()));
+            long expiresAt = payload.getLong();
+            if (expiresAt <= now) {
+                rejectedTokens.increment();
+                return null;
+            }
+            cache.put(hash, userId, expiresAt);
+            verifiedTokens.increment();
+            return userId;
+        } catch (IllegalArgumentException e) {
+            rejectedTokens.increment();
+            return null;
+        }
+    }
+
+    public Duration tokenTtl() {
+        return tokenTtl;
+    }
+
+    /**
+     * Starts signing with a new key; keys retired more than twice the token TTL ago (all
+     * their tokens expired, with a margin for clock skew and for nodes that sign with the
+     * old key until their next refresh) are dropped.
+     */
+    public String rotateKey() {
+        return keys.rotate(tokenTtl.multipliedBy(2));
+    }
+
+    public int keyCount() {
+        return keys.size();
+    }
+
+    /**
+     * Picks up keys rotated on other nodes.
+     */
+    @Scheduled(fixedDelayString = "${skillgrid.auth.keys.refresh-ms:60000}",
+            initialDelayString = "${skillgrid.auth.keys.refresh-ms:60000}")
+    public void refreshKeys() {
+        try {
+            keys.refresh();
+        } catch (Exception e) {
+            System.err.println("❌ Token signing keys could not be refreshed: " + e.getMessage());
+        }
+    }
+
+    private static byte[] sign(SecretKeySpec key, String signed) {
+        try {
+            Mac mac = Mac.getInstance(SigningKeyStore.ALGORITHM);
+            mac.init(key);
+            return mac.doFinal(signed.getBytes(StandardCharsets.US_ASCII));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC-SHA256 unavailable", e);
+        }
+    }
+
+    private static VerifiedTokenCache.TokenHash hash(String token) {
+        try {
+            ByteBuffer digest = ByteBuffer.wrap(MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.US_ASCII)));
+            return new VerifiedTokenCache.TokenHash(digest.getLong(), digest.getLong());
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("SHA-256 unavailable", e);
+        }
+    }
+
+    private static Counter tokenCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("skillgrid.auth.tokens")
+                .description("Bearer tokens checked, by outcome (cached, verified, rejected)")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
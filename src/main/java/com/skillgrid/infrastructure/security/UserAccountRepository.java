@@ -0,0 +1,44 @@
+package com.skillgrid.infrastructure.security;
+
+import com.skillgrid.commons.ids.UserId;
+import com.skillgrid.commons.utils.Email;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Login accounts in the users table. Emails are unique regardless of case.
+ */
+@Repository
+public class UserAccountRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public UserAccountRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public record UserAccount(UserId id, String email, String passwordHash) {
+    }
+
+    public Optional<UserAccount> findByEmail(String email) {
+        List<UserAccount> rows = jdbcTemplate.query(
+                "SELECT id, email, password_hash FROM users WHERE lower(email) = lower(?)",
+                (rs, rowNum) -> new UserAccount(new UserId(rs.getObject("id", UUID.class)),
+                        rs.getString("email"), rs.getString("password_hash")),
+                email);
+        return rows.stream().findFirst();
+    }
+
+    /**
+     * Inserts a new account; throws DuplicateKeyException if the email is taken.
+     */
+    public UserAccount create(Email email, String passwordHash) {
+        UserId id = new UserId(UUID.randomUUID());
+        jdbcTemplate.update("INSERT INTO users (id, email, password_hash) VALUES (?, ?, ?)",
+                id.value(), email.value(), passwordHash);
+        return new UserAccount(id, email.value(), passwordHash);
+    }
+}
@@ -0,0 +1,104 @@
+package com.skillgrid.infrastructure.security;
+
+import com.skillgrid.commons.ids.UserId;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+/**
+ * Bounded LRU of bearer tokens that already passed signature verification.
+ *
+ * Keyed by the first 128 bits of the token's SHA-256, so raw tokens are never kept in
+ * memory, and each entry lives until its token expires. A hit skips parsing and the
+ * HMAC check. A size of 0 disables the cache.
+ */
+public class VerifiedTokenCache {
+
+    private final int maxEntries;
+    private final LinkedHashMap<TokenHash, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter sizeEvictions;
+    private final Counter expirations;
+
+    public VerifiedTokenCache(int maxEntries, MeterRegistry meterRegistry) {
+        if (maxEntries < 0) {
+            throw new IllegalArgumentException("Cache size must not be negative");
+        }
+        this.maxEntries = maxEntries;
+        this.hits = Counter.builder("skillgrid.auth.token.cache.requests")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("skillgrid.auth.token.cache.requests")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.sizeEvictions = Counter.builder("skillgrid.auth.token.cache.evictions")
+                .tag("cause", "size")
+                .register(meterRegistry);
+        this.expirations = Counter.builder("skillgrid.auth.token.cache.evictions")
+                .tag("cause", "expiry")
+                .register(meterRegistry);
+        Gauge.builder("skillgrid.auth.token.cache.size", this, VerifiedTokenCache::size)
+                .description("Verified bearer tokens currently cached")
+                .register(meterRegistry);
+    }
+
+    /**
+     * First 128 bits of a token's SHA-256.
+     */
+    public record TokenHash(long high, long low) {
+    }
+
+    private record Entry(UserId userId, long expiresAtEpochSecond) {
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * The user of a cached, unexpired token, or null.
+     */
+    public UserId get(TokenHash hash, long nowEpochSecond) {
+        if (maxEntries == 0) {
+            return null;
+        }
+        Entry entry;
+        synchronized (this) {
+            entry = entries.get(hash);
+            if (entry != null && entry.expiresAtEpochSecond <= nowEpochSecond) {
+                entries.remove(hash);
+                expirations.increment();
+                entry = null;
+            }
+        }
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.userId;
+    }
+
+    public void put(TokenHash hash, UserId userId, long expiresAtEpochSecond) {
+        if (maxEntries == 0) {
+            return;
+        }
+        int evicted = 0;
+        synchronized (this) {
+            entries.put(hash, new Entry(userId, expiresAtEpochSecond));
+            Iterator<Entry> eldest = entries.values().iterator();
+            while (entries.size() > maxEntries && eldest.hasNext()) {
+                eldest.next();
+                eldest.remove();
+                evicted++;
+            }
+        }
+        if (evicted > 0) {
+            sizeEvictions.increment(evicted);
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.skillgrid.matching.application;
+
+import com.skillgrid.commons.ids.MemberId;
+import com.skillgrid.matching.domain.model.JobProfile;
+import com.skillgrid.matching.domain.model.MatchResult;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Bounded cache of match result lists, keyed by job profile and result limit.
+ *
+ * Entries are evicted least-recently-used beyond the maximum size and expire after
+ * a fixed TTL. A reverse index from member to cached keys lets a member change drop
+ * only the lists the member appears in; lists the member could newly enter are found
+ * with a predicate over the cached profiles.
+ *
+ * Every invalidation bumps a generation counter; a result computed before an
+ * invalidation is not stored, so a slow computation cannot reinsert stale data.
+ */
+public class MatchResultCache {
+
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final MatchResultCacheMetrics metrics;
+
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<MemberId, Set<Key>> keysByMember = new HashMap<>();
+    private long generation;
+
+    public MatchResultCache(int maxEntries, Duration ttl, MeterRegistry meterRegistry) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("Cache size must be positive");
+        }
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttl.toNanos();
+        this.metrics = new MatchResultCacheMetrics(meterRegistry, this::size);
+    }
+
+    public record Key(JobProfile profile, int limit) {
+    }
+
+    private record Entry(Key key, List<MatchResult> results, long expiresAt) {
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Current generation; pass it to {@link #put} with a result computed after reading it.
+     */
+    public synchronized long generation() {
+        return generation;
+    }
+
+    /**
+     * Cached results, or null on a miss or expired entry.
+     */
+    public synchronized List<MatchResult> get(Key key) {
+        Entry entry = entries.get(key);
+        if (entry != null && entry.expiresAt - System.nanoTime() < 0) {
+            remove(entry.key);
+            metrics.expired();
+            entry = null;
+        }
+        if (entry == null) {
+            metrics.miss();
+            return null;
+        }
+        metrics.hit();
+        return entry.results;
+    }
+
+    /**
+     * Stores results unless the cache was invalidated after the given generation.
+     */
+    public synchronized boolean put(Key key, List<MatchResult> results, long computedAtGeneration) {
+        if (computedAtGeneration != generation) {
+            return false;
+        }
+        remove(key);
+        Entry entry = new Entry(key, List.copyOf(results), System.nanoTime() + ttlNanos);
+        entries.put(key, entry);
+        for (MatchResult result : entry.results) {
+            keysByMember.computeIfAbsent(result.memberId(), id -> new HashSet<>()).add(key);
+        }
+
+        Iterator<Entry> eldest = entries.values().iterator();
+        while (entries.size() > maxEntries && eldest.hasNext()) {
+            Entry evicted = eldest.next();
+            eldest.remove();
+            unindex(evicted);
+            metrics.evicted();
+        }
+        return true;
+    }
+
+    /**
+     * Drops the lists containing the member, plus those whose profile matches the
+     * predicate (lists the member's new data could enter). Returns the entries dropped.
+     */
+    public synchronized int invalidateMember(MemberId memberId, Predicate<JobProfile> couldNowMatch) {
+        generation++;
+        int containing = 0;
+        Set<Key> keys = keysByMember.get(memberId);
+        if (keys != null) {
+            for (Key key : new ArrayList<>(keys)) {
+                if (remove(key)) {
+                    containing++;
+                }
+            }
+        }
+        metrics.invalidated(MatchResultCacheMetrics.CAUSE_MEMBER, containing);
+
+        int matching = 0;
+        List<Key> affected = new ArrayList<>();
+        for (Key key : entries.keySet()) {
+            if (couldNowMatch.test(key.profile)) {
+                affected.add(key);
+            }
+        }
+        for (Key key : affected) {
+            if (remove(key)) {
+                matching++;
+            }
+        }
+        metrics.invalidated(MatchResultCacheMetrics.CAUSE_CRITERIA, matching);
+        return containing + matching;
+    }
+
+    /**
+     * Drops everything, e.g. when the candidate pool is replaced.
+     */
+    public synchronized int invalidateAll() {
+        generation++;
+        int dropped = entries.size();
+        entries.clear();
+        keysByMember.clear();
+        metrics.invalidated(MatchResultCacheMetrics.CAUSE_CANDIDATES, dropped);
+        return dropped;
+    }
+
+    private boolean remove(Key key) {
+        Entry entry = entries.remove(key);
+        if (entry == null) {
+            return false;
+        }
+        unindex(entry);
+        return true;
+    }
+
+    private void unindex(Entry entry) {
+        for (MatchResult result : entry.results) {
+            Set<Key> keys = keysByMember.get(result.memberId());
+            if (keys != null) {
+                keys.remove(entry.key);
+                if (keys.isEmpty()) {
+                    keysByMember.remove(result.memberId());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.skillgrid.matching.application;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.function.IntSupplier;
+
+/**
+ * Micrometer instrumentation for the {@link MatchResultCache}.
+ * Exposed through /actuator/prometheus as skillgrid_matching_cache_*.
+ */
+public class MatchResultCacheMetrics {
+
+    public static final String CAUSE_MEMBER = "member";
+    public static final String CAUSE_CRITERIA = "criteria";
+    public static final String CAUSE_CANDIDATES = "candidates";
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter sizeEvictions;
+    private final Counter expirations;
+    private final Counter memberInvalidations;
+    private final Counter criteriaInvalidations;
+    private final Counter candidateInvalidations;
+    private final IntSupplier size;
+
+    public MatchResultCacheMetrics(MeterRegistry registry, IntSupplier size) {
+        this.size = size;
+        this.hits = Counter.builder("skillgrid.matching.cache.requests")
+                .tag("result", "hit")
+                .register(registry);
+        this.misses = Counter.builder("skillgrid.matching.cache.requests")
+                .tag("result", "miss")
+                .register(registry);
+        this.sizeEvictions = Counter.builder("skillgrid.matching.cache.evictions")
+                .tag("cause", "size")
+                .register(registry);
+        this.expirations = Counter.builder("skillgrid.matching.cache.evictions")
+                .tag("cause", "ttl")
+                .register(registry);
+        this.memberInvalidations = invalidations(registry, CAUSE_MEMBER);
+        this.criteriaInvalidations = invalidations(registry, CAUSE_CRITERIA);
+        this.candidateInvalidations = invalidations(registry, CAUSE_CANDIDATES);
+
+        Gauge.builder("skillgrid.matching.cache.size", this, m -> m.size.getAsInt())
+                .description("Match result lists currently cached")
+                .register(registry);
+        Gauge.builder("skillgrid.matching.cache.hit.ratio", this, MatchResultCacheMetrics::hitRatio)
+                .description("Hits over total lookups since startup")
+                .register(registry);
+    }
+
+    private static Counter invalidations(MeterRegistry registry, String cause) {
+        return Counter.builder("skillgrid.matching.cache.invalidations")
+                .description("Cache entries dropped because the underlying data changed")
+                .tag("cause", cause)
+                .register(registry);
+    }
+
+    void hit() {
+        hits.increment();
+    }
+
+    void miss() {
+        misses.increment();
+    }
+
+    void evicted() {
+        sizeEvictions.increment();
+    }
+
+    void expired() {
+        expirations.increment();
+    }
+
+    void invalidated(String cause, int entries) {
+        switch (cause) {
+            case CAUSE_MEMBER -> memberInvalidations.increment(entries);
+            case CAUSE_CRITERIA -> criteriaInvalidations.increment(entries);
+            default -> candidateInvalidations.increment(entries);
+        }
+    }
+
+    private double hitRatio() {
+        double total = hits.count() + misses.count();
+        return total == 0 ? 0 : hits.count() / total;
+    }
+}
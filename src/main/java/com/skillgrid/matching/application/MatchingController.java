@@ -0,0 +1,44 @@
+package com.skillgrid.matching.application;
+
+import com.skillgrid.matching.domain.model.JobProfile;
+import com.skillgrid.matching.domain.model.MatchResult;
+import com.skillgrid.members.domain.model.AgeBand;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import java.util.List;
+
+/**
+ * REST controller for paged candidate matching.
+ */
+@RestController
+public class MatchingController {
+
+    private final MatchingService matchingService;
+
+    public MatchingController(MatchingService matchingService) {
+        this.matchingService = matchingService;
+    }
+
+    /**
+     * GET /api/matching/candidates?country=AR&languages=es,en&ageBands=FROM_25_TO_34&offset=0&size=20
+     */
+    @GetMapping("/api/matching/candidates")
+    public ResponseEntity<?> candidates(@RequestParam String country,
+                                        @RequestParam(required = false) String region,
+                                        @RequestParam(defaultValue = "") List<String> languages,
+                                        @RequestParam(defaultValue = "") List<AgeBand> ageBands,
+                                        @RequestParam(defaultValue = "0") int offset,
+                                        @RequestParam(defaultValue = "20") int size) {
+        if (offset < 0 || size <= 0 || size > 500) {
+            return ResponseEntity.badRequest().body("❌ offset must be >= 0 and size between 1 and 500");
+        }
+        JobProfile.Builder profile = JobProfile.builder().countryCode(country).region(region);
+        languages.stream().filter(l -> !l.isBlank()).forEach(profile::language);
+        ageBands.forEach(profile::ageBand);
+
+        List<MatchResult> page = matchingService.match(profile.build(), offset, size);
+        return ResponseEntity.ok(page);
+    }
+}
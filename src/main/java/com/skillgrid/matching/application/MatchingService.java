@@ -0,0 +1,211 @@
+package com.skillgrid.matching.application;
+
+import com.skillgrid.commons.ids.MemberId;
+import com.skillgrid.infrastructure.CountryCatalog;
+import com.skillgrid.infrastructure.CountryCatalogChangedEvent;
+import com.skillgrid.infrastructure.CountryCatalogService;
+import com.skillgrid.matching.domain.model.JobProfile;
+import com.skillgrid.matching.domain.model.MatchResult;
+import com.skillgrid.matching.engine.CandidatePool;
+import com.skillgrid.matching.engine.MatchingEngine;
+import com.skillgrid.matching.infrastructure.CandidatePoolLoader;
+import com.skillgrid.members.domain.model.AgeBand;
+import com.skillgrid.members.infrastructure.MembersChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * Serves paged match results for job profiles from the current {@link CandidatePool}.
+ *
+ * The pool is built from member_view at startup and rebuilt whenever the country
+ * catalog changes (country ordinals and language masks depend on it). Member changes
+ * committed on any node ({@link MembersChangedEvent}) only mark the member as changed;
+ * every skillgrid.matching.pool.refresh-ms the changed members are re-read from
+ * member_view and merged into a new pool, and only then are the cache entries they
+ * can affect dropped, so the cache never holds results computed from a pool that
+ * predates the change.
+ *
+ * Pages are cut from a cached list whose limit is rounded up to {@value #PAGE_WINDOW},
+ * so paging back and forth through a profile hits the same cache entry.
+ */
+@Service
+public class MatchingService {
+
+    private static final int PAGE_WINDOW = 100;
+
+    private final MatchingEngine engine = new MatchingEngine();
+    private final MatchResultCache cache;
+    private final CountryCatalogService catalogService;
+    private final CandidatePoolLoader loader;
+    private final Set<MemberId> changedMembers = ConcurrentHashMap.newKeySet();
+
+    private volatile CandidatePool candidates;
+    private volatile boolean rebuildRequested;
+
+    public MatchingService(CountryCatalogService catalogService,
+                           CandidatePoolLoader loader,
+                           MeterRegistry meterRegistry,
+                           @Value("${skillgrid.matching.cache.max-entries:1000}") int maxEntries,
+                           @Value("${skillgrid.matching.cache.ttl:10m}") Duration ttl) {
+        this.catalogService = catalogService;
+        this.loader = loader;
+        this.candidates = CandidatePool.empty(catalogService.snapshot());
+        this.cache = new MatchResultCache(maxEntries, ttl, meterRegistry);
+    }
+
+    public List<MatchResult> match(JobProfile profile, int offset, int size) {
+        if (offset < 0 || size <= 0) {
+            throw new IllegalArgumentException("Offset must be >= 0 and size > 0");
+        }
+        int limit = ((offset + size + PAGE_WINDOW - 1) / PAGE_WINDOW) * PAGE_WINDOW;
+        MatchResultCache.Key key = new MatchResultCache.Key(profile, limit);
+
+        List<MatchResult> results = cache.get(key);
+        if (results == null) {
+            long generation = cache.generation();
+            results = engine.match(candidates, profile, limit);
+            cache.put(key, results, generation);
+        }
+        return offset >= results.size() ? List.of() : results.subList(offset, Math.min(results.size(), offset + size));
+    }
+
+    public CandidatePool candidates() {
+        return candidates;
+    }
+
+    /**
+     * Swaps in a new candidate snapshot; every cached list is dropped.
+     */
+    public void replaceCandidates(CandidatePool pool) {
+        candidates = pool;
+        cache.invalidateAll();
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuild();
+    }
+
+    @Async
+    @EventListener
+    public void onCatalogChanged(CountryCatalogChangedEvent event) {
+        rebuild();
+    }
+
+    /**
+     * Marks members changed on any node (delivered after the outbox batch committed); a
+     * resync schedules a full rebuild instead. Both are applied by the next refresh.
+     */
+    @EventListener
+    public void onMembersChanged(MembersChangedEvent event) {
+        if (event.resync()) {
+            rebuildRequested = true;
+        } else {
+            changedMembers.addAll(event.memberIds());
+        }
+    }
+
+    /**
+     * Builds the pool from member_view against the current catalog and swaps it in.
+     */
+    public synchronized void rebuild() {
+        long start = System.nanoTime();
+        // Changes marked from here on are re-read by the next refresh
+        changedMembers.clear();
+        CandidatePool pool;
+        try {
+            pool = loader.loadAll(catalogService.snapshot());
+        } catch (Exception e) {
+            System.err.println("❌ Candidate pool rebuild failed: " + e.getMessage());
+            return;
+        }
+        replaceCandidates(pool);
+        System.out.println("🎯 Candidate pool rebuilt: " + pool.size() + " candidates, "
+                + (pool.sizeInBytes() / (1024 * 1024)) + " MB in " + (System.nanoTime() - start) / 1_000_000 + " ms");
+    }
+
+    /**
+     * Merges the members changed since the last refresh into a new pool, then drops the
+     * cached lists they appear in or could now enter. Returns the members refreshed.
+     */
+    @Scheduled(fixedDelayString = "${skillgrid.matching.pool.refresh-ms:1000}")
+    public synchronized int refreshChangedMembers() {
+        if (rebuildRequested) {
+            rebuildRequested = false;
+            rebuild();
+            return 0;
+        }
+        if (changedMembers.isEmpty()) {
+            return 0;
+        }
+        List<MemberId> changed = new ArrayList<>(changedMembers);
+        changedMembers.removeAll(changed);
+
+        CandidatePool current = candidates;
+        CandidatePool updates;
+        try {
+            updates = loader.load(current.catalog(), changed);
+        } catch (Exception e) {
+            changedMembers.addAll(changed);
+            System.err.println("❌ Candidate pool refresh failed: " + e.getMessage());
+            return 0;
+        }
+        candidates = current.merge(updates);
+
+        for (MemberId memberId : changed) {
+            int slot = updates.slotOf(memberId);
+            cache.invalidateMember(memberId, slot >= 0 ? couldMatch(updates, slot) : profile -> false);
+        }
+        return changed.size();
+    }
+
+    /**
+     * Profiles the candidate at the slot scores on: same country or region, a shared
+     * language, or a wanted age band.
+     */
+    private static Predicate<JobProfile> couldMatch(CandidatePool pool, int slot) {
+        CountryCatalog catalog = pool.catalog();
+        int country = pool.countryAt(slot);
+        AgeBand band = pool.ageBandAt(slot);
+        Predicate<JobProfile> ageMatches = profile -> profile.ageBands().contains(band);
+        if (country == CountryCatalog.UNKNOWN) {
+            return ageMatches;
+        }
+
+        String region = catalog.regionName(catalog.region(country));
+        long[] languages = new long[catalog.languageWords()];
+        catalog.copyLanguageMask(country, languages, 0);
+        return ageMatches.or(profile -> catalog.ordinal(profile.countryId()) == country
+                || (region != null && region.equals(regionOf(profile, catalog)))
+                || overlaps(languages, catalog.languageMask(profile.languages())));
+    }
+
+    private static String regionOf(JobProfile profile, CountryCatalog catalog) {
+        if (profile.region() != null) {
+            return profile.region();
+        }
+        int country = catalog.ordinal(profile.countryId());
+        return country != CountryCatalog.UNKNOWN ? catalog.regionName(catalog.region(country)) : null;
+    }
+
+    private static boolean overlaps(long[] a, long[] b) {
+        for (int i = 0; i < a.length; i++) {
+            if ((a[i] & b[i]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
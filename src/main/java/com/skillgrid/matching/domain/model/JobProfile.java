@@ -0,0 +1,75 @@
+package com.skillgrid.matching.domain.model;
+
+import com.skillgrid.commons.ids.CountryId;
+import com.skillgrid.members.domain.model.AgeBand;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Value object describing what a job looks for in candidates.
+ * Region defaults to the region of the job's country; empty languages or age
+ * bands mean no preference on that criterion.
+ */
+public record JobProfile(
+    CountryId countryId,
+    String region,
+    Set<String> languages,
+    Set<AgeBand> ageBands,
+    MatchWeights weights
+) {
+
+    public JobProfile {
+        Objects.requireNonNull(countryId, "CountryId cannot be null");
+        languages = languages != null ? Set.copyOf(languages) : Set.of();
+        ageBands = ageBands != null ? Set.copyOf(ageBands) : Set.of();
+        weights = weights != null ? weights : MatchWeights.DEFAULT;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+        private CountryId countryId;
+        private String region;
+        private final Set<String> languages = new LinkedHashSet<>();
+        private final Set<AgeBand> ageBands = EnumSet.noneOf(AgeBand.class);
+        private MatchWeights weights = MatchWeights.DEFAULT;
+
+        public Builder countryId(CountryId countryId) {
+            this.countryId = countryId;
+            return this;
+        }
+
+        public Builder countryCode(String countryCode) {
+            this.countryId = CountryId.fromCode(countryCode);
+            return this;
+        }
+
+        public Builder region(String region) {
+            this.region = region;
+            return this;
+        }
+
+        public Builder language(String languageCode) {
+            this.languages.add(languageCode);
+            return this;
+        }
+
+        public Builder ageBand(AgeBand ageBand) {
+            this.ageBands.add(ageBand);
+            return this;
+        }
+
+        public Builder weights(MatchWeights weights) {
+            this.weights = weights;
+            return this;
+        }
+
+        public JobProfile build() {
+            return new JobProfile(countryId, region, languages, ageBands, weights);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.skillgrid.matching.domain.model;
+
+import com.skillgrid.commons.ids.MemberId;
+import java.util.Objects;
+
+/**
+ * Value object representing a scored candidate for a job profile.
+ */
+public record MatchResult(MemberId memberId, double score) {
+
+    public MatchResult {
+        Objects.requireNonNull(memberId, "MemberId cannot be null");
+    }
+}
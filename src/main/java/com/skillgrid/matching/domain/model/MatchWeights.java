@@ -0,0 +1,17 @@
+package com.skillgrid.matching.domain.model;
+
+/**
+ * Value object with the weight of each matching criterion.
+ * A candidate in the job's country earns the country weight; otherwise a candidate
+ * in the same region earns the region weight.
+ */
+public record MatchWeights(float country, float region, float language, float ageBand) {
+
+    public static final MatchWeights DEFAULT = new MatchWeights(4.0f, 1.5f, 3.0f, 1.0f);
+
+    public MatchWeights {
+        if (country < 0 || region < 0 || language < 0 || ageBand < 0) {
+            throw new IllegalArgumentException("Match weights cannot be negative");
+        }
+    }
+}
@@ -0,0 +1,291 @@
+package com.skillgrid.matching.engine;
+
+import com.skillgrid.commons.ids.CountryId;
+import com.skillgrid.commons.ids.MemberId;
+import com.skillgrid.infrastructure.CountryCatalog;
+import com.skillgrid.members.domain.model.AgeBand;
+import com.skillgrid.members.domain.model.Member;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Read-only, columnar snapshot of job-seeker candidates for the {@link MatchingEngine}.
+ *
+ * Each feature is a primitive array indexed by candidate slot (country and region
+ * ordinals of the {@link CountryCatalog} the pool was built against, age band ordinal,
+ * language bitmask of {@link CountryCatalog#languageWords()} longs), so a full scan
+ * touches a few dense arrays and allocates nothing per candidate.
+ *
+ * Slots are ordered by member id (unsigned, like PostgreSQL's uuid order), so a
+ * member's slot is found by binary search and {@link #merge} can patch a pool with
+ * changed candidates in one linear pass.
+ */
+public final class CandidatePool {
+
+    private final CountryCatalog catalog;
+    private final int size;
+    private final long[] idMsb;
+    private final long[] idLsb;
+    final short[] countries;
+    final short[] regions;
+    final byte[] ageBands;
+    final long[] languages;
+    final int languageWords;
+
+    private CandidatePool(CountryCatalog catalog, int size, long[] idMsb, long[] idLsb, short[] countries,
+                          short[] regions, byte[] ageBands, long[] languages, int languageWords) {
+        this.catalog = catalog;
+        this.size = size;
+        this.idMsb = idMsb;
+        this.idLsb = idLsb;
+        this.countries = countries;
+        this.regions = regions;
+        this.ageBands = ageBands;
+        this.languages = languages;
+        this.languageWords = languageWords;
+    }
+
+    public static CandidatePool empty(CountryCatalog catalog) {
+        return new Builder(catalog).build();
+    }
+
+    public CountryCatalog catalog() {
+        return catalog;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public MemberId memberIdAt(int slot) {
+        return new MemberId(new UUID(idMsb[slot], idLsb[slot]));
+    }
+
+    /**
+     * Country ordinal of the candidate at a slot, or {@link CountryCatalog#UNKNOWN}.
+     */
+    public int countryAt(int slot) {
+        return countries[slot];
+    }
+
+    public AgeBand ageBandAt(int slot) {
+        return AgeBand.fromOrdinal(ageBands[slot]);
+    }
+
+    /**
+     * Slot of a member, or -1 if the member is not in the pool.
+     */
+    public int slotOf(MemberId memberId) {
+        UUID id = memberId.value();
+        long msb = id.getMostSignificantBits();
+        long lsb = id.getLeastSignificantBits();
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = compare(idMsb[mid], idLsb[mid], msb, lsb);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * A new pool with the candidates of changes added, replacing those with the same
+     * member id. Both pools must be built against the same catalog.
+     */
+    public CandidatePool merge(CandidatePool changes) {
+        if (changes.catalog != catalog) {
+            throw new IllegalArgumentException("Candidate pools were built against different catalogs");
+        }
+        Builder merged = new Builder(catalog, size + changes.size);
+        int i = 0;
+        int j = 0;
+        while (i < size || j < changes.size) {
+            int cmp = i == size ? 1 : j == changes.size ? -1
+                    : compare(idMsb[i], idLsb[i], changes.idMsb[j], changes.idLsb[j]);
+            if (cmp < 0) {
+                merged.copy(this, i++);
+            } else {
+                merged.copy(changes, j++);
+                if (cmp == 0) {
+                    i++;
+                }
+            }
+        }
+        return merged.build();
+    }
+
+    /**
+     * Approximate heap footprint of the candidate columns.
+     */
+    public long sizeInBytes() {
+        return 16L * size + 2L * countries.length + 2L * regions.length + ageBands.length + 8L * languages.length;
+    }
+
+    private static int compare(long msbA, long lsbA, long msbB, long lsbB) {
+        int cmp = Long.compareUnsigned(msbA, msbB);
+        return cmp != 0 ? cmp : Long.compareUnsigned(lsbA, lsbB);
+    }
+
+    /**
+     * Collects candidates into growable primitive columns. {@link #build} orders them by
+     * member id; if a member is added more than once, the last one wins.
+     */
+    public static final class Builder {
+
+        private final CountryCatalog catalog;
+        private final int languageWords;
+        private final long[] scratch;
+        private long[] idMsb;
+        private long[] idLsb;
+        private short[] countries;
+        private short[] regions;
+        private byte[] ageBands;
+        private long[] languages;
+        private int size;
+
+        public Builder(CountryCatalog catalog) {
+            this(catalog, 1024);
+        }
+
+        public Builder(CountryCatalog catalog, int expectedSize) {
+            this.catalog = Objects.requireNonNull(catalog, "CountryCatalog cannot be null");
+            this.languageWords = catalog.languageWords();
+            this.scratch = new long[languageWords];
+            int capacity = Math.max(16, expectedSize);
+            this.idMsb = new long[capacity];
+            this.idLsb = new long[capacity];
+            this.countries = new short[capacity];
+            this.regions = new short[capacity];
+            this.ageBands = new byte[capacity];
+            this.languages = new long[capacity * languageWords];
+        }
+
+        /**
+         * Adds a member as a candidate: country and age band come from the member,
+         * languages from the member's country.
+         */
+        public Builder add(Member member) {
+            return add(member.getId().value(),
+                    member.getAddress() != null ? member.getAddress().countryId() : null, member.getAgeBand());
+        }
+
+        /**
+         * Adds a candidate living in the given country (null or unknown: none); languages
+         * are those of the country.
+         */
+        public Builder add(UUID memberId, CountryId countryId, AgeBand ageBand) {
+            int country = catalog.ordinal(countryId);
+            if (country != CountryCatalog.UNKNOWN) {
+                catalog.copyLanguageMask(country, scratch, 0);
+            } else {
+                Arrays.fill(scratch, 0L);
+            }
+            return add(memberId, country, scratch, ageBand);
+        }
+
+        public Builder add(MemberId memberId, String countryCode, Collection<String> languageCodes, AgeBand ageBand) {
+            return add(memberId.value(), catalog.ordinal(countryCode), catalog.languageMask(languageCodes), ageBand);
+        }
+
+        /**
+         * Adds a candidate by catalog ordinal; languageMask must have {@link CountryCatalog#languageWords()} words.
+         */
+        public Builder add(UUID memberId, int country, long[] languageMask, AgeBand ageBand) {
+            if (size == idMsb.length) {
+                grow(size * 2);
+            }
+            idMsb[size] = memberId.getMostSignificantBits();
+            idLsb[size] = memberId.getLeastSignificantBits();
+            countries[size] = (short) country;
+            regions[size] = (short) (country == CountryCatalog.UNKNOWN ? CountryCatalog.UNKNOWN : catalog.region(country));
+            ageBands[size] = (byte) (ageBand != null ? ageBand : AgeBand.UNKNOWN).ordinal();
+            System.arraycopy(languageMask, 0, languages, size * languageWords, languageWords);
+            size++;
+            return this;
+        }
+
+        /**
+         * Copies a slot of a pool built against the same catalog.
+         */
+        private void copy(CandidatePool pool, int slot) {
+            if (size == idMsb.length) {
+                grow(size * 2);
+            }
+            idMsb[size] = pool.idMsb[slot];
+            idLsb[size] = pool.idLsb[slot];
+            countries[size] = pool.countries[slot];
+            regions[size] = pool.regions[slot];
+            ageBands[size] = pool.ageBands[slot];
+            System.arraycopy(pool.languages, slot * languageWords, languages, size * languageWords, languageWords);
+            size++;
+        }
+
+        public CandidatePool build() {
+            if (!sortedAndUnique()) {
+                sort();
+            }
+            return new CandidatePool(catalog, size,
+                    Arrays.copyOf(idMsb, size), Arrays.copyOf(idLsb, size),
+                    Arrays.copyOf(countries, size), Arrays.copyOf(regions, size), Arrays.copyOf(ageBands, size),
+                    Arrays.copyOf(languages, size * languageWords), languageWords);
+        }
+
+        private boolean sortedAndUnique() {
+            for (int i = 1; i < size; i++) {
+                if (compare(idMsb[i - 1], idLsb[i - 1], idMsb[i], idLsb[i]) >= 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Orders the columns by member id, keeping the last added of equal ids.
+         */
+        private void sort() {
+            Integer[] order = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                order[i] = i;
+            }
+            // Stable: equal ids stay in insertion order
+            Arrays.sort(order, (a, b) -> compare(idMsb[a], idLsb[a], idMsb[b], idLsb[b]));
+
+            Builder sorted = new Builder(catalog, size);
+            CandidatePool unsorted = new CandidatePool(catalog, size, idMsb, idLsb, countries, regions, ageBands,
+                    languages, languageWords);
+            for (int k = 0; k < size; k++) {
+                int slot = order[k];
+                boolean lastOfId = k == size - 1 || compare(idMsb[slot], idLsb[slot],
+                        idMsb[order[k + 1]], idLsb[order[k + 1]]) != 0;
+                if (lastOfId) {
+                    sorted.copy(unsorted, slot);
+                }
+            }
+            idMsb = sorted.idMsb;
+            idLsb = sorted.idLsb;
+            countries = sorted.countries;
+            regions = sorted.regions;
+            ageBands = sorted.ageBands;
+            languages = sorted.languages;
+            size = sorted.size;
+        }
+
+        private void grow(int capacity) {
+            idMsb = Arrays.copyOf(idMsb, capacity);
+            idLsb = Arrays.copyOf(idLsb, capacity);
+            countries = Arrays.copyOf(countries, capacity);
+            regions = Arrays.copyOf(regions, capacity);
+            ageBands = Arrays.copyOf(ageBands, capacity);
+            languages = Arrays.copyOf(languages, capacity * languageWords);
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.skillgrid.matching.engine;
+
+import com.skillgrid.infrastructure.CountryCatalog;
+import com.skillgrid.matching.domain.model.JobProfile;
+import com.skillgrid.matching.domain.model.MatchResult;
+import com.skillgrid.matching.domain.model.MatchWeights;
+import com.skillgrid.members.domain.model.AgeBand;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Scores a {@link JobProfile} against every candidate of a {@link CandidatePool}.
+ *
+ * The pool is split into ranges with fork/join; each leaf scans its range over the
+ * primitive columns into its own bounded {@link TopK} heap, and heaps are merged
+ * pairwise on join. Only the final top-k are turned into objects.
+ */
+public class MatchingEngine {
+
+    private static final int MIN_PARTITION = 16_384;
+
+    private final ForkJoinPool forkJoinPool;
+
+    public MatchingEngine() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public MatchingEngine(ForkJoinPool forkJoinPool) {
+        this.forkJoinPool = forkJoinPool;
+    }
+
+    /**
+     * Best candidates for the profile, highest score first. Candidates scoring 0 are left out.
+     */
+    public List<MatchResult> match(CandidatePool candidates, JobProfile profile, int limit) {
+        if (limit <= 0 || candidates.size() == 0) {
+            return List.of();
+        }
+        Criteria criteria = Criteria.compile(profile, candidates.catalog());
+        int threshold = Math.max(MIN_PARTITION, candidates.size() / (forkJoinPool.getParallelism() * 4));
+
+        TopK top = forkJoinPool.invoke(new ScanTask(candidates, criteria, limit, threshold, 0, candidates.size()));
+
+        int[] slots = new int[top.size()];
+        float[] scores = new float[top.size()];
+        top.drainSorted(slots, scores);
+        List<MatchResult> results = new ArrayList<>(slots.length);
+        for (int i = 0; i < slots.length; i++) {
+            results.add(new MatchResult(candidates.memberIdAt(slots[i]), scores[i]));
+        }
+        return results;
+    }
+
+    /**
+     * Scores candidates [from, to) into a fresh heap.
+     */
+    static TopK scan(CandidatePool pool, Criteria criteria, int limit, int from, int to) {
+        TopK top = new TopK(limit);
+        short[] countries = pool.countries;
+        short[] regions = pool.regions;
+        byte[] ageBands = pool.ageBands;
+        long[] languages = pool.languages;
+        int words = pool.languageWords;
+        long[] required = criteria.languages;
+
+        int targetCountry = criteria.country;
+        int targetRegion = criteria.region;
+        float countryWeight = criteria.countryWeight;
+        float regionWeight = criteria.regionWeight;
+        float perLanguage = criteria.perLanguage;
+        float ageWeight = criteria.ageWeight;
+        int ageMask = criteria.ageMask;
+
+        float threshold = top.threshold();
+        for (int i = from; i < to; i++) {
+            float score = 0f;
+            int country = countries[i];
+            if (country == targetCountry) {
+                score += countryWeight;
+            } else if (regions[i] == targetRegion) {
+                score += regionWeight;
+            }
+
+            int overlap = 0;
+            int base = i * words;
+            for (int w = 0; w < words; w++) {
+                overlap += Long.bitCount(languages[base + w] & required[w]);
+            }
+            score += overlap * perLanguage;
+
+            if (((ageMask >>> ageBands[i]) & 1) != 0) {
+                score += ageWeight;
+            }
+
+            if (score > 0f && score >= threshold) {
+                top.offer(i, score);
+                threshold = top.threshold();
+            }
+        }
+        return top;
+    }
+
+    /**
+     * A job profile resolved against the pool's catalog. Unknown country or region
+     * resolve to a value no candidate column can hold, so they never match.
+     */
+    record Criteria(int country, int region, long[] languages, int ageMask,
+                    float countryWeight, float regionWeight, float perLanguage, float ageWeight) {
+
+        private static final int NO_MATCH = Integer.MIN_VALUE;
+
+        static Criteria compile(JobProfile profile, CountryCatalog catalog) {
+            MatchWeights weights = profile.weights();
+            int country = catalog.ordinal(profile.countryId());
+            int region = profile.region() != null ? catalog.regionOrdinal(profile.region())
+                    : country != CountryCatalog.UNKNOWN ? catalog.region(country) : CountryCatalog.UNKNOWN;
+
+            long[] languages = catalog.languageMask(profile.languages());
+            int requiredLanguages = 0;
+            for (long word : languages) {
+                requiredLanguages += Long.bitCount(word);
+            }
+
+            int ageMask = 0;
+            for (AgeBand band : profile.ageBands()) {
+                ageMask |= 1 << band.ordinal();
+            }
+
+            return new Criteria(
+                    country == CountryCatalog.UNKNOWN ? NO_MATCH : country,
+                    region == CountryCatalog.UNKNOWN ? NO_MATCH : region,
+                    languages,
+                    ageMask,
+                    weights.country(),
+                    weights.region(),
+                    requiredLanguages > 0 ? weights.language() / requiredLanguages : 0f,
+                    weights.ageBand());
+        }
+    }
+
+    private static final class ScanTask extends RecursiveTask<TopK> {
+
+        private final CandidatePool pool;
+        private final Criteria criteria;
+        private final int limit;
+        private final int threshold;
+        private final int from;
+        private final int to;
+
+        ScanTask(CandidatePool pool, Criteria criteria, int limit, int threshold, int from, int to) {
+            this.pool = pool;
+            this.criteria = criteria;
+            this.limit = limit;
+            this.threshold = threshold;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected TopK compute() {
+            if (to - from <= threshold) {
+                return scan(pool, criteria, limit, from, to);
+            }
+            int mid = (from + to) >>> 1;
+            ScanTask left = new ScanTask(pool, criteria, limit, threshold, from, mid);
+            left.fork();
+            TopK right = new ScanTask(pool, criteria, limit, threshold, mid, to).compute();
+            TopK merged = left.join();
+            merged.addAll(right);
+            return merged;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.skillgrid.matching.engine;
+
+/**
+ * Bounded min-heap of (slot, score) pairs keeping the best entries seen.
+ * Higher scores win; equal scores prefer the lower slot, so results are deterministic
+ * regardless of how the scan was partitioned.
+ */
+final class TopK {
+
+    private final int[] slots;
+    private final float[] scores;
+    private int size;
+
+    TopK(int capacity) {
+        this.slots = new int[capacity];
+        this.scores = new float[capacity];
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Score an entry must beat to enter a full heap.
+     */
+    float threshold() {
+        return size < slots.length ? Float.NEGATIVE_INFINITY : scores[0];
+    }
+
+    void offer(int slot, float score) {
+        if (size < slots.length) {
+            slots[size] = slot;
+            scores[size] = score;
+            siftUp(size++);
+        } else if (size > 0 && better(score, slot, scores[0], slots[0])) {
+            slots[0] = slot;
+            scores[0] = score;
+            siftDown();
+        }
+    }
+
+    void addAll(TopK other) {
+        for (int i = 0; i < other.size; i++) {
+            offer(other.slots[i], other.scores[i]);
+        }
+    }
+
+    /**
+     * Drains the heap into slots/scores ordered best first.
+     */
+    void drainSorted(int[] outSlots, float[] outScores) {
+        for (int n = size - 1; n >= 0; n--) {
+            outSlots[n] = slots[0];
+            outScores[n] = scores[0];
+            size--;
+            slots[0] = slots[size];
+            scores[0] = scores[size];
+            siftDown();
+        }
+    }
+
+    private static boolean better(float score, int slot, float otherScore, int otherSlot) {
+        return score > otherScore || (score == otherScore && slot < otherSlot);
+    }
+
+    private void siftUp(int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!better(scores[parent], slots[parent], scores[index], slots[index])) {
+                return;
+            }
+            swap(parent, index);
+            index = parent;
+        }
+    }
+
+    private void siftDown() {
+        int index = 0;
+        while (true) {
+            int left = 2 * index + 1;
+            if (left >= size) {
+                return;
+            }
+            int worst = left + 1 < size && better(scores[left], slots[left], scores[left + 1], slots[left + 1])
+                    ? left + 1 : left;
+            if (!better(scores[index], slots[index], scores[worst], slots[worst])) {
+                return;
+            }
+            swap(index, worst);
+            index = worst;
+        }
+    }
+
+    private void swap(int a, int b) {
+        int s = slots[a]; slots[a] = slots[b]; slots[b] = s;
+        float f = scores[a]; scores[a] = scores[b]; scores[b] = f;
+    }
+}
@@ -0,0 +1,82 @@
+package com.skillgrid.matching.infrastructure;
+
+import com.skillgrid.commons.ids.CountryId;
+import com.skillgrid.commons.ids.MemberId;
+import com.skillgrid.infrastructure.CountryCatalog;
+import com.skillgrid.matching.engine.CandidatePool;
+import com.skillgrid.members.domain.model.AgeBand;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Builds {@link CandidatePool}s from member_view, where country and age band are
+ * already resolved for every member.
+ */
+@Component
+public class CandidatePoolLoader {
+
+    private static final int FETCH_SIZE = 10_000;
+
+    private static final String ALL_SQL = """
+        SELECT member_id, country_id, age_band FROM member_view ORDER BY member_id
+        """;
+
+    private static final String SOME_SQL = """
+        SELECT member_id, country_id, age_band FROM member_view WHERE member_id = ANY(?) ORDER BY member_id
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CandidatePoolLoader(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Every member as a candidate, read through a cursor.
+     */
+    public CandidatePool loadAll(CountryCatalog catalog) {
+        return jdbcTemplate.execute((ConnectionCallback<CandidatePool>) conn -> {
+            // The PostgreSQL driver only uses a cursor (and honours the fetch size) inside a transaction
+            conn.setAutoCommit(false);
+            try (PreparedStatement stmt = conn.prepareStatement(ALL_SQL)) {
+                stmt.setFetchSize(FETCH_SIZE);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    return read(rs, new CandidatePool.Builder(catalog, FETCH_SIZE));
+                }
+            } finally {
+                conn.rollback();
+                conn.setAutoCommit(true);
+            }
+        });
+    }
+
+    /**
+     * The given members as candidates; members missing from member_view are left out.
+     */
+    public CandidatePool load(CountryCatalog catalog, Collection<MemberId> memberIds) {
+        UUID[] ids = memberIds.stream().map(MemberId::value).toArray(UUID[]::new);
+        return jdbcTemplate.execute((ConnectionCallback<CandidatePool>) conn -> {
+            try (PreparedStatement stmt = conn.prepareStatement(SOME_SQL)) {
+                stmt.setArray(1, conn.createArrayOf("uuid", ids));
+                try (ResultSet rs = stmt.executeQuery()) {
+                    return read(rs, new CandidatePool.Builder(catalog, ids.length));
+                }
+            }
+        });
+    }
+
+    private static CandidatePool read(ResultSet rs, CandidatePool.Builder builder) throws SQLException {
+        while (rs.next()) {
+            UUID countryId = rs.getObject(2, UUID.class);
+            builder.add(rs.getObject(1, UUID.class), countryId != null ? new CountryId(countryId) : null,
+                    AgeBand.valueOf(rs.getString(3)));
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,21 @@
+package com.skillgrid.members.domain.event;
+
+import com.skillgrid.commons.ids.MemberId;
+import com.skillgrid.members.domain.model.Address;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Event: a member changed their address (null when removed).
+ */
+public record MemberAddressChanged(
+    MemberId memberId,
+    Address address,
+    LocalDateTime occurredAt
+) implements MemberEvent {
+
+    public MemberAddressChanged {
+        Objects.requireNonNull(memberId, "MemberId cannot be null");
+        Objects.requireNonNull(occurredAt, "OccurredAt cannot be null");
+    }
+}
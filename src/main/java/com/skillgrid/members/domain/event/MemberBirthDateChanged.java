@@ -0,0 +1,21 @@
+package com.skillgrid.members.domain.event;
+
+import com.skillgrid.commons.ids.MemberId;
+import com.skillgrid.members.domain.model.BirthDate;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Event: a member changed their birth date (null when removed).
+ */
+public record MemberBirthDateChanged(
+    MemberId memberId,
+    BirthDate birthDate,
+    LocalDateTime occurredAt
+) implements MemberEvent {
+
+    public MemberBirthDateChanged {
+        Objects.requireNonNull(memberId, "MemberId cannot be null");
+        Objects.requireNonNull(occurredAt, "OccurredAt cannot be null");
+    }
+}
@@ -0,0 +1,21 @@
+package com.skillgrid.members.domain.event;
+
+import com.skillgrid.commons.ids.MemberId;
+import com.skillgrid.members.domain.model.ContactInfo;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Event: a member changed their contact information.
+ */
+public record MemberContactInfoChanged(
+    MemberId memberId,
+    ContactInfo contactInfo,
+    LocalDateTime occurredAt
+) implements MemberEvent {
+
+    public MemberContactInfoChanged {
+        Objects.requireNonNull(memberId, "MemberId cannot be null");
+        Objects.requireNonNull(occurredAt, "OccurredAt cannot be null");
+    }
+}
@@ -0,0 +1,17 @@
+package com.skillgrid.members.domain.event;
+
+import com.skillgrid.commons.ids.MemberId;
+import java.time.LocalDateTime;
+
+/**
+ * Domain event recorded by {@link com.skillgrid.members.domain.model.Member} when it changes.
+ * Events carry the new values, so subscribers do not need to reload the member.
+ */
+public sealed interface MemberEvent
+        permits MemberRegistered, MemberNameChanged, MemberContactInfoChanged,
+                MemberAddressChanged, MemberBirthDateChanged {
+
+    MemberId memberId();
+
+    LocalDateTime occurredAt();
+}
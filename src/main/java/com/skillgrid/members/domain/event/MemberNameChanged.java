@@ -0,0 +1,21 @@
+package com.skillgrid.members.domain.event;
+
+import com.skillgrid.commons.ids.MemberId;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Event: a member changed their name.
+ */
+public record MemberNameChanged(
+    MemberId memberId,
+    String firstName,
+    String lastName,
+    LocalDateTime occurredAt
+) implements MemberEvent {
+
+    public MemberNameChanged {
+        Objects.requireNonNull(memberId, "MemberId cannot be null");
+        Objects.requireNonNull(occurredAt, "OccurredAt cannot be null");
+    }
+}
@@ -0,0 +1,23 @@
+package com.skillgrid.members.domain.event;
+
+import com.skillgrid.commons.ids.MemberId;
+import com.skillgrid.members.domain.model.ContactInfo;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Event: a new member was created.
+ */
+public record MemberRegistered(
+    MemberId memberId,
+    String firstName,
+    String lastName,
+    ContactInfo contactInfo,
+    LocalDateTime occurredAt
+) implements MemberEvent {
+
+    public MemberRegistered {
+        Objects.requireNonNull(memberId, "MemberId cannot be null");
+        Objects.requireNonNull(occurredAt, "OccurredAt cannot be null");
+    }
+}
@@ -0,0 +1,49 @@
+package com.skillgrid.members.domain.model;
+
+/**
+ * Coarse age range used for matching and listings.
+ * Ordinals are stable and used as bit positions in age band masks.
+ */
+public enum AgeBand {
+    UNKNOWN(0, -1),
+    FROM_16_TO_24(16, 24),
+    FROM_25_TO_34(25, 34),
+    FROM_35_TO_44(35, 44),
+    FROM_45_TO_54(45, 54),
+    FROM_55(55, Integer.MAX_VALUE);
+
+    private static final AgeBand[] VALUES = values();
+
+    private final int minAge;
+    private final int maxAge;
+
+    AgeBand(int minAge, int maxAge) {
+        this.minAge = minAge;
+        this.maxAge = maxAge;
+    }
+
+    public static AgeBand fromAge(int age) {
+        for (int i = 1; i < VALUES.length; i++) {
+            if (age >= VALUES[i].minAge && age <= VALUES[i].maxAge) {
+                return VALUES[i];
+            }
+        }
+        return UNKNOWN;
+    }
+
+    public static AgeBand of(BirthDate birthDate) {
+        return birthDate != null ? fromAge(birthDate.getAge()) : UNKNOWN;
+    }
+
+    public static AgeBand fromOrdinal(int ordinal) {
+        return VALUES[ordinal];
+    }
+
+    public int getMinAge() {
+        return minAge;
+    }
+
+    public int getMaxAge() {
+        return maxAge;
+    }
+}
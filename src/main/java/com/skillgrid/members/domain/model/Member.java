@@ -3,12 +3,21 @@ package com.skillgrid.members.domain.model;
 import com.skillgrid.commons.ids.MemberId;
 import com.skillgrid.commons.utils.Email;
 import com.skillgrid.commons.utils.Phone;
+import com.skillgrid.members.domain.event.MemberAddressChanged;
+import com.skillgrid.members.domain.event.MemberBirthDateChanged;
+import com.skillgrid.members.domain.event.MemberContactInfoChanged;
+import com.skillgrid.members.domain.event.MemberEvent;
+import com.skillgrid.members.domain.event.MemberNameChanged;
+import com.skillgrid.members.domain.event.MemberRegistered;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 
 /**
  * Domain entity representing a Member.
  * Contains individual identity information outside the platform.
+ * Changes return a new instance that carries the domain events recorded so far.
  */
 public class Member {
 
@@ -20,9 +29,11 @@ public class Member {
     private BirthDate birthDate;
     private final LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private final List<MemberEvent> domainEvents;
 
     private Member(MemberId id, String firstName, String lastName, ContactInfo contactInfo,
-                  Address address, BirthDate birthDate, LocalDateTime createdAt, LocalDateTime updatedAt) {
+                  Address address, BirthDate birthDate, LocalDateTime createdAt, LocalDateTime updatedAt,
+                  List<MemberEvent> domainEvents) {
         this.id = Objects.requireNonNull(id, "MemberId cannot be null");
         this.firstName = Objects.requireNonNull(firstName, "First name cannot be null");
         this.lastName = Objects.requireNonNull(lastName, "Last name cannot be null");
@@ -32,16 +43,20 @@ public class Member {
         this.birthDate = birthDate;
         this.createdAt = Objects.requireNonNull(createdAt, "CreatedAt cannot be null");
         this.updatedAt = Objects.requireNonNull(updatedAt, "UpdatedAt cannot be null");
+        this.domainEvents = domainEvents;
     }
 
     public static Member create(MemberId id, String firstName, String lastName, ContactInfo contactInfo) {
         LocalDateTime now = LocalDateTime.now();
-        return new Member(id, firstName, lastName, contactInfo, null, null, now, now);
+        Member member = new Member(id, firstName, lastName, contactInfo, null, null, now, now, new ArrayList<>());
+        member.domainEvents.add(new MemberRegistered(id, firstName, lastName, contactInfo, now));
+        return member;
     }
 
     public static Member rehydrate(MemberId id, String firstName, String lastName, ContactInfo contactInfo,
                                   Address address, BirthDate birthDate, LocalDateTime createdAt, LocalDateTime updatedAt) {
-        return new Member(id, firstName, lastName, contactInfo, address, birthDate, createdAt, updatedAt);
+        return new Member(id, firstName, lastName, contactInfo, address, birthDate, createdAt, updatedAt,
+                new ArrayList<>());
     }
 
     public static Builder builder() {
@@ -104,6 +119,7 @@ public class Member {
         Objects.requireNonNull(firstName, "First name cannot be null");
         Objects.requireNonNull(lastName, "Last name cannot be null");
 
+        LocalDateTime now = LocalDateTime.now();
         return new Member(
             this.id,
             firstName,
@@ -112,7 +128,8 @@ public class Member {
             this.address,
             this.birthDate,
             this.createdAt,
-            LocalDateTime.now()
+            now,
+            recordEvent(new MemberNameChanged(this.id, firstName, lastName, now))
         );
     }
 
@@ -131,6 +148,7 @@ public class Member {
     public Member changeContactInfo(ContactInfo contactInfo) {
         Objects.requireNonNull(contactInfo, "ContactInfo cannot be null");
 
+        LocalDateTime now = LocalDateTime.now();
         return new Member(
             this.id,
             this.firstName,
@@ -139,7 +157,8 @@ public class Member {
             this.address,
             this.birthDate,
             this.createdAt,
-            LocalDateTime.now()
+            now,
+            recordEvent(new MemberContactInfoChanged(this.id, contactInfo, now))
         );
     }
 
@@ -156,6 +175,7 @@ public class Member {
     }
 
     public Member changeAddress(Address address) {
+        LocalDateTime now = LocalDateTime.now();
         return new Member(
             this.id,
             this.firstName,
@@ -164,7 +184,8 @@ public class Member {
             address,
             this.birthDate,
             this.createdAt,
-            LocalDateTime.now()
+            now,
+            recordEvent(new MemberAddressChanged(this.id, address, now))
         );
     }
 
@@ -173,6 +194,7 @@ public class Member {
     }
 
     public Member changeBirthDate(BirthDate birthDate) {
+        LocalDateTime now = LocalDateTime.now();
         return new Member(
             this.id,
             this.firstName,
@@ -181,7 +203,8 @@ public class Member {
             this.address,
             birthDate,
             this.createdAt,
-            LocalDateTime.now()
+            now,
+            recordEvent(new MemberBirthDateChanged(this.id, birthDate, now))
         );
     }
 
@@ -189,6 +212,10 @@ public class Member {
         return birthDate != null ? birthDate.getAge() : 0;
     }
 
+    public AgeBand getAgeBand() {
+        return AgeBand.of(birthDate);
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -197,6 +224,29 @@ public class Member {
         return updatedAt;
     }
 
+    /**
+     * Domain events recorded since the member was loaded or the events were last pulled.
+     */
+    public List<MemberEvent> getDomainEvents() {
+        return List.copyOf(domainEvents);
+    }
+
+    /**
+     * Returns the recorded domain events and clears them, so they are published once.
+     */
+    public List<MemberEvent> pullDomainEvents() {
+        List<MemberEvent> events = List.copyOf(domainEvents);
+        domainEvents.clear();
+        return events;
+    }
+
+    private List<MemberEvent> recordEvent(MemberEvent event) {
+        List<MemberEvent> events = new ArrayList<>(domainEvents.size() + 1);
+        events.addAll(domainEvents);
+        events.add(event);
+        return events;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
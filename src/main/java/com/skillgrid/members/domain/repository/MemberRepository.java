@@ -0,0 +1,29 @@
+package com.skillgrid.members.domain.repository;
+
+import com.skillgrid.commons.ids.CountryId;
+import com.skillgrid.commons.ids.MemberId;
+import com.skillgrid.members.domain.model.Member;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository for the Member aggregate.
+ * Saving a member also stores the domain events it recorded, atomically with the change.
+ */
+public interface MemberRepository {
+
+    void save(Member member);
+
+    /**
+     * Bulk save (imports, backfills) in one transaction.
+     */
+    void saveAll(Collection<Member> members);
+
+    Optional<Member> findById(MemberId id);
+
+    /**
+     * Members of a country ordered by name; null countryId means members without an address.
+     */
+    List<Member> findByCountry(CountryId countryId, int offset, int limit);
+}
@@ -0,0 +1,214 @@
+package com.skillgrid.members.infrastructure;
+
+import com.skillgrid.commons.ids.CityId;
+import com.skillgrid.commons.ids.CountryId;
+import com.skillgrid.commons.ids.MemberId;
+import com.skillgrid.commons.utils.Email;
+import com.skillgrid.commons.utils.Phone;
+import com.skillgrid.members.domain.event.MemberEvent;
+import com.skillgrid.members.domain.model.Address;
+import com.skillgrid.members.domain.model.BirthDate;
+import com.skillgrid.members.domain.model.ContactInfo;
+import com.skillgrid.members.domain.model.Member;
+import com.skillgrid.members.domain.repository.MemberRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * JDBC implementation of {@link MemberRepository}.
+ *
+ * The member rows and their pending domain events (member_outbox) are written in one
+ * transaction; events are cleared from the members only after the commit. Dispatching
+ * happens later in {@link MemberOutboxRelay}, off the write path.
+ *
+ * Every statement targets the members parent table, whatever its layout (plain table
+ * before {@link MemberPartitionMigrator} swaps it, country-partitioned after). Country
+ * reads bind country_id, so the planner prunes to the country's partition at execution
+ * time; writes update by id, so a country change moves the row to its new partition.
+ * No node has to know the current partitions, which another node may have just changed.
+ */
+@Repository
+public class JdbcMemberRepository implements MemberRepository {
+
+    private static final String COLUMNS = """
+        id, first_name, last_name, email, phone,
+        address_line1, address_line2, city_id, state, country_id, postal_code,
+        birth_date, created_at, updated_at
+        """;
+
+    // Updates by id so a country change moves the row to its new partition
+    private static final String UPDATE_SQL = """
+        UPDATE members SET
+            first_name = ?, last_name = ?, email = ?, phone = ?,
+            address_line1 = ?, address_line2 = ?, city_id = ?, state = ?, country_id = ?, postal_code = ?,
+            birth_date = ?, updated_at = ?
+        WHERE id = ?
+        """;
+
+    private static final String INSERT_SQL =
+            "INSERT INTO members (" + COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String OUTBOX_SQL = """
+        INSERT INTO member_outbox (member_id, event_type, payload, occurred_at)
+        VALUES (?, ?, ?::jsonb, ?)
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MemberEventCodec codec;
+
+    public JdbcMemberRepository(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                                MemberEventCodec codec) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.codec = codec;
+    }
+
+    @Override
+    public void save(Member member) {
+        List<MemberEvent> events = member.getDomainEvents();
+        transactionTemplate.executeWithoutResult(status -> {
+            int updated = jdbcTemplate.update(UPDATE_SQL, ps -> {
+                bindUpdatable(ps, member, 1);
+                ps.setObject(13, member.getId().value());
+            });
+            if (updated == 0) {
+                jdbcTemplate.update(INSERT_SQL, ps -> bindRow(ps, member));
+            }
+            writeOutbox(events);
+        });
+        member.pullDomainEvents();
+    }
+
+    /**
+     * Saves the members in one transaction with two batches: updates by id, then inserts
+     * of the members no update found. If a member appears more than once, the last one wins.
+     */
+    @Override
+    public void saveAll(Collection<Member> members) {
+        if (members.isEmpty()) {
+            return;
+        }
+        Map<MemberId, Member> byId = new LinkedHashMap<>();
+        for (Member member : members) {
+            byId.put(member.getId(), member);
+        }
+        List<Member> unique = new ArrayList<>(byId.values());
+        List<MemberEvent> events = new ArrayList<>();
+        members.forEach(member -> events.addAll(member.getDomainEvents()));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            int[] updated = jdbcTemplate.batchUpdate(UPDATE_SQL, unique, unique.size(), (ps, member) -> {
+                bindUpdatable(ps, member, 1);
+                ps.setObject(13, member.getId().value());
+            })[0];
+            List<Member> inserts = new ArrayList<>();
+            for (int i = 0; i < updated.length; i++) {
+                if (updated[i] == 0) {
+                    inserts.add(unique.get(i));
+                }
+            }
+            if (!inserts.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_SQL, inserts, inserts.size(), JdbcMemberRepository::bindRow);
+            }
+            writeOutbox(events);
+        });
+        members.forEach(Member::pullDomainEvents);
+    }
+
+    @Override
+    public Optional<Member> findById(MemberId id) {
+        List<Member> members = jdbcTemplate.query("SELECT " + COLUMNS + " FROM members WHERE id = ?",
+                (rs, rowNum) -> mapMember(rs), id.value());
+        return members.stream().findFirst();
+    }
+
+    @Override
+    public List<Member> findByCountry(CountryId countryId, int offset, int limit) {
+        UUID country = countryId != null ? countryId.value() : MemberPartitionRouter.NO_COUNTRY;
+        return jdbcTemplate.query("SELECT " + COLUMNS + """
+                 FROM members
+                WHERE country_id = ?
+                ORDER BY last_name, first_name, id
+                LIMIT ? OFFSET ?
+                """, (rs, rowNum) -> mapMember(rs), country, limit, offset);
+    }
+
+    private void writeOutbox(List<MemberEvent> events) {
+        if (!events.isEmpty()) {
+            jdbcTemplate.batchUpdate(OUTBOX_SQL, events, events.size(), (ps, event) -> {
+                ps.setObject(1, event.memberId().value());
+                ps.setString(2, codec.type(event));
+                ps.setString(3, codec.encode(event));
+                ps.setTimestamp(4, Timestamp.valueOf(event.occurredAt()));
+            });
+        }
+    }
+
+    private static UUID countryIdOf(Member member) {
+        return member.getAddress() != null ? member.getAddress().countryId().value() : MemberPartitionRouter.NO_COUNTRY;
+    }
+
+    private static void bindRow(PreparedStatement ps, Member member) throws SQLException {
+        ps.setObject(1, member.getId().value());
+        bindUpdatable(ps, member, 2);
+        ps.setTimestamp(14, Timestamp.valueOf(member.getCreatedAt()));
+    }
+
+    /**
+     * Binds first_name .. birth_date and updated_at (12 parameters) starting at index.
+     */
+    private static void bindUpdatable(PreparedStatement ps, Member member, int index) throws SQLException {
+        Address address = member.getAddress();
+        ps.setString(index, member.getFirstName());
+        ps.setString(index + 1, member.getLastName());
+        ps.setString(index + 2, member.getEmail());
+        ps.setString(index + 3, member.getPhone());
+        ps.setString(index + 4, address != null ? address.line1() : null);
+        ps.setString(index + 5, address != null ? address.line2() : null);
+        ps.setObject(index + 6, address != null ? address.cityId().value() : null);
+        ps.setString(index + 7, address != null ? address.state() : null);
+        ps.setObject(index + 8, countryIdOf(member));
+        ps.setString(index + 9, address != null ? address.postalCode() : null);
+        ps.setDate(index + 10, member.getBirthDate() != null ? Date.valueOf(member.getBirthDate().toLocalDate()) : null);
+        ps.setTimestamp(index + 11, Timestamp.valueOf(member.getUpdatedAt()));
+    }
+
+    static Member mapMember(ResultSet rs) throws SQLException {
+        String phone = rs.getString("phone");
+        ContactInfo contactInfo = new ContactInfo(Email.of(rs.getString("email")),
+                phone != null ? Phone.of(phone) : null);
+
+        Address address = null;
+        UUID countryId = rs.getObject("country_id", UUID.class);
+        if (countryId != null && !countryId.equals(MemberPartitionRouter.NO_COUNTRY)) {
+            address = new Address(rs.getString("address_line1"), rs.getString("address_line2"),
+                    new CityId(rs.getObject("city_id", UUID.class)), rs.getString("state"),
+                    new CountryId(countryId), rs.getString("postal_code"));
+        }
+
+        Date birthDate = rs.getDate("birth_date");
+        return Member.rehydrate(
+                new MemberId(rs.getObject("id", UUID.class)),
+                rs.getString("first_name"),
+                rs.getString("last_name"),
+                contactInfo,
+                address,
+                birthDate != null ? BirthDate.of(birthDate.toLocalDate()) : null,
+                rs.getTimestamp("created_at").toLocalDateTime(),
+                rs.getTimestamp("updated_at").toLocalDateTime());
+    }
+}
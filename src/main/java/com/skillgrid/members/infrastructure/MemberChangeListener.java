@@ -0,0 +1,175 @@
+package com.skillgrid.members.infrastructure;
+
+import com.skillgrid.commons.ids.MemberId;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import jakarta.annotation.PreDestroy;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Fans member changes out to every node.
+ *
+ * The outbox relay is a competing consumer: each batch is dispatched on whichever node
+ * claimed it, so in-process {@code @EventListener}s on MemberEvent only suit idempotent
+ * database-side projections. When a batch commits, the relay also sends NOTIFY
+ * member_changes with each member id ({@link #publish}). Every node LISTENs on a
+ * dedicated connection and publishes a {@link MembersChangedEvent} locally, which is
+ * what node-local state (candidate pool, result caches) subscribes to. Notifications
+ * sent while disconnected are lost, so every (re)connect publishes a resync.
+ */
+@Component
+@ConditionalOnProperty(name = "skillgrid.members.changes.listen.enabled", havingValue = "true", matchIfMissing = true)
+public class MemberChangeListener implements Runnable {
+
+    public static final String CHANNEL = "member_changes";
+
+    // Queued in the caller's transaction, sent on commit; duplicates within it are collapsed
+    private static final String PUBLISH_SQL = "SELECT pg_notify('member_changes', id) FROM unnest(?::text[]) AS id";
+
+    private final ApplicationEventPublisher eventPublisher;
+    private final String url;
+    private final String username;
+    private final String password;
+    private final int pollMillis;
+    private final long reconnectDelayMillis;
+
+    private volatile boolean running;
+    private volatile Connection connection;
+    private Thread thread;
+
+    public MemberChangeListener(ApplicationEventPublisher eventPublisher,
+                                @Value("${spring.datasource.url}") String url,
+                                @Value("${spring.datasource.username}") String username,
+                                @Value("${spring.datasource.password}") String password,
+                                @Value("${skillgrid.members.changes.listen.poll-ms:500}") int pollMillis,
+                                @Value("${skillgrid.members.changes.listen.reconnect-delay-ms:5000}") long reconnectDelayMillis) {
+        this.eventPublisher = eventPublisher;
+        this.url = url;
+        this.username = username;
+        this.password = password;
+        this.pollMillis = pollMillis;
+        this.reconnectDelayMillis = reconnectDelayMillis;
+    }
+
+    /**
+     * Notifies all listening nodes that these members changed. The notifications are
+     * delivered when the connection's transaction commits.
+     */
+    public static void publish(Connection conn, Collection<MemberId> memberIds) throws SQLException {
+        if (memberIds.isEmpty()) {
+            return;
+        }
+        Array ids = conn.createArrayOf("text", memberIds.stream().map(MemberId::toString).toArray());
+        try (PreparedStatement ps = conn.prepareStatement(PUBLISH_SQL)) {
+            ps.setArray(1, ids);
+            ps.executeQuery().close();
+        } finally {
+            ids.free();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        thread = Thread.ofPlatform().name("member-change-listener").daemon().start(this);
+    }
+
+    @PreDestroy
+    public synchronized void stop() throws InterruptedException {
+        if (!running) {
+            return;
+        }
+        running = false;
+        closeConnection();    // unblocks a pending getNotifications
+        thread.interrupt();
+        thread.join(reconnectDelayMillis);
+    }
+
+    @Override
+    public void run() {
+        while (running) {
+            try {
+                listen();
+            } catch (Exception e) {
+                if (!running) {
+                    break;
+                }
+                System.err.println("❌ Member change listener disconnected: " + e.getMessage());
+            } finally {
+                closeConnection();
+            }
+            sleepBeforeReconnect();
+        }
+    }
+
+    private void listen() throws SQLException {
+        connection = DriverManager.getConnection(url, username, password);
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("LISTEN " + CHANNEL);
+        }
+        PGConnection pg = connection.unwrap(PGConnection.class);
+        System.out.println("📡 Listening for member changes on channel " + CHANNEL);
+
+        // Anything committed while we were not listening is unknown
+        eventPublisher.publishEvent(MembersChangedEvent.resyncAll());
+
+        while (running) {
+            PGNotification[] notifications = pg.getNotifications(pollMillis);
+            if (notifications == null || notifications.length == 0) {
+                continue;
+            }
+            Set<MemberId> memberIds = new LinkedHashSet<>();
+            boolean resync = false;
+            for (PGNotification notification : notifications) {
+                try {
+                    memberIds.add(MemberId.of(notification.getParameter().trim()));
+                } catch (IllegalArgumentException e) {
+                    // Unknown payload: resync rather than miss a change
+                    resync = true;
+                }
+            }
+            eventPublisher.publishEvent(new MembersChangedEvent(memberIds, resync));
+        }
+    }
+
+    private void closeConnection() {
+        Connection conn = connection;
+        connection = null;
+        if (conn != null) {
+            try {
+                conn.close();
+            } catch (SQLException ignored) {
+                // already broken
+            }
+        }
+    }
+
+    private void sleepBeforeReconnect() {
+        if (!running) {
+            return;
+        }
+        try {
+            Thread.sleep(reconnectDelayMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.skillgrid.members.infrastructure;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.skillgrid.commons.ids.CityId;
+import com.skillgrid.commons.ids.CountryId;
+import com.skillgrid.commons.ids.MemberId;
+import com.skillgrid.commons.utils.Email;
+import com.skillgrid.commons.utils.Phone;
+import com.skillgrid.members.domain.event.MemberAddressChanged;
+import com.skillgrid.members.domain.event.MemberBirthDateChanged;
+import com.skillgrid.members.domain.event.MemberContactInfoChanged;
+import com.skillgrid.members.domain.event.MemberEvent;
+import com.skillgrid.members.domain.event.MemberNameChanged;
+import com.skillgrid.members.domain.event.MemberRegistered;
+import com.skillgrid.members.domain.model.Address;
+import com.skillgrid.members.domain.model.BirthDate;
+import com.skillgrid.members.domain.model.ContactInfo;
+import org.springframework.stereotype.Component;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Converts member domain events to and from the flat JSON stored in member_outbox.payload.
+ * The event type is stored separately (event_type) as the record's simple name.
+ */
+@Component
+public class MemberEventCodec {
+
+    private final ObjectMapper objectMapper;
+
+    public MemberEventCodec(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public String type(MemberEvent event) {
+        return event.getClass().getSimpleName();
+    }
+
+    public String encode(MemberEvent event) {
+        ObjectNode node = objectMapper.createObjectNode();
+        node.put("memberId", event.memberId().toString());
+        node.put("occurredAt", event.occurredAt().toString());
+        switch (event) {
+            case MemberRegistered e -> {
+                node.put("firstName", e.firstName());
+                node.put("lastName", e.lastName());
+                writeContactInfo(node, e.contactInfo());
+            }
+            case MemberNameChanged e -> {
+                node.put("firstName", e.firstName());
+                node.put("lastName", e.lastName());
+            }
+            case MemberContactInfoChanged e -> writeContactInfo(node, e.contactInfo());
+            case MemberAddressChanged e -> writeAddress(node, e.address());
+            case MemberBirthDateChanged e ->
+                    node.put("birthDate", e.birthDate() != null ? e.birthDate().toLocalDate().toString() : null);
+        }
+        try {
+            return objectMapper.writeValueAsString(node);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not encode " + type(event), e);
+        }
+    }
+
+    public MemberEvent decode(String type, String payload) {
+        JsonNode node;
+        try {
+            node = objectMapper.readTree(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Invalid " + type + " payload", e);
+        }
+        MemberId memberId = MemberId.of(node.get("memberId").asText());
+        LocalDateTime occurredAt = LocalDateTime.parse(node.get("occurredAt").asText());
+        return switch (type) {
+            case "MemberRegistered" -> new MemberRegistered(memberId, text(node, "firstName"), text(node, "lastName"),
+                    readContactInfo(node), occurredAt);
+            case "MemberNameChanged" -> new MemberNameChanged(memberId, text(node, "firstName"),
+                    text(node, "lastName"), occurredAt);
+            case "MemberContactInfoChanged" -> new MemberContactInfoChanged(memberId, readContactInfo(node), occurredAt);
+            case "MemberAddressChanged" -> new MemberAddressChanged(memberId, readAddress(node), occurredAt);
+            case "MemberBirthDateChanged" -> new MemberBirthDateChanged(memberId,
+                    text(node, "birthDate") != null ? BirthDate.of(LocalDate.parse(text(node, "birthDate"))) : null,
+                    occurredAt);
+            default -> throw new IllegalArgumentException("Unknown member event type: " + type);
+        };
+    }
+
+    private void writeContactInfo(ObjectNode node, ContactInfo contactInfo) {
+        node.put("email", contactInfo.getEmailValue());
+        node.put("phone", contactInfo.getPhoneValue());
+    }
+
+    private ContactInfo readContactInfo(JsonNode node) {
+        String phone = text(node, "phone");
+        return new ContactInfo(Email.of(text(node, "email")), phone != null ? Phone.of(phone) : null);
+    }
+
+    private void writeAddress(ObjectNode node, Address address) {
+        if (address == null) {
+            node.putNull("address");
+            return;
+        }
+        ObjectNode a = node.putObject("address");
+        a.put("line1", address.line1());
+        a.put("line2", address.line2());
+        a.put("cityId", address.cityId().toString());
+        a.put("state", address.state());
+        a.put("countryId", address.countryId().toString());
+        a.put("postalCode", address.postalCode());
+    }
+
+    private Address readAddress(JsonNode node) {
+        JsonNode a = node.get("address");
+        if (a == null || a.isNull()) {
+            return null;
+        }
+        return new Address(text(a, "line1"), text(a, "line2"), CityId.of(text(a, "cityId")), text(a, "state"),
+                CountryId.of(text(a, "countryId")), text(a, "postalCode"));
+    }
+
+    private static String text(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+}
@@ -0,0 +1,58 @@
+package com.skillgrid.members.infrastructure;
+
+import com.skillgrid.commons.ids.CountryId;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+
+/**
+ * REST controller for full member exports (NDJSON, streamed).
+ */
+@RestController
+@RequestMapping("/api/members/export")
+public class MemberExportController {
+
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private final MemberExporter exporter;
+
+    public MemberExportController(MemberExporter exporter) {
+        this.exporter = exporter;
+    }
+
+    /**
+     * GET /api/members/export?country=AR - All members (of a country), one JSON object per line
+     */
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> export(@RequestParam(required = false) String country) {
+        CountryId countryId = null;
+        if (country != null) {
+            if (!country.matches("[A-Za-z]{2,3}")) {
+                String message = "❌ Invalid country code: " + country;
+                return ResponseEntity.badRequest().contentType(MediaType.TEXT_PLAIN)
+                        .body(out -> out.write(message.getBytes(StandardCharsets.UTF_8)));
+            }
+            countryId = CountryId.fromCode(country.toUpperCase());
+        }
+        CountryId filter = countryId;
+        StreamingResponseBody body = out -> {
+            try {
+                exporter.export(filter, out);
+            } catch (SQLException e) {
+                throw new IllegalStateException("Member export failed: " + e.getMessage(), e);
+            }
+        };
+        String filename = "members" + (country != null ? "-" + country.toLowerCase() : "") + ".ndjson";
+        return ResponseEntity.ok()
+                .contentType(NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                .body(body);
+    }
+}
@@ -0,0 +1,162 @@
+package com.skillgrid.members.infrastructure;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skillgrid.commons.ids.CountryId;
+import com.skillgrid.infrastructure.jdbc.DataSourceRoute;
+import com.skillgrid.members.domain.model.Address;
+import com.skillgrid.members.domain.model.Member;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Streams members as NDJSON (one JSON object per line).
+ *
+ * Rows are read through a server-side cursor (autocommit off + fetch size), mapped
+ * through {@link Member#rehydrate} one at a time and written straight to the output
+ * stream, flushed every chunk of rows. Only one fetch window and the generator buffer
+ * are held in memory, whatever the size of the export.
+ *
+ * A country export reads the members parent table with country_id bound: the planner
+ * prunes to the country's partition at execution time, so the query does not depend on
+ * this node's (possibly stale) view of the partition layout, nor on the replica having
+ * caught up with it.
+ */
+@Component
+public class MemberExporter {
+
+    private static final String COLUMNS = """
+        id, first_name, last_name, email, phone,
+        address_line1, address_line2, city_id, state, country_id, postal_code,
+        birth_date, created_at, updated_at
+        """;
+
+    private final DataSource dataSource;
+    private final ObjectMapper objectMapper;
+    private final int fetchSize;
+    private final int flushRows;
+    private final Counter exportedRows;
+    private final Timer exportTimer;
+
+    public MemberExporter(DataSource dataSource,
+                          ObjectMapper objectMapper,
+                          MeterRegistry meterRegistry,
+                          @Value("${skillgrid.members.export.fetch-size:1000}") int fetchSize,
+                          @Value("${skillgrid.members.export.flush-rows:1000}") int flushRows) {
+        this.dataSource = dataSource;
+        this.objectMapper = objectMapper;
+        this.fetchSize = fetchSize;
+        this.flushRows = flushRows;
+        this.exportedRows = Counter.builder("skillgrid.members.export.rows")
+                .description("Members written by NDJSON exports")
+                .register(meterRegistry);
+        this.exportTimer = Timer.builder("skillgrid.members.export")
+                .description("Duration of member NDJSON exports")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Summary of one export.
+     */
+    public record ExportReport(long rows, long elapsedMillis) {
+
+        public double rowsPerSecond() {
+            return rows / Math.max(elapsedMillis / 1000.0, 1e-3);
+        }
+    }
+
+    /**
+     * Writes the members of a country (or all members if countryId is null) to out.
+     * The stream is flushed but not closed. Reads from the read replica when one is configured.
+     */
+    public ExportReport export(CountryId countryId, OutputStream out) throws IOException, SQLException {
+        try (DataSourceRoute.Scope ignored = DataSourceRoute.REPLICA.open()) {
+            return exportRows(countryId, out);
+        }
+    }
+
+    private ExportReport exportRows(CountryId countryId, OutputStream out) throws IOException, SQLException {
+        long start = System.nanoTime();
+        long rows = 0;
+
+        String sql = countryId != null
+                ? "SELECT " + COLUMNS + " FROM members WHERE country_id = ? ORDER BY id"
+                : "SELECT " + COLUMNS + " FROM members ORDER BY country_id, id";
+
+        try (Connection conn = dataSource.getConnection()) {
+            // The PostgreSQL driver only uses a cursor (and honours the fetch size) inside a transaction
+            conn.setAutoCommit(false);
+            conn.setReadOnly(true);
+            try (PreparedStatement stmt = conn.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY,
+                    ResultSet.CONCUR_READ_ONLY);
+                 JsonGenerator json = objectMapper.getFactory().createGenerator(out)) {
+                json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                stmt.setFetchSize(fetchSize);
+                if (countryId != null) {
+                    stmt.setObject(1, countryId.value());
+                }
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        write(json, JdbcMemberRepository.mapMember(rs));
+                        if (++rows % flushRows == 0) {
+                            json.flush();
+                            exportedRows.increment(flushRows);
+                        }
+                    }
+                }
+                json.flush();
+                exportedRows.increment(rows % flushRows);
+            } finally {
+                conn.rollback();
+                conn.setReadOnly(false);
+                conn.setAutoCommit(true);
+            }
+        }
+
+        long elapsedNanos = System.nanoTime() - start;
+        exportTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        ExportReport report = new ExportReport(rows, elapsedNanos / 1_000_000);
+        System.out.printf("📤 Exported %d members in %d ms (%.0f rows/s)%n",
+                report.rows(), report.elapsedMillis(), report.rowsPerSecond());
+        return report;
+    }
+
+    private static void write(JsonGenerator json, Member member) throws IOException {
+        json.writeStartObject();
+        json.writeStringField("id", member.getId().toString());
+        json.writeStringField("firstName", member.getFirstName());
+        json.writeStringField("lastName", member.getLastName());
+        json.writeStringField("email", member.getEmail());
+        json.writeStringField("phone", member.getPhone());
+        Address address = member.getAddress();
+        if (address == null) {
+            json.writeNullField("address");
+        } else {
+            json.writeObjectFieldStart("address");
+            json.writeStringField("line1", address.line1());
+            json.writeStringField("line2", address.line2());
+            json.writeStringField("cityId", address.cityId().toString());
+            json.writeStringField("state", address.state());
+            json.writeStringField("countryId", address.countryId().toString());
+            json.writeStringField("postalCode", address.postalCode());
+            json.writeEndObject();
+        }
+        json.writeStringField("birthDate",
+                member.getBirthDate() != null ? member.getBirthDate().toLocalDate().toString() : null);
+        json.writeStringField("createdAt", member.getCreatedAt().toString());
+        json.writeStringField("updatedAt", member.getUpdatedAt().toString());
+        json.writeEndObject();
+        json.writeRaw('\n');
+    }
+}
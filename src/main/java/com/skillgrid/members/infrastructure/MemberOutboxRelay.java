@@ -0,0 +1,126 @@
+package com.skillgrid.members.infrastructure;
+
+import com.skillgrid.commons.ids.MemberId;
+import com.skillgrid.members.domain.event.MemberEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Drains member_outbox in batches and dispatches the events to in-process subscribers
+ * (Spring {@code @EventListener}s).
+ *
+ * Each batch is claimed and deleted in one statement with FOR UPDATE SKIP LOCKED, so
+ * several nodes can drain concurrently without blocking each other. Dispatch runs in
+ * the same transaction: if a subscriber fails, the batch is rolled back and retried.
+ *
+ * Each event is therefore seen by one node only, and possibly more than once: only
+ * idempotent database-side projections (such as {@link MemberViewProjector}) may
+ * subscribe to MemberEvent directly. The batch also notifies the changed member ids
+ * to every node ({@link MemberChangeListener}); node-local state subscribes to
+ * {@link MembersChangedEvent} instead.
+ */
+@Component
+@ConditionalOnProperty(name = "skillgrid.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class MemberOutboxRelay {
+
+    private static final String CLAIM_SQL = """
+        DELETE FROM member_outbox
+        WHERE id IN (
+            SELECT id FROM member_outbox
+            ORDER BY id
+            LIMIT ?
+            FOR UPDATE SKIP LOCKED
+        )
+        RETURNING id, event_type, payload::text
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MemberEventCodec codec;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+    private final Counter dispatched;
+    private final Counter failures;
+    private final Timer batchTimer;
+
+    public MemberOutboxRelay(JdbcTemplate jdbcTemplate,
+                             TransactionTemplate transactionTemplate,
+                             MemberEventCodec codec,
+                             ApplicationEventPublisher eventPublisher,
+                             MeterRegistry meterRegistry,
+                             @Value("${skillgrid.outbox.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.codec = codec;
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+        this.dispatched = Counter.builder("skillgrid.outbox.dispatched")
+                .description("Member events dispatched from the outbox")
+                .register(meterRegistry);
+        this.failures = Counter.builder("skillgrid.outbox.failures")
+                .description("Outbox batches rolled back because a subscriber failed")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("skillgrid.outbox.batch")
+                .description("Time to claim, dispatch and commit one outbox batch")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${skillgrid.outbox.poll-interval-ms:500}")
+    public void poll() {
+        try {
+            // Keep draining while batches come back full
+            int drained;
+            do {
+                drained = drainBatch();
+            } while (drained == batchSize);
+        } catch (Exception e) {
+            failures.increment();
+            System.err.println("❌ Member outbox dispatch failed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Claims, dispatches and deletes one batch. Returns the number of events dispatched.
+     */
+    public int drainBatch() {
+        Integer count = batchTimer.record(() -> transactionTemplate.execute(status -> {
+            List<OutboxRow> rows = jdbcTemplate.query(CLAIM_SQL,
+                    (rs, rowNum) -> new OutboxRow(rs.getLong(1), rs.getString(2), rs.getString(3)),
+                    batchSize);
+            if (rows.isEmpty()) {
+                return 0;
+            }
+            rows.sort(Comparator.comparingLong(OutboxRow::id));
+            Set<MemberId> changed = new LinkedHashSet<>();
+            for (OutboxRow row : rows) {
+                MemberEvent event = codec.decode(row.type(), row.payload());
+                eventPublisher.publishEvent(event);
+                changed.add(event.memberId());
+            }
+            jdbcTemplate.execute((ConnectionCallback<Void>) conn -> {
+                MemberChangeListener.publish(conn, changed);
+                return null;
+            });
+            return rows.size();
+        }));
+        int drained = count != null ? count : 0;
+        dispatched.increment(drained);
+        return drained;
+    }
+
+    private record OutboxRow(long id, String type, String payload) {
+    }
+}
@@ -0,0 +1,71 @@
+package com.skillgrid.members.infrastructure;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller to inspect and change the country-partitioned members layout.
+ * The changes cannot be undone, so they only run when an operator asks for them.
+ */
+@RestController
+@RequestMapping("/api/admin/members/partitions")
+public class MemberPartitionController {
+
+    private final MemberPartitionMigrator migrator;
+    private final MemberPartitionRouter router;
+
+    public MemberPartitionController(MemberPartitionMigrator migrator, MemberPartitionRouter router) {
+        this.migrator = migrator;
+        this.router = router;
+    }
+
+    /**
+     * GET /api/admin/members/partitions - Whether members is partitioned yet, and the hot partitions
+     */
+    @GetMapping
+    public ResponseEntity<MemberPartitionRouter.Layout> layout() {
+        return ResponseEntity.ok(router.refresh());
+    }
+
+    /**
+     * POST /api/admin/members/partitions/migrate
+     *
+     * Creates the configured hot-country partitions and, if members is still the plain
+     * table, copies it online and swaps it for the partitioned one.
+     */
+    @PostMapping("/migrate")
+    public ResponseEntity<?> migrate() {
+        try {
+            return ResponseEntity.ok(migrator.migrate());
+        } catch (Exception e) {
+            String errorMessage = "❌ Member partition migration failed: " + e.getMessage();
+            System.err.println(errorMessage);
+            e.printStackTrace();
+
+            return ResponseEntity.internalServerError().body(errorMessage);
+        }
+    }
+
+    /**
+     * POST /api/admin/members/partitions/{countryCode} - Gives a country its own partition
+     */
+    @PostMapping("/{countryCode}")
+    public ResponseEntity<?> createHotPartition(@PathVariable String countryCode) {
+        try {
+            migrator.ensureHotPartition(countryCode);
+            return ResponseEntity.ok(router.layout());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body("❌ " + e.getMessage());
+        } catch (Exception e) {
+            String errorMessage = "❌ Partition creation failed: " + e.getMessage();
+            System.err.println(errorMessage);
+            e.printStackTrace();
+
+            return ResponseEntity.internalServerError().body(errorMessage);
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package com.skillgrid.members.infrastructure;
+
+import com.skillgrid.commons.ids.CountryId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Maintains the country-partitioned members layout. Nothing runs by itself: an operator
+ * starts it through {@link MemberPartitionController}, since the swap cannot be undone.
+ *
+ * Creates a partition per hot country (skillgrid.members.hot-countries), moving its
+ * rows out of the default partition. While members is still the plain table, copies
+ * its rows into members_partitioned in small keyset batches while a trigger mirrors
+ * writes, checks the copy against the source, and then swaps the two tables: only the
+ * trigger drop and the renames run under ACCESS EXCLUSIVE. The old table is kept as
+ * members_legacy.
+ */
+@Component
+public class MemberPartitionMigrator {
+
+    private static final String COLUMNS = """
+        id, first_name, last_name, email, phone, address_line1, address_line2,
+        city_id, state, country_id, postal_code, birth_date, created_at, updated_at
+        """;
+
+    private static final String SOURCE_COLUMNS = """
+        id, first_name, last_name, email, phone, address_line1, address_line2,
+        city_id, state, COALESCE(country_id, '00000000-0000-0000-0000-000000000000'),
+        postal_code, birth_date, created_at, updated_at
+        """;
+
+    // FOR SHARE holds off concurrent updates and deletes of the batch's rows until it
+    // commits; their mirror trigger then applies them on top of the copy, so a batch
+    // never writes a version (or a country) older than what the trigger wrote
+    private static final String COPY_BATCH_SQL = """
+        WITH batch AS (
+            SELECT %s FROM members WHERE id > ? ORDER BY id LIMIT ? FOR SHARE
+        ), copied AS (
+            INSERT INTO members_partitioned (%s) SELECT * FROM batch ON CONFLICT DO NOTHING
+        )
+        SELECT (SELECT id FROM batch ORDER BY id DESC LIMIT 1) AS last_id, (SELECT count(*) FROM batch) AS rows
+        """.formatted(SOURCE_COLUMNS, COLUMNS);
+
+    // Both tables are read in one snapshot, and every write to members updates both in
+    // its own transaction, so the difference is exact without blocking writers
+    private static final String REMOVE_STALE_SQL = """
+        DELETE FROM members_partitioned p
+        WHERE NOT EXISTS (
+            SELECT 1 FROM members m
+            WHERE m.id = p.id AND COALESCE(m.country_id, '00000000-0000-0000-0000-000000000000') = p.country_id
+        )
+        """;
+
+    private static final String ADD_MISSING_SQL = """
+        INSERT INTO members_partitioned (%s)
+        SELECT %s FROM members m
+        WHERE NOT EXISTS (SELECT 1 FROM members_partitioned p WHERE p.id = m.id)
+        ON CONFLICT DO NOTHING
+        """.formatted(COLUMNS, SOURCE_COLUMNS);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MemberPartitionRouter router;
+    private final List<String> hotCountries;
+    private final int batchSize;
+    private final String swapLockTimeout;
+
+    public MemberPartitionMigrator(JdbcTemplate jdbcTemplate,
+                                   TransactionTemplate transactionTemplate,
+                                   MemberPartitionRouter router,
+                                   @Value("${skillgrid.members.hot-countries:}") List<String> hotCountries,
+                                   @Value("${skillgrid.members.partition-migration.batch-size:5000}") int batchSize,
+                                   @Value("${skillgrid.members.partition-migration.swap-lock-timeout:5s}") String swapLockTimeout) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.router = router;
+        this.hotCountries = hotCountries;
+        this.batchSize = batchSize;
+        this.swapLockTimeout = swapLockTimeout;
+    }
+
+    /**
+     * Outcome of {@link #migrate()}: rows copied in batches, fixed by the check, and
+     * whether this call swapped the tables (false if members was already partitioned).
+     */
+    public record MigrationReport(boolean swapped, long copied, int removed, int added, long elapsedMillis,
+                                  MemberPartitionRouter.Layout layout) {
+    }
+
+    /**
+     * Creates the configured hot-country partitions, then partitions members if it is
+     * still the plain table.
+     */
+    public synchronized MigrationReport migrate() {
+        for (String country : hotCountries) {
+            if (!country.isBlank()) {
+                ensureHotPartition(country.trim());
+            }
+        }
+        if (router.refresh().migrated()) {
+            return new MigrationReport(false, 0, 0, 0, 0, router.layout());
+        }
+        return copyAndSwap();
+    }
+
+    /**
+     * Creates the partition of a country if missing, moving its rows out of the default partition.
+     *
+     * The default partition is locked against writes (reads go on) for the move, so no row
+     * of the country can land there between the move and the attach; the lock also
+     * serializes nodes creating the same partition, and the loser finds it already there.
+     */
+    public synchronized void ensureHotPartition(String countryCode) {
+        String code = countryCode.toUpperCase();
+        if (!code.matches("[A-Z]{2,3}")) {
+            throw new IllegalArgumentException("Invalid country code: " + countryCode);
+        }
+        UUID countryId = CountryId.fromCode(code).value();
+        MemberPartitionRouter.Layout layout = router.refresh();
+        if (layout.hotPartitions().containsKey(countryId)) {
+            return;
+        }
+
+        String parent = layout.partitionedTable();
+        String partition = "members_" + code.toLowerCase();
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.execute("LOCK TABLE " + MemberPartitionRouter.DEFAULT_PARTITION
+                    + " IN SHARE ROW EXCLUSIVE MODE");
+            if (jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, partition)) {
+                return;
+            }
+            jdbcTemplate.execute("CREATE TABLE " + partition + " (LIKE " + parent + " INCLUDING DEFAULTS)");
+            int moved = jdbcTemplate.update("WITH moved AS (DELETE FROM " + MemberPartitionRouter.DEFAULT_PARTITION
+                    + " WHERE country_id = ? RETURNING *) INSERT INTO " + partition + " SELECT * FROM moved", countryId);
+            jdbcTemplate.execute("ALTER TABLE " + partition + " ADD CONSTRAINT " + partition + "_country_check"
+                    + " CHECK (country_id = '" + countryId + "')");
+            jdbcTemplate.execute("ALTER TABLE " + parent + " ATTACH PARTITION " + partition
+                    + " FOR VALUES IN ('" + countryId + "')");
+            jdbcTemplate.execute("CREATE UNIQUE INDEX idx_" + partition + "_id ON " + partition + "(id)");
+            System.out.println("🗂️ Created partition " + partition + " (" + moved + " members moved)");
+        });
+        router.refresh();
+    }
+
+    /**
+     * Copies members into members_partitioned in batches, checks the copy, then swaps the tables.
+     */
+    private MigrationReport copyAndSwap() {
+        System.out.println("=== Members Partition Migration ===");
+        long start = System.nanoTime();
+
+        // Each batch commits on its own, so locks are short and progress survives restarts
+        long copied = 0;
+        long nextReport = batchSize * 20L;
+        UUID last = MemberPartitionRouter.NO_COUNTRY;
+        while (true) {
+            Map<String, Object> batch = jdbcTemplate.queryForMap(COPY_BATCH_SQL, last, batchSize);
+            long rows = ((Number) batch.get("rows")).longValue();
+            if (rows == 0) {
+                break;
+            }
+            last = (UUID) batch.get("last_id");
+            copied += rows;
+            if (copied >= nextReport) {
+                System.out.println("Copied " + copied + " members...");
+                nextReport += batchSize * 20L;
+            }
+        }
+
+        // Writes go on meanwhile: the trigger keeps mirroring them
+        int removed = jdbcTemplate.update(REMOVE_STALE_SQL);
+        int added = jdbcTemplate.update(ADD_MISSING_SQL);
+        System.out.println("Checked copy: " + added + " added, " + removed + " removed");
+
+        transactionTemplate.executeWithoutResult(status -> {
+            // Fail rather than queue behind a long reader, which would block every query behind us
+            jdbcTemplate.queryForObject("SELECT set_config('lock_timeout', ?, true)", String.class, swapLockTimeout);
+            jdbcTemplate.execute("LOCK TABLE members IN ACCESS EXCLUSIVE MODE");
+            jdbcTemplate.execute("DROP TRIGGER members_partition_mirror ON members");
+            jdbcTemplate.execute("ALTER TABLE members RENAME TO members_legacy");
+            jdbcTemplate.execute("ALTER TABLE members_partitioned RENAME TO members");
+        });
+        MemberPartitionRouter.Layout layout = router.refresh();
+
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        System.out.println("✅ Members table partitioned by country in " + elapsedMillis
+                + " ms; previous table kept as members_legacy");
+        return new MigrationReport(true, copied, removed, added, elapsedMillis, layout);
+    }
+}
@@ -0,0 +1,84 @@
+package com.skillgrid.members.infrastructure;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Reads the members storage layout from the catalog for {@link MemberPartitionMigrator}.
+ *
+ * Until the migrator swaps the tables, members is a plain table; afterwards it is
+ * LIST-partitioned by country_id (a partition per hot country plus members_default).
+ * Queries do not route by this layout: they target the members parent table with
+ * country_id bound, and the planner prunes to the partition at execution time, so a
+ * node never reads or writes through a layout that another node has since changed.
+ */
+@Component
+public class MemberPartitionRouter {
+
+    /** country_id of members without an address. */
+    public static final UUID NO_COUNTRY = new UUID(0L, 0L);
+
+    static final String TABLE = "members";
+    static final String PARTITIONED_TABLE = "members_partitioned";
+    static final String DEFAULT_PARTITION = "members_default";
+
+    private static final Pattern UUID_PATTERN =
+            Pattern.compile("[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile Layout layout = new Layout(false, PARTITIONED_TABLE, Map.of());
+
+    public MemberPartitionRouter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Current storage layout: whether members is partitioned yet, and the hot partitions.
+     */
+    public record Layout(boolean migrated, String partitionedTable, Map<UUID, String> hotPartitions) {
+    }
+
+    public Layout layout() {
+        return layout;
+    }
+
+    /**
+     * Reloads the layout from the catalog.
+     */
+    public Layout refresh() {
+        List<String> partitioned = jdbcTemplate.queryForList("""
+            SELECT c.relname FROM pg_partitioned_table pt
+            JOIN pg_class c ON c.oid = pt.partrelid
+            WHERE c.relnamespace = 'public'::regnamespace AND c.relname IN (?, ?)
+            """, String.class, TABLE, PARTITIONED_TABLE);
+        boolean migrated = partitioned.contains(TABLE);
+        String parent = migrated ? TABLE : PARTITIONED_TABLE;
+
+        Map<UUID, String> hot = new HashMap<>();
+        if (!partitioned.isEmpty()) {
+            jdbcTemplate.query("""
+                SELECT child.relname, pg_get_expr(child.relpartbound, child.oid)
+                FROM pg_inherits i
+                JOIN pg_class child ON child.oid = i.inhrelid
+                JOIN pg_class parent ON parent.oid = i.inhparent
+                WHERE parent.relname = ? AND parent.relnamespace = 'public'::regnamespace
+                """, rs -> {
+                    Matcher matcher = UUID_PATTERN.matcher(rs.getString(2));
+                    while (matcher.find()) {
+                        hot.put(UUID.fromString(matcher.group()), rs.getString(1));
+                    }
+                }, parent);
+        }
+
+        Layout loaded = new Layout(migrated, parent, Map.copyOf(hot));
+        layout = loaded;
+        return loaded;
+    }
+}
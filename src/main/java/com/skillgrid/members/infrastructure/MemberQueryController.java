@@ -0,0 +1,75 @@
+package com.skillgrid.members.infrastructure;
+
+import com.skillgrid.infrastructure.jdbc.DataSourceRoute;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Read-only REST controller for member cards.
+ * Reads only from the member_view projection; no joins on the request path.
+ * Served from the read replica when one is configured (see {@link DataSourceRoute}).
+ */
+@RestController
+@RequestMapping("/api/members")
+public class MemberQueryController {
+
+    public static final String CARD_COLUMNS = """
+        member_id, first_name, last_name, email, phone, address,
+        city_name, country_code, country_name, region, age_band
+        """;
+
+    public static final String PAGE_BY_COUNTRY_SQL = "SELECT " + CARD_COLUMNS + """
+        FROM member_view
+        WHERE country_code = ?
+        ORDER BY last_name, first_name, member_id
+        LIMIT ? OFFSET ?
+        """;
+
+    private static final String PAGE_SQL = "SELECT " + CARD_COLUMNS + """
+        FROM member_view
+        ORDER BY last_name, first_name, member_id
+        LIMIT ? OFFSET ?
+        """;
+
+    private static final int MAX_PAGE_SIZE = 200;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public MemberQueryController(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * GET /api/members?country=AR&offset=0&size=50 - Member cards ordered by name
+     */
+    @GetMapping
+    public ResponseEntity<?> listMembers(@RequestParam(required = false) String country,
+                                         @RequestParam(defaultValue = "0") int offset,
+                                         @RequestParam(defaultValue = "50") int size) {
+        if (offset < 0 || size <= 0 || size > MAX_PAGE_SIZE) {
+            return ResponseEntity.badRequest().body("❌ offset must be >= 0 and size between 1 and " + MAX_PAGE_SIZE);
+        }
+        List<Map<String, Object>> page = DataSourceRoute.onReplica(() -> country != null
+                ? jdbcTemplate.queryForList(PAGE_BY_COUNTRY_SQL, country.toUpperCase(), size, offset)
+                : jdbcTemplate.queryForList(PAGE_SQL, size, offset));
+        return ResponseEntity.ok(page);
+    }
+
+    /**
+     * GET /api/members/{id} - Single member card
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<Map<String, Object>> getMember(@PathVariable UUID id) {
+        List<Map<String, Object>> rows = DataSourceRoute.onReplica(() -> jdbcTemplate.queryForList(
+                "SELECT " + CARD_COLUMNS + " FROM member_view WHERE member_id = ?", id));
+        return rows.isEmpty() ? ResponseEntity.notFound().build() : ResponseEntity.ok(rows.get(0));
+    }
+}
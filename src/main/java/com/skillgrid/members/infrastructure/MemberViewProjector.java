@@ -0,0 +1,157 @@
+package com.skillgrid.members.infrastructure;
+
+import com.skillgrid.infrastructure.CountriesSynchronizedEvent;
+import com.skillgrid.members.domain.event.MemberAddressChanged;
+import com.skillgrid.members.domain.event.MemberBirthDateChanged;
+import com.skillgrid.members.domain.event.MemberContactInfoChanged;
+import com.skillgrid.members.domain.event.MemberNameChanged;
+import com.skillgrid.members.domain.event.MemberRegistered;
+import com.skillgrid.members.domain.model.Address;
+import com.skillgrid.members.domain.model.AgeBand;
+import com.skillgrid.members.domain.model.ContactInfo;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Keeps member_view up to date from member domain events.
+ *
+ * Each event updates only its own column group (name, contact, address, birth date)
+ * and only if it is newer than the last event applied to that group, so events
+ * dispatched out of order by different relay nodes cannot overwrite newer data.
+ * Runs inside the outbox relay transaction.
+ */
+@Component
+public class MemberViewProjector {
+
+    private static final String ENSURE_ROW_SQL =
+            "INSERT INTO member_view (member_id) VALUES (?) ON CONFLICT (member_id) DO NOTHING";
+
+    private static final String NAME_SQL = """
+        UPDATE member_view SET first_name = ?, last_name = ?, name_at = ?
+        WHERE member_id = ? AND (name_at IS NULL OR name_at <= ?)
+        """;
+
+    private static final String CONTACT_SQL = """
+        UPDATE member_view SET email = ?, phone = ?, contact_at = ?
+        WHERE member_id = ? AND (contact_at IS NULL OR contact_at <= ?)
+        """;
+
+    private static final String ADDRESS_SQL = """
+        UPDATE member_view SET
+            address = ?,
+            city_id = ?,
+            city_name = (SELECT name FROM cities WHERE id = ?),
+            country_id = ?,
+            (country_code, country_name, region) = (SELECT code, name, region FROM countries WHERE id = ?),
+            address_at = ?
+        WHERE member_id = ? AND (address_at IS NULL OR address_at <= ?)
+        """;
+
+    private static final String BIRTH_DATE_SQL = """
+        UPDATE member_view SET birth_date = ?, age_band = ?, birth_date_at = ?
+        WHERE member_id = ? AND (birth_date_at IS NULL OR birth_date_at <= ?)
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public MemberViewProjector(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @EventListener
+    public void on(MemberRegistered event) {
+        UUID id = event.memberId().value();
+        jdbcTemplate.update(ENSURE_ROW_SQL, id);
+        updateName(id, event.firstName(), event.lastName(), event.occurredAt());
+        updateContact(id, event.contactInfo(), event.occurredAt());
+    }
+
+    @EventListener
+    public void on(MemberNameChanged event) {
+        UUID id = event.memberId().value();
+        jdbcTemplate.update(ENSURE_ROW_SQL, id);
+        updateName(id, event.firstName(), event.lastName(), event.occurredAt());
+    }
+
+    @EventListener
+    public void on(MemberContactInfoChanged event) {
+        UUID id = event.memberId().value();
+        jdbcTemplate.update(ENSURE_ROW_SQL, id);
+        updateContact(id, event.contactInfo(), event.occurredAt());
+    }
+
+    @EventListener
+    public void on(MemberAddressChanged event) {
+        UUID id = event.memberId().value();
+        Address address = event.address();
+        UUID cityId = address != null ? address.cityId().value() : null;
+        UUID countryId = address != null ? address.countryId().value() : null;
+        Timestamp at = Timestamp.valueOf(event.occurredAt());
+
+        jdbcTemplate.update(ENSURE_ROW_SQL, id);
+        jdbcTemplate.update(ADDRESS_SQL,
+                address != null ? address.getFullAddress() : null,
+                cityId, cityId, countryId, countryId, at, id, at);
+    }
+
+    @EventListener
+    public void on(MemberBirthDateChanged event) {
+        UUID id = event.memberId().value();
+        Timestamp at = Timestamp.valueOf(event.occurredAt());
+
+        jdbcTemplate.update(ENSURE_ROW_SQL, id);
+        jdbcTemplate.update(BIRTH_DATE_SQL,
+                event.birthDate() != null ? Date.valueOf(event.birthDate().toLocalDate()) : null,
+                AgeBand.of(event.birthDate()).name(),
+                at, id, at);
+    }
+
+    /**
+     * Country names and regions are copied into the view; refresh them after a sync.
+     */
+    @EventListener
+    public void onCountriesSynchronized(CountriesSynchronizedEvent event) {
+        int updated = jdbcTemplate.update("""
+            UPDATE member_view v
+            SET country_code = c.code, country_name = c.name, region = c.region
+            FROM countries c
+            WHERE c.id = v.country_id
+              AND (v.country_code IS DISTINCT FROM c.code
+                   OR v.country_name IS DISTINCT FROM c.name
+                   OR v.region IS DISTINCT FROM c.region)
+            """);
+        if (updated > 0) {
+            System.out.println("🔄 member_view: refreshed country data for " + updated + " members");
+        }
+    }
+
+    /**
+     * Age bands depend on the current year; move members whose band changed.
+     */
+    @Scheduled(cron = "${skillgrid.member-view.age-band-refresh-cron:0 5 0 * * *}")
+    public void refreshAgeBands() {
+        int updated = jdbcTemplate.update("""
+            UPDATE member_view SET age_band = member_age_band(birth_date)
+            WHERE age_band <> member_age_band(birth_date)
+            """);
+        if (updated > 0) {
+            System.out.println("🔄 member_view: refreshed age band for " + updated + " members");
+        }
+    }
+
+    private void updateName(UUID id, String firstName, String lastName, LocalDateTime occurredAt) {
+        Timestamp at = Timestamp.valueOf(occurredAt);
+        jdbcTemplate.update(NAME_SQL, firstName, lastName, at, id, at);
+    }
+
+    private void updateContact(UUID id, ContactInfo contactInfo, LocalDateTime occurredAt) {
+        Timestamp at = Timestamp.valueOf(occurredAt);
+        jdbcTemplate.update(CONTACT_SQL, contactInfo.getEmailValue(), contactInfo.getPhoneValue(), at, id, at);
+    }
+}
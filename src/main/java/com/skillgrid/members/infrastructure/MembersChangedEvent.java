@@ -0,0 +1,20 @@
+package com.skillgrid.members.infrastructure;
+
+import com.skillgrid.commons.ids.MemberId;
+import java.util.Set;
+
+/**
+ * Published on every node by {@link MemberChangeListener} after the outbox relay (on
+ * any node) committed events for these members. With resync set, changes may have been
+ * missed (listener reconnected) and node-local state should be rebuilt from the tables.
+ */
+public record MembersChangedEvent(Set<MemberId> memberIds, boolean resync) {
+
+    public MembersChangedEvent {
+        memberIds = Set.copyOf(memberIds);
+    }
+
+    public static MembersChangedEvent resyncAll() {
+        return new MembersChangedEvent(Set.of(), true);
+    }
+}
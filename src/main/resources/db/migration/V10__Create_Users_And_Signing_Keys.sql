@@ -0,0 +1,22 @@
+-- User accounts (login credentials) and the keys that sign their bearer tokens.
+-- Tokens are stateless: HMAC-SHA256 over the user id and expiry, signed with the
+-- newest key. Older keys stay here so tokens they signed verify until they expire;
+-- every node caches the keys in memory (SigningKeyStore).
+
+CREATE TABLE users (
+    id UUID PRIMARY KEY,
+    email VARCHAR(254) NOT NULL,
+    password_hash VARCHAR(100) NOT NULL,          -- BCrypt
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE UNIQUE INDEX idx_users_email ON users(lower(email));
+
+CREATE TABLE auth_signing_keys (
+    kid VARCHAR(32) PRIMARY KEY,
+    secret BYTEA NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+COMMENT ON TABLE users IS 'Login accounts; passwords are BCrypt hashes';
+COMMENT ON TABLE auth_signing_keys IS 'HMAC keys for bearer tokens, newest signs; see SigningKeyStore';
@@ -0,0 +1,14 @@
+-- When a signing key stopped signing (its successor was created). A key keeps verifying
+-- until every token it signed has expired, i.e. until retired_at + token TTL; the key
+-- that currently signs has no retired_at.
+
+ALTER TABLE auth_signing_keys ADD COLUMN retired_at TIMESTAMP;
+
+-- Existing keys: retired when the next key was created
+UPDATE auth_signing_keys k
+SET retired_at = (
+    SELECT min(n.created_at) FROM auth_signing_keys n
+    WHERE (n.created_at, n.kid) > (k.created_at, k.kid)
+);
+
+COMMENT ON COLUMN auth_signing_keys.retired_at IS 'When the key stopped signing; deleted once its tokens have expired';
@@ -0,0 +1,25 @@
+-- Give countries a stable UUID so CountryId can reference them (see CountryId.fromCode)
+ALTER TABLE countries
+    ADD COLUMN id UUID GENERATED ALWAYS AS (md5('country:' || code)::uuid) STORED;
+
+CREATE UNIQUE INDEX idx_countries_id ON countries(id);
+
+-- Create cities table loaded from GeoNames-style dumps (see CityDatasetLoader)
+-- The UUID is derived from the GeoNames id, so CityId values survive reloads (see CityId.fromGeonameId)
+CREATE TABLE cities (
+    geoname_id BIGINT PRIMARY KEY,
+    id UUID GENERATED ALWAYS AS (md5('geonames:' || geoname_id::text)::uuid) STORED,
+    name VARCHAR(200) NOT NULL,
+    ascii_name VARCHAR(200),
+    country_code VARCHAR(3) NOT NULL,  -- validated by the loader; no FK so country syncs don't cascade
+    admin1_code VARCHAR(20),
+    latitude DOUBLE PRECISION NOT NULL,
+    longitude DOUBLE PRECISION NOT NULL,
+    population BIGINT,
+    timezone VARCHAR(40)
+);
+
+CREATE UNIQUE INDEX idx_cities_id ON cities(id);
+CREATE INDEX idx_cities_country_code ON cities(country_code);
+
+COMMENT ON TABLE cities IS 'Populated places (GeoNames feature class P) referenced by CityId';
@@ -0,0 +1,12 @@
+-- Create exchange rates table used for salary normalization
+-- One row per currency, quoted against USD (how many units of the currency buy 1 USD)
+
+CREATE TABLE exchange_rates (
+    currency_code VARCHAR(3) PRIMARY KEY,
+    units_per_usd NUMERIC(24,10) NOT NULL CHECK (units_per_usd > 0),
+    as_of TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+INSERT INTO exchange_rates (currency_code, units_per_usd) VALUES ('USD', 1);
+
+COMMENT ON TABLE exchange_rates IS 'Currency rates against USD; loaded into ExchangeRateMatrix snapshots';
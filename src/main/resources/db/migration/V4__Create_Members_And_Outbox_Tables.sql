@@ -0,0 +1,33 @@
+-- Members and the transactional outbox of their domain events
+
+CREATE TABLE members (
+    id UUID PRIMARY KEY,
+    first_name VARCHAR(100) NOT NULL,
+    last_name VARCHAR(100) NOT NULL,
+    email VARCHAR(254) NOT NULL,
+    phone VARCHAR(30),
+    address_line1 VARCHAR(200),
+    address_line2 VARCHAR(200),
+    city_id UUID,
+    state VARCHAR(100),
+    country_id UUID,
+    postal_code VARCHAR(20),
+    birth_date DATE,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_members_country ON members(country_id);
+
+-- Written in the same transaction as the member change, drained by the outbox relay
+CREATE TABLE member_outbox (
+    id BIGSERIAL PRIMARY KEY,
+    member_id UUID NOT NULL,
+    event_type VARCHAR(50) NOT NULL,
+    payload JSONB NOT NULL,
+    occurred_at TIMESTAMP NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+COMMENT ON TABLE members IS 'Member aggregate (identity, contact, address and birth date)';
+COMMENT ON TABLE member_outbox IS 'Pending member domain events, deleted once dispatched';
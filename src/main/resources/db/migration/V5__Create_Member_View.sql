@@ -0,0 +1,58 @@
+-- Denormalized member read model, maintained from member domain events (MemberViewProjector)
+
+-- Same bands as the AgeBand enum; age is the difference in years, like BirthDate.getAge()
+CREATE FUNCTION member_age_band(birth_date DATE) RETURNS VARCHAR AS $$
+    SELECT CASE
+        WHEN birth_date IS NULL THEN 'UNKNOWN'
+        WHEN age < 16 THEN 'UNKNOWN'
+        WHEN age <= 24 THEN 'FROM_16_TO_24'
+        WHEN age <= 34 THEN 'FROM_25_TO_34'
+        WHEN age <= 44 THEN 'FROM_35_TO_44'
+        WHEN age <= 54 THEN 'FROM_45_TO_54'
+        ELSE 'FROM_55'
+    END
+    FROM (SELECT EXTRACT(YEAR FROM CURRENT_DATE)::int - EXTRACT(YEAR FROM birth_date)::int AS age) a
+$$ LANGUAGE SQL STABLE;
+
+CREATE TABLE member_view (
+    member_id UUID PRIMARY KEY,
+    first_name VARCHAR(100),
+    last_name VARCHAR(100),
+    email VARCHAR(254),
+    phone VARCHAR(30),
+    address VARCHAR(500),
+    city_id UUID,
+    city_name VARCHAR(200),
+    country_id UUID,
+    country_code VARCHAR(3),
+    country_name VARCHAR(100),
+    region VARCHAR(50),
+    birth_date DATE,
+    age_band VARCHAR(20) NOT NULL DEFAULT 'UNKNOWN',
+    -- occurredAt of the last event applied to each column group; older events are ignored
+    name_at TIMESTAMP,
+    contact_at TIMESTAMP,
+    address_at TIMESTAMP,
+    birth_date_at TIMESTAMP
+);
+
+CREATE INDEX idx_member_view_country_name ON member_view(country_code, last_name, first_name, member_id);
+CREATE INDEX idx_member_view_name ON member_view(last_name, first_name, member_id);
+
+-- Backfill from members already stored
+INSERT INTO member_view (member_id, first_name, last_name, email, phone, address, city_id, city_name,
+                         country_id, country_code, country_name, region, birth_date, age_band,
+                         name_at, contact_at, address_at, birth_date_at)
+SELECT m.id, m.first_name, m.last_name, m.email, m.phone,
+       CASE WHEN m.address_line1 IS NOT NULL THEN
+           concat_ws(', ', m.address_line1, NULLIF(trim(m.address_line2), ''), NULLIF(trim(m.state), ''))
+           || COALESCE(' ' || NULLIF(trim(m.postal_code), ''), '')
+       END,
+       m.city_id, ci.name, m.country_id, co.code, co.name, co.region,
+       m.birth_date, member_age_band(m.birth_date),
+       m.updated_at, m.updated_at, m.updated_at, m.updated_at
+FROM members m
+LEFT JOIN cities ci ON ci.id = m.city_id
+LEFT JOIN countries co ON co.id = m.country_id;
+
+COMMENT ON TABLE member_view IS 'Member cards with city, country and age band resolved; read by member list endpoints';
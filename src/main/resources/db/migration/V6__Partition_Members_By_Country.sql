@@ -0,0 +1,75 @@
+-- Country-partitioned members storage.
+-- members_partitioned is LIST-partitioned by country_id (hot countries get their own
+-- partition, created by MemberPartitionMigrator; everything else goes to the default one).
+-- Members without an address use the nil UUID as country_id, since partition keys
+-- cannot be NULL in a primary key.
+--
+-- This migration only creates the new structure and mirrors writes into it. The
+-- existing rows are copied in batches by MemberPartitionMigrator while the application
+-- runs; it then swaps the tables in one short transaction.
+
+CREATE TABLE members_partitioned (
+    id UUID NOT NULL,
+    first_name VARCHAR(100) NOT NULL,
+    last_name VARCHAR(100) NOT NULL,
+    email VARCHAR(254) NOT NULL,
+    phone VARCHAR(30),
+    address_line1 VARCHAR(200),
+    address_line2 VARCHAR(200),
+    city_id UUID,
+    state VARCHAR(100),
+    country_id UUID NOT NULL DEFAULT '00000000-0000-0000-0000-000000000000',
+    postal_code VARCHAR(20),
+    birth_date DATE,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (country_id, id)
+) PARTITION BY LIST (country_id);
+
+-- Lookups by id alone (not unique on the parent: uniqueness is per partition)
+CREATE INDEX idx_members_partitioned_id ON members_partitioned(id);
+CREATE INDEX idx_members_partitioned_name ON members_partitioned(country_id, last_name, first_name, id);
+
+CREATE TABLE members_default PARTITION OF members_partitioned DEFAULT;
+CREATE UNIQUE INDEX idx_members_default_id ON members_default(id);
+
+-- Keep members_partitioned in sync with writes to members until the swap
+CREATE FUNCTION members_partition_mirror() RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        DELETE FROM members_partitioned WHERE id = OLD.id;
+        RETURN OLD;
+    END IF;
+
+    IF TG_OP = 'UPDATE' THEN
+        DELETE FROM members_partitioned
+        WHERE id = OLD.id
+          AND country_id <> COALESCE(NEW.country_id, '00000000-0000-0000-0000-000000000000');
+    END IF;
+
+    INSERT INTO members_partitioned (id, first_name, last_name, email, phone, address_line1, address_line2,
+                                     city_id, state, country_id, postal_code, birth_date, created_at, updated_at)
+    VALUES (NEW.id, NEW.first_name, NEW.last_name, NEW.email, NEW.phone, NEW.address_line1, NEW.address_line2,
+            NEW.city_id, NEW.state, COALESCE(NEW.country_id, '00000000-0000-0000-0000-000000000000'),
+            NEW.postal_code, NEW.birth_date, NEW.created_at, NEW.updated_at)
+    ON CONFLICT (country_id, id) DO UPDATE SET
+        first_name = EXCLUDED.first_name,
+        last_name = EXCLUDED.last_name,
+        email = EXCLUDED.email,
+        phone = EXCLUDED.phone,
+        address_line1 = EXCLUDED.address_line1,
+        address_line2 = EXCLUDED.address_line2,
+        city_id = EXCLUDED.city_id,
+        state = EXCLUDED.state,
+        postal_code = EXCLUDED.postal_code,
+        birth_date = EXCLUDED.birth_date,
+        updated_at = EXCLUDED.updated_at;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER members_partition_mirror
+    AFTER INSERT OR UPDATE OR DELETE ON members
+    FOR EACH ROW EXECUTE FUNCTION members_partition_mirror();
+
+COMMENT ON TABLE members_partitioned IS 'Members partitioned by country_id; replaces members once the online copy is done';
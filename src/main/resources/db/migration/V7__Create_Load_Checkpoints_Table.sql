@@ -0,0 +1,18 @@
+-- Checkpoints for chunked reference data loads (countries, and later cities and other datasets).
+-- A load commits one chunk at a time and advances next_offset in the same transaction,
+-- so a failed load resumes from the last committed chunk when it is retried with the
+-- same input (same fingerprint).
+
+CREATE TABLE load_checkpoints (
+    load_name VARCHAR(100) PRIMARY KEY,
+    fingerprint VARCHAR(64) NOT NULL,           -- SHA-256 of the input payload
+    total_items INTEGER NOT NULL,
+    next_offset INTEGER NOT NULL DEFAULT 0,     -- items [0, next_offset) are committed
+    chunk_size INTEGER NOT NULL,
+    status VARCHAR(20) NOT NULL,                -- RUNNING, FAILED, COMPLETED
+    error TEXT,
+    started_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+COMMENT ON TABLE load_checkpoints IS 'Progress of chunked reference loads; see CheckpointedLoader';
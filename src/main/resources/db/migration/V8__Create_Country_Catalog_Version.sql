@@ -0,0 +1,15 @@
+-- Version of the country reference data, bumped by every successful sync.
+-- The bump and a NOTIFY on channel country_catalog (payload = new version) run in one
+-- transaction, so the notification is delivered only once the synced rows are visible.
+-- Nodes LISTEN on that channel and reload their in-memory CountryCatalog when they
+-- hold an older version.
+
+CREATE TABLE country_catalog_version (
+    id BOOLEAN PRIMARY KEY DEFAULT TRUE CHECK (id),   -- single row
+    version BIGINT NOT NULL,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+INSERT INTO country_catalog_version (version) VALUES (0);
+
+COMMENT ON TABLE country_catalog_version IS 'Country data version for cross-node catalog invalidation; see CountryCatalogListener';
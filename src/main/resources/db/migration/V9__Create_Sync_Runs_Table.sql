@@ -0,0 +1,34 @@
+-- Ledger of reference data sync runs (one row per run, written by SyncRunLedger).
+-- Durations and row diffs are kept per run, so slower or larger syncs show up as
+-- trends (GET /api/admin/sync-runs/trends) instead of anecdotes from the logs.
+
+CREATE TABLE sync_runs (
+    id BIGSERIAL PRIMARY KEY,
+    dataset VARCHAR(50) NOT NULL,                -- e.g. countries
+    runner VARCHAR(50) NOT NULL,                 -- command, simple
+    status VARCHAR(20) NOT NULL,                 -- RUNNING, SUCCEEDED, FAILED
+    started_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    finished_at TIMESTAMP,
+    fetch_ms BIGINT,
+    parse_ms BIGINT,
+    write_ms BIGINT,                             -- everything after parsing: diff, clear, insert
+    payload_bytes BIGINT,
+    items INTEGER,
+    resumed BOOLEAN NOT NULL DEFAULT FALSE,      -- continued a failed load from its checkpoint
+    error TEXT
+);
+
+CREATE INDEX idx_sync_runs_dataset_started ON sync_runs(dataset, started_at DESC);
+
+-- Rows inserted, updated and deleted per target table, compared with the data before the run
+CREATE TABLE sync_run_tables (
+    run_id BIGINT NOT NULL REFERENCES sync_runs(id) ON DELETE CASCADE,
+    table_name VARCHAR(100) NOT NULL,
+    inserted INTEGER NOT NULL,
+    updated INTEGER NOT NULL,
+    deleted INTEGER NOT NULL,
+    PRIMARY KEY (run_id, table_name)
+);
+
+COMMENT ON TABLE sync_runs IS 'One row per reference data sync run; see SyncRunLedger';
+COMMENT ON TABLE sync_run_tables IS 'Per-table row diff of each sync run';
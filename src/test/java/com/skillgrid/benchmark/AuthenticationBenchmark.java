@@ -0,0 +1,209 @@
+package com.skillgrid.benchmark;
+
+import com.skillgrid.commons.ids.UserId;
+import com.skillgrid.infrastructure.security.PasswordHashing;
+import com.skillgrid.infrastructure.security.TokenService;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-request cost of bearer token authentication ({@link TokenService}) and the cost of
+ * BCrypt logins on the bounded {@link PasswordHashing} executor.
+ *
+ * Token checks are timed with the verified-token cache enabled and disabled
+ * (max-entries 0, every request verifies the HMAC), single-threaded and from --threads
+ * threads, over --users distinct tokens. For comparison, one BCrypt verification is
+ * what authenticating every request with a password (HTTP Basic) would cost. The login
+ * flood submits --logins verifications at once and reports how many were accepted and
+ * how many were rejected by the full queue (answered 503 by the login endpoint).
+ *
+ * Signing keys live in the database: an embedded PostgreSQL migrated with the
+ * application's Flyway scripts, or --db-url if given (a signing key may be created).
+ *
+ * Usage:
+ *   scripts/run-benchmark.sh AuthenticationBenchmark \
+ *        --users 1000 --requests 2000000 --threads 4 --logins 500 \
+ *        [--bcrypt-strength 10] [--hashing-threads 2] [--queue-capacity 100] \
+ *        [--db-url jdbc:postgresql://localhost:5432/skillgrid_db --user postgres --password secret]
+ */
+public class AuthenticationBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int users = 1000;
+        int requests = 2_000_000;
+        int threads = Runtime.getRuntime().availableProcessors();
+        int logins = 500;
+        int bcryptStrength = 10;
+        int hashingThreads = 2;
+        int queueCapacity = 100;
+        String dbUrl = null;
+        String user = "postgres";
+        String password = "";
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--users" -> users = Integer.parseInt(args[++i]);
+                case "--requests" -> requests = Integer.parseInt(args[++i]);
+                case "--threads" -> threads = Integer.parseInt(args[++i]);
+                case "--logins" -> logins = Integer.parseInt(args[++i]);
+                case "--bcrypt-strength" -> bcryptStrength = Integer.parseInt(args[++i]);
+                case "--hashing-threads" -> hashingThreads = Integer.parseInt(args[++i]);
+                case "--queue-capacity" -> queueCapacity = Integer.parseInt(args[++i]);
+                case "--db-url" -> dbUrl = args[++i];
+                case "--user" -> user = args[++i];
+                case "--password" -> password = args[++i];
+                default -> throw new IllegalArgumentException("Unknown argument: " + args[i]);
+            }
+        }
+
+        System.out.println("=== Authentication Benchmark ===");
+        EmbeddedPostgres embedded = null;
+        HikariDataSource dataSource = new HikariDataSource();
+        try {
+            if (dbUrl == null) {
+                embedded = EmbeddedPostgres.builder().start();
+                dbUrl = embedded.getJdbcUrl("postgres", "postgres");
+                Flyway.configure().dataSource(embedded.getPostgresDatabase())
+                        .locations("classpath:db/migration").load().migrate();
+                System.out.println("Database: embedded PostgreSQL (" + dbUrl + ")");
+            } else {
+                System.out.println("Database: " + dbUrl);
+            }
+            dataSource.setJdbcUrl(dbUrl);
+            dataSource.setUsername(user);
+            dataSource.setPassword(password);
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+            TokenService cached = new TokenService(jdbcTemplate, new SimpleMeterRegistry(),
+                    Duration.ofHours(1), Math.max(users, 1), Duration.ofSeconds(1));
+            TokenService uncached = new TokenService(jdbcTemplate, new SimpleMeterRegistry(),
+                    Duration.ofHours(1), 0, Duration.ofSeconds(1));
+            String[] headers = new String[users];
+            for (int i = 0; i < users; i++) {
+                headers[i] = "Bearer " + cached.issue(new UserId(UUID.randomUUID())).token();
+            }
+            System.out.println("Tokens: " + users + " users, " + requests + " requests per scenario, "
+                    + threads + " threads");
+
+            System.out.printf("%-28s %8s %12s %14s%n", "scenario", "threads", "ns/request", "requests/s");
+            for (int t : threads > 1 ? new int[]{1, threads} : new int[]{1}) {
+                report("header parse only", t, requests, headers, header -> parseOnly(header) != null);
+                report("token, cache disabled", t, requests, headers,
+                        header -> uncached.authenticate(parseOnly(header)) != null);
+                report("token, cached", t, requests, headers,
+                        header -> cached.authenticate(parseOnly(header)) != null);
+            }
+
+            PasswordHashing hashing = new PasswordHashing(new SimpleMeterRegistry(),
+                    bcryptStrength, hashingThreads, queueCapacity);
+            try {
+                benchmarkLogins(hashing, bcryptStrength, hashingThreads, queueCapacity, logins);
+            } finally {
+                hashing.shutdown();
+            }
+        } finally {
+            dataSource.close();
+            if (embedded != null) {
+                embedded.close();
+            }
+        }
+    }
+
+    private interface Check {
+        boolean authenticate(String header);
+    }
+
+    /**
+     * What the filter does before any verification: strip the "Bearer " prefix.
+     */
+    private static String parseOnly(String header) {
+        return header.regionMatches(true, 0, "Bearer ", 0, 7) ? header.substring(7).trim() : null;
+    }
+
+    private static void report(String name, int threads, int requests, String[] headers, Check check)
+            throws InterruptedException {
+        // Warm up the JIT (and the cache) before timing
+        run(threads, Math.min(requests, 200_000), headers, check);
+        long nanos = run(threads, requests, headers, check);
+        double nsPerRequest = (double) nanos * threads / requests;
+        System.out.printf("%-28s %8d %12.0f %14.0f%n", name, threads, nsPerRequest,
+                requests / (nanos / 1e9));
+    }
+
+    /**
+     * Runs the checks split across the threads; returns the wall time in nanoseconds.
+     */
+    private static long run(int threads, int requests, String[] headers, Check check) throws InterruptedException {
+        int perThread = requests / threads;
+        AtomicLong failures = new AtomicLong();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int offset = t;
+            workers.add(Thread.ofPlatform().start(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < perThread; i++) {
+                    if (!check.authenticate(headers[(i + offset) % headers.length])) {
+                        failures.incrementAndGet();
+                    }
+                }
+            }));
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        long elapsed = System.nanoTime() - begin;
+        if (failures.get() > 0) {
+            throw new IllegalStateException(failures.get() + " tokens were rejected");
+        }
+        return elapsed;
+    }
+
+    private static void benchmarkLogins(PasswordHashing hashing, int strength, int threads, int queueCapacity,
+                                        int logins) throws Exception {
+        String hash = hashing.hash("benchmark-password").get();
+        hashing.matches("benchmark-password", hash).get();
+
+        int samples = 10;
+        long start = System.nanoTime();
+        for (int i = 0; i < samples; i++) {
+            hashing.matches("benchmark-password", hash).get();
+        }
+        double bcryptMs = (System.nanoTime() - start) / 1e6 / samples;
+        System.out.printf("BCrypt (strength %d): %.1f ms per verification%n", strength, bcryptMs);
+
+        int accepted = 0;
+        int rejected = 0;
+        List<CompletableFuture<Boolean>> pending = new ArrayList<>();
+        start = System.nanoTime();
+        for (int i = 0; i < logins; i++) {
+            try {
+                pending.add(hashing.matches("benchmark-password", hash));
+                accepted++;
+            } catch (RejectedExecutionException e) {
+                rejected++;
+            }
+        }
+        CompletableFuture.allOf(pending.toArray(CompletableFuture[]::new)).join();
+        long floodMs = (System.nanoTime() - start) / 1_000_000;
+        System.out.printf("Login flood: %d logins at once on %d threads (queue %d): %d accepted, "
+                + "%d rejected (503), drained in %d ms%n", logins, threads, queueCapacity, accepted, rejected, floodMs);
+    }
+}
@@ -0,0 +1,361 @@
+package com.skillgrid.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.skillgrid.infrastructure.CountrySource;
+import com.skillgrid.infrastructure.CountrySyncCommand;
+import com.skillgrid.infrastructure.CountrySyncMetrics;
+import com.skillgrid.infrastructure.CountrySyncOptions;
+import com.skillgrid.infrastructure.HttpCountrySource;
+import com.skillgrid.infrastructure.SimpleCountrySync;
+import com.skillgrid.infrastructure.SnapshotCountrySource;
+import com.sun.net.httpserver.HttpServer;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import javax.sql.DataSource;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * End-to-end benchmark of the country synchronization ({@link CountrySyncCommand} and
+ * {@link SimpleCountrySync}) without restcountries.com or a hand-configured database.
+ *
+ * A recorded REST Countries payload is served from a local JDK HttpServer, as-is and
+ * as synthetic 10x/100x versions (copies with generated 3-character codes), gzip-encoded
+ * like the real API. The sync runs against an embedded PostgreSQL migrated with the
+ * application's Flyway scripts, or against --db-url if given (its country tables are
+ * replaced). Per-phase wall time and allocation, and rows per second per table, are
+ * read from {@link CountrySyncMetrics} on a fresh registry for every run.
+ *
+ * Usage:
+ *   scripts/run-benchmark.sh CountrySyncBenchmark \
+ *        --payload countries.json --scales 1,10,100 --runs 3 [--impl command|simple|both] [--chunk-size 100] \
+ *        [--pipeline true|false] \
+ *        [--db-url jdbc:postgresql://localhost:5432/skillgrid_db --user postgres --password secret]
+ *
+ * The payload (required) is a file path or classpath: resource (".gz" accepted), e.g. saved with
+ *   curl -o countries.json "https://restcountries.com/v3.1/all?fields=..."
+ */
+public class CountrySyncBenchmark {
+
+    private static final String[] PHASES = {
+        CountrySyncMetrics.PHASE_FETCH,
+        CountrySyncMetrics.PHASE_PARSE,
+        CountrySyncMetrics.PHASE_CLEAR,
+        CountrySyncMetrics.PHASE_INSERT
+    };
+
+    private static final String[] TABLES = {
+        "countries",
+        "country_phone_prefixes",
+        "country_currencies",
+        "country_languages"
+    };
+
+    private static final String CODE_ALPHABET = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+
+    public static void main(String[] args) throws Exception {
+        String payloadLocation = null;
+        int[] scales = {1, 10, 100};
+        int runs = 3;
+        String impl = "both";
+        String dbUrl = null;
+        String user = "postgres";
+        String password = null;
+        CountrySyncOptions options = CountrySyncOptions.DEFAULT;
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--payload" -> payloadLocation = args[++i];
+                case "--scales" -> scales = Arrays.stream(args[++i].split(",")).mapToInt(Integer::parseInt).toArray();
+                case "--runs" -> runs = Integer.parseInt(args[++i]);
+                case "--impl" -> impl = args[++i];
+                case "--chunk-size" -> options = options.withChunkSize(Integer.parseInt(args[++i]));
+                case "--pipeline" -> options = options.withPipelined(Boolean.parseBoolean(args[++i]));
+                case "--db-url" -> dbUrl = args[++i];
+                case "--user" -> user = args[++i];
+                case "--password" -> password = args[++i];
+                default -> throw new IllegalArgumentException("Unknown argument: " + args[i]);
+            }
+        }
+        if (payloadLocation == null) {
+            throw new IllegalArgumentException("--payload is required (a recorded REST Countries response)");
+        }
+        if (dbUrl != null && password == null) {
+            throw new IllegalArgumentException("--password is required with --db-url");
+        }
+        List<String> implementations = switch (impl) {
+            case "both" -> List.of("command", "simple");
+            case "command", "simple" -> List.of(impl);
+            default -> throw new IllegalArgumentException("Unknown --impl: " + impl);
+        };
+
+        System.out.println("=== Country Sync Benchmark ===");
+        byte[] recorded = new SnapshotCountrySource(payloadLocation).fetch();
+        ObjectMapper mapper = new ObjectMapper();
+        ArrayNode base = (ArrayNode) mapper.readTree(recorded);
+        System.out.println("Recorded payload: " + payloadLocation + " (" + base.size() + " countries, "
+                + recorded.length + " bytes)");
+
+        Map<String, byte[]> gzipped = new HashMap<>();
+        for (int scale : scales) {
+            gzipped.put("/x" + scale + "/v3.1/all", gzip(mapper.writeValueAsBytes(synthesize(base, scale))));
+        }
+
+        HttpServer server = startApi(gzipped);
+        EmbeddedPostgres embedded = null;
+        // Pooled like the application's DataSource, so CountrySyncCommand does not pay a connect per statement
+        HikariDataSource dataSource = new HikariDataSource();
+        try {
+            if (dbUrl == null) {
+                embedded = EmbeddedPostgres.builder().start();
+                dbUrl = embedded.getJdbcUrl("postgres", "postgres");
+                Flyway.configure().dataSource(embedded.getPostgresDatabase())
+                        .locations("classpath:db/migration").load().migrate();
+                System.out.println("Database: embedded PostgreSQL (" + dbUrl + ")");
+            } else {
+                System.out.println("Database: " + dbUrl + " (country tables will be replaced)");
+            }
+            dataSource.setJdbcUrl(dbUrl);
+            dataSource.setUsername(user);
+            dataSource.setPassword(password);
+
+            String apiBase = "http://127.0.0.1:" + server.getAddress().getPort();
+            System.out.printf("%-8s %5s %8s %10s | %9s %9s %9s %9s | %8s %8s %8s %8s | %10s%n",
+                    "impl", "scale", "run", "payload",
+                    "fetch ms", "parse ms", "clear ms", "insert ms",
+                    "fetch MB", "parse MB", "clear MB", "insert MB", "rows/s");
+            for (int scale : scales) {
+                CountrySource source = new HttpCountrySource(HttpClient.newHttpClient(),
+                        apiBase + "/x" + scale + "/v3.1/all");
+                for (String implementation : implementations) {
+                    List<RunResult> results = new ArrayList<>();
+                    for (int run = 1; run <= runs; run++) {
+                        MeterRegistry registry = new SimpleMeterRegistry();
+                        CountrySyncMetrics metrics = new CountrySyncMetrics(registry);
+                        if (implementation.equals("command")) {
+                            runCommand(dataSource, source, metrics, options);
+                        } else {
+                            new SimpleCountrySync(dbUrl, user, password, options, metrics).synchronize(source);
+                        }
+                        RunResult result = RunResult.from(registry);
+                        if (!result.succeeded()) {
+                            throw new IllegalStateException(implementation + " sync failed at scale " + scale);
+                        }
+                        results.add(result);
+                        print(implementation, scale, String.valueOf(run), result);
+                    }
+                    print(implementation, scale, "median", RunResult.median(results));
+                    printTables(RunResult.median(results));
+                }
+            }
+        } finally {
+            server.stop(0);
+            dataSource.close();
+            if (embedded != null) {
+                embedded.close();
+            }
+        }
+    }
+
+    /**
+     * Runs {@link CountrySyncCommand} in a minimal context holding only its collaborators.
+     */
+    private static void runCommand(DataSource dataSource, CountrySource source, CountrySyncMetrics metrics,
+                                   CountrySyncOptions options) {
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext()) {
+            context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("benchmark", Map.of(
+                    "skillgrid.countries.sync.chunk-size", options.chunkSize(),
+                    "skillgrid.countries.sync.pipeline", options.pipelined(),
+                    "skillgrid.countries.sync.queue-capacity", options.queueCapacity(),
+                    "skillgrid.countries.sync.child-batch-size", options.childBatchSize())));
+            context.registerBean(JdbcTemplate.class, () -> new JdbcTemplate(dataSource));
+            context.registerBean(CountrySource.class, () -> source);
+            context.registerBean(CountrySyncMetrics.class, () -> metrics);
+            context.registerBean(CountrySyncCommand.class);
+            context.refresh();
+            context.getBean(CountrySyncCommand.class).synchronizeCountries();
+        }
+    }
+
+    /**
+     * The recorded countries followed by (scale - 1) renamed copies with unique 3-character codes.
+     */
+    static ArrayNode synthesize(ArrayNode base, int scale) {
+        int n = base.size();
+        int maxCodes = CODE_ALPHABET.length() * CODE_ALPHABET.length() * CODE_ALPHABET.length();
+        if ((long) n * (scale - 1) > maxCodes) {
+            throw new IllegalArgumentException("Scale " + scale + " needs more than " + maxCodes + " synthetic codes");
+        }
+        ArrayNode result = base.arrayNode(n * scale);
+        result.addAll(base);
+        int next = 0;
+        for (int copy = 1; copy < scale; copy++) {
+            for (JsonNode country : base) {
+                ObjectNode clone = country.deepCopy();
+                clone.put("cca2", syntheticCode(next++));
+                JsonNode name = clone.path("name");
+                if (name instanceof ObjectNode names) {
+                    names.put("common", names.path("common").asText("") + " #" + copy);
+                }
+                result.add(clone);
+            }
+        }
+        return result;
+    }
+
+    private static String syntheticCode(int index) {
+        int radix = CODE_ALPHABET.length();
+        return new String(new char[] {
+            CODE_ALPHABET.charAt(index / (radix * radix)),
+            CODE_ALPHABET.charAt(index / radix % radix),
+            CODE_ALPHABET.charAt(index % radix)
+        });
+    }
+
+    /**
+     * Local stand-in for the REST Countries API: one gzip-encoded payload per path, query ignored.
+     */
+    private static HttpServer startApi(Map<String, byte[]> gzippedByPath) throws Exception {
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            byte[] body = gzippedByPath.get(exchange.getRequestURI().getPath());
+            if (body == null) {
+                exchange.sendResponseHeaders(404, -1);
+                exchange.close();
+                return;
+            }
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        return server;
+    }
+
+    private static byte[] gzip(byte[] data) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(data.length / 4);
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            out.write(data);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void print(String implementation, int scale, String run, RunResult r) {
+        System.out.printf("%-8s %5d %8s %9.1fK | %9.1f %9.1f %9.1f %9.1f | %8.1f %8.1f %8.1f %8.1f | %10.0f%n",
+                implementation, scale, run, r.payloadBytes / 1024.0,
+                r.phaseMillis[0], r.phaseMillis[1], r.phaseMillis[2], r.phaseMillis[3],
+                r.phaseAllocatedMb[0], r.phaseAllocatedMb[1], r.phaseAllocatedMb[2], r.phaseAllocatedMb[3],
+                r.totalRowsPerSecond());
+    }
+
+    private static void printTables(RunResult r) {
+        StringBuilder line = new StringBuilder("         rows/s per table:");
+        for (int t = 0; t < TABLES.length; t++) {
+            line.append(String.format(" %s=%.0f (%d rows)", TABLES[t], r.rowsPerSecond[t], r.rows[t]));
+        }
+        System.out.println(line);
+        StringBuilder stalls = new StringBuilder("         back-pressure stalls:");
+        for (int t = 1; t < TABLES.length; t++) {
+            stalls.append(String.format(" %s=%.0f (%.1f ms)", TABLES[t], r.stalls[t], r.stallMillis[t]));
+        }
+        System.out.println(stalls);
+    }
+
+    /**
+     * Measurements of one sync run, read back from its meter registry.
+     */
+    private record RunResult(boolean succeeded, double payloadBytes, double[] phaseMillis,
+                             double[] phaseAllocatedMb, long[] rows, double[] rowsPerSecond,
+                             double[] stalls, double[] stallMillis) {
+
+        static RunResult from(MeterRegistry registry) {
+            Counter successes = registry.find("skillgrid.country.sync.runs").tag("result", "success").counter();
+            DistributionSummary payload = registry.find("skillgrid.country.sync.payload").summary();
+            double[] millis = new double[PHASES.length];
+            double[] allocated = new double[PHASES.length];
+            for (int p = 0; p < PHASES.length; p++) {
+                Timer timer = registry.find("skillgrid.country.sync.phase").tag("phase", PHASES[p]).timer();
+                DistributionSummary alloc = registry.find("skillgrid.country.sync.phase.allocated")
+                        .tag("phase", PHASES[p]).summary();
+                millis[p] = timer != null ? timer.totalTime(TimeUnit.MILLISECONDS) : 0;
+                allocated[p] = alloc != null ? alloc.totalAmount() / (1024.0 * 1024.0) : 0;
+            }
+            long[] rows = new long[TABLES.length];
+            double[] rates = new double[TABLES.length];
+            double[] stalls = new double[TABLES.length];
+            double[] stallMillis = new double[TABLES.length];
+            for (int t = 0; t < TABLES.length; t++) {
+                Counter counter = registry.find("skillgrid.country.sync.rows").tag("table", TABLES[t]).counter();
+                Gauge rate = registry.find("skillgrid.country.sync.rows.per.second").tag("table", TABLES[t]).gauge();
+                rows[t] = counter != null ? (long) counter.count() : 0;
+                rates[t] = rate != null ? rate.value() : 0;
+                Counter stallCount = registry.find("skillgrid.country.sync.backpressure.stalls")
+                        .tag("table", TABLES[t]).counter();
+                Timer stallTime = registry.find("skillgrid.country.sync.backpressure").tag("table", TABLES[t]).timer();
+                stalls[t] = stallCount != null ? stallCount.count() : 0;
+                stallMillis[t] = stallTime != null ? stallTime.totalTime(TimeUnit.MILLISECONDS) : 0;
+            }
+            return new RunResult(successes != null && successes.count() > 0,
+                    payload != null ? payload.totalAmount() : 0, millis, allocated, rows, rates, stalls, stallMillis);
+        }
+
+        double totalRowsPerSecond() {
+            long total = Arrays.stream(rows).sum();
+            return phaseMillis[3] > 0 ? total / (phaseMillis[3] / 1000.0) : 0;
+        }
+
+        static RunResult median(List<RunResult> results) {
+            int phases = PHASES.length;
+            int tables = TABLES.length;
+            double[] millis = new double[phases];
+            double[] allocated = new double[phases];
+            double[] rates = new double[tables];
+            double[] stalls = new double[tables];
+            double[] stallMillis = new double[tables];
+            for (int p = 0; p < phases; p++) {
+                int index = p;
+                millis[p] = median(results.stream().mapToDouble(r -> r.phaseMillis[index]).toArray());
+                allocated[p] = median(results.stream().mapToDouble(r -> r.phaseAllocatedMb[index]).toArray());
+            }
+            for (int t = 0; t < tables; t++) {
+                int index = t;
+                rates[t] = median(results.stream().mapToDouble(r -> r.rowsPerSecond[index]).toArray());
+                stalls[t] = median(results.stream().mapToDouble(r -> r.stalls[index]).toArray());
+                stallMillis[t] = median(results.stream().mapToDouble(r -> r.stallMillis[index]).toArray());
+            }
+            RunResult first = results.get(0);
+            return new RunResult(true, first.payloadBytes, millis, allocated, first.rows, rates, stalls, stallMillis);
+        }
+
+        private static double median(double[] values) {
+            Arrays.sort(values);
+            int mid = values.length / 2;
+            return values.length % 2 == 1 ? values[mid] : (values[mid - 1] + values[mid]) / 2;
+        }
+    }
+}
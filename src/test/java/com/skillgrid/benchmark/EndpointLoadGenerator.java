@@ -0,0 +1,198 @@
+package com.skillgrid.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Closed-loop HTTP load generator for the SkillGrid endpoints.
+ * Run it once against the default profile and once against the "virtual" profile
+ * to compare throughput and tail latency (see scripts/virtual-threads-loadtest.sh).
+ *
+ * Usage:
+ *   scripts/run-benchmark.sh EndpointLoadGenerator \
+ *        --base-url http://localhost:8090 --path /api/countries --path /api/countries/AR \
+ *        --concurrency 200 --duration 30 --warmup 5 --user user --password secret
+ */
+public class EndpointLoadGenerator {
+
+    private final String baseUrl;
+    private final List<String> paths;
+    private final int concurrency;
+    private final Duration duration;
+    private final Duration warmup;
+    private final String authorization;
+
+    public EndpointLoadGenerator(String baseUrl, List<String> paths, int concurrency,
+                                 Duration duration, Duration warmup, String authorization) {
+        this.baseUrl = baseUrl;
+        this.paths = paths;
+        this.concurrency = concurrency;
+        this.duration = duration;
+        this.warmup = warmup;
+        this.authorization = authorization;
+    }
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = "http://localhost:8090";
+        List<String> paths = new ArrayList<>();
+        int concurrency = 100;
+        int durationSeconds = 30;
+        int warmupSeconds = 5;
+        String user = null;
+        String password = null;
+        String token = null;
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--base-url" -> baseUrl = args[++i];
+                case "--path" -> paths.add(args[++i]);
+                case "--concurrency" -> concurrency = Integer.parseInt(args[++i]);
+                case "--duration" -> durationSeconds = Integer.parseInt(args[++i]);
+                case "--warmup" -> warmupSeconds = Integer.parseInt(args[++i]);
+                case "--user" -> user = args[++i];
+                case "--password" -> password = args[++i];
+                case "--token" -> token = args[++i];
+                default -> throw new IllegalArgumentException("Unknown argument: " + args[i]);
+            }
+        }
+        if (paths.isEmpty()) {
+            paths = List.of("/api/countries", "/api/countries/AR");
+        }
+
+        String authorization = null;
+        if (token != null) {
+            authorization = "Bearer " + token;
+        } else if (user != null) {
+            authorization = "Basic " + Base64.getEncoder()
+                    .encodeToString((user + ":" + password).getBytes(StandardCharsets.UTF_8));
+        }
+
+        EndpointLoadGenerator generator = new EndpointLoadGenerator(baseUrl, paths, concurrency,
+                Duration.ofSeconds(durationSeconds), Duration.ofSeconds(warmupSeconds), authorization);
+        generator.run();
+    }
+
+    public void run() throws Exception {
+        System.out.println("=== Endpoint Load Test ===");
+        System.out.println("Target: " + baseUrl + " " + paths);
+        System.out.println("Concurrency: " + concurrency + ", duration: " + duration.toSeconds()
+                + "s, warmup: " + warmup.toSeconds() + "s");
+
+        // Client-side workers are virtual threads so the generator itself never becomes
+        // the bottleneck when comparing server execution modes.
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            HttpClient client = HttpClient.newBuilder()
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .executor(workers)
+                    .build();
+
+            if (!warmup.isZero()) {
+                execute(client, workers, warmup);
+            }
+            Result result = execute(client, workers, duration);
+            result.print(duration);
+        }
+    }
+
+    private Result execute(HttpClient client, ExecutorService workers, Duration window) throws Exception {
+        long deadline = System.nanoTime() + window.toNanos();
+        List<Future<Recorder>> futures = new ArrayList<>(concurrency);
+
+        for (int w = 0; w < concurrency; w++) {
+            int offset = w;
+            futures.add(workers.submit(() -> {
+                Recorder recorder = new Recorder();
+                int next = offset;
+                while (System.nanoTime() < deadline) {
+                    String path = paths.get(next++ % paths.size());
+                    long start = System.nanoTime();
+                    try {
+                        HttpResponse<Void> response = client.send(request(path),
+                                HttpResponse.BodyHandlers.discarding());
+                        recorder.record(System.nanoTime() - start, response.statusCode() < 400);
+                    } catch (Exception e) {
+                        recorder.record(System.nanoTime() - start, false);
+                    }
+                }
+                return recorder;
+            }));
+        }
+
+        Result result = new Result();
+        for (Future<Recorder> future : futures) {
+            result.merge(future.get());
+        }
+        return result;
+    }
+
+    private HttpRequest request(String path) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder()
+                .uri(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Accept", "application/json")
+                .GET();
+        if (authorization != null) {
+            builder.header("Authorization", authorization);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Per-worker latency log, kept in a primitive array to avoid boxing on the hot path.
+     */
+    private static class Recorder {
+        long[] latencies = new long[4096];
+        int count;
+        int errors;
+
+        void record(long nanos, boolean ok) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = nanos;
+            if (!ok) {
+                errors++;
+            }
+        }
+    }
+
+    private static class Result {
+        long[] latencies = new long[0];
+        int errors;
+
+        void merge(Recorder recorder) {
+            int previous = latencies.length;
+            latencies = Arrays.copyOf(latencies, previous + recorder.count);
+            System.arraycopy(recorder.latencies, 0, latencies, previous, recorder.count);
+            errors += recorder.errors;
+        }
+
+        void print(Duration window) {
+            Arrays.sort(latencies);
+            int total = latencies.length;
+            double throughput = total / (double) window.toSeconds();
+
+            System.out.println("Requests: " + total + " (" + errors + " errors)");
+            System.out.printf("Throughput: %.1f req/s%n", throughput);
+            System.out.printf("Latency p50: %.2f ms, p90: %.2f ms, p99: %.2f ms, max: %.2f ms%n",
+                    percentile(0.50), percentile(0.90), percentile(0.99), percentile(1.0));
+        }
+
+        double percentile(double p) {
+            if (latencies.length == 0) return 0.0;
+            int index = (int) Math.ceil(p * latencies.length) - 1;
+            return latencies[Math.max(0, index)] / 1_000_000.0;
+        }
+    }
+}
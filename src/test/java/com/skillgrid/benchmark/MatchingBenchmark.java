@@ -0,0 +1,127 @@
+package com.skillgrid.benchmark;
+
+import com.skillgrid.infrastructure.CountryCatalog;
+import com.skillgrid.matching.domain.model.JobProfile;
+import com.skillgrid.matching.domain.model.MatchResult;
+import com.skillgrid.matching.engine.CandidatePool;
+import com.skillgrid.matching.engine.MatchingEngine;
+import com.skillgrid.members.domain.model.AgeBand;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Full-scan benchmark of the {@link MatchingEngine} over a synthetic candidate pool.
+ *
+ * Usage:
+ *   scripts/run-benchmark.sh MatchingBenchmark \
+ *        --candidates 1000000 --limit 50 --runs 20
+ *
+ * Each scenario runs single-threaded and on the common fork/join pool, and checks
+ * that both return the same ranking.
+ */
+public class MatchingBenchmark {
+
+    private static final String[] REGIONS = {"Africa", "Americas", "Asia", "Europe", "Oceania", "Antarctic"};
+    private static final int COUNTRIES = 250;
+    private static final int LANGUAGES = 120;
+
+    public static void main(String[] args) {
+        int candidates = 1_000_000;
+        int limit = 50;
+        int runs = 20;
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--candidates" -> candidates = Integer.parseInt(args[++i]);
+                case "--limit" -> limit = Integer.parseInt(args[++i]);
+                case "--runs" -> runs = Integer.parseInt(args[++i]);
+                default -> throw new IllegalArgumentException("Unknown argument: " + args[i]);
+            }
+        }
+
+        System.out.println("=== Matching Engine Benchmark ===");
+        Random random = new Random(42);
+        CountryCatalog catalog = syntheticCatalog(random);
+
+        long start = System.nanoTime();
+        CandidatePool pool = syntheticPool(catalog, candidates, random);
+        System.out.println("Built pool of " + pool.size() + " candidates (" + pool.sizeInBytes() / (1024 * 1024)
+                + " MB) in " + (System.nanoTime() - start) / 1_000_000 + " ms");
+
+        MatchingEngine sequential = new MatchingEngine(new ForkJoinPool(1));
+        MatchingEngine parallel = new MatchingEngine();
+        System.out.println("Parallelism: " + ForkJoinPool.commonPool().getParallelism() + ", limit: " + limit);
+
+        run("country + languages + age", JobProfile.builder()
+                .countryCode(catalog.code(0)).language(catalog.languageCode(0)).language(catalog.languageCode(1))
+                .ageBand(AgeBand.FROM_25_TO_34).ageBand(AgeBand.FROM_35_TO_44).build(),
+                pool, sequential, parallel, limit, runs);
+        run("region + language only", JobProfile.builder()
+                .countryCode(catalog.code(COUNTRIES - 1)).region(REGIONS[3]).language(catalog.languageCode(5)).build(),
+                pool, sequential, parallel, limit, runs);
+        run("large result (limit x10)", JobProfile.builder()
+                .countryCode(catalog.code(3)).language(catalog.languageCode(3)).ageBand(AgeBand.FROM_16_TO_24).build(),
+                pool, sequential, parallel, limit * 10, runs);
+    }
+
+    private static void run(String name, JobProfile profile, CandidatePool pool,
+                            MatchingEngine sequential, MatchingEngine parallel, int limit, int runs) {
+        // Warm up the JIT before timing
+        for (int i = 0; i < 5; i++) {
+            sequential.match(pool, profile, limit);
+            parallel.match(pool, profile, limit);
+        }
+
+        long sequentialNanos = time(sequential, pool, profile, limit, runs);
+        long parallelNanos = time(parallel, pool, profile, limit, runs);
+        List<MatchResult> expected = sequential.match(pool, profile, limit);
+        List<MatchResult> actual = parallel.match(pool, profile, limit);
+
+        System.out.printf("%-28s sequential: %7.2f ms  parallel: %7.2f ms  (%5.0f M candidates/s)  identical: %s%n",
+                name, sequentialNanos / 1e6 / runs, parallelNanos / 1e6 / runs,
+                pool.size() * (double) runs / (parallelNanos / 1e9) / 1e6, expected.equals(actual));
+    }
+
+    private static long time(MatchingEngine engine, CandidatePool pool, JobProfile profile, int limit, int runs) {
+        long start = System.nanoTime();
+        for (int i = 0; i < runs; i++) {
+            engine.match(pool, profile, limit);
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static CountryCatalog syntheticCatalog(Random random) {
+        CountryCatalog.Builder builder = new CountryCatalog.Builder();
+        for (int i = 0; i < COUNTRIES; i++) {
+            String code = String.valueOf((char) ('A' + i / 26)) + (char) ('A' + i % 26);
+            builder.add(code, "Country " + code, REGIONS[i % (REGIONS.length - 1)]);
+            builder.language(code, "l" + (i % LANGUAGES));
+            if (random.nextInt(3) == 0) {
+                builder.language(code, "l" + random.nextInt(LANGUAGES));
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Candidates are skewed towards the first countries, like a real member base.
+     */
+    private static CandidatePool syntheticPool(CountryCatalog catalog, int candidates, Random random) {
+        CandidatePool.Builder builder = new CandidatePool.Builder(catalog);
+        long[] mask = new long[catalog.languageWords()];
+        AgeBand[] bands = AgeBand.values();
+        for (int i = 0; i < candidates; i++) {
+            int country = (int) (catalog.size() * Math.pow(random.nextDouble(), 3));
+            catalog.copyLanguageMask(country, mask, 0);
+            if (random.nextInt(4) == 0) {
+                int extra = random.nextInt(catalog.languageCount());
+                mask[extra >>> 6] |= 1L << extra;
+            }
+            builder.add(new UUID(random.nextLong(), random.nextLong()), country, mask,
+                    bands[random.nextInt(bands.length)]);
+        }
+        return builder.build();
+    }
+}
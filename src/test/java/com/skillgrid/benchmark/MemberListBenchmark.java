@@ -0,0 +1,183 @@
+package com.skillgrid.benchmark;
+
+import com.skillgrid.members.infrastructure.MemberQueryController;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Compares member list page latency reading the member_view projection against the
+ * equivalent normalized query (members joined with cities and countries, age band
+ * computed per row).
+ *
+ * Usage:
+ *   scripts/run-benchmark.sh MemberListBenchmark \
+ *        --db-url jdbc:postgresql://localhost:5432/skillgrid_db --user postgres --password secret \
+ *        --members 200000 --pages 500 --size 50
+ *
+ * Synthetic members (emails ending in @bench.test) are spread over the existing
+ * countries and cities, and removed at the end unless --keep is given.
+ */
+public class MemberListBenchmark {
+
+    private static final String JOIN_PAGE_SQL = """
+        SELECT m.id AS member_id, m.first_name, m.last_name, m.email, m.phone,
+               CASE WHEN m.address_line1 IS NOT NULL THEN
+                   concat_ws(', ', m.address_line1, NULLIF(trim(m.address_line2), ''), NULLIF(trim(m.state), ''))
+                   || COALESCE(' ' || NULLIF(trim(m.postal_code), ''), '')
+               END AS address,
+               ci.name AS city_name, co.code AS country_code, co.name AS country_name, co.region,
+               member_age_band(m.birth_date) AS age_band
+        FROM members m
+        JOIN countries co ON co.id = m.country_id
+        LEFT JOIN cities ci ON ci.id = m.city_id
+        WHERE co.code = ?
+        ORDER BY m.last_name, m.first_name, m.id
+        LIMIT ? OFFSET ?
+        """;
+
+    private static final String SEED_MEMBERS_SQL = """
+        WITH c AS (SELECT array_agg(id ORDER BY code) AS ids FROM countries),
+             ci AS (SELECT array_agg(id) AS ids FROM (SELECT id FROM cities LIMIT 20000) x)
+        INSERT INTO members (id, first_name, last_name, email, phone, address_line1, address_line2,
+                             city_id, state, country_id, postal_code, birth_date, created_at, updated_at)
+        SELECT gen_random_uuid(), 'First' || g, 'Last' || (g % 7919), 'member' || g || '@bench.test', NULL,
+               'Street ' || g, NULL,
+               ci.ids[1 + (g % greatest(coalesce(array_length(ci.ids, 1), 0), 1))],
+               NULL,
+               c.ids[1 + (floor(array_length(c.ids, 1) * power(random(), 3)))::int],
+               NULL, DATE '1960-01-01' + (g % 16000), now(), now()
+        FROM generate_series(1, ?) g, c, ci
+        """;
+
+    private static final String SEED_VIEW_SQL = """
+        INSERT INTO member_view (member_id, first_name, last_name, email, phone, address, city_id, city_name,
+                                 country_id, country_code, country_name, region, birth_date, age_band,
+                                 name_at, contact_at, address_at, birth_date_at)
+        SELECT m.id, m.first_name, m.last_name, m.email, m.phone,
+               m.address_line1, m.city_id, ci.name, m.country_id, co.code, co.name, co.region,
+               m.birth_date, member_age_band(m.birth_date),
+               m.updated_at, m.updated_at, m.updated_at, m.updated_at
+        FROM members m
+        LEFT JOIN cities ci ON ci.id = m.city_id
+        LEFT JOIN countries co ON co.id = m.country_id
+        WHERE m.email LIKE '%@bench.test'
+        """;
+
+    public static void main(String[] args) throws Exception {
+        String dbUrl = "jdbc:postgresql://localhost:5432/skillgrid_db";
+        String user = "postgres";
+        String password = "";
+        int members = 200_000;
+        int pages = 500;
+        int size = 50;
+        boolean keep = false;
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--db-url" -> dbUrl = args[++i];
+                case "--user" -> user = args[++i];
+                case "--password" -> password = args[++i];
+                case "--members" -> members = Integer.parseInt(args[++i]);
+                case "--pages" -> pages = Integer.parseInt(args[++i]);
+                case "--size" -> size = Integer.parseInt(args[++i]);
+                case "--keep" -> keep = true;
+                default -> throw new IllegalArgumentException("Unknown argument: " + args[i]);
+            }
+        }
+
+        System.out.println("=== Member List Benchmark ===");
+        try (Connection conn = DriverManager.getConnection(dbUrl, user, password)) {
+            List<String> countries = new ArrayList<>();
+            try (Statement stmt = conn.createStatement();
+                 ResultSet rs = stmt.executeQuery("SELECT code FROM countries ORDER BY code")) {
+                while (rs.next()) {
+                    countries.add(rs.getString(1));
+                }
+            }
+            if (countries.isEmpty()) {
+                System.out.println("No countries loaded; run the country sync first.");
+                return;
+            }
+
+            cleanUp(conn);
+            long start = System.nanoTime();
+            try (PreparedStatement stmt = conn.prepareStatement(SEED_MEMBERS_SQL)) {
+                stmt.setInt(1, members);
+                stmt.executeUpdate();
+            }
+            try (Statement stmt = conn.createStatement()) {
+                stmt.executeUpdate(SEED_VIEW_SQL);
+                stmt.execute("ANALYZE members");
+                stmt.execute("ANALYZE member_view");
+            }
+            System.out.println("Seeded " + members + " members over " + countries.size() + " countries in "
+                    + (System.nanoTime() - start) / 1_000_000 + " ms");
+
+            Random random = new Random(42);
+            String[] pageCountries = new String[pages];
+            int[] offsets = new int[pages];
+            for (int i = 0; i < pages; i++) {
+                // Mostly early pages, like real browsing
+                pageCountries[i] = countries.get((int) (countries.size() * Math.pow(random.nextDouble(), 3)));
+                offsets[i] = size * (int) (20 * Math.pow(random.nextDouble(), 2));
+            }
+
+            // Warm up plans and caches for both queries
+            run(conn, JOIN_PAGE_SQL, pageCountries, offsets, size, Math.min(pages, 50));
+            run(conn, MemberQueryController.PAGE_BY_COUNTRY_SQL, pageCountries, offsets, size, Math.min(pages, 50));
+
+            long[] joinNanos = run(conn, JOIN_PAGE_SQL, pageCountries, offsets, size, pages);
+            long[] viewNanos = run(conn, MemberQueryController.PAGE_BY_COUNTRY_SQL, pageCountries, offsets, size, pages);
+
+            System.out.printf("Pages: %d, page size: %d%n", pages, size);
+            print("members + joins", joinNanos);
+            print("member_view", viewNanos);
+
+            if (!keep) {
+                cleanUp(conn);
+            }
+        }
+    }
+
+    private static long[] run(Connection conn, String sql, String[] countries, int[] offsets, int size, int pages)
+            throws Exception {
+        long[] nanos = new long[pages];
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            for (int i = 0; i < pages; i++) {
+                long start = System.nanoTime();
+                stmt.setString(1, countries[i]);
+                stmt.setInt(2, size);
+                stmt.setInt(3, offsets[i]);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        rs.getString("age_band");
+                    }
+                }
+                nanos[i] = System.nanoTime() - start;
+            }
+        }
+        return nanos;
+    }
+
+    private static void print(String name, long[] nanos) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        double mean = Arrays.stream(sorted).average().orElse(0);
+        System.out.printf("%-16s mean: %8.0f µs  p50: %8d µs  p99: %8d µs%n", name, mean / 1000,
+                sorted[sorted.length / 2] / 1000, sorted[(int) (sorted.length * 0.99)] / 1000);
+    }
+
+    private static void cleanUp(Connection conn) throws Exception {
+        try (Statement stmt = conn.createStatement()) {
+            stmt.executeUpdate("DELETE FROM member_view WHERE email LIKE '%@bench.test'");
+            stmt.executeUpdate("DELETE FROM members WHERE email LIKE '%@bench.test'");
+        }
+    }
+}
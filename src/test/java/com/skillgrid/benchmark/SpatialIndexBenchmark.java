@@ -0,0 +1,187 @@
+package com.skillgrid.benchmark;
+
+import com.skillgrid.infrastructure.cities.CitySpatialIndex;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+/**
+ * Compares radius queries on the in-memory {@link CitySpatialIndex} with the
+ * equivalent PostgreSQL earthdistance query (GiST on ll_to_earth) over the cities table.
+ *
+ * Usage:
+ *   scripts/run-benchmark.sh SpatialIndexBenchmark \
+ *        --db-url jdbc:postgresql://localhost:5432/skillgrid_scratch --user postgres --password secret \
+ *        --queries 2000 --radius 50
+ *
+ * --db-url is required and should be a scratch copy with loaded cities. Everything
+ * runs in one transaction that is rolled back: the cube/earthdistance extensions and
+ * the GiST index (on a temporary copy of the cities) are not left behind.
+ *
+ * earthdistance uses its own earth radius (earth() = 6378168 m); the SQL radius is
+ * scaled so both sides query the same great-circle angle.
+ */
+public class SpatialIndexBenchmark {
+
+    private static final String EARTH_QUERY = """
+        SELECT count(*) FROM benchmark_cities
+        WHERE earth_box(ll_to_earth(?, ?), ?) @> ll_to_earth(latitude, longitude)
+          AND earth_distance(ll_to_earth(?, ?), ll_to_earth(latitude, longitude)) <= ?
+        """;
+
+    private static final double EARTHDISTANCE_RADIUS_KM = 6378.168;
+
+    public static void main(String[] args) throws Exception {
+        String dbUrl = null;
+        String user = "postgres";
+        String password = "";
+        int queries = 2000;
+        double radiusKm = 50;
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--db-url" -> dbUrl = args[++i];
+                case "--user" -> user = args[++i];
+                case "--password" -> password = args[++i];
+                case "--queries" -> queries = Integer.parseInt(args[++i]);
+                case "--radius" -> radiusKm = Double.parseDouble(args[++i]);
+                default -> throw new IllegalArgumentException("Unknown argument: " + args[i]);
+            }
+        }
+
+        if (dbUrl == null) {
+            throw new IllegalArgumentException("--db-url is required (a scratch database with loaded cities)");
+        }
+
+        System.out.println("=== Spatial Index Benchmark ===");
+        try (Connection conn = DriverManager.getConnection(dbUrl, user, password)) {
+            conn.setAutoCommit(false);
+            try {
+                run(conn, queries, radiusKm);
+            } finally {
+                conn.rollback();
+            }
+        }
+    }
+
+    private static void run(Connection conn, int queries, double radiusKm) throws Exception {
+        prepareEarthDistance(conn);
+
+        long start = System.nanoTime();
+        CitySpatialIndex.Builder builder = new CitySpatialIndex.Builder();
+        double[] lat = new double[1024];
+        double[] lon = new double[1024];
+        int cities = 0;
+        try (Statement stmt = conn.createStatement()) {
+            stmt.setFetchSize(10_000);
+            try (ResultSet rs = stmt.executeQuery("SELECT id, latitude, longitude FROM benchmark_cities")) {
+                while (rs.next()) {
+                    if (cities == lat.length) {
+                        lat = Arrays.copyOf(lat, cities * 2);
+                        lon = Arrays.copyOf(lon, cities * 2);
+                    }
+                    lat[cities] = rs.getDouble(2);
+                    lon[cities] = rs.getDouble(3);
+                    builder.add(rs.getObject(1, UUID.class), lat[cities], lon[cities]);
+                    cities++;
+                }
+            }
+        }
+        CitySpatialIndex index = builder.build();
+        System.out.println("Indexed " + cities + " cities in " + (System.nanoTime() - start) / 1_000_000 + " ms");
+        if (cities == 0) {
+            System.out.println("No cities loaded; run the city loader first.");
+            return;
+        }
+
+        Random random = new Random(42);
+        int[] centers = new int[queries];
+        for (int i = 0; i < queries; i++) {
+            centers[i] = random.nextInt(cities);
+        }
+        double[] qLat = lat;
+        double[] qLon = lon;
+        double radius = radiusKm;
+
+        // Warm up the JIT before timing
+        for (int round = 0; round < 3; round++) {
+            for (int c : centers) {
+                index.within(qLat[c], qLon[c], radius);
+            }
+        }
+
+        long[] indexCounts = new long[queries];
+        start = System.nanoTime();
+        for (int i = 0; i < queries; i++) {
+            indexCounts[i] = index.within(qLat[centers[i]], qLon[centers[i]], radius).length;
+        }
+        long indexNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        IntStream.range(0, queries).parallel()
+                .forEach(i -> index.within(qLat[centers[i]], qLon[centers[i]], radius));
+        long batchNanos = System.nanoTime() - start;
+
+        long[] sqlCounts = new long[queries];
+        start = System.nanoTime();
+        double sqlRadiusMeters = radius * 1000 * EARTHDISTANCE_RADIUS_KM / CitySpatialIndex.EARTH_RADIUS_KM;
+        try (PreparedStatement stmt = conn.prepareStatement(EARTH_QUERY)) {
+            for (int i = 0; i < queries; i++) {
+                double la = qLat[centers[i]];
+                double lo = qLon[centers[i]];
+                stmt.setDouble(1, la);
+                stmt.setDouble(2, lo);
+                stmt.setDouble(3, sqlRadiusMeters);
+                stmt.setDouble(4, la);
+                stmt.setDouble(5, lo);
+                stmt.setDouble(6, sqlRadiusMeters);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    rs.next();
+                    sqlCounts[i] = rs.getLong(1);
+                }
+            }
+        }
+        long sqlNanos = System.nanoTime() - start;
+
+        long matches = 0;
+        long indexTotal = 0;
+        for (int i = 0; i < queries; i++) {
+            indexTotal += indexCounts[i];
+            if (indexCounts[i] == sqlCounts[i]) {
+                matches++;
+            }
+        }
+
+        System.out.printf("Queries: %d, radius: %.1f km, avg cities per result: %.1f%n",
+                queries, radius, indexTotal / (double) queries);
+        System.out.printf("k-d tree (sequential):   %8.2f µs/query%n", indexNanos / 1000.0 / queries);
+        System.out.printf("k-d tree (parallel batch): %6.2f µs/query%n", batchNanos / 1000.0 / queries);
+        System.out.printf("PostgreSQL earthdistance: %7.2f µs/query%n", sqlNanos / 1000.0 / queries);
+        System.out.println("Identical result counts: " + matches + "/" + queries);
+    }
+
+    /**
+     * Extensions and a GiST-indexed temporary copy of the cities, inside the caller's
+     * transaction (rolled back at the end, so nothing persists).
+     */
+    private static void prepareEarthDistance(Connection conn) throws Exception {
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute("CREATE EXTENSION IF NOT EXISTS cube");
+            stmt.execute("CREATE EXTENSION IF NOT EXISTS earthdistance");
+            stmt.execute("""
+                CREATE TEMPORARY TABLE benchmark_cities ON COMMIT DROP AS
+                SELECT id, latitude, longitude FROM cities
+                """);
+            stmt.execute("""
+                CREATE INDEX ON benchmark_cities USING gist (ll_to_earth(latitude, longitude))
+                """);
+            stmt.execute("ANALYZE benchmark_cities");
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.skillgrid.commons.ids;
+
+import org.junit.jupiter.api.Test;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class Md5UuidsTest {
+
+    // Values of md5(...)::uuid computed by PostgreSQL (see V2__Create_Cities_Table.sql)
+    @Test
+    void matchesPostgresMd5Uuid() {
+        assertThat(Md5Uuids.of("country:AR")).isEqualTo(UUID.fromString("0e9abbde-541a-13fa-e35b-5cc0e36a313d"));
+        assertThat(Md5Uuids.of("geonames:3435910")).isEqualTo(UUID.fromString("46d85f30-1926-3802-c3ae-aad550ba8ded"));
+    }
+
+    @Test
+    void countryAndCityIdsUseTheSameDerivation() {
+        assertThat(CountryId.fromCode(" ar ").value()).isEqualTo(Md5Uuids.of("country:AR"));
+        assertThat(CityId.fromGeonameId(3435910).value()).isEqualTo(Md5Uuids.of("geonames:3435910"));
+    }
+}
@@ -0,0 +1,101 @@
+package com.skillgrid.commons.money;
+
+import org.junit.jupiter.api.Test;
+import java.time.Instant;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class ExchangeRateMatrixTest {
+
+    private static final Instant AS_OF = Instant.parse("2024-01-01T00:00:00Z");
+
+    private final ExchangeRateMatrix rates = ExchangeRateMatrix.fromUnitsPerUsd(
+            Map.of("USD", 1.0, "EUR", 0.9, "ars", 800.0), AS_OF);
+
+    @Test
+    void convertsThroughTheUsdQuotes() {
+        assertThat(rates.size()).isEqualTo(3);
+        assertThat(rates.convert(100, "USD", "EUR")).isCloseTo(90, within(1e-9));
+        assertThat(rates.convert(90, "EUR", "USD")).isCloseTo(100, within(1e-9));
+        assertThat(rates.convert(42, "ARS", "ARS")).isEqualTo(42);
+        // Cross rate: neither side is USD
+        assertThat(rates.convert(8000, "ARS", "EUR")).isCloseTo(9, within(1e-9));
+        assertThat(rates.factor(rates.require("EUR"), rates.require("ARS")))
+                .isCloseTo(1 / rates.factor(rates.require("ARS"), rates.require("EUR")), within(1e-9));
+    }
+
+    @Test
+    void resolvesCodesCaseInsensitively() {
+        assertThat(rates.ordinal("eur")).isEqualTo(rates.ordinal("EUR"));
+        assertThat(rates.code(rates.ordinal("ars"))).isEqualTo("ARS");
+        assertThat(rates.ordinal("GBP")).isEqualTo(ExchangeRateMatrix.UNKNOWN);
+        assertThat(rates.ordinal("US")).isEqualTo(ExchangeRateMatrix.UNKNOWN);
+        assertThat(rates.ordinal("U$D")).isEqualTo(ExchangeRateMatrix.UNKNOWN);
+        assertThatThrownBy(() -> rates.convert(1, "USD", "GBP")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ExchangeRateMatrix.fromUnitsPerUsd(Map.of("USD", 0.0), AS_OF))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void normalizesInOnePass() {
+        double[] amounts = {100, 90, 8000};
+        int[] currencies = {rates.require("USD"), rates.require("EUR"), rates.require("ARS")};
+        double[] out = new double[3];
+
+        rates.normalize(amounts, currencies, rates.require("USD"), out);
+
+        assertThat(out[0]).isCloseTo(100, within(1e-9));
+        assertThat(out[1]).isCloseTo(100, within(1e-9));
+        assertThat(out[2]).isCloseTo(10, within(1e-9));
+    }
+
+    @Test
+    void comparesAndOverlapsBandsAcrossCurrencies() {
+        SalaryBand dollars = SalaryBand.of(1000, 2000, "USD");
+        SalaryBand euros = SalaryBand.of(900, 1800, "EUR");
+        SalaryBand pesos = SalaryBand.of(2_000_000, 3_000_000, "ARS");
+
+        assertThat(rates.compare(dollars, euros)).isZero();
+        assertThat(rates.compare(dollars, pesos)).isNegative();
+        assertThat(rates.compare(pesos, dollars)).isPositive();
+        assertThat(rates.overlaps(dollars, euros)).isTrue();
+        assertThat(rates.overlaps(dollars, pesos)).isFalse();
+
+        SalaryBand converted = rates.convert(pesos, "USD");
+        assertThat(converted.currencyCode()).isEqualTo("USD");
+        assertThat(converted.min()).isCloseTo(2500, within(1e-9));
+        assertThat(converted.max()).isCloseTo(3750, within(1e-9));
+    }
+
+    @Test
+    void bandKeepsItsCurrencyAcrossAReloadThatShiftsOrdinals() {
+        SalaryBand euros = SalaryBand.of(900, 1800, "EUR");
+        // AUD and CAD sort before EUR, so EUR's ordinal changes in the reloaded snapshot
+        ExchangeRateMatrix reloaded = ExchangeRateMatrix.fromUnitsPerUsd(
+                Map.of("USD", 1.0, "EUR", 0.9, "ARS", 800.0, "AUD", 1.5, "CAD", 1.35), AS_OF.plusSeconds(60));
+        assertThat(reloaded.ordinal("EUR")).isNotEqualTo(rates.ordinal("EUR"));
+
+        assertThat(reloaded.convert(euros, "USD").min()).isCloseTo(1000, within(1e-9));
+        assertThat(reloaded.compare(SalaryBand.of(1000, 2000, "USD"), euros)).isZero();
+        assertThat(reloaded.overlaps(euros, SalaryBand.of(1500, 3000, "AUD"))).isTrue();
+
+        // A snapshot that dropped the currency rejects the band instead of guessing
+        ExchangeRateMatrix withoutEuro = ExchangeRateMatrix.fromUnitsPerUsd(Map.of("USD", 1.0), AS_OF);
+        assertThatThrownBy(() -> withoutEuro.convert(euros, "USD"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("EUR");
+    }
+
+    @Test
+    void packedCodesRoundTrip() {
+        assertThat(ExchangeRateMatrix.unpackCode(ExchangeRateMatrix.packCode("usd"))).isEqualTo("USD");
+        assertThat(ExchangeRateMatrix.packCode("AAA")).isZero();
+        assertThat(ExchangeRateMatrix.unpackCode(26 * 26 * 26 - 1)).isEqualTo("ZZZ");
+        assertThat(ExchangeRateMatrix.packCode("EU")).isEqualTo(ExchangeRateMatrix.UNKNOWN);
+        assertThatThrownBy(() -> SalaryBand.of(1, 2, "E1R")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> SalaryBand.of(3, 2, "EUR")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,90 @@
+package com.skillgrid.infrastructure;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+class CountryChangeFeedTest {
+
+    @Test
+    void changeBroadcastWhileSubscribingIsDeliveredAfterTheVersion() throws Exception {
+        // The catalog moves to version 2 and broadcasts right after the subscriber read version 1
+        AtomicLong version = new AtomicLong(1);
+        CountryChangeFeed[] feed = new CountryChangeFeed[1];
+        feed[0] = feed(() -> {
+            long read = version.get();
+            version.set(2);
+            feed[0].onCatalogChanged(new CountryCatalogChangedEvent(2, 1, List.of("XK"), List.of(), List.of()));
+            return read;
+        });
+
+        String stream = await(subscribe(feed[0]), "id:2");
+
+        assertThat(stream.indexOf("event:version")).isGreaterThanOrEqualTo(0);
+        assertThat(stream.indexOf("event:version")).isLessThan(stream.indexOf("event:change"));
+        assertThat(stream).contains("\"added\":[\"XK\"]");
+    }
+
+    @Test
+    void eventsReachEverySubscriberInPublishOrder() throws Exception {
+        AtomicLong version = new AtomicLong(0);
+        CountryChangeFeed feed = feed(version::get);
+        MvcResult first = subscribe(feed);
+        MvcResult second = subscribe(feed);
+
+        for (int v = 1; v <= 20; v++) {
+            version.set(v);
+            feed.onCatalogChanged(new CountryCatalogChangedEvent(v, v - 1, List.of(), List.of("AR"), List.of()));
+        }
+
+        for (MvcResult result : List.of(first, second)) {
+            String stream = await(result, "id:20\n");
+            int previous = stream.indexOf("event:version");
+            assertThat(previous).isGreaterThanOrEqualTo(0);
+            for (int v = 1; v <= 20; v++) {
+                int next = stream.indexOf("id:" + v + "\n");
+                assertThat(next).as("version %d", v).isGreaterThan(previous);
+                previous = next;
+            }
+        }
+    }
+
+    private static CountryChangeFeed feed(LongSupplier version) {
+        CountryCatalogService catalogService = new CountryCatalogService(null, null) {
+            @Override
+            public long version() {
+                return version.getAsLong();
+            }
+        };
+        return new CountryChangeFeed(catalogService, new ObjectMapper(), new SimpleMeterRegistry(), Duration.ofMinutes(1));
+    }
+
+    private static MvcResult subscribe(CountryChangeFeed feed) throws Exception {
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new CountryChangeController(feed)).build();
+        return mockMvc.perform(get("/api/countries/changes"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+    }
+
+    private static String await(MvcResult result, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + 5_000;
+        String stream = result.getResponse().getContentAsString();
+        while (!stream.contains(expected) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+            stream = result.getResponse().getContentAsString();
+        }
+        assertThat(stream).contains(expected);
+        return stream;
+    }
+}
@@ -0,0 +1,115 @@
+package com.skillgrid.infrastructure.cities;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CityDatasetLoaderIntegrationTest {
+
+    private static final EmbeddedPostgres POSTGRES = start();
+    private static final AtomicInteger DATABASES = new AtomicInteger();
+
+    private String database;
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @TempDir
+    Path dir;
+
+    @BeforeEach
+    void createDatabase() {
+        database = "cities_" + DATABASES.incrementAndGet();
+        new JdbcTemplate(POSTGRES.getPostgresDatabase()).execute("CREATE DATABASE " + database);
+        dataSource = new SingleConnectionDataSource(
+                POSTGRES.getJdbcUrl("postgres", database), "postgres", "postgres", true);
+        Flyway.configure().dataSource(dataSource).load().migrate();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.update("INSERT INTO countries (code, name) VALUES ('AR', 'Argentina'), ('UY', 'Uruguay')");
+    }
+
+    @AfterEach
+    void closeConnection() {
+        dataSource.destroy();
+    }
+
+    @Test
+    void reloadReplacesTheTableAndKeepsItsIndexes() throws Exception {
+        CityDatasetLoader loader = loader("5s");
+        loader.load(dump(city(3435910, "Buenos Aires", "P", "AR"), city(3441575, "Montevideo", "P", "UY"),
+                city(1, "Río de la Plata", "H", "AR"), city(2, "Madrid", "P", "ES")));
+        assertThat(names()).isEqualTo("Buenos Aires,Montevideo");
+
+        CityLoadReport report = loader.load(dump(city(3860259, "Córdoba", "P", "AR")));
+
+        assertThat(report.loaded()).isEqualTo(1);
+        assertThat(names()).isEqualTo("Córdoba");
+        assertThat(jdbcTemplate.queryForObject("SELECT id::text FROM cities", String.class))
+                .isEqualTo(jdbcTemplate.queryForObject("SELECT md5('geonames:3860259')::uuid::text", String.class));
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT indexname FROM pg_indexes WHERE tablename = 'cities' ORDER BY indexname", String.class))
+                .containsExactly("cities_pkey", "idx_cities_country_code", "idx_cities_id");
+        assertThat(jdbcTemplate.queryForObject("SELECT to_regclass('cities_loading') IS NULL", Boolean.class)).isTrue();
+    }
+
+    @Test
+    void readersAreOnlyWaitedForAtTheSwap() throws Exception {
+        loader("5s").load(dump(city(3435910, "Buenos Aires", "P", "AR")));
+
+        // An open reader transaction: the COPY goes ahead, the swap gives up after the lock timeout
+        try (Connection reader = POSTGRES.getDatabase("postgres", database).getConnection()) {
+            reader.setAutoCommit(false);
+            try (Statement stmt = reader.createStatement()) {
+                stmt.executeQuery("SELECT count(*) FROM cities").close();
+            }
+
+            assertThatThrownBy(() -> loader("200ms").load(dump(city(3860259, "Córdoba", "P", "AR"))))
+                    .isInstanceOf(SQLException.class)
+                    .hasMessageContaining("lock timeout");
+            reader.rollback();
+        }
+
+        assertThat(names()).isEqualTo("Buenos Aires");
+        assertThat(jdbcTemplate.queryForObject("SELECT to_regclass('cities_loading') IS NULL", Boolean.class)).isTrue();
+    }
+
+    private CityDatasetLoader loader(String swapLockTimeout) {
+        return new CityDatasetLoader(dataSource, event -> { }, swapLockTimeout);
+    }
+
+    private String names() {
+        return jdbcTemplate.queryForObject("SELECT string_agg(name, ',' ORDER BY name) FROM cities", String.class);
+    }
+
+    private Path dump(String... lines) throws IOException {
+        return Files.writeString(Files.createTempFile(dir, "cities", ".txt"), String.join("\n", lines) + "\n");
+    }
+
+    private static String city(long geonameId, String name, String featureClass, String countryCode) {
+        return String.join("\t", String.valueOf(geonameId), name, name, "", "-34.6", "-58.4", featureClass, "PPL",
+                countryCode, "", "07", "", "", "", "1000", "", "25", "America/Argentina/Buenos_Aires", "2024-01-01");
+    }
+
+    private static EmbeddedPostgres start() {
+        try {
+            return EmbeddedPostgres.builder().start();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.skillgrid.infrastructure.cities;
+
+import com.skillgrid.commons.ids.CityId;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CityPrefixIndexTest {
+
+    @Test
+    void emptyIndexFindsNothing() {
+        assertThat(CityPrefixIndex.EMPTY.size()).isZero();
+        assertThat(CityPrefixIndex.EMPTY.search("AR", "b", 10)).isEmpty();
+        assertThat(CityPrefixIndex.EMPTY.search("AR", "", 10)).isEmpty();
+    }
+
+    @Test
+    void singleEntryMatchesItsPrefixesInItsCountryOnly() {
+        CityPrefixIndex index = new CityPrefixIndex.Builder()
+                .add(3435910, "Buenos Aires", "Buenos Aires", "AR", 13_076_300)
+                .build();
+
+        assertThat(index.search("AR", "", 5)).extracting(CityPrefixIndex.CitySuggestion::name)
+                .containsExactly("Buenos Aires");
+        assertThat(index.search("ar", "buenos a", 5)).singleElement().satisfies(city -> {
+            assertThat(city.id()).isEqualTo(CityId.fromGeonameId(3435910));
+            assertThat(city.countryCode()).isEqualTo("AR");
+            assertThat(city.population()).isEqualTo(13_076_300);
+        });
+        assertThat(index.search("AR", "buenos aires", 5)).hasSize(1);
+        assertThat(index.search("AR", "buenos airesx", 5)).isEmpty();
+        assertThat(index.search("AR", "c", 5)).isEmpty();
+        assertThat(index.search("UY", "b", 5)).isEmpty();
+        assertThat(index.search("AR", "b", 0)).isEmpty();
+        assertThat(index.search("ARG", "b", 5)).isEmpty();
+    }
+
+    @Test
+    void prefixIgnoresCaseAccentsAndPunctuation() {
+        CityPrefixIndex index = new CityPrefixIndex.Builder()
+                .add(1, "São Paulo", null, "BR", 12_000_000)
+                .add(2, "Saint-Étienne", null, "FR", 170_000)
+                .build();
+
+        assertThat(index.search("BR", "SAO  pa", 5)).extracting(CityPrefixIndex.CitySuggestion::name)
+                .containsExactly("São Paulo");
+        assertThat(index.search("FR", "saint et", 5)).extracting(CityPrefixIndex.CitySuggestion::name)
+                .containsExactly("Saint-Étienne");
+    }
+
+    @Test
+    void everyKeyIsFoundAcrossBlockBoundaries() {
+        // 40 keys sharing a long prefix: three front-coded blocks of 16
+        CityPrefixIndex.Builder builder = new CityPrefixIndex.Builder();
+        for (int i = 0; i < 40; i++) {
+            builder.add(1000 + i, "Villa %02d".formatted(i), null, "AR", 100 + i);
+        }
+        CityPrefixIndex index = builder.build();
+
+        for (int i = 0; i < 40; i++) {
+            assertThat(index.search("AR", "villa %02d".formatted(i), 5))
+                    .extracting(CityPrefixIndex.CitySuggestion::name)
+                    .containsExactly("Villa %02d".formatted(i));
+        }
+        // Entries 10..19 straddle the first block boundary (16)
+        assertThat(index.search("AR", "villa 1", 20)).extracting(CityPrefixIndex.CitySuggestion::population)
+                .containsExactly(119L, 118L, 117L, 116L, 115L, 114L, 113L, 112L, 111L, 110L);
+        assertThat(index.search("AR", "villa", 3)).extracting(CityPrefixIndex.CitySuggestion::population)
+                .containsExactly(139L, 138L, 137L);
+    }
+
+    @Test
+    void matchesBruteForceTopKOnRandomNames() {
+        Random random = new Random(42);
+        List<Integer> populations = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            populations.add(i);
+        }
+        Collections.shuffle(populations, random);
+
+        record City(int geonameId, String country, String key, int population) {
+        }
+        List<City> cities = new ArrayList<>();
+        CityPrefixIndex.Builder builder = new CityPrefixIndex.Builder();
+        for (int i = 0; i < populations.size(); i++) {
+            String country = random.nextBoolean() ? "AR" : "CL";
+            String name = randomName(random);
+            cities.add(new City(i + 1, country, name, populations.get(i)));
+            builder.add(i + 1, name, null, country, populations.get(i));
+        }
+        CityPrefixIndex index = builder.build();
+        assertThat(index.size()).isEqualTo(cities.size());
+
+        for (int q = 0; q < 500; q++) {
+            String country = random.nextBoolean() ? "AR" : "CL";
+            String prefix = randomName(random).substring(0, 1 + random.nextInt(3));
+            int limit = 1 + random.nextInt(8);
+            List<Integer> expected = cities.stream()
+                    .filter(city -> city.country().equals(country) && city.key().startsWith(prefix))
+                    .sorted(Comparator.comparingInt(City::population).reversed())
+                    .limit(limit)
+                    .map(City::population)
+                    .toList();
+            assertThat(index.search(country, prefix, limit))
+                    .extracting(city -> (int) city.population())
+                    .as("%s %s top %d", country, prefix, limit)
+                    .containsExactlyElementsOf(expected);
+        }
+    }
+
+    private static String randomName(Random random) {
+        // Small alphabet, so many names share long prefixes
+        int length = 3 + random.nextInt(5);
+        StringBuilder name = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            name.append((char) ('a' + random.nextInt(3)));
+        }
+        return name.toString();
+    }
+}
@@ -0,0 +1,143 @@
+package com.skillgrid.infrastructure.cities;
+
+import com.skillgrid.commons.ids.CityId;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CitySpatialIndexTest {
+
+    @Test
+    void emptyIndexFindsNothing() {
+        assertThat(CitySpatialIndex.EMPTY.size()).isZero();
+        assertThat(CitySpatialIndex.EMPTY.within(0, 0, 20_000)).isEmpty();
+        assertThat(CitySpatialIndex.EMPTY.within(CityId.fromGeonameId(1), 100)).isEmpty();
+    }
+
+    @Test
+    void singleCityFindsItselfAndUnknownCitiesFindNothing() {
+        CityId city = CityId.fromGeonameId(3435910);
+        CitySpatialIndex index = new CitySpatialIndex.Builder().add(city.value(), -34.61, -58.38).build();
+
+        assertThat(ids(index, index.within(city, 0))).containsExactly(city);
+        assertThat(index.slotOf(CityId.fromGeonameId(3435911))).isEqualTo(-1);
+        assertThat(index.within(CityId.fromGeonameId(3435911), 1000)).isEmpty();
+        assertThat(index.within(-34.0, -58.38, 50)).isEmpty();
+    }
+
+    @Test
+    void radiusCrossesTheAntimeridian() {
+        // Fiji-like pair about 22 km apart across longitude 180
+        CityId east = CityId.fromGeonameId(1);
+        CityId west = CityId.fromGeonameId(2);
+        CityId far = CityId.fromGeonameId(3);
+        CitySpatialIndex index = new CitySpatialIndex.Builder()
+                .add(east.value(), -17.0, 179.9)
+                .add(west.value(), -17.0, -179.9)
+                .add(far.value(), -17.0, 170.0)
+                .build();
+
+        assertThat(ids(index, index.within(east, 30))).containsExactlyInAnyOrder(east, west);
+        assertThat(ids(index, index.within(west, 30))).containsExactlyInAnyOrder(east, west);
+        assertThat(ids(index, index.within(-17.0, 180.0, 15))).containsExactlyInAnyOrder(east, west);
+    }
+
+    @Test
+    void radiusAroundThePoleCoversAllLongitudes() {
+        List<CityId> nearPole = new ArrayList<>();
+        CitySpatialIndex.Builder builder = new CitySpatialIndex.Builder();
+        for (int i = 0; i < 12; i++) {
+            CityId city = CityId.fromGeonameId(100 + i);
+            nearPole.add(city);
+            builder.add(city.value(), 89.9, -180 + 30 * i);   // ~11 km from the pole
+        }
+        CityId south = CityId.fromGeonameId(200);
+        builder.add(south.value(), 89.0, 0);                   // ~111 km from the pole
+        CitySpatialIndex index = builder.build();
+
+        assertThat(ids(index, index.within(90, 0, 15))).containsExactlyInAnyOrderElementsOf(nearPole);
+        assertThat(ids(index, index.within(90, 123, 15))).containsExactlyInAnyOrderElementsOf(nearPole);
+        assertThat(index.within(90, 0, 120)).hasSize(13);
+    }
+
+    @Test
+    void identicalCoordinatesAreAllReturned() {
+        CitySpatialIndex.Builder builder = new CitySpatialIndex.Builder();
+        for (int i = 0; i < 100; i++) {
+            builder.add(CityId.fromGeonameId(1 + i).value(), 40.4168, -3.7038);
+        }
+        CitySpatialIndex index = builder.build();
+
+        assertThat(index.within(40.4168, -3.7038, 0)).hasSize(100);
+        assertThat(index.within(CityId.fromGeonameId(50), 1)).hasSize(100);
+    }
+
+    @Test
+    void radiusBeyondHalfTheEarthReturnsEverything() {
+        CitySpatialIndex index = randomIndex(new Random(7), 500, new ArrayList<>());
+
+        assertThat(index.within(0, 0, 30_000)).hasSize(500);
+    }
+
+    @Test
+    void matchesBruteForceGreatCircleDistance() {
+        Random random = new Random(42);
+        List<double[]> points = new ArrayList<>();
+        CitySpatialIndex index = randomIndex(random, 3000, points);
+
+        for (int q = 0; q < 300; q++) {
+            double lat = Math.toDegrees(Math.asin(2 * random.nextDouble() - 1));
+            double lon = random.nextDouble() * 360 - 180;
+            double radius = random.nextDouble() < 0.5 ? random.nextDouble() * 200 : random.nextDouble() * 3000;
+
+            Set<CityId> expected = new HashSet<>();
+            Set<CityId> borderline = new HashSet<>();
+            for (int i = 0; i < points.size(); i++) {
+                double distance = distanceKm(lat, lon, points.get(i)[0], points.get(i)[1]);
+                CityId id = CityId.fromGeonameId(i + 1);
+                if (Math.abs(distance - radius) < 1e-6) {
+                    borderline.add(id);
+                } else if (distance < radius) {
+                    expected.add(id);
+                }
+            }
+            Set<CityId> actual = ids(index, index.within(lat, lon, radius)).stream()
+                    .filter(id -> !borderline.contains(id))
+                    .collect(Collectors.toSet());
+            assertThat(actual).as("%.4f,%.4f r=%.1f km", lat, lon, radius).isEqualTo(expected);
+        }
+    }
+
+    private static CitySpatialIndex randomIndex(Random random, int size, List<double[]> points) {
+        CitySpatialIndex.Builder builder = new CitySpatialIndex.Builder();
+        for (int i = 0; i < size; i++) {
+            // Uniform on the sphere, plus clusters so the tree has dense regions
+            double lat = i % 3 == 0
+                    ? -34.6 + random.nextGaussian()
+                    : Math.toDegrees(Math.asin(2 * random.nextDouble() - 1));
+            double lon = i % 3 == 0 ? -58.4 + random.nextGaussian() : random.nextDouble() * 360 - 180;
+            points.add(new double[]{lat, lon});
+            builder.add(CityId.fromGeonameId(i + 1).value(), lat, lon);
+        }
+        return builder.build();
+    }
+
+    private static List<CityId> ids(CitySpatialIndex index, int[] slots) {
+        return Arrays.stream(slots).mapToObj(index::cityIdAt).toList();
+    }
+
+    private static double distanceKm(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * CitySpatialIndex.EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+}
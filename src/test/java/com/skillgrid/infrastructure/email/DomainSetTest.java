@@ -0,0 +1,129 @@
+package com.skillgrid.infrastructure.email;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DomainSetTest {
+
+    @Test
+    void emptySetMatchesNothing() {
+        assertThat(DomainSet.EMPTY.size()).isZero();
+        assertThat(DomainSet.EMPTY.contains("mailinator.com")).isFalse();
+        assertThat(DomainSet.EMPTY.contains("")).isFalse();
+        assertThat(matchStart(DomainSet.EMPTY, "x.mailinator.com")).isEqualTo(-1);
+        assertThat(DomainSet.of(List.of(" ", "")).size()).isZero();
+    }
+
+    @Test
+    void singleDomainMatchesItselfAndItsSubdomainsOnly() {
+        DomainSet set = DomainSet.of(List.of("mailinator.com"));
+
+        assertThat(set.size()).isEqualTo(1);
+        assertThat(set.contains("mailinator.com")).isTrue();
+        assertThat(set.contains("mailinator.co")).isFalse();
+        assertThat(set.contains("mailinator.comm")).isFalse();
+        assertThat(set.contains("x.mailinator.com")).isFalse();
+
+        assertThat(matchStart(set, "mailinator.com")).isZero();
+        assertThat(matchStart(set, "x.mailinator.com")).isEqualTo(2);
+        assertThat(matchStart(set, "a.b.mailinator.com")).isEqualTo(4);
+        assertThat(matchStart(set, "notmailinator.com")).isEqualTo(-1);
+        assertThat(matchStart(set, "mailinator.com.evil.org")).isEqualTo(-1);
+        assertThat(matchStart(set, "com")).isEqualTo(-1);
+    }
+
+    @Test
+    void longestListedSuffixWins() {
+        DomainSet set = DomainSet.of(List.of("example.org", "mail.example.org"));
+
+        assertThat(matchStart(set, "x.mail.example.org")).isEqualTo(2);
+        assertThat(matchStart(set, "x.other.example.org")).isEqualTo(8);
+    }
+
+    @Test
+    void matchesWithinALargerText() {
+        DomainSet set = DomainSet.of(List.of("mailinator.com"));
+        String email = "ana@x.mailinator.com";
+        int at = email.indexOf('@');
+
+        assertThat(set.matchStart(email, at + 1, email.length())).isEqualTo(at + 3);
+        assertThat(set.contains(email, at + 3, email.length())).isTrue();
+    }
+
+    @Test
+    void normalizesCaseWildcardsAndDuplicates() {
+        DomainSet set = DomainSet.of(List.of("MailInator.COM", "*.yopmail.com", ".guerrillamail.com",
+                "mailinator.com", "  trashmail.com  "));
+
+        assertThat(set.size()).isEqualTo(4);
+        assertThat(set.contains("MAILINATOR.com")).isTrue();
+        assertThat(set.contains("yopmail.com")).isTrue();
+        assertThat(matchStart(set, "Inbox.GuerrillaMail.Com")).isEqualTo(6);
+        assertThat(set.contains("trashmail.com")).isTrue();
+    }
+
+    @Test
+    void rejectsNonAsciiAndOverlongDomains() {
+        assertThatThrownBy(() -> DomainSet.of(List.of("correo.españa.es")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> DomainSet.of(List.of("a".repeat(254))))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(matchStart(DomainSet.of(List.of("com")), "a".repeat(250) + ".com")).isEqualTo(-1);
+    }
+
+    @Test
+    void loadSkipsCommentsAndBlankLines(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("disposable.txt");
+        Files.writeString(file, "# disposable providers\n\nmailinator.com\n  yopmail.com \n#trashmail.com\n");
+
+        DomainSet set = DomainSet.load(file);
+
+        assertThat(set.size()).isEqualTo(2);
+        assertThat(set.contains("yopmail.com")).isTrue();
+        assertThat(set.contains("trashmail.com")).isFalse();
+    }
+
+    @Test
+    void matchesAHashSetOnRandomDomains() {
+        Random random = new Random(42);
+        Set<String> domains = new HashSet<>();
+        while (domains.size() < 1000) {
+            domains.add(randomDomain(random));
+        }
+        DomainSet set = DomainSet.of(domains);
+        assertThat(set.size()).isEqualTo(domains.size());
+
+        List<String> queries = new ArrayList<>(domains);
+        for (int i = 0; i < 2000; i++) {
+            queries.add(randomDomain(random));
+        }
+        for (String query : queries) {
+            assertThat(set.contains(query)).as(query).isEqualTo(domains.contains(query));
+        }
+    }
+
+    private static int matchStart(DomainSet set, String domain) {
+        return set.matchStart(domain, 0, domain.length());
+    }
+
+    private static String randomDomain(Random random) {
+        // Small alphabet, so many domains share long prefixes
+        int length = 1 + random.nextInt(6);
+        StringBuilder domain = new StringBuilder(length + 4);
+        for (int i = 0; i < length; i++) {
+            domain.append((char) ('a' + random.nextInt(3)));
+        }
+        return domain.append(random.nextBoolean() ? ".com" : ".io").toString();
+    }
+}
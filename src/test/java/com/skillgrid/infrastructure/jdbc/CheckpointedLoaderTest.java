@@ -0,0 +1,222 @@
+package com.skillgrid.infrastructure.jdbc;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Chunked loads against load_checkpoints: resume after a failure or a crash, a clear when
+ * the input changed, and the lease that keeps two processes from running the same load.
+ */
+class CheckpointedLoaderTest {
+
+    private static final EmbeddedPostgres POSTGRES = start();
+    private static final AtomicInteger DATABASES = new AtomicInteger();
+    private static final String LOAD = "test-items";
+    private static final List<Integer> ITEMS = IntStream.range(0, 10).boxed().toList();
+
+    private DataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void createDatabase() {
+        String database = "checkpoints_" + DATABASES.incrementAndGet();
+        new JdbcTemplate(POSTGRES.getPostgresDatabase()).execute("CREATE DATABASE " + database);
+        // A new session per connection, so leases held by different "processes" conflict
+        dataSource = POSTGRES.getDatabase("postgres", database);
+        Flyway.configure().dataSource(dataSource).load().migrate();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE items (n INTEGER NOT NULL)");
+    }
+
+    @Test
+    void failedLoadResumesFromTheLastCommittedChunk() throws SQLException {
+        CheckpointedLoader loader = new CheckpointedLoader(dataSource, 3);
+        ItemWriter failing = new ItemWriter(6);
+        assertThatThrownBy(() -> load(loader, "v1", failing)).isInstanceOf(SQLException.class);
+
+        assertThat(checkpoint()).containsEntry("status", "FAILED").containsEntry("next_offset", 6);
+        assertThat(stored()).containsExactly(0, 1, 2, 3, 4, 5);
+
+        ItemWriter writer = new ItemWriter(-1);
+        CheckpointedLoader.Result result = load(loader, "v1", writer);
+
+        assertThat(result.resumedFrom()).isEqualTo(6);
+        assertThat(result.chunks()).isEqualTo(2);
+        assertThat(writer.clears).isZero();
+        // The rows of the failed run are handed to committed() once before writing goes on
+        assertThat(writer.committed.get(0)).containsExactly(0, 1, 2, 3, 4, 5);
+        assertThat(stored()).isEqualTo(ITEMS);
+        assertThat(checkpoint()).containsEntry("status", "COMPLETED").containsEntry("next_offset", 10);
+    }
+
+    @Test
+    void changedInputClearsInsteadOfResuming() throws SQLException {
+        CheckpointedLoader loader = new CheckpointedLoader(dataSource, 3);
+        assertThatThrownBy(() -> load(loader, "v1", new ItemWriter(6))).isInstanceOf(SQLException.class);
+
+        ItemWriter writer = new ItemWriter(-1);
+        CheckpointedLoader.Result result = load(loader, "v2", writer);
+
+        assertThat(result.resumedFrom()).isZero();
+        assertThat(writer.clears).isEqualTo(1);
+        assertThat(stored()).isEqualTo(ITEMS);
+
+        // Same fingerprint but a different item count is a different input too
+        try (CheckpointedLoader.Lease lease = loader.acquire(LOAD)) {
+            jdbcTemplate.update("UPDATE load_checkpoints SET status = 'FAILED'");
+            assertThat(loader.begin(lease, "v2", 11, writer).resumed()).isFalse();
+        }
+    }
+
+    @Test
+    void completedLoadIsNotResumed() throws SQLException {
+        CheckpointedLoader loader = new CheckpointedLoader(dataSource, 4);
+        load(loader, "v1", new ItemWriter(-1));
+
+        ItemWriter writer = new ItemWriter(-1);
+        CheckpointedLoader.Result result = load(loader, "v1", writer);
+
+        assertThat(result.resumedFrom()).isZero();
+        assertThat(result.chunks()).isEqualTo(3);
+        assertThat(writer.clears).isEqualTo(1);
+        assertThat(stored()).isEqualTo(ITEMS);
+    }
+
+    @Test
+    void runningCheckpointOfACrashedProcessIsResumed() throws SQLException {
+        CheckpointedLoader loader = new CheckpointedLoader(dataSource, 3);
+        // Dies after two chunks without marking the load FAILED; its lease goes with it
+        assertThatThrownBy(() -> load(loader, "v1", new CrashingWriter(6))).isInstanceOf(Crash.class);
+        assertThat(checkpoint()).containsEntry("status", "RUNNING").containsEntry("next_offset", 6);
+
+        ItemWriter writer = new ItemWriter(-1);
+        CheckpointedLoader.Result result = load(loader, "v1", writer);
+
+        assertThat(result.resumedFrom()).isEqualTo(6);
+        assertThat(writer.clears).isZero();
+        assertThat(stored()).isEqualTo(ITEMS);
+    }
+
+    @Test
+    void secondProcessCannotTakeAHeldLease() throws SQLException {
+        CheckpointedLoader first = new CheckpointedLoader(dataSource, 3);
+        CheckpointedLoader second = new CheckpointedLoader(dataSource, 3);
+
+        try (CheckpointedLoader.Lease lease = first.acquire(LOAD)) {
+            assertThatThrownBy(() -> second.acquire(LOAD))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("already running");
+            // Other loads are not affected
+            second.acquire("other-load").close();
+        }
+
+        second.acquire(LOAD).close();
+    }
+
+    private CheckpointedLoader.Result load(CheckpointedLoader loader, String fingerprint,
+                                           CheckpointedLoader.ChunkWriter<Integer> writer) throws SQLException {
+        try (CheckpointedLoader.Lease lease = loader.acquire(LOAD)) {
+            CheckpointedLoader.Checkpoint checkpoint = loader.begin(lease, fingerprint, ITEMS.size(), writer);
+            return loader.run(checkpoint, ITEMS, writer);
+        }
+    }
+
+    private Map<String, Object> checkpoint() {
+        return jdbcTemplate.queryForMap("SELECT status, next_offset FROM load_checkpoints WHERE load_name = ?", LOAD);
+    }
+
+    private List<Integer> stored() {
+        return jdbcTemplate.queryForList("SELECT n FROM items ORDER BY n", Integer.class);
+    }
+
+    /**
+     * Writes items to the items table; throws an SQLException on the chunk starting at failAt.
+     */
+    private static class ItemWriter implements CheckpointedLoader.ChunkWriter<Integer> {
+
+        private final int failAt;
+        int clears;
+        final List<List<Integer>> committed = new ArrayList<>();
+
+        ItemWriter(int failAt) {
+            this.failAt = failAt;
+        }
+
+        @Override
+        public void clear(Connection conn) throws SQLException {
+            clears++;
+            try (Statement stmt = conn.createStatement()) {
+                stmt.execute("DELETE FROM items");
+            }
+        }
+
+        @Override
+        public void write(Connection conn, List<Integer> chunk) throws SQLException {
+            try (PreparedStatement stmt = conn.prepareStatement("INSERT INTO items (n) VALUES (?)")) {
+                for (int n : chunk) {
+                    stmt.setInt(1, n);
+                    stmt.addBatch();
+                }
+                stmt.executeBatch();
+            }
+            if (chunk.get(0) == failAt) {
+                throw new SQLException("Chunk at " + failAt + " failed");
+            }
+        }
+
+        @Override
+        public void committed(List<Integer> chunk) {
+            committed.add(List.copyOf(chunk));
+        }
+    }
+
+    /**
+     * Stands in for the process dying: not caught by the loader, so nothing is marked FAILED.
+     */
+    private static class Crash extends Error {
+    }
+
+    private static class CrashingWriter extends ItemWriter {
+
+        private final int crashAt;
+
+        CrashingWriter(int crashAt) {
+            super(-1);
+            this.crashAt = crashAt;
+        }
+
+        @Override
+        public void write(Connection conn, List<Integer> chunk) throws SQLException {
+            if (chunk.get(0) == crashAt) {
+                throw new Crash();
+            }
+            super.write(conn, chunk);
+        }
+    }
+
+    private static EmbeddedPostgres start() {
+        try {
+            return EmbeddedPostgres.builder().start();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.skillgrid.infrastructure.jdbc;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.FileSystemUtils;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Routing between two local PostgreSQL instances. The "replica" is a standalone instance;
+ * for the lag tests its recovery functions are shadowed (lag_sim schema, first on its
+ * search_path) so it reports itself as a standby whose last replay is replay_ts.
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private static final EmbeddedPostgres PRIMARY = start(null, 0);
+    private static final long MAX_LAG_MS = 2_000;
+
+    private static final String LAG_SIM_SQL = """
+        CREATE SCHEMA lag_sim;
+        CREATE TABLE lag_sim.state (replay_ts TIMESTAMPTZ);
+        INSERT INTO lag_sim.state VALUES (NULL);
+        CREATE FUNCTION lag_sim.pg_is_in_recovery() RETURNS BOOLEAN LANGUAGE sql AS 'SELECT true';
+        CREATE FUNCTION lag_sim.pg_last_wal_replay_lsn() RETURNS pg_lsn LANGUAGE sql AS 'SELECT ''0/0''::pg_lsn';
+        CREATE FUNCTION lag_sim.pg_last_xact_replay_timestamp() RETURNS TIMESTAMPTZ LANGUAGE sql
+            AS 'SELECT replay_ts FROM lag_sim.state';
+        """;
+
+    private static Path replicaDirectory;
+    private static EmbeddedPostgres replica;
+    private static int replicaPort;
+
+    private ReplicaRoutingDataSource routing;
+    private SimpleMeterRegistry meterRegistry;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void startReplica() throws IOException {
+        replicaDirectory = Files.createTempDirectory("replica");
+        replica = start(replicaDirectory, 0);
+        replicaPort = replica.getPort();
+        new JdbcTemplate(replica.getPostgresDatabase()).execute(LAG_SIM_SQL);
+    }
+
+    @AfterAll
+    static void stopReplica() throws IOException {
+        replica.close();
+        FileSystemUtils.deleteRecursively(replicaDirectory);
+    }
+
+    @AfterEach
+    void closeRouting() {
+        routing.close();
+    }
+
+    @Test
+    void readOnlyTransactionsGoToTheReplica() {
+        route(false);
+        TransactionTemplate transactions = new TransactionTemplate(new DataSourceTransactionManager(routing));
+
+        Integer readWrite = transactions.execute(status -> port());
+        transactions.setReadOnly(true);
+        Integer readOnly = transactions.execute(status -> port());
+
+        assertThat(port()).isEqualTo(PRIMARY.getPort());
+        assertThat(readWrite).isEqualTo(PRIMARY.getPort());
+        assertThat(readOnly).isEqualTo(replicaPort);
+    }
+
+    @Test
+    void onPrimaryInsideOnReplicaGoesToThePrimary() {
+        route(false);
+
+        int[] ports = DataSourceRoute.onReplica(() -> new int[] {
+                port(), DataSourceRoute.onPrimary(this::port), port()});
+
+        assertThat(ports).containsExactly(replicaPort, PRIMARY.getPort(), replicaPort);
+        assertThat(DataSourceRoute.current()).isNull();
+    }
+
+    @Test
+    void laggingReplicaFallsBackUntilItCatchesUp() {
+        route(true);
+        assertThat(DataSourceRoute.onReplica(this::port)).isEqualTo(replicaPort);
+
+        setReplayAge("10 seconds");
+        await(() -> !routing.isReplicaUsable());
+        assertThat(routing.replicaLagMillis()).isGreaterThan(MAX_LAG_MS);
+        assertThat(DataSourceRoute.onReplica(this::port)).isEqualTo(PRIMARY.getPort());
+        assertThat(meterRegistry.get("skillgrid.datasource.route").tag("reason", "lag").counter().count())
+                .isEqualTo(1);
+
+        setReplayAge("0 seconds");
+        await(routing::isReplicaUsable);
+        assertThat(DataSourceRoute.onReplica(this::port)).isEqualTo(replicaPort);
+    }
+
+    @Test
+    void unreachableReplicaFallsBackUntilTheNextSuccessfulCheck() throws Exception {
+        route(false);
+        assertThat(DataSourceRoute.onReplica(this::port)).isEqualTo(replicaPort);
+
+        replica.close();
+        // Whichever notices first, the lag check or a failed replica connection, reads go to the primary
+        Thread.sleep(600);
+        assertThat(DataSourceRoute.onReplica(this::port)).isEqualTo(PRIMARY.getPort());
+        await(() -> !routing.isReplicaUsable());
+        assertThat(Double.isNaN(routing.replicaLagMillis())).isTrue();
+
+        replica = start(replicaDirectory, replicaPort);
+        await(routing::isReplicaUsable);
+        assertThat(DataSourceRoute.onReplica(this::port)).isEqualTo(replicaPort);
+    }
+
+    private void route(boolean simulateStandby) {
+        HikariDataSource primary = new HikariDataSource();
+        primary.setJdbcUrl(PRIMARY.getJdbcUrl("postgres", "postgres"));
+        primary.setUsername("postgres");
+        primary.setPoolName("primary");
+
+        HikariDataSource replicaPool = new HikariDataSource();
+        replicaPool.setJdbcUrl(replica.getJdbcUrl("postgres", "postgres"));
+        replicaPool.setUsername("postgres");
+        replicaPool.setConnectionTimeout(250);
+        replicaPool.setReadOnly(true);
+        replicaPool.setPoolName("replica");
+        if (simulateStandby) {
+            replicaPool.setConnectionInitSql("SET search_path = lag_sim, pg_catalog, public");
+        }
+
+        meterRegistry = new SimpleMeterRegistry();
+        routing = new ReplicaRoutingDataSource(primary, replicaPool, MAX_LAG_MS, 100, meterRegistry);
+        jdbcTemplate = new JdbcTemplate(routing);
+        assertThat(routing.isReplicaUsable()).isTrue();
+    }
+
+    private int port() {
+        return jdbcTemplate.queryForObject("SELECT inet_server_port()", Integer.class);
+    }
+
+    private static void setReplayAge(String age) {
+        new JdbcTemplate(replica.getPostgresDatabase())
+                .update("UPDATE lag_sim.state SET replay_ts = clock_timestamp() - ?::interval", age);
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+
+    /**
+     * Starts an instance; with a data directory it is kept across a stop, so the same
+     * instance can be started again on its old port.
+     */
+    private static EmbeddedPostgres start(Path dataDirectory, int port) {
+        try {
+            EmbeddedPostgres.Builder builder = EmbeddedPostgres.builder();
+            if (dataDirectory != null) {
+                builder.setDataDirectory(dataDirectory).setCleanDataDirectory(false);
+            }
+            if (port > 0) {
+                builder.setPort(port);
+            }
+            return builder.start();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
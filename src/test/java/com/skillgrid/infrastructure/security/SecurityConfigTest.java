@@ -0,0 +1,134 @@
+package com.skillgrid.infrastructure.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skillgrid.commons.ids.UserId;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Which credentials each filter chain accepts: operator HTTP Basic on /api/members/**,
+ * bearer tokens elsewhere, and access_token only on the country change feed.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class SecurityConfigTest {
+
+    // Stopped by its own JVM shutdown hook, like the other Spring integration tests
+    private static final EmbeddedPostgres POSTGRES = start();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TokenService tokenService;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> POSTGRES.getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "postgres");
+        registry.add("spring.security.user.name", () -> "operator");
+        registry.add("spring.security.user.password", () -> "operator-secret");
+    }
+
+    @Test
+    void memberEndpointsRejectBearerTokensAndTakeOperatorCredentials() throws Exception {
+        String token = token();
+
+        mockMvc.perform(get("/api/members").header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/api/members/export").param("access_token", token))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/api/members").header(HttpHeaders.AUTHORIZATION, basic("operator", "wrong")))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/api/members").header(HttpHeaders.AUTHORIZATION, basic("operator", "operator-secret")))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void signupAndLoginAreOpenAndTheIssuedTokenWorks() throws Exception {
+        String credentials = "{\"email\": \"ana@example.com\", \"password\": \"correct-horse\"}";
+        MvcResult signup = mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON).content(credentials))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(signup))
+                .andExpect(status().isCreated());
+
+        MvcResult login = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON).content(credentials))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String body = mockMvc.perform(asyncDispatch(login))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        String token = new ObjectMapper().readTree(body).get("accessToken").asText();
+
+        mockMvc.perform(get("/api/auth/me").header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void bearerTokenAuthenticatesTheApi() throws Exception {
+        UserId userId = new UserId(UUID.randomUUID());
+        String token = tokenService.issue(userId).token();
+
+        mockMvc.perform(get("/api/auth/me").header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.userId").value(userId.toString()));
+        mockMvc.perform(get("/api/auth/me").header(HttpHeaders.AUTHORIZATION, "Bearer " + token + "x"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/api/auth/me"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void accessTokenParameterIsOnlyAcceptedOnTheChangeFeed() throws Exception {
+        String token = token();
+
+        mockMvc.perform(get("/api/countries/changes").param("access_token", token))
+                .andExpect(request().asyncStarted())
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/countries/changes").param("access_token", token + "x"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/api/auth/me").param("access_token", token))
+                .andExpect(status().isUnauthorized());
+    }
+
+    private String token() {
+        return tokenService.issue(new UserId(UUID.randomUUID())).token();
+    }
+
+    private static String basic(String username, String password) {
+        return "Basic " + Base64.getEncoder().encodeToString((username + ":" + password).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static EmbeddedPostgres start() {
+        try {
+            return EmbeddedPostgres.builder().start();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package com.skillgrid.infrastructure.security;
+
+import com.skillgrid.commons.ids.UserId;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Token issue and verification against auth_signing_keys: forged and malformed tokens,
+ * expiry (verified and cached), and key rotation across nodes.
+ */
+class TokenServiceTest {
+
+    private static final EmbeddedPostgres POSTGRES = start();
+    private static final AtomicInteger DATABASES = new AtomicInteger();
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void createDatabase() {
+        String database = "tokens_" + DATABASES.incrementAndGet();
+        new JdbcTemplate(POSTGRES.getPostgresDatabase()).execute("CREATE DATABASE " + database);
+        dataSource = new SingleConnectionDataSource(
+                POSTGRES.getJdbcUrl("postgres", database), "postgres", "postgres", true);
+        Flyway.configure().dataSource(dataSource).load().migrate();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void closeConnection() {
+        dataSource.destroy();
+    }
+
+    @Test
+    void issuedTokenVerifiesOnceAndIsThenServedFromTheCache() {
+        TokenService tokens = tokenService(Duration.ofHours(1));
+        UserId userId = user();
+        String token = tokens.issue(userId).token();
+
+        assertThat(tokens.authenticate(token)).isEqualTo(userId);
+        assertThat(tokens.authenticate(token)).isEqualTo(userId);
+
+        assertThat(count("verified")).isEqualTo(1);
+        assertThat(count("cached")).isEqualTo(1);
+    }
+
+    @Test
+    void tamperedSignatureOrPayloadIsRejected() {
+        TokenService tokens = tokenService(Duration.ofHours(1));
+        String token = tokens.issue(user()).token();
+        String[] parts = token.split("\\.");
+
+        String otherSignature = tokens.issue(user()).token().split("\\.")[2];
+        assertThat(tokens.authenticate(parts[0] + "." + parts[1] + "." + otherSignature)).isNull();
+        assertThat(tokens.authenticate(parts[0] + "." + encode(payload(user(), future())) + "." + parts[2])).isNull();
+        assertThat(tokens.authenticate(parts[0] + "." + parts[1] + ".not*base64")).isNull();
+        assertThat(tokens.authenticate(parts[0] + "." + parts[1])).isNull();
+        assertThat(tokens.authenticate("")).isNull();
+        assertThat(tokens.authenticate(token + "x".repeat(256))).isNull();
+
+        assertThat(count("rejected")).isEqualTo(6);
+        assertThat(count("verified")).isZero();
+    }
+
+    @Test
+    void unknownKeyIdIsRejected() {
+        TokenService tokens = tokenService(Duration.ofHours(1));
+        String token = tokens.issue(user()).token();
+
+        assertThat(tokens.authenticate("0000000000000000" + token.substring(token.indexOf('.')))).isNull();
+        // Signed correctly, but with a key that is not in auth_signing_keys
+        String forged = signed("0123456789abcdef", new byte[32], payload(user(), future()));
+        assertThat(tokens.authenticate(forged)).isNull();
+        assertThat(count("rejected")).isEqualTo(2);
+    }
+
+    @Test
+    void correctlySignedPayloadOfTheWrongLengthIsRejected() {
+        TokenService tokens = tokenService(Duration.ofHours(1));
+        tokens.issue(user());
+        Map<String, Object> key = jdbcTemplate.queryForMap(
+                "SELECT kid, secret FROM auth_signing_keys WHERE retired_at IS NULL");
+        String kid = (String) key.get("kid");
+        byte[] secret = (byte[]) key.get("secret");
+
+        byte[] valid = payload(user(), future());
+        byte[] shorter = ByteBuffer.allocate(16).put(valid, 0, 16).array();
+        byte[] longer = ByteBuffer.allocate(32).put(valid).array();
+
+        assertThat(tokens.authenticate(signed(kid, secret, valid))).isNotNull();
+        assertThat(tokens.authenticate(signed(kid, secret, shorter))).isNull();
+        assertThat(tokens.authenticate(signed(kid, secret, longer))).isNull();
+    }
+
+    @Test
+    void expiredTokenIsRejected() {
+        TokenService tokens = tokenService(Duration.ofHours(-1));
+
+        assertThat(tokens.authenticate(tokens.issue(user()).token())).isNull();
+        assertThat(count("rejected")).isEqualTo(1);
+    }
+
+    @Test
+    void cachedTokenStopsWorkingWhenItExpires() throws InterruptedException {
+        TokenService tokens = tokenService(Duration.ofSeconds(1));
+        TokenService.IssuedToken issued = tokens.issue(user());
+        assertThat(tokens.authenticate(issued.token())).isEqualTo(issued.userId());
+        assertThat(tokens.authenticate(issued.token())).isEqualTo(issued.userId());
+        assertThat(count("cached")).isEqualTo(1);
+
+        while (Instant.now().getEpochSecond() <= issued.expiresAt().getEpochSecond()) {
+            Thread.sleep(50);
+        }
+
+        assertThat(tokens.authenticate(issued.token())).isNull();
+        assertThat(count("cached")).isEqualTo(1);
+        assertThat(count("rejected")).isEqualTo(1);
+        assertThat(meterRegistry.get("skillgrid.auth.token.cache.evictions").tag("cause", "expiry")
+                .counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void tokenSignedBeforeARotationKeepsVerifyingUntilItsKeyIsDropped() {
+        TokenService nodeA = tokenService(Duration.ofHours(1));
+        TokenService.IssuedToken before = nodeA.issue(user());
+        String oldKid = before.token().substring(0, before.token().indexOf('.'));
+
+        // Rotated on another node: A still signs with the old key until it reloads
+        TokenService nodeB = tokenService(Duration.ofHours(1));
+        String newKid = nodeB.rotateKey();
+        assertThat(nodeB.keyCount()).isEqualTo(2);
+        assertThat(freshNode().authenticate(before.token())).isEqualTo(before.userId());
+
+        // A token signed with the new key makes A reload and accept it
+        TokenService.IssuedToken after = nodeB.issue(user());
+        assertThat(after.token()).startsWith(newKid + ".");
+        assertThat(nodeA.authenticate(after.token())).isEqualTo(after.userId());
+
+        // Once the old key was retired for longer than twice the TTL, the next rotation drops it
+        jdbcTemplate.update("UPDATE auth_signing_keys SET retired_at = now() - interval '3 hours' WHERE kid = ?", oldKid);
+        nodeB.rotateKey();
+        assertThat(nodeB.keyCount()).isEqualTo(2);
+        assertThat(freshNode().authenticate(before.token())).isNull();
+        assertThat(freshNode().authenticate(after.token())).isEqualTo(after.userId());
+    }
+
+    private TokenService tokenService(Duration ttl) {
+        return new TokenService(jdbcTemplate, meterRegistry, ttl, 100, Duration.ZERO);
+    }
+
+    private TokenService freshNode() {
+        return new TokenService(jdbcTemplate, new SimpleMeterRegistry(), Duration.ofHours(1), 100, Duration.ZERO);
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("skillgrid.auth.tokens").tag("result", result).counter().count();
+    }
+
+    private static UserId user() {
+        return new UserId(UUID.randomUUID());
+    }
+
+    private static long future() {
+        return Instant.now().plus(Duration.ofHours(1)).getEpochSecond();
+    }
+
+    private static byte[] payload(UserId userId, long expiresAt) {
+        return ByteBuffer.allocate(24)
+                .putLong(userId.value().getMostSignificantBits())
+                .putLong(userId.value().getLeastSignificantBits())
+                .putLong(expiresAt)
+                .array();
+    }
+
+    private static String encode(byte[] bytes) {
+        return ENCODER.encodeToString(bytes);
+    }
+
+    private static String signed(String kid, byte[] secret, byte[] payload) {
+        try {
+            String signed = kid + "." + encode(payload);
+            Mac mac = Mac.getInstance(SigningKeyStore.ALGORITHM);
+            mac.init(new SecretKeySpec(secret, SigningKeyStore.ALGORITHM));
+            return signed + "." + encode(mac.doFinal(signed.getBytes(StandardCharsets.US_ASCII)));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static EmbeddedPostgres start() {
+        try {
+            return EmbeddedPostgres.builder().start();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.skillgrid.infrastructure.security;
+
+import com.skillgrid.commons.ids.UserId;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class VerifiedTokenCacheTest {
+
+    private static final long NOW = 1_700_000_000L;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void leastRecentlyUsedEntryIsEvictedFirst() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(2, meterRegistry);
+        UserId ana = user();
+        UserId bruno = user();
+        cache.put(hash(1), ana, NOW + 60);
+        cache.put(hash(2), bruno, NOW + 60);
+
+        // Reading 1 makes 2 the eldest
+        assertThat(cache.get(hash(1), NOW)).isEqualTo(ana);
+        cache.put(hash(3), user(), NOW + 60);
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get(hash(2), NOW)).isNull();
+        assertThat(cache.get(hash(1), NOW)).isEqualTo(ana);
+        assertThat(count("skillgrid.auth.token.cache.evictions", "cause", "size")).isEqualTo(1);
+    }
+
+    @Test
+    void entryExpiresWithItsToken() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(10, meterRegistry);
+        UserId ana = user();
+        cache.put(hash(1), ana, NOW + 60);
+
+        assertThat(cache.get(hash(1), NOW + 59)).isEqualTo(ana);
+        assertThat(cache.get(hash(1), NOW + 60)).isNull();
+        assertThat(cache.size()).isZero();
+        assertThat(count("skillgrid.auth.token.cache.evictions", "cause", "expiry")).isEqualTo(1);
+        assertThat(count("skillgrid.auth.token.cache.requests", "result", "hit")).isEqualTo(1);
+        assertThat(count("skillgrid.auth.token.cache.requests", "result", "miss")).isEqualTo(1);
+    }
+
+    @Test
+    void sizeZeroDisablesTheCache() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(0, meterRegistry);
+        cache.put(hash(1), user(), NOW + 60);
+
+        assertThat(cache.get(hash(1), NOW)).isNull();
+        assertThat(cache.size()).isZero();
+        assertThatThrownBy(() -> new VerifiedTokenCache(-1, new SimpleMeterRegistry()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private double count(String name, String tag, String value) {
+        return meterRegistry.get(name).tag(tag, value).counter().count();
+    }
+
+    private static VerifiedTokenCache.TokenHash hash(long value) {
+        return new VerifiedTokenCache.TokenHash(value, ~value);
+    }
+
+    private static UserId user() {
+        return new UserId(UUID.randomUUID());
+    }
+}
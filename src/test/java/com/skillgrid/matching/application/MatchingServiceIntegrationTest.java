@@ -0,0 +1,110 @@
+package com.skillgrid.matching.application;
+
+import com.skillgrid.commons.ids.CityId;
+import com.skillgrid.commons.ids.CountryId;
+import com.skillgrid.commons.ids.MemberId;
+import com.skillgrid.commons.utils.Email;
+import com.skillgrid.infrastructure.CountryCatalogListener;
+import com.skillgrid.infrastructure.CountryCatalogService;
+import com.skillgrid.matching.domain.model.JobProfile;
+import com.skillgrid.matching.domain.model.MatchResult;
+import com.skillgrid.members.domain.model.Address;
+import com.skillgrid.members.domain.model.BirthDate;
+import com.skillgrid.members.domain.model.ContactInfo;
+import com.skillgrid.members.domain.model.Member;
+import com.skillgrid.members.domain.repository.MemberRepository;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Members saved through the repository reach the candidate pool (outbox relay, member_view,
+ * NOTIFY member_changes, pool refresh) and show up in, or drop out of, the match results.
+ */
+@SpringBootTest
+class MatchingServiceIntegrationTest {
+
+    // Stopped by its own JVM shutdown hook; closing it after the class would leave the cached context's pollers without a database
+    private static final EmbeddedPostgres POSTGRES = start();
+
+    @Autowired
+    private MatchingService matchingService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private CountryCatalogService catalogService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> POSTGRES.getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "postgres");
+        registry.add("skillgrid.outbox.poll-interval-ms", () -> "100");
+        registry.add("skillgrid.matching.pool.refresh-ms", () -> "100");
+    }
+
+    @Test
+    void savedMemberShowsUpInMatchResultsAndMovesWithItsAddress() throws Exception {
+        jdbcTemplate.update("INSERT INTO countries (code, name, region) VALUES ('AR', 'Argentina', 'Americas'), "
+                + "('ES', 'Spain', 'Europe') ON CONFLICT (code) DO NOTHING");
+        long version = jdbcTemplate.execute((ConnectionCallback<Long>) CountryCatalogListener::publish);
+        catalogService.reloadIfOlderThan(version);
+
+        MemberId id = MemberId.of(UUID.randomUUID().toString());
+        Member member = Member.create(id, "Ana", "Pérez", ContactInfo.withEmail(Email.of("ana@example.com")))
+                .changeAddress(address("AR"))
+                .changeBirthDate(BirthDate.of(LocalDate.of(1990, 5, 17)));
+        memberRepository.save(member);
+
+        JobProfile argentina = JobProfile.builder().countryCode("AR").build();
+        awaitResults(argentina, results -> contains(results, id));
+
+        memberRepository.save(member.changeAddress(address("ES")));
+        awaitResults(argentina, results -> !contains(results, id));
+        awaitResults(JobProfile.builder().countryCode("ES").build(), results -> contains(results, id));
+    }
+
+    private static Address address(String countryCode) {
+        return new Address("Calle 1", null, CityId.fromGeonameId(1L), null, CountryId.fromCode(countryCode), null);
+    }
+
+    private static boolean contains(List<MatchResult> results, MemberId id) {
+        return results.stream().anyMatch(result -> result.memberId().equals(id));
+    }
+
+    private void awaitResults(JobProfile profile, Predicate<List<MatchResult>> condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 15_000;
+        List<MatchResult> results = matchingService.match(profile, 0, 20);
+        while (!condition.test(results) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(100);
+            results = matchingService.match(profile, 0, 20);
+        }
+        assertThat(condition.test(results)).as("match results for %s: %s", profile.countryId(), results).isTrue();
+    }
+
+    private static EmbeddedPostgres start() {
+        try {
+            return EmbeddedPostgres.builder().start();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
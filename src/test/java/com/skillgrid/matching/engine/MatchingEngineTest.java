@@ -0,0 +1,198 @@
+package com.skillgrid.matching.engine;
+
+import com.skillgrid.commons.ids.CountryId;
+import com.skillgrid.commons.ids.MemberId;
+import com.skillgrid.infrastructure.CountryCatalog;
+import com.skillgrid.matching.domain.model.JobProfile;
+import com.skillgrid.matching.domain.model.MatchResult;
+import com.skillgrid.matching.domain.model.MatchWeights;
+import com.skillgrid.members.domain.model.AgeBand;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MatchingEngineTest {
+
+    private static final String[] CODES = {"AR", "UY", "BR", "ES", "FR", "JP"};
+
+    private static final Map<String, Set<String>> LANGUAGES = Map.of(
+            "AR", Set.of("es"), "UY", Set.of("es"), "BR", Set.of("pt"),
+            "ES", Set.of("es"), "FR", Set.of("fr"), "JP", Set.of("ja"));
+
+    private static final CountryCatalog CATALOG = new CountryCatalog.Builder()
+            .add("AR", "Argentina", "Americas").language("AR", "es")
+            .add("UY", "Uruguay", "Americas").language("UY", "es")
+            .add("BR", "Brazil", "Americas").language("BR", "pt")
+            .add("ES", "Spain", "Europe").language("ES", "es")
+            .add("FR", "France", "Europe").language("FR", "fr")
+            .add("JP", "Japan", "Asia").language("JP", "ja")
+            .build();
+
+    private static final JobProfile PROFILE = JobProfile.builder()
+            .countryCode("AR")
+            .language("es")
+            .language("pt")
+            .ageBand(AgeBand.FROM_25_TO_34)
+            .ageBand(AgeBand.FROM_35_TO_44)
+            .build();
+
+    private final MatchingEngine engine = new MatchingEngine();
+
+    @Test
+    void emptyPoolOrNonPositiveLimitFindsNothing() {
+        CandidatePool one = new CandidatePool.Builder(CATALOG)
+                .add(UUID.randomUUID(), CountryId.fromCode("AR"), AgeBand.FROM_25_TO_34)
+                .build();
+
+        assertThat(engine.match(CandidatePool.empty(CATALOG), PROFILE, 10)).isEmpty();
+        assertThat(engine.match(one, PROFILE, 0)).isEmpty();
+        assertThat(engine.match(one, PROFILE, -1)).isEmpty();
+    }
+
+    @Test
+    void singleCandidateIsScoredOnEveryCriterion() {
+        UUID id = UUID.randomUUID();
+        CandidatePool pool = new CandidatePool.Builder(CATALOG)
+                .add(id, CountryId.fromCode("AR"), AgeBand.FROM_25_TO_34)
+                .build();
+
+        // Country 4 + one of two languages 3/2 + age band 1
+        assertThat(engine.match(pool, PROFILE, 10))
+                .containsExactly(new MatchResult(MemberId.of(id.toString()), 6.5f));
+    }
+
+    @Test
+    void candidatesScoringZeroAreLeftOut() {
+        UUID region = UUID.randomUUID();
+        CandidatePool pool = new CandidatePool.Builder(CATALOG)
+                .add(UUID.randomUUID(), CountryId.fromCode("JP"), AgeBand.FROM_55)
+                .add(UUID.randomUUID(), null, AgeBand.UNKNOWN)
+                .add(region, CountryId.fromCode("UY"), null)
+                .build();
+
+        // Same region 1.5 + one language 3/2
+        assertThat(engine.match(pool, PROFILE, 10))
+                .containsExactly(new MatchResult(MemberId.of(region.toString()), 3f));
+    }
+
+    @Test
+    void unknownJobCountryStillMatchesOnOtherCriteria() {
+        UUID id = UUID.randomUUID();
+        CandidatePool pool = new CandidatePool.Builder(CATALOG)
+                .add(id, CountryId.fromCode("ES"), AgeBand.FROM_55)
+                .build();
+        JobProfile profile = JobProfile.builder().countryCode("ZZ").language("es").build();
+
+        assertThat(engine.match(pool, profile, 10))
+                .containsExactly(new MatchResult(MemberId.of(id.toString()), 3f));
+    }
+
+    @Test
+    void tiesAreBrokenByMemberIdWhateverThePartitioning() {
+        // Every candidate scores the same, so the result is the lowest ids
+        CandidatePool.Builder builder = new CandidatePool.Builder(CATALOG, 50_000);
+        Random random = new Random(7);
+        for (int i = 0; i < 50_000; i++) {
+            builder.add(new UUID(random.nextLong(), random.nextLong()), CountryId.fromCode("AR"), AgeBand.FROM_25_TO_34);
+        }
+        CandidatePool pool = builder.build();
+
+        List<MemberId> expected = new ArrayList<>();
+        for (int slot = 0; slot < 25; slot++) {
+            expected.add(pool.memberIdAt(slot));
+        }
+        for (int parallelism : new int[]{1, 2, 8}) {
+            ForkJoinPool forkJoinPool = new ForkJoinPool(parallelism);
+            try {
+                assertThat(new MatchingEngine(forkJoinPool).match(pool, PROFILE, 25))
+                        .extracting(MatchResult::memberId)
+                        .as("parallelism %d", parallelism)
+                        .containsExactlyElementsOf(expected);
+            } finally {
+                forkJoinPool.shutdown();
+            }
+        }
+    }
+
+    @Test
+    void matchesBruteForceScoringAcrossPartitions() {
+        Random random = new Random(42);
+        CandidatePool.Builder builder = new CandidatePool.Builder(CATALOG, 100_000);
+        AgeBand[] bands = AgeBand.values();
+        for (int i = 0; i < 100_000; i++) {
+            int country = random.nextInt(CODES.length + 1);
+            builder.add(new UUID(random.nextLong(), random.nextLong()),
+                    country < CODES.length ? CountryId.fromCode(CODES[country]) : null,
+                    bands[random.nextInt(bands.length)]);
+        }
+        CandidatePool pool = builder.build();
+
+        List<JobProfile> profiles = List.of(
+                PROFILE,
+                JobProfile.builder().countryCode("FR").language("fr").build(),
+                JobProfile.builder().countryCode("JP").region("Americas").ageBand(AgeBand.FROM_55)
+                        .weights(new MatchWeights(2f, 2f, 0f, 2f)).build());
+        ForkJoinPool forkJoinPool = new ForkJoinPool(4);
+        try {
+            MatchingEngine partitioned = new MatchingEngine(forkJoinPool);
+            for (JobProfile profile : profiles) {
+                for (int limit : new int[]{1, 20, 500}) {
+                    assertThat(partitioned.match(pool, profile, limit))
+                            .as("%s top %d", profile.countryId(), limit)
+                            .containsExactlyElementsOf(bruteForce(pool, profile, limit));
+                }
+            }
+        } finally {
+            forkJoinPool.shutdown();
+        }
+    }
+
+    /**
+     * Scores every slot in the engine's summation order and sorts by score, then slot.
+     */
+    private static List<MatchResult> bruteForce(CandidatePool pool, JobProfile profile, int limit) {
+        int targetCountry = CATALOG.ordinal(profile.countryId());
+        String targetRegion = profile.region() != null ? profile.region()
+                : targetCountry != CountryCatalog.UNKNOWN ? CATALOG.regionName(CATALOG.region(targetCountry)) : null;
+        MatchWeights weights = profile.weights();
+        float perLanguage = profile.languages().isEmpty() ? 0f : weights.language() / profile.languages().size();
+
+        record Scored(int slot, float score) {
+        }
+        List<Scored> scored = new ArrayList<>();
+        for (int slot = 0; slot < pool.size(); slot++) {
+            int country = pool.countryAt(slot);
+            float score = 0f;
+            if (country != CountryCatalog.UNKNOWN) {
+                if (country == targetCountry) {
+                    score += weights.country();
+                } else if (CATALOG.regionName(CATALOG.region(country)).equals(targetRegion)) {
+                    score += weights.region();
+                }
+                int overlap = (int) LANGUAGES.get(CATALOG.code(country)).stream()
+                        .filter(profile.languages()::contains)
+                        .count();
+                score += overlap * perLanguage;
+            }
+            if (profile.ageBands().contains(pool.ageBandAt(slot))) {
+                score += weights.ageBand();
+            }
+            if (score > 0f) {
+                scored.add(new Scored(slot, score));
+            }
+        }
+        return scored.stream()
+                .sorted(Comparator.comparing(Scored::score).reversed().thenComparing(Scored::slot))
+                .limit(limit)
+                .map(entry -> new MatchResult(pool.memberIdAt(entry.slot()), entry.score()))
+                .toList();
+    }
+}
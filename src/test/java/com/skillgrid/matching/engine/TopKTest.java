@@ -0,0 +1,93 @@
+package com.skillgrid.matching.engine;
+
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TopKTest {
+
+    @Test
+    void zeroCapacityKeepsNothing() {
+        TopK top = new TopK(0);
+        top.offer(1, 5f);
+
+        assertThat(top.size()).isZero();
+        assertThat(drain(top)).isEmpty();
+    }
+
+    @Test
+    void singleCapacityKeepsTheBest() {
+        TopK top = new TopK(1);
+        assertThat(top.threshold()).isEqualTo(Float.NEGATIVE_INFINITY);
+
+        top.offer(7, 1f);
+        top.offer(3, 2f);
+        top.offer(9, 1.5f);
+
+        assertThat(top.threshold()).isEqualTo(2f);
+        assertThat(drain(top)).containsExactly(new Entry(3, 2f));
+        assertThat(top.size()).isZero();
+    }
+
+    @Test
+    void equalScoresPreferTheLowerSlot() {
+        TopK top = new TopK(3);
+        for (int slot : new int[]{8, 2, 6, 4, 0, 9}) {
+            top.offer(slot, 1f);
+        }
+
+        assertThat(drain(top)).containsExactly(new Entry(0, 1f), new Entry(2, 1f), new Entry(4, 1f));
+    }
+
+    @Test
+    void mergedHeapsMatchASingleHeap() {
+        Random random = new Random(42);
+        TopK whole = new TopK(10);
+        TopK left = new TopK(10);
+        TopK right = new TopK(10);
+        List<Entry> all = new ArrayList<>();
+        for (int slot = 0; slot < 1000; slot++) {
+            float score = random.nextInt(20);     // plenty of ties
+            all.add(new Entry(slot, score));
+            whole.offer(slot, score);
+            (slot % 2 == 0 ? left : right).offer(slot, score);
+        }
+        left.addAll(right);
+
+        List<Entry> expected = all.stream()
+                .sorted(Comparator.comparing(Entry::score).reversed().thenComparing(Entry::slot))
+                .limit(10)
+                .toList();
+        assertThat(drain(whole)).containsExactlyElementsOf(expected);
+        assertThat(drain(left)).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void partiallyFilledHeapDrainsBestFirst() {
+        TopK top = new TopK(10);
+        top.offer(1, 0.5f);
+        top.offer(2, 3f);
+        top.offer(3, 1f);
+
+        assertThat(top.threshold()).isEqualTo(Float.NEGATIVE_INFINITY);
+        assertThat(drain(top)).containsExactly(new Entry(2, 3f), new Entry(3, 1f), new Entry(1, 0.5f));
+    }
+
+    private static List<Entry> drain(TopK top) {
+        int[] slots = new int[top.size()];
+        float[] scores = new float[top.size()];
+        top.drainSorted(slots, scores);
+        List<Entry> entries = new ArrayList<>(slots.length);
+        for (int i = 0; i < slots.length; i++) {
+            entries.add(new Entry(slots[i], scores[i]));
+        }
+        return entries;
+    }
+
+    private record Entry(int slot, float score) {
+    }
+}
@@ -0,0 +1,157 @@
+package com.skillgrid.members.infrastructure;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skillgrid.commons.ids.CityId;
+import com.skillgrid.commons.ids.CountryId;
+import com.skillgrid.commons.ids.MemberId;
+import com.skillgrid.commons.utils.Email;
+import com.skillgrid.members.domain.model.Address;
+import com.skillgrid.members.domain.model.ContactInfo;
+import com.skillgrid.members.domain.model.Member;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Members storage across the partition layouts: the plain table, the swap done by
+ * {@link MemberPartitionMigrator}, and hot partitions created by another node.
+ */
+class MemberPartitionIntegrationTest {
+
+    private static final EmbeddedPostgres POSTGRES = start();
+    private static final AtomicInteger DATABASES = new AtomicInteger();
+
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void createDatabase() {
+        String database = "members_" + DATABASES.incrementAndGet();
+        new JdbcTemplate(POSTGRES.getPostgresDatabase()).execute("CREATE DATABASE " + database);
+        dataSource = new SingleConnectionDataSource(
+                POSTGRES.getJdbcUrl("postgres", database), "postgres", "postgres", true);
+        Flyway.configure().dataSource(dataSource).load().migrate();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    }
+
+    @AfterEach
+    void closeConnection() {
+        dataSource.destroy();
+    }
+
+    @Test
+    void readsAndWritesFollowTheLayoutChangedByAnotherNode() {
+        JdbcMemberRepository repository = repository();
+        Member ana = member("AR");
+        Member bruno = member("ES");
+        Member carla = member(null);
+        repository.saveAll(List.of(ana, bruno, carla));
+
+        // "Another node" partitions the table and creates a hot partition for AR
+        MemberPartitionMigrator otherNode = migrator(List.of());
+        otherNode.migrate();
+        otherNode.ensureHotPartition("AR");
+        assertThat(count("members_ar")).isEqualTo(1);
+
+        assertThat(ids(repository.findByCountry(CountryId.fromCode("AR"), 0, 10))).containsExactly(ana.getId());
+        assertThat(ids(repository.findByCountry(null, 0, 10))).containsExactly(carla.getId());
+
+        // Moves ana out of the hot partition, updates bruno in place, inserts dario into it
+        Member dario = member("AR");
+        repository.saveAll(List.of(ana.changeAddress(address("ES")), bruno.changeAddress(address("ES")), dario));
+
+        assertThat(ids(repository.findByCountry(CountryId.fromCode("AR"), 0, 10))).containsExactly(dario.getId());
+        assertThat(ids(repository.findByCountry(CountryId.fromCode("ES"), 0, 10)))
+                .containsExactlyInAnyOrder(ana.getId(), bruno.getId());
+        assertThat(count("members")).isEqualTo(4);
+    }
+
+    @Test
+    void migrationCountsCopiedRowsAndFixesTheCopyBeforeTheSwap() {
+        JdbcMemberRepository repository = repository();
+        List<Member> members = List.of(member("AR"), member("AR"), member("ES"), member("UY"), member(null));
+        repository.saveAll(members);
+        // A stale copy (no longer in members) and a lost mirror row, which the batch copy restores
+        jdbcTemplate.update("INSERT INTO members_partitioned (id, first_name, last_name, email, created_at, updated_at)"
+                + " VALUES (gen_random_uuid(), 'Old', 'Row', 'old@example.com', now(), now())");
+        jdbcTemplate.update("DELETE FROM members_partitioned WHERE id = ?", members.get(3).getId().value());
+
+        MemberPartitionMigrator.MigrationReport report = migrator(List.of("ES")).migrate();
+
+        assertThat(report.swapped()).isTrue();
+        assertThat(report.copied()).isEqualTo(5);
+        assertThat(report.removed()).isEqualTo(1);
+        assertThat(report.layout().migrated()).isTrue();
+        assertThat(report.layout().hotPartitions()).containsValue("members_es");
+        assertThat(count("members")).isEqualTo(5);
+        assertThat(count("members_legacy")).isEqualTo(5);
+        assertThat(count("members_es")).isEqualTo(1);
+        assertThat(ids(repository.findByCountry(CountryId.fromCode("UY"), 0, 10))).containsExactly(members.get(3).getId());
+
+        assertThat(migrator(List.of()).migrate().swapped()).isFalse();
+    }
+
+    @Test
+    void duplicateMembersInOneBatchKeepTheLastVersion() {
+        JdbcMemberRepository repository = repository();
+        Member ana = member("AR");
+
+        repository.saveAll(List.of(ana, ana.changeAddress(address("UY"))));
+
+        assertThat(repository.findById(ana.getId())).hasValueSatisfying(saved ->
+                assertThat(saved.getAddress().countryId()).isEqualTo(CountryId.fromCode("UY")));
+        assertThat(count("members")).isEqualTo(1);
+    }
+
+    private JdbcMemberRepository repository() {
+        return new JdbcMemberRepository(jdbcTemplate, transactionTemplate,
+                new MemberEventCodec(new ObjectMapper().findAndRegisterModules()));
+    }
+
+    private MemberPartitionMigrator migrator(List<String> hotCountries) {
+        return new MemberPartitionMigrator(jdbcTemplate, transactionTemplate,
+                new MemberPartitionRouter(jdbcTemplate), hotCountries, 2, "5s");
+    }
+
+    private long count(String table) {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM " + table, Long.class);
+    }
+
+    private static Member member(String countryCode) {
+        UUID id = UUID.randomUUID();
+        Member member = Member.create(MemberId.of(id.toString()), "Ana", "Pérez",
+                ContactInfo.withEmail(Email.of("m" + id.toString().substring(0, 8) + "@example.com")));
+        return countryCode != null ? member.changeAddress(address(countryCode)) : member;
+    }
+
+    private static Address address(String countryCode) {
+        return new Address("Calle 1", null, CityId.fromGeonameId(1L), null, CountryId.fromCode(countryCode), null);
+    }
+
+    private static List<MemberId> ids(List<Member> members) {
+        return members.stream().map(Member::getId).toList();
+    }
+
+    private static EmbeddedPostgres start() {
+        try {
+            return EmbeddedPostgres.builder().start();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}